@@ -104,6 +104,9 @@ interface JarConfig {
 
         /**
          * Whether the created jar will be compressed. This setting is not used when building a native image
+         * <p>
+         * With the {@code fast-jar} package type, the jars that are not compressed are memory-mapped at runtime and the
+         * classes are defined directly from the mapped memory, which trades disk space for a faster startup.
          */
         @ConfigDocDefault("true")
         @WithDefault("true")
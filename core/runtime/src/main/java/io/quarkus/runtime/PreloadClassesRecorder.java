@@ -6,7 +6,9 @@
 import java.io.InputStreamReader;
 import java.net.URL;
 import java.net.URLConnection;
+import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.List;
 
 import io.quarkus.runtime.annotations.Recorder;
 
@@ -23,6 +25,7 @@ public static void preloadClass(String classname, boolean initialize) {
     }
 
     public static void preloadClasses(boolean initialize) {
+        List<String> classNames = new ArrayList<>();
         try {
             Enumeration<URL> files = PreloadClassesRecorder.class.getClassLoader()
                     .getResources("META-INF/quarkus-preload-classes.txt");
@@ -31,17 +34,41 @@ public static void preloadClasses(boolean initialize) {
                 URLConnection conn = url.openConnection();
                 conn.setUseCaches(false);
                 InputStream is = conn.getInputStream();
-                preloadClassesFromStream(is, initialize);
+                readClassNames(is, classNames);
             }
         } catch (IOException ignored) {
         }
         InputStream is = PreloadClassesRecorder.class
                 .getResourceAsStream("/META-INF/" + QUARKUS_GENERATED_PRELOAD_CLASSES_FILE);
         if (is != null)
-            preloadClassesFromStream(is, initialize);
+            readClassNames(is, classNames);
+        preloadClasses(classNames, initialize);
     }
 
     public static void preloadClassesFromStream(InputStream is, boolean initialize) {
+        List<String> classNames = new ArrayList<>();
+        readClassNames(is, classNames);
+        preloadClasses(classNames, initialize);
+    }
+
+    /**
+     * The classes are loaded in parallel using all available cores, the class loader is expected to be parallel capable.
+     * Static initializers are then run sequentially in the original order, as running them concurrently could deadlock if
+     * two classes depend on each other during initialization.
+     */
+    private static void preloadClasses(List<String> classNames, boolean initialize) {
+        if (classNames.size() > 1 && Runtime.getRuntime().availableProcessors() > 1) {
+            classNames.parallelStream().forEach(className -> preloadClass(className, false));
+            if (!initialize) {
+                return;
+            }
+        }
+        for (String className : classNames) {
+            preloadClass(className, initialize);
+        }
+    }
+
+    private static void readClassNames(InputStream is, List<String> classNames) {
         try (is;
                 InputStreamReader isr = new InputStreamReader(is);
                 BufferedReader reader = new BufferedReader(isr)) {
@@ -53,7 +80,7 @@ public static void preloadClassesFromStream(InputStream is, boolean initialize)
                 }
                 final String className = line.stripTrailing();
                 if (!className.isBlank()) {
-                    preloadClass(className, initialize);
+                    classNames.add(className);
                 }
             }
         } catch (Exception ignored) {
@@ -10,12 +10,32 @@
 public final class AdditionalCacheNameBuildItem extends MultiBuildItem {
 
     private final String name;
+    private final String valueType;
 
     public AdditionalCacheNameBuildItem(String name) {
+        this(name, null);
+    }
+
+    /**
+     *
+     * @param name the name of the cache
+     * @param valueType the type of the values stored in the cache, used by the backends that need to know it if no type is
+     *        configured, e.g. Redis
+     */
+    public AdditionalCacheNameBuildItem(String name, String valueType) {
         this.name = name;
+        this.valueType = valueType;
     }
 
     public String getName() {
         return name;
     }
+
+    /**
+     *
+     * @return the type of the values stored in the cache, or {@code null} if not known
+     */
+    public String getValueType() {
+        return valueType;
+    }
 }
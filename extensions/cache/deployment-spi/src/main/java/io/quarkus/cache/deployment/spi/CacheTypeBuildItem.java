@@ -9,15 +9,34 @@
 public final class CacheTypeBuildItem extends SimpleBuildItem {
 
     private final Type type;
+    private final String name;
 
     public CacheTypeBuildItem(Type type) {
+        this(type, null);
+    }
+
+    /**
+     *
+     * @param type the kind of cache backend
+     * @param name the configured cache type, e.g. {@code redis}
+     */
+    public CacheTypeBuildItem(Type type, String name) {
         this.type = type;
+        this.name = name;
     }
 
     public Type getType() {
         return type;
     }
 
+    /**
+     *
+     * @return the configured cache type, e.g. {@code redis}, or {@code null} if not known
+     */
+    public String getName() {
+        return name;
+    }
+
     public enum Type {
         LOCAL,
         REMOTE
@@ -1,7 +1,10 @@
 package io.quarkus.cache.deployment;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.jboss.jandex.DotName;
 
@@ -41,6 +44,11 @@ public class CacheDeploymentConstants {
     // Mutiny.
     public static final DotName MULTI = dotName(Multi.class);
 
+    // Batch @CacheResult methods.
+    public static final DotName MAP = dotName(Map.class);
+    public static final DotName LIST = dotName(List.class);
+    public static final List<DotName> BATCH_KEYS_TYPES = Arrays.asList(dotName(Collection.class), LIST, dotName(Set.class));
+
     // Annotations parameters.
     public static final String CACHE_NAME_PARAM = "cacheName";
 
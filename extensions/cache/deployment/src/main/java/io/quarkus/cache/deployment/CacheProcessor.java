@@ -1,5 +1,6 @@
 package io.quarkus.cache.deployment;
 
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.BATCH_KEYS_TYPES;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL_LIST;
@@ -11,6 +12,8 @@
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTORS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDINGS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDING_CONTAINERS;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.LIST;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.MAP;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.MULTI;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.REGISTER_REST_CLIENT;
 import static io.quarkus.cache.runtime.CacheBuildConfig.CAFFEINE_CACHE_TYPE;
@@ -47,7 +50,10 @@
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
 import io.quarkus.arc.processor.BeanInfo;
+import io.quarkus.cache.CacheEntryExpiry;
+import io.quarkus.cache.CacheEntryWeigher;
 import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.deployment.exception.BatchCacheResultTargetException;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
 import io.quarkus.cache.deployment.exception.KeyGeneratorConstructorException;
 import io.quarkus.cache.deployment.exception.PrivateMethodTargetException;
@@ -89,6 +95,12 @@ AnnotationsTransformerBuildItem annotationsTransformer() {
         return new AnnotationsTransformerBuildItem(new CacheAnnotationsTransformer());
     }
 
+    @BuildStep
+    UnremovableBeanBuildItem unremovableCacheEntryBeans() {
+        // These beans are selected by their identifier from the configuration at run time
+        return UnremovableBeanBuildItem.beanTypes(CacheEntryWeigher.class, CacheEntryExpiry.class);
+    }
+
     @BuildStep
     RestClientAnnotationsTransformerBuildItem restClientAnnotationsTransformer() {
         return new RestClientAnnotationsTransformerBuildItem(new RestClientCacheAnnotationsTransformer());
@@ -97,7 +109,8 @@ RestClientAnnotationsTransformerBuildItem restClientAnnotationsTransformer() {
     @BuildStep
     CacheTypeBuildItem type(CacheBuildConfig config) {
         return new CacheTypeBuildItem(
-                CAFFEINE_CACHE_TYPE.equals(config.type()) ? CacheTypeBuildItem.Type.LOCAL : CacheTypeBuildItem.Type.REMOTE);
+                CAFFEINE_CACHE_TYPE.equals(config.type()) ? CacheTypeBuildItem.Type.LOCAL : CacheTypeBuildItem.Type.REMOTE,
+                config.type());
     }
 
     @BuildStep
@@ -202,6 +215,10 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
                         LOGGER.warnf("@CacheResult is not currently supported on a method returning %s [class=%s, method=%s]",
                                 MULTI, methodInfo.declaringClass().name(), methodInfo.name());
                     }
+                    AnnotationValue batch = binding.value("batch");
+                    if (batch != null && batch.asBoolean()) {
+                        throwables.addAll(validateBatchTarget(binding, methodInfo));
+                    }
                 }
                 break;
             default:
@@ -211,6 +228,37 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
         return throwables;
     }
 
+    private List<Throwable> validateBatchTarget(AnnotationInstance binding, MethodInfo methodInfo) {
+        List<Throwable> throwables = new ArrayList<>();
+        if (binding.value("keyGenerator") != null) {
+            throwables.add(new BatchCacheResultTargetException(methodInfo, "a key generator cannot be used"));
+        }
+        DotName returnType = methodInfo.returnType().name();
+        if (!MAP.equals(returnType) && !LIST.equals(returnType)) {
+            throwables.add(new BatchCacheResultTargetException(methodInfo, "the method must return " + MAP + " or " + LIST));
+        }
+        List<Short> cacheKeyPositions = new ArrayList<>();
+        for (AnnotationInstance cacheKey : methodInfo.annotations(CACHE_KEY)) {
+            if (cacheKey.target().kind() == Kind.METHOD_PARAMETER) {
+                cacheKeyPositions.add(cacheKey.target().asMethodParameter().position());
+            }
+        }
+        Type keysType = null;
+        if (cacheKeyPositions.size() == 1) {
+            keysType = methodInfo.parameterType(cacheKeyPositions.get(0));
+        } else if (cacheKeyPositions.isEmpty() && methodInfo.parametersCount() == 1) {
+            keysType = methodInfo.parameterType(0);
+        }
+        if (keysType == null) {
+            throwables.add(new BatchCacheResultTargetException(methodInfo,
+                    "the method must have exactly one parameter or one @CacheKey-annotated parameter"));
+        } else if (!BATCH_KEYS_TYPES.contains(keysType.name())) {
+            throwables.add(new BatchCacheResultTargetException(methodInfo,
+                    "the cache key parameter must be one of " + BATCH_KEYS_TYPES));
+        }
+        return throwables;
+    }
+
     private Optional<DotName> findCacheKeyGenerator(AnnotationInstance binding, AnnotationTarget target) {
         if (target.kind() == METHOD && (CACHE_RESULT.equals(binding.name()) || CACHE_INVALIDATE.equals(binding.name()))) {
             AnnotationValue keyGenerator = binding.value("keyGenerator");
@@ -5,6 +5,7 @@
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -22,6 +23,7 @@
 import io.quarkus.cache.CacheKeyGenerator;
 import io.quarkus.cache.CacheName;
 import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.deployment.exception.BatchCacheResultTargetException;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
 import io.quarkus.cache.deployment.exception.KeyGeneratorConstructorException;
 import io.quarkus.cache.deployment.exception.VoidReturnTypeTargetException;
@@ -43,7 +45,7 @@ public class DeploymentExceptionsTest {
             .withApplicationRoot((jar) -> jar.addClasses(TestResource.class, TestBean.class))
             .assertException(t -> {
                 assertEquals(DeploymentException.class, t.getClass());
-                assertEquals(8, t.getSuppressed().length);
+                assertEquals(9, t.getSuppressed().length);
                 assertVoidReturnTypeTargetException(t, "showThrowVoidReturnTypeTargetException");
                 assertClassTargetException(t, TestResource.class, 1);
                 assertClassTargetException(t, TestBean.class, 2);
@@ -51,6 +53,7 @@ public class DeploymentExceptionsTest {
                 assertKeyGeneratorConstructorException(t, KeyGen2.class);
                 assertKeyGeneratorConstructorException(t, KeyGen3.class);
                 assertKeyGeneratorConstructorException(t, KeyGen4.class);
+                assertBatchCacheResultTargetException(t, "shouldThrowBatchCacheResultTargetException");
             });
 
     private static void assertVoidReturnTypeTargetException(Throwable t, String expectedMethodName) {
@@ -58,6 +61,11 @@ private static void assertVoidReturnTypeTargetException(Throwable t, String expe
                 .filter(s -> expectedMethodName.equals(s.getMethodInfo().name())).count());
     }
 
+    private static void assertBatchCacheResultTargetException(Throwable t, String expectedMethodName) {
+        assertEquals(1, filterSuppressed(t, BatchCacheResultTargetException.class)
+                .filter(s -> expectedMethodName.equals(s.getMethodInfo().name())).count());
+    }
+
     private static void assertClassTargetException(Throwable t, Class<?> expectedClassName, long expectedCount) {
         assertEquals(expectedCount, filterSuppressed(t, ClassTargetException.class)
                 .filter(s -> expectedClassName.getName().equals(s.getClassName().toString())).count());
@@ -108,6 +116,11 @@ public String shouldThrowKeyGeneratorConstructorException() {
             return new String();
         }
 
+        @CacheResult(cacheName = "should-throw-batch-cache-result-target-exception", batch = true)
+        public Map<String, String> shouldThrowBatchCacheResultTargetException(String key) {
+            return Map.of();
+        }
+
         @CacheInvalidate(cacheName = "should-throw-key-generator-constructor-exception", keyGenerator = KeyGen2.class)
         public void shouldAlsoThrowKeyGeneratorConstructorException() {
         }
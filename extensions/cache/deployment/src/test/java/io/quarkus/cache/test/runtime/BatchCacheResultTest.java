@@ -0,0 +1,122 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheKey;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests the {@link CacheResult#batch()} mode.
+ */
+public class BatchCacheResultTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot(jar -> jar.addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testMapResult() {
+        // STEP 1
+        // Action: batch method call with two keys.
+        // Expected effect: method invoked once with both keys and results cached.
+        Map<String, String> values1 = cachedService.prices(List.of("a", "b"));
+        assertEquals(List.of("a", "b"), List.copyOf(values1.keySet()));
+        assertEquals(List.of(List.of("a", "b")), cachedService.mapInvocations);
+
+        // STEP 2
+        // Action: batch method call with a cached key and a new key.
+        // Expected effect: method invoked with the new key only, cached value reused.
+        Map<String, String> values2 = cachedService.prices(List.of("b", "c"));
+        assertEquals(List.of("b", "c"), List.copyOf(values2.keySet()));
+        assertTrue(values1.get("b") == values2.get("b"));
+        assertEquals(List.of(List.of("a", "b"), List.of("c")), cachedService.mapInvocations);
+
+        // STEP 3
+        // Action: batch method call with cached keys only.
+        // Expected effect: method not invoked.
+        Map<String, String> values3 = cachedService.prices(List.of("c", "a"));
+        assertTrue(values2.get("c") == values3.get("c"));
+        assertTrue(values1.get("a") == values3.get("a"));
+        assertEquals(2, cachedService.mapInvocations.size());
+
+        // STEP 4
+        // Action: batch method call with a key the method does not return a value for.
+        // Expected effect: the key is absent from the result and not cached.
+        assertEquals(Map.of(), cachedService.prices(List.of(CachedService.UNKNOWN)));
+        assertEquals(Map.of(), cachedService.prices(List.of(CachedService.UNKNOWN)));
+        assertEquals(4, cachedService.mapInvocations.size());
+    }
+
+    @Test
+    public void testListResult() {
+        // STEP 1
+        // Action: batch method call with a set of keys and an argument which is not part of the key.
+        // Expected effect: method invoked once with both keys and results cached in the order of the keys.
+        List<String> values1 = cachedService.names(Set.of(1L, 2L), new Object());
+        assertEquals(2, values1.size());
+        assertEquals(1, cachedService.listInvocations.size());
+
+        // STEP 2
+        // Action: batch method call with a cached key and a new key.
+        // Expected effect: method invoked with the new key only, values returned in the order of the keys.
+        List<String> values2 = cachedService.names(Set.of(3L), new Object());
+        assertEquals(List.of(Set.of(3L)), cachedService.listInvocations.subList(1, 2));
+        assertEquals(List.of("name-3"), values2);
+
+        // STEP 3
+        // Action: method returning less values than keys.
+        // Expected effect: failure, nothing cached.
+        assertThrows(IllegalStateException.class, () -> cachedService.names(Set.of(CachedService.BROKEN), new Object()));
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        static final String UNKNOWN = "unknown";
+        static final long BROKEN = -1L;
+
+        final List<List<String>> mapInvocations = new ArrayList<>();
+        final List<Set<Long>> listInvocations = new ArrayList<>();
+
+        @CacheResult(cacheName = "prices", batch = true)
+        public Map<String, String> prices(List<String> skus) {
+            mapInvocations.add(List.copyOf(skus));
+            Map<String, String> result = new HashMap<>();
+            for (String sku : skus) {
+                if (!UNKNOWN.equals(sku)) {
+                    result.put(sku, new String("price-" + sku));
+                }
+            }
+            return result;
+        }
+
+        @CacheResult(cacheName = "names", batch = true)
+        public List<String> names(@CacheKey Set<Long> ids, Object notPartOfTheKey) {
+            listInvocations.add(Set.copyOf(ids));
+            List<String> result = new ArrayList<>();
+            for (Long id : ids) {
+                if (id != BROKEN) {
+                    result.add("name-" + id);
+                }
+            }
+            return result;
+        }
+    }
+}
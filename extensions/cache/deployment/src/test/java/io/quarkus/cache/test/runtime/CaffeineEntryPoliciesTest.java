@@ -0,0 +1,182 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheEntryExpiry;
+import io.quarkus.cache.CacheEntryWeigher;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.common.annotation.Identifier;
+import io.smallrye.mutiny.Uni;
+
+public class CaffeineEntryPoliciesTest {
+
+    private static final String WEIGHED_CACHE = "weighed-cache";
+    private static final String EXPIRING_CACHE = "expiring-cache";
+    private static final String REFRESHED_CACHE = "refreshed-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(CachedService.class, LengthWeigher.class, ValueExpiry.class))
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + WEIGHED_CACHE + "\".maximum-weight", "10")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + WEIGHED_CACHE + "\".weigher", "length")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + EXPIRING_CACHE + "\".expiry", "value")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + EXPIRING_CACHE + "\".expire-after-write", "PT1H")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + REFRESHED_CACHE + "\".refresh-after-write", "PT0.1S");
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(WEIGHED_CACHE)
+    Cache weighedCache;
+
+    @CacheName(REFRESHED_CACHE)
+    Cache refreshedCache;
+
+    @Test
+    public void testWeigher() {
+        for (int i = 0; i < 10; i++) {
+            cachedService.weighed("key" + i);
+        }
+        // each entry weighs 4
+        CaffeineCacheImpl cache = weighedCache.as(CaffeineCacheImpl.class);
+        awaitUntil(() -> cache.getSize() <= 2);
+    }
+
+    @Test
+    public void testExpiry() throws InterruptedException {
+        String shortLived = cachedService.expiring("short");
+        String longLived = cachedService.expiring("long");
+        Thread.sleep(200L);
+        assertNotSame(shortLived, cachedService.expiring("short"));
+        assertSame(longLived, cachedService.expiring("long"));
+    }
+
+    @Test
+    public void testRefreshAfterWrite() throws InterruptedException {
+        AtomicInteger loads = new AtomicInteger();
+        Function<String, String> loader = key -> key + ":" + loads.incrementAndGet();
+        assertEquals("foo:1", refreshedCache.get("foo", loader).await().indefinitely());
+        Thread.sleep(200L);
+        // the stale value is returned while the entry is refreshed in the background
+        assertEquals("foo:1", refreshedCache.get("foo", loader).await().indefinitely());
+        awaitUntil(() -> "foo:2".equals(refreshedCache.get("foo", loader).await().indefinitely()));
+    }
+
+    @Test
+    public void testRefreshOfCacheResult() throws InterruptedException {
+        assertEquals("bar:1", cachedService.refreshed("bar"));
+        Thread.sleep(200L);
+        // the stale value is returned while the method is invoked again in the background
+        assertEquals("bar:1", cachedService.refreshed("bar"));
+        awaitUntil(() -> "bar:2".equals(cachedService.refreshed("bar")));
+        // the refresh invoked the method once, with the arguments of the invocation that loaded the entry
+        assertEquals(List.of("bar", "bar"), cachedService.invocations);
+    }
+
+    @Test
+    public void testRefreshOfAsyncCacheResult() throws InterruptedException {
+        assertEquals("qux:1", cachedService.refreshedAsync("qux").await().indefinitely());
+        Thread.sleep(200L);
+        assertEquals("qux:1", cachedService.refreshedAsync("qux").await().indefinitely());
+        awaitUntil(() -> "qux:2".equals(cachedService.refreshedAsync("qux").await().indefinitely()));
+    }
+
+    @Test
+    public void testNoRefreshAfterPut() throws InterruptedException {
+        Function<String, String> loader = key -> "loaded";
+        assertEquals("loaded", refreshedCache.get("baz", loader).await().indefinitely());
+        refreshedCache.as(CaffeineCacheImpl.class).put("baz", CompletableFuture.completedFuture("put"));
+        Thread.sleep(200L);
+        assertEquals("put", refreshedCache.get("baz", loader).await().indefinitely());
+        Thread.sleep(200L);
+        // the value loader was dropped by the put, the entry is not refreshed with it
+        assertEquals("put", refreshedCache.get("baz", loader).await().indefinitely());
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met in 10 seconds");
+            }
+            try {
+                Thread.sleep(20L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+            }
+        }
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger loads = new AtomicInteger();
+
+        @CacheResult(cacheName = WEIGHED_CACHE)
+        public String weighed(String key) {
+            return "abcd";
+        }
+
+        @CacheResult(cacheName = EXPIRING_CACHE)
+        public String expiring(String key) {
+            return new String(key);
+        }
+
+        private final AtomicInteger asyncLoads = new AtomicInteger();
+        final List<String> invocations = new CopyOnWriteArrayList<>();
+
+        @CacheResult(cacheName = REFRESHED_CACHE)
+        public String refreshed(String key) {
+            invocations.add(key);
+            return key + ":" + loads.incrementAndGet();
+        }
+
+        @CacheResult(cacheName = REFRESHED_CACHE)
+        public Uni<String> refreshedAsync(String key) {
+            return Uni.createFrom().item(key + ":" + asyncLoads.incrementAndGet());
+        }
+    }
+
+    @Identifier("length")
+    @Singleton
+    static class LengthWeigher implements CacheEntryWeigher {
+
+        @Override
+        public int weigh(Object key, Object value) {
+            return ((String) value).length();
+        }
+    }
+
+    @Identifier("value")
+    @Singleton
+    static class ValueExpiry implements CacheEntryExpiry {
+
+        @Override
+        public Duration expireAfterWrite(Object key, Object value) {
+            return "short".equals(value) ? Duration.ofMillis(100L) : null;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package io.quarkus.cache;
+
+import java.time.Duration;
+
+/**
+ * Implement this interface to compute the expiration of each entry of a Caffeine cache, for example from an expiration
+ * date carried by the cached value.
+ * <p>
+ * The implementation must be a CDI bean annotated with {@link io.smallrye.common.annotation.Identifier @Identifier}. It is
+ * selected with the {@code quarkus.cache.caffeine."cache-name".expiry} configuration property. The {@code expire-after-write}
+ * configuration value of the cache is then the default duration and the {@code expire-after-access} configuration value, if
+ * any, is applied on each read.
+ */
+public interface CacheEntryExpiry {
+
+    /**
+     * Returns the duration after which an entry should be automatically removed from the cache, once it has been created or
+     * its value replaced.
+     *
+     * @param key the cache key
+     * @param value the cached value, possibly {@code null}
+     * @return the duration, or {@code null} to use the {@code expire-after-write} configuration value of the cache
+     */
+    Duration expireAfterWrite(Object key, Object value);
+}
@@ -0,0 +1,21 @@
+package io.quarkus.cache;
+
+/**
+ * Implement this interface to bound a Caffeine cache by the total weight of its entries rather than by their number, for
+ * example to give the cache a budget in bytes.
+ * <p>
+ * The implementation must be a CDI bean annotated with {@link io.smallrye.common.annotation.Identifier @Identifier}. It is
+ * selected with the {@code quarkus.cache.caffeine."cache-name".weigher} configuration property and used together with
+ * {@code quarkus.cache.caffeine."cache-name".maximum-weight}.
+ */
+public interface CacheEntryWeigher {
+
+    /**
+     * Returns the weight of a cache entry. The weight is computed once, when the entry is stored in the cache.
+     *
+     * @param key the cache key
+     * @param value the cached value, possibly {@code null}
+     * @return the non-negative weight of the entry
+     */
+    int weigh(Object key, Object value);
+}
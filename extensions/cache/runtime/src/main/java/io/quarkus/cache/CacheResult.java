@@ -68,4 +68,18 @@
      */
     @Nonbinding
     Class<? extends CacheKeyGenerator> keyGenerator() default UndefinedCacheKeyGenerator.class;
+
+    /**
+     * If set to {@code true}, the cache key parameter of the method must be a {@link java.util.Collection},
+     * {@link java.util.List} or {@link java.util.Set} and each of its elements is used as a separate cache key. All the keys
+     * are looked up in the cache with a single operation and the method is only invoked once, with the keys that were not
+     * found. The method must return either a {@link java.util.Map} of the values by key, or a {@link java.util.List}
+     * containing one value for each key, in the order of the keys. The values returned for the missing keys are stored in the
+     * cache and merged with the values found in the cache.
+     * <p>
+     * The batch mode cannot be used with a {@link #keyGenerator()}, nor on a method returning an asynchronous type. The
+     * {@link #lockTimeout()} is ignored in batch mode.
+     */
+    @Nonbinding
+    boolean batch() default false;
 }
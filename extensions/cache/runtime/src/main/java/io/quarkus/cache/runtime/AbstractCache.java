@@ -1,7 +1,15 @@
 package io.quarkus.cache.runtime;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.DefaultCacheKey;
+import io.smallrye.mutiny.Uni;
 
 public abstract class AbstractCache implements Cache {
 
@@ -17,6 +25,81 @@ public Object getDefaultKey() {
         return defaultKey;
     }
 
+    /**
+     * Same as {@link #get(Object, Function)}, except that {@code valueLoader} belongs to the current invocation, e.g. it
+     * proceeds with an intercepted method invocation. It may only be called to load the value requested now, so the cache
+     * keeps {@code reloader} instead to refresh the value later.
+     *
+     * @param reloader function used to refresh the cache value, {@code null} if the value is not refreshed
+     */
+    public <K, V> Uni<V> getWithInvocationLoader(K key, Function<K, V> valueLoader, Function<K, V> reloader) {
+        return get(key, valueLoader);
+    }
+
+    /**
+     * Same as {@link #getAsync(Object, Function)}, except that {@code valueLoader} belongs to the current invocation, see
+     * {@link #getWithInvocationLoader(Object, Function, Function)}.
+     *
+     * @param reloader function used to refresh the cache value, {@code null} if the value is not refreshed
+     */
+    public <K, V> Uni<V> getAsyncWithInvocationLoader(K key, Function<K, Uni<V>> valueLoader,
+            Function<K, Uni<V>> reloader) {
+        return getAsync(key, valueLoader);
+    }
+
+    /**
+     * @return {@code true} if the cache refreshes its entries, i.e. it keeps a reloader passed to
+     *         {@link #getWithInvocationLoader(Object, Function, Function)}
+     */
+    protected boolean isRefreshed() {
+        return false;
+    }
+
+    /**
+     * Returns a lazy asynchronous action that will emit the cache values identified by {@code keys}, obtaining the missing
+     * values from {@code valueLoader}. The emitted map follows the iteration order of {@code keys} and does not contain the
+     * keys for which {@code valueLoader} did not return any value. Such keys are not cached.
+     * <p>
+     * This implementation loads each missing key separately. The cache implementations supporting bulk operations are
+     * expected to look up all the keys at once and to invoke {@code valueLoader} only once, with all the missing keys.
+     * {@code valueLoader} belongs to the current invocation and is not kept to refresh the values.
+     *
+     * @param keys cache keys
+     * @param valueLoader function used to compute the cache values of the keys that are not already associated with a value
+     * @return a lazy asynchronous action that will emit the cache values by key
+     * @throws io.quarkus.cache.CacheException if an exception is thrown during a cache value computation
+     */
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> valueLoader) {
+        Uni<Map<K, V>> result = Uni.createFrom().item(new Supplier<Map<K, V>>() {
+            @Override
+            public Map<K, V> get() {
+                return new LinkedHashMap<>();
+            }
+        });
+        for (K key : keys) {
+            result = result.chain(new Function<Map<K, V>, Uni<? extends Map<K, V>>>() {
+                @Override
+                public Uni<? extends Map<K, V>> apply(Map<K, V> values) {
+                    return get(key, new Function<K, V>() {
+                        @Override
+                        public V apply(K k) {
+                            return valueLoader.apply(Set.of(k)).get(k);
+                        }
+                    }).map(new Function<V, Map<K, V>>() {
+                        @Override
+                        public Map<K, V> apply(V value) {
+                            if (value != null) {
+                                values.put(key, value);
+                            }
+                            return values;
+                        }
+                    });
+                }
+            });
+        }
+        return result;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T extends Cache> T as(Class<T> type) {
@@ -63,6 +63,19 @@ interface CaffeineCacheConfig {
              */
             OptionalLong maximumSize();
 
+            /**
+             * Maximum total weight of the entries the cache may contain, e.g. a budget in bytes. The weight of each entry is
+             * computed by the {@link io.quarkus.cache.CacheEntryWeigher} selected with the {@code weigher} property. This
+             * property cannot be combined with {@code maximum-size}.
+             */
+            OptionalLong maximumWeight();
+
+            /**
+             * The identifier of the {@link io.quarkus.cache.CacheEntryWeigher} bean used to compute the weight of the cache
+             * entries. Requires {@code maximum-weight}.
+             */
+            Optional<String> weigher();
+
             /**
              * Specifies that each entry should be automatically removed from the cache once a fixed duration has elapsed after
              * the entry's creation, or the most recent replacement of its value.
@@ -75,6 +88,25 @@ interface CaffeineCacheConfig {
              */
             Optional<Duration> expireAfterAccess();
 
+            /**
+             * The identifier of the {@link io.quarkus.cache.CacheEntryExpiry} bean used to compute the expiration of each
+             * entry. When set, {@code expire-after-write} is the default expiration of the entries.
+             */
+            Optional<String> expiry();
+
+            /**
+             * Specifies that an entry should be refreshed in the background once a fixed duration has elapsed after the
+             * entry's creation, or the most recent replacement of its value. The refresh is triggered by the first read of the
+             * entry after that duration and invokes the value loader again, while the readers keep getting the current value.
+             * Unlike an expiration, this means that the callers never wait for a hot entry to be recomputed.
+             * <p>
+             * The entries loaded by a {@code @CacheResult} method are refreshed by invoking the method again on the same bean
+             * instance, with a copy of the arguments of the invocation that loaded them. The entries put directly in the cache
+             * are kept until they expire. The refresh is performed on a background thread, outside of the request context of
+             * the caller.
+             */
+            Optional<Duration> refreshAfterWrite();
+
             /**
              * Whether or not metrics are recorded if the application depends on the Micrometer extension. Setting this
              * value to {@code true} will enable the accumulation of cache stats inside Caffeine.
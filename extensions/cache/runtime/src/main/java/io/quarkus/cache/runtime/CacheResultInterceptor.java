@@ -1,6 +1,16 @@
 package io.quarkus.cache.runtime;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -34,6 +44,10 @@ public Object intercept(InvocationContext invocationContext) throws Throwable {
         if (Multi.class.isAssignableFrom(invocationContext.getMethod().getReturnType())) {
             return invocationContext.proceed();
         }
+        if (Reinvocation.isReinvoked(invocationContext.getMethod())) {
+            // the entry is being refreshed, the cache value is the result of the method
+            return invocationContext.proceed();
+        }
 
         CacheInterceptionContext<CacheResult> interceptionContext = getInterceptionContext(invocationContext,
                 CacheResult.class, true);
@@ -46,14 +60,19 @@ public Object intercept(InvocationContext invocationContext) throws Throwable {
 
         CacheResult binding = interceptionContext.getInterceptorBindings().get(0);
         AbstractCache cache = (AbstractCache) cacheManager.getCache(binding.cacheName()).get();
+        if (binding.batch()) {
+            return interceptBatch(invocationContext, interceptionContext.getCacheKeyParameterPositions(), binding, cache);
+        }
         Object key = getCacheKey(cache, binding.keyGenerator(), interceptionContext.getCacheKeyParameterPositions(),
                 invocationContext.getMethod(), invocationContext.getParameters());
         LOGGER.debugf("Loading entry with key [%s] from cache [%s]", key, binding.cacheName());
 
+        // the invocation context belongs to this invocation, a refresh invokes the method again with a copy of the arguments
+        Reinvocation reinvocation = cache.isRefreshed() ? new Reinvocation(invocationContext) : null;
         try {
             ReturnType returnType = determineReturnType(invocationContext.getMethod().getReturnType());
             if (returnType != ReturnType.NonAsync) {
-                Uni<Object> cacheValue = cache.getAsync(key, new Function<Object, Uni<Object>>() {
+                Uni<Object> cacheValue = cache.getAsyncWithInvocationLoader(key, new Function<Object, Uni<Object>>() {
                     @SuppressWarnings("unchecked")
                     @Override
                     public Uni<Object> apply(Object key) {
@@ -65,6 +84,13 @@ public Uni<Object> apply(Object key) {
                             throw new CacheException(e);
                         }
                     }
+                }, reinvocation == null ? null : new Function<Object, Uni<Object>>() {
+                    @SuppressWarnings("unchecked")
+                    @Override
+                    public Uni<Object> apply(Object key) {
+                        LOGGER.debugf("Refreshing entry with key [%s] in cache [%s]", key, binding.cacheName());
+                        return (Uni<Object>) asyncInvocationResultToUni(reinvocation.invoke(), returnType);
+                    }
                 });
 
                 if (binding.lockTimeout() <= 0) {
@@ -86,7 +112,7 @@ public Uni<?> get() {
                         });
                 return createAsyncResult(cacheValue, returnType);
             } else {
-                Uni<Object> cacheValue = cache.get(key, new Function<Object, Object>() {
+                Uni<Object> cacheValue = cache.getWithInvocationLoader(key, new Function<Object, Object>() {
                     @Override
                     public Object apply(Object k) {
                         try {
@@ -99,6 +125,12 @@ public Object apply(Object k) {
                             throw new CacheException(e);
                         }
                     }
+                }, reinvocation == null ? null : new Function<Object, Object>() {
+                    @Override
+                    public Object apply(Object key) {
+                        LOGGER.debugf("Refreshing entry with key [%s] in cache [%s]", key, binding.cacheName());
+                        return reinvocation.invoke();
+                    }
                 });
                 Object value;
                 if (binding.lockTimeout() <= 0) {
@@ -128,4 +160,125 @@ public Object apply(Object k) {
         }
     }
 
+    /*
+     * Each element of the cache key parameter is a cache key. The intercepted method is invoked once with the keys missing
+     * from the cache, and its result is merged with the cached values. The method signature is validated at build time.
+     */
+    @SuppressWarnings("unchecked")
+    private Object interceptBatch(InvocationContext invocationContext, List<Short> cacheKeyParameterPositions,
+            CacheResult binding, AbstractCache cache) throws Throwable {
+        Method method = invocationContext.getMethod();
+        Object[] parameters = invocationContext.getParameters();
+        int position = cacheKeyParameterPositions.size() == 1 ? cacheKeyParameterPositions.get(0) : 0;
+        Collection<Object> keys = (Collection<Object>) parameters[position];
+        boolean setOfKeys = Set.class.isAssignableFrom(method.getParameterTypes()[position]);
+        boolean listOfValues = List.class.equals(method.getReturnType());
+        LOGGER.debugf("Loading %s entries from cache [%s]", keys.size(), binding.cacheName());
+
+        try {
+            Map<Object, Object> values = cache.getAll(keys, new Function<Set<Object>, Map<Object, Object>>() {
+                @Override
+                public Map<Object, Object> apply(Set<Object> missingKeys) {
+                    LOGGER.debugf("Adding entries with keys %s into cache [%s]", missingKeys, binding.cacheName());
+                    Object[] missingParameters = parameters.clone();
+                    missingParameters[position] = setOfKeys ? missingKeys : new ArrayList<>(missingKeys);
+                    try {
+                        invocationContext.setParameters(missingParameters);
+                        return toValuesByKey(missingKeys, invocationContext.proceed(), listOfValues);
+                    } catch (CacheException e) {
+                        throw e;
+                    } catch (Throwable e) {
+                        throw new CacheException(e);
+                    }
+                }
+            }).await().indefinitely();
+
+            if (listOfValues) {
+                List<Object> result = new ArrayList<>(keys.size());
+                for (Object key : keys) {
+                    result.add(values.get(key));
+                }
+                return result;
+            }
+            return values;
+        } catch (CacheException e) {
+            if (e.getCause() != null) {
+                throw e.getCause();
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    /*
+     * Invokes the intercepted method again to refresh a cache entry in the background. Only the contextual bean instance, the
+     * method and a copy of the arguments are kept: the invocation context is bound to the invocation that loaded the entry.
+     * The method is invoked on the intercepted instance so that the other interceptors apply, while this interceptor
+     * proceeds without looking up the cache.
+     */
+    private static final class Reinvocation {
+
+        // the number of reinvocations in progress, so that the intercepted invocations do not look up the thread local
+        private static final AtomicInteger ACTIVE = new AtomicInteger();
+        private static final ThreadLocal<Method> REINVOKED = new ThreadLocal<>();
+
+        private final Object target;
+        private final Method method;
+        private final Object[] arguments;
+
+        Reinvocation(InvocationContext invocationContext) {
+            this.target = invocationContext.getTarget();
+            this.method = invocationContext.getMethod();
+            this.arguments = invocationContext.getParameters().clone();
+        }
+
+        static boolean isReinvoked(Method method) {
+            if (ACTIVE.get() == 0 || REINVOKED.get() != method) {
+                return false;
+            }
+            // only the outermost invocation is a reinvocation, the nested ones look up the cache
+            REINVOKED.remove();
+            return true;
+        }
+
+        Object invoke() {
+            ACTIVE.incrementAndGet();
+            REINVOKED.set(method);
+            try {
+                if (!method.canAccess(target)) {
+                    method.setAccessible(true);
+                }
+                return method.invoke(target, arguments);
+            } catch (InvocationTargetException e) {
+                throw new CacheException(e.getCause());
+            } catch (IllegalAccessException e) {
+                throw new CacheException(e);
+            } finally {
+                REINVOKED.remove();
+                ACTIVE.decrementAndGet();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> toValuesByKey(Set<Object> keys, Object result, boolean listOfValues) {
+        if (result == null) {
+            return Map.of();
+        }
+        if (!listOfValues) {
+            return (Map<Object, Object>) result;
+        }
+        List<Object> values = (List<Object>) result;
+        if (values.size() != keys.size()) {
+            throw new CacheException(new IllegalStateException("The method returned " + values.size()
+                    + " values for " + keys.size() + " cache keys, a value is expected for each key"));
+        }
+        Map<Object, Object> valuesByKey = new HashMap<>();
+        Iterator<Object> it = values.iterator();
+        for (Object key : keys) {
+            valuesByKey.put(key, it.next());
+        }
+        return valuesByKey;
+    }
+
 }
@@ -1,11 +1,19 @@
 package io.quarkus.cache.runtime.caffeine;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -14,16 +22,27 @@
 import org.jboss.logging.Logger;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.github.benmanes.caffeine.cache.Policy;
 import com.github.benmanes.caffeine.cache.Policy.FixedExpiration;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.github.benmanes.caffeine.cache.Weigher;
 import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
 import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableInstance;
+import io.quarkus.cache.CacheEntryExpiry;
+import io.quarkus.cache.CacheEntryWeigher;
 import io.quarkus.cache.CacheException;
 import io.quarkus.cache.CaffeineCache;
 import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.cache.runtime.NullValueConverter;
+import io.quarkus.runtime.configuration.ConfigurationException;
+import io.smallrye.common.annotation.Identifier;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
@@ -44,6 +63,9 @@ public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
     private final CaffeineCacheInfo cacheInfo;
     private final StatsCounter statsCounter;
     private final boolean recordStats;
+    // the last value loader of each cached key, only used if the entries are refreshed
+    // the loaders of an intercepted invocation are bound to it, the interceptor passes a separate reloader
+    private final Map<Object, Reloader> reloaders;
 
     public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         this.cacheInfo = cacheInfo;
@@ -54,11 +76,23 @@ public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         if (cacheInfo.maximumSize != null) {
             builder.maximumSize(cacheInfo.maximumSize);
         }
-        if (cacheInfo.expireAfterWrite != null) {
-            builder.expireAfterWrite(cacheInfo.expireAfterWrite);
+        if (cacheInfo.maximumWeight != null) {
+            builder.maximumWeight(cacheInfo.maximumWeight);
         }
-        if (cacheInfo.expireAfterAccess != null) {
-            builder.expireAfterAccess(cacheInfo.expireAfterAccess);
+        if (cacheInfo.weigher != null) {
+            builder.weigher(new EntryWeigher(select(CacheEntryWeigher.class, cacheInfo.weigher)));
+        }
+        if (cacheInfo.expiry != null) {
+            // the fixed expiration policies cannot be combined with a variable one
+            builder.expireAfter(new EntryExpiry(select(CacheEntryExpiry.class, cacheInfo.expiry),
+                    cacheInfo.expireAfterWrite, cacheInfo.expireAfterAccess));
+        } else {
+            if (cacheInfo.expireAfterWrite != null) {
+                builder.expireAfterWrite(cacheInfo.expireAfterWrite);
+            }
+            if (cacheInfo.expireAfterAccess != null) {
+                builder.expireAfterAccess(cacheInfo.expireAfterAccess);
+            }
         }
         this.recordStats = recordStats;
         if (recordStats) {
@@ -74,7 +108,54 @@ public StatsCounter get() {
             LOGGER.tracef("Caffeine stats recording is disabled for cache [%s]", cacheInfo.name);
             statsCounter = StatsCounter.disabledStatsCounter();
         }
-        cache = builder.buildAsync();
+        if (cacheInfo.refreshAfterWrite != null) {
+            Map<Object, Reloader> reloaders = new ConcurrentHashMap<>();
+            this.reloaders = reloaders;
+            builder.refreshAfterWrite(cacheInfo.refreshAfterWrite);
+            builder.removalListener(new RemovalListener<Object, Object>() {
+                @Override
+                public void onRemoval(Object key, Object value, RemovalCause cause) {
+                    // a refresh replaces the value too, the reloader of an explicit put is dropped by put()
+                    if (cause != RemovalCause.REPLACED) {
+                        reloaders.remove(key);
+                    }
+                }
+            });
+            cache = builder.buildAsync(new AsyncCacheLoader<Object, Object>() {
+                @Override
+                public CompletableFuture<Object> asyncLoad(Object key, Executor executor) {
+                    // the values are loaded with a value loader, this is only called if a refreshed entry was removed
+                    Reloader reloader = reloaders.get(key);
+                    if (reloader == null) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    return reloader.reload(key, executor);
+                }
+
+                @Override
+                public CompletableFuture<Object> asyncReload(Object key, Object oldValue, Executor executor) {
+                    Reloader reloader = reloaders.get(key);
+                    if (reloader == null) {
+                        // e.g. the entry was put directly in the cache, keep the current value
+                        return CompletableFuture.completedFuture(oldValue);
+                    }
+                    LOGGER.tracef("Refreshing key [%s] in cache [%s]", key, cacheInfo.name);
+                    return reloader.reload(key, executor);
+                }
+            });
+        } else {
+            this.reloaders = null;
+            cache = builder.buildAsync();
+        }
+    }
+
+    private static <T> T select(Class<T> type, String identifier) {
+        InjectableInstance<T> instance = Arc.container().select(type, Identifier.Literal.of(identifier));
+        if (!instance.isResolvable()) {
+            throw new ConfigurationException(
+                    "Unable to find a single " + type.getSimpleName() + " bean identified with " + identifier);
+        }
+        return instance.get();
     }
 
     @Override
@@ -84,6 +165,20 @@ public String getName() {
 
     @Override
     public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
+        return get(key, valueLoader, valueLoader);
+    }
+
+    @Override
+    public <K, V> Uni<V> getWithInvocationLoader(K key, Function<K, V> valueLoader, Function<K, V> reloader) {
+        return get(key, valueLoader, reloader);
+    }
+
+    @Override
+    protected boolean isRefreshed() {
+        return reloaders != null;
+    }
+
+    private <K, V> Uni<V> get(K key, Function<K, V> valueLoader, Function<K, V> reloader) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
         return Uni.createFrom().completionStage(
                 /*
@@ -93,7 +188,7 @@ public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
                 new Supplier<CompletionStage<V>>() {
                     @Override
                     public CompletionStage<V> get() {
-                        CompletionStage<Object> caffeineValue = getFromCaffeine(key, valueLoader);
+                        CompletionStage<Object> caffeineValue = getFromCaffeine(key, valueLoader, reloader);
                         return cast(caffeineValue);
                     }
                 });
@@ -101,6 +196,16 @@ public CompletionStage<V> get() {
 
     @Override
     public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
+        return getAsync(key, valueLoader, valueLoader);
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsyncWithInvocationLoader(K key, Function<K, Uni<V>> valueLoader,
+            Function<K, Uni<V>> reloader) {
+        return getAsync(key, valueLoader, reloader);
+    }
+
+    private <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader, Function<K, Uni<V>> reloader) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
         Context context = Vertx.currentContext();
         return Uni.createFrom()
@@ -115,6 +220,20 @@ public CompletionStage<V> get() {
                                     @Override
                                     public CompletableFuture<Object> apply(Object key) {
                                         recorder.onValueAbsent();
+                                        if (reloaders != null) {
+                                            if (reloader != null) {
+                                                reloaders.put(key, new Reloader() {
+                                                    @Override
+                                                    public CompletableFuture<Object> reload(Object key, Executor executor) {
+                                                        return reloader.apply((K) key)
+                                                                .map(TO_CACHE_VALUE)
+                                                                .subscribeAsCompletionStage();
+                                                    }
+                                                });
+                                            } else {
+                                                reloaders.remove(key);
+                                            }
+                                        }
                                         return valueLoader.apply((K) key)
                                                 .map(TO_CACHE_VALUE)
                                                 .subscribeAsCompletionStage();
@@ -204,14 +323,33 @@ public V apply(Object value) {
      *
      * @param key cache key
      * @param valueLoader function used to compute the cache value if {@code key} is not already associated with a value
+     * @param reloader function kept to refresh the cache value, {@code null} if it is not refreshed
      * @return a {@link CompletableFuture} holding the cache value
      * @throws CacheException if an exception is thrown during the cache value computation
      */
-    private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> valueLoader) {
+    private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> valueLoader, Function<K, V> reloader) {
         CompletableFuture<Object> newCacheValue = new CompletableFuture<>();
         CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
         if (existingCacheValue == null) {
             statsCounter.recordMisses(1);
+            if (reloaders != null) {
+                if (reloader != null) {
+                    reloaders.put(key, new Reloader() {
+                        @SuppressWarnings("unchecked")
+                        @Override
+                        public CompletableFuture<Object> reload(Object key, Executor executor) {
+                            return CompletableFuture.supplyAsync(new Supplier<Object>() {
+                                @Override
+                                public Object get() {
+                                    return NullValueConverter.toCacheValue(reloader.apply((K) key));
+                                }
+                            }, executor);
+                        }
+                    });
+                } else {
+                    reloaders.remove(key);
+                }
+            }
             try {
                 Object value = valueLoader.apply(key);
                 newCacheValue.complete(NullValueConverter.toCacheValue(value));
@@ -227,6 +365,95 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
         }
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> valueLoader) {
+        return Uni.createFrom().completionStage(
+                // Same as get(key, valueLoader), the missing values are computed lazily on the calling thread.
+                new Supplier<CompletionStage<Map<K, V>>>() {
+                    @Override
+                    public CompletionStage<Map<K, V>> get() {
+                        return getAllFromCaffeine(keys, valueLoader);
+                    }
+                });
+    }
+
+    /**
+     * Returns a {@link CompletableFuture} holding the cache values identified by {@code keys}. The keys that are not already
+     * associated with a value are reserved in the cache and all of them are passed to a single {@code valueLoader}
+     * invocation, done synchronously on the calling thread.
+     */
+    private <K, V> CompletableFuture<Map<K, V>> getAllFromCaffeine(Collection<K> keys,
+            Function<Set<K>, Map<K, V>> valueLoader) {
+        Map<K, CompletableFuture<Object>> cacheValues = new LinkedHashMap<>();
+        Map<K, CompletableFuture<Object>> newCacheValues = new LinkedHashMap<>();
+        for (K key : keys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+            if (cacheValues.containsKey(key)) {
+                continue;
+            }
+            CompletableFuture<Object> newCacheValue = new CompletableFuture<>();
+            CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
+            if (existingCacheValue == null) {
+                newCacheValues.put(key, newCacheValue);
+                cacheValues.put(key, newCacheValue);
+            } else {
+                cacheValues.put(key, existingCacheValue);
+            }
+        }
+        statsCounter.recordHits(cacheValues.size() - newCacheValues.size());
+        if (!newCacheValues.isEmpty()) {
+            statsCounter.recordMisses(newCacheValues.size());
+            loadAll(newCacheValues, valueLoader);
+        }
+
+        List<CompletableFuture<Object>> values = new ArrayList<>(cacheValues.size());
+        for (CompletableFuture<Object> cacheValue : cacheValues.values()) {
+            values.add(unwrapCacheValueOrThrowable(cacheValue));
+        }
+        return CompletableFuture.allOf(values.toArray(new CompletableFuture[0]))
+                .thenApply(new Function<Void, Map<K, V>>() {
+                    @Override
+                    public Map<K, V> apply(Void ignored) {
+                        Map<K, V> result = new LinkedHashMap<>();
+                        Iterator<CompletableFuture<Object>> it = values.iterator();
+                        for (K key : cacheValues.keySet()) {
+                            V value = cast(it.next().join());
+                            if (value != null) {
+                                result.put(key, value);
+                            }
+                        }
+                        return result;
+                    }
+                });
+    }
+
+    private <K, V> void loadAll(Map<K, CompletableFuture<Object>> newCacheValues, Function<Set<K>, Map<K, V>> valueLoader) {
+        if (reloaders != null) {
+            // the batch value loader belongs to the intercepted invocation, it is not kept to refresh the entries
+            for (K key : newCacheValues.keySet()) {
+                reloaders.remove(key);
+            }
+        }
+        Map<K, V> loaded;
+        try {
+            loaded = valueLoader.apply(new LinkedHashSet<>(newCacheValues.keySet()));
+        } catch (Throwable t) {
+            for (Map.Entry<K, CompletableFuture<Object>> entry : newCacheValues.entrySet()) {
+                cache.asMap().remove(entry.getKey(), entry.getValue());
+                entry.getValue().complete(new CaffeineComputationThrowable(t));
+            }
+            return;
+        }
+        for (Map.Entry<K, CompletableFuture<Object>> entry : newCacheValues.entrySet()) {
+            V value = loaded != null ? loaded.get(entry.getKey()) : null;
+            if (value == null) {
+                // Not loaded, the key is not cached.
+                cache.asMap().remove(entry.getKey(), entry.getValue());
+            }
+            entry.getValue().complete(value);
+        }
+    }
+
     private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
         return cacheValue.thenApply(new Function<>() {
             @Override
@@ -288,6 +515,10 @@ public Set<Object> keySet() {
     @SuppressWarnings("unchecked")
     @Override
     public <V> void put(Object key, CompletableFuture<V> valueFuture) {
+        if (reloaders != null) {
+            // the value does not come from the last value loader anymore
+            reloaders.remove(key);
+        }
         cache.put(key, (CompletableFuture<Object>) valueFuture);
     }
 
@@ -351,6 +582,72 @@ private <V> Function<V, V> fromCacheValue() {
         return (Function<V, V>) FROM_CACHE_VALUE;
     }
 
+    private interface Reloader {
+
+        CompletableFuture<Object> reload(Object key, Executor executor);
+
+    }
+
+    private static class EntryWeigher implements Weigher<Object, Object> {
+
+        private final CacheEntryWeigher weigher;
+
+        EntryWeigher(CacheEntryWeigher weigher) {
+            this.weigher = weigher;
+        }
+
+        @Override
+        public int weigh(Object key, Object value) {
+            if (value instanceof CaffeineComputationThrowable) {
+                // removed as soon as it is stored
+                return 0;
+            }
+            return weigher.weigh(key, NullValueConverter.fromCacheValue(value));
+        }
+
+    }
+
+    private static class EntryExpiry implements Expiry<Object, Object> {
+
+        private final CacheEntryExpiry expiry;
+        private final long expireAfterWrite;
+        private final long expireAfterAccess;
+
+        EntryExpiry(CacheEntryExpiry expiry, Duration expireAfterWrite, Duration expireAfterAccess) {
+            this.expiry = expiry;
+            this.expireAfterWrite = expireAfterWrite != null ? saturatedToNanos(expireAfterWrite) : Long.MAX_VALUE;
+            this.expireAfterAccess = expireAfterAccess != null ? saturatedToNanos(expireAfterAccess) : -1;
+        }
+
+        @Override
+        public long expireAfterCreate(Object key, Object value, long currentTime) {
+            if (value instanceof CaffeineComputationThrowable) {
+                return expireAfterWrite;
+            }
+            Duration duration = expiry.expireAfterWrite(key, NullValueConverter.fromCacheValue(value));
+            return duration != null ? saturatedToNanos(duration) : expireAfterWrite;
+        }
+
+        @Override
+        public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+            return expireAfterAccess >= 0 ? expireAfterAccess : currentDuration;
+        }
+
+        private static long saturatedToNanos(Duration duration) {
+            try {
+                return duration.toNanos();
+            } catch (ArithmeticException e) {
+                return duration.isNegative() ? Long.MIN_VALUE : Long.MAX_VALUE;
+            }
+        }
+
+    }
+
     private interface StatsRecorder {
 
         void onValueAbsent();
@@ -11,10 +11,18 @@ public class CaffeineCacheInfo {
 
     public Long maximumSize;
 
+    public Long maximumWeight;
+
+    public String weigher;
+
     public Duration expireAfterWrite;
 
     public Duration expireAfterAccess;
 
+    public String expiry;
+
+    public Duration refreshAfterWrite;
+
     public boolean metricsEnabled;
 
     @Override
@@ -36,6 +36,18 @@ public static Set<CaffeineCacheInfo> build(Set<String> cacheNames, CacheConfig c
                     cacheInfo.maximumSize = defaultConfig.maximumSize().getAsLong();
                 }
 
+                if (namedCacheConfig != null && namedCacheConfig.maximumWeight().isPresent()) {
+                    cacheInfo.maximumWeight = namedCacheConfig.maximumWeight().getAsLong();
+                } else if (defaultConfig.maximumWeight().isPresent()) {
+                    cacheInfo.maximumWeight = defaultConfig.maximumWeight().getAsLong();
+                }
+
+                if (namedCacheConfig != null && namedCacheConfig.weigher().isPresent()) {
+                    cacheInfo.weigher = namedCacheConfig.weigher().get();
+                } else if (defaultConfig.weigher().isPresent()) {
+                    cacheInfo.weigher = defaultConfig.weigher().get();
+                }
+
                 if (namedCacheConfig != null && namedCacheConfig.expireAfterWrite().isPresent()) {
                     cacheInfo.expireAfterWrite = namedCacheConfig.expireAfterWrite().get();
                 } else if (defaultConfig.expireAfterWrite().isPresent()) {
@@ -48,6 +60,18 @@ public static Set<CaffeineCacheInfo> build(Set<String> cacheNames, CacheConfig c
                     cacheInfo.expireAfterAccess = defaultConfig.expireAfterAccess().get();
                 }
 
+                if (namedCacheConfig != null && namedCacheConfig.expiry().isPresent()) {
+                    cacheInfo.expiry = namedCacheConfig.expiry().get();
+                } else if (defaultConfig.expiry().isPresent()) {
+                    cacheInfo.expiry = defaultConfig.expiry().get();
+                }
+
+                if (namedCacheConfig != null && namedCacheConfig.refreshAfterWrite().isPresent()) {
+                    cacheInfo.refreshAfterWrite = namedCacheConfig.refreshAfterWrite().get();
+                } else if (defaultConfig.refreshAfterWrite().isPresent()) {
+                    cacheInfo.refreshAfterWrite = defaultConfig.refreshAfterWrite().get();
+                }
+
                 if (namedCacheConfig != null && namedCacheConfig.metricsEnabled().isPresent()) {
                     cacheInfo.metricsEnabled = namedCacheConfig.metricsEnabled().get();
                 } else if (defaultConfig.metricsEnabled().isPresent()) {
@@ -42,10 +42,12 @@ public CacheManager get() {
                     for (CaffeineCacheInfo cacheInfo : cacheInfos) {
                         if (LOGGER.isDebugEnabled()) {
                             LOGGER.debugf(
-                                    "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [expireAfterWrite=%s], "
-                                            + "[expireAfterAccess=%s] and [metricsEnabled=%s]",
-                                    cacheInfo.name, cacheInfo.initialCapacity, cacheInfo.maximumSize,
-                                    cacheInfo.expireAfterWrite, cacheInfo.expireAfterAccess, cacheInfo.metricsEnabled);
+                                    "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [maximumWeight=%s], "
+                                            + "[weigher=%s], [expireAfterWrite=%s], [expireAfterAccess=%s], [expiry=%s], "
+                                            + "[refreshAfterWrite=%s] and [metricsEnabled=%s]",
+                                    cacheInfo.name, cacheInfo.initialCapacity, cacheInfo.maximumSize, cacheInfo.maximumWeight,
+                                    cacheInfo.weigher, cacheInfo.expireAfterWrite, cacheInfo.expireAfterAccess,
+                                    cacheInfo.expiry, cacheInfo.refreshAfterWrite, cacheInfo.metricsEnabled);
                         }
                         /*
                          * Metrics will be recorded for the current cache if:
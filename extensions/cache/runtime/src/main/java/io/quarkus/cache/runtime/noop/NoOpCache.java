@@ -1,5 +1,10 @@
 package io.quarkus.cache.runtime.noop;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -35,6 +40,24 @@ public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
         return valueLoader.apply(key);
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> valueLoader) {
+        return Uni.createFrom().item(new Supplier<Map<K, V>>() {
+            @Override
+            public Map<K, V> get() {
+                Map<K, V> loaded = valueLoader.apply(new LinkedHashSet<>(keys));
+                Map<K, V> values = new LinkedHashMap<>();
+                for (K key : keys) {
+                    V value = loaded.get(key);
+                    if (value != null) {
+                        values.put(key, value);
+                    }
+                }
+                return values;
+            }
+        });
+    }
+
     @Override
     public Uni<Void> invalidate(Object key) {
         return Uni.createFrom().voidItem();
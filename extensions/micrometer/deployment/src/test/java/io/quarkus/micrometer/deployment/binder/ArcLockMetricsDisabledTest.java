@@ -0,0 +1,87 @@
+package io.quarkus.micrometer.deployment.binder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.arc.Lock;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ArcLockMetricsDisabledTest {
+
+    // the metrics are not enabled by binder-enabled-default
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(LockedBean.class))
+            .withConfigurationResource("test-logging.properties")
+            .overrideConfigKey("quarkus.redis.devservices.enabled", "false");
+
+    final static SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeAll
+    static void setRegistry() {
+        Metrics.addRegistry(registry);
+    }
+
+    @AfterAll()
+    static void removeRegistry() {
+        Metrics.removeRegistry(registry);
+    }
+
+    @Inject
+    LockedBean bean;
+
+    @Test
+    void testNoMetersIfNotEnabled() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch inside = new CountDownLatch(1);
+            CountDownLatch mayComplete = new CountDownLatch(1);
+            Future<?> write = executor.submit(() -> bean.write(inside, mayComplete));
+            assertTrue(inside.await(5, TimeUnit.SECONDS));
+            Future<String> read = executor.submit(bean::read);
+            Thread.sleep(100);
+            mayComplete.countDown();
+            assertEquals("read", read.get(5, TimeUnit.SECONDS));
+            write.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertNull(registry.find("arc.lock.wait").meter());
+    }
+
+    @Lock
+    @ApplicationScoped
+    public static class LockedBean {
+
+        void write(CountDownLatch inside, CountDownLatch mayComplete) {
+            inside.countDown();
+            try {
+                mayComplete.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Lock(Lock.Type.READ)
+        String read() {
+            return "read";
+        }
+    }
+}
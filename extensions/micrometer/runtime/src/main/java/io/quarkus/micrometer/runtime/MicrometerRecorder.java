@@ -34,6 +34,7 @@
 import io.quarkus.arc.Arc;
 import io.quarkus.micrometer.runtime.binder.HttpBinderConfiguration;
 import io.quarkus.micrometer.runtime.binder.JVMInfoBinder;
+import io.quarkus.micrometer.runtime.binder.arc.ArcLockMetricsBinder;
 import io.quarkus.micrometer.runtime.config.MicrometerConfig;
 import io.quarkus.micrometer.runtime.config.runtime.HttpClientConfig;
 import io.quarkus.micrometer.runtime.config.runtime.HttpServerConfig;
@@ -150,6 +151,13 @@ public void configureRegistries(Set<Class<? extends MeterRegistry>> registryClas
             new FileDescriptorMetrics().bindTo(Metrics.globalRegistry);
         }
 
+        // ArC @Lock contention metrics
+        if (config.isEnabled(() -> config.binder().arcLock())) {
+            ArcLockMetricsBinder arcLockMetricsBinder = new ArcLockMetricsBinder();
+            arcLockMetricsBinder.bindTo(Metrics.globalRegistry);
+            autoCloseables.add(arcLockMetricsBinder);
+        }
+
         // Discover and bind MeterBinders (includes annotated gauges, etc.)
         // This must be done at runtime. If done before backend registries are
         // configured, some measurements may be missed.
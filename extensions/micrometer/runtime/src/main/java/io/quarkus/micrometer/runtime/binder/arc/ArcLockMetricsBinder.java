@@ -0,0 +1,55 @@
+package io.quarkus.micrometer.runtime.binder.arc;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.quarkus.arc.impl.LockStatistics;
+
+/**
+ * Exposes the contention of the locks of the beans annotated with {@link io.quarkus.arc.Lock}, per business method.
+ * <p>
+ * The meters of a business method are registered the first time it waits for a lock.
+ */
+public class ArcLockMetricsBinder implements MeterBinder, AutoCloseable {
+
+    private volatile AutoCloseable listener;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        listener = LockStatistics.observe(new Consumer<LockStatistics>() {
+            @Override
+            public void accept(LockStatistics statistics) {
+                Tags tags = Tags.of("class", statistics.getMethod().getDeclaringClass().getName(),
+                        "method", statistics.getMethod().getName());
+                FunctionTimer.builder("arc.lock.wait", statistics, LockStatistics::getContendedAcquisitions,
+                        LockStatistics::getWaitTime, TimeUnit.NANOSECONDS)
+                        .tags(tags)
+                        .description("Time spent waiting for @Lock locks that were not available immediately")
+                        .register(registry);
+                Gauge.builder("arc.lock.waiting", statistics, LockStatistics::getQueueLength)
+                        .tags(tags)
+                        .description("Number of threads currently waiting for a @Lock lock")
+                        .register(registry);
+                FunctionCounter.builder("arc.lock.optimistic.read.failures", statistics,
+                        LockStatistics::getOptimisticReadFailures)
+                        .tags(tags)
+                        .description("Number of optimistic reads repeated with the read lock because of a concurrent write")
+                        .register(registry);
+            }
+        });
+    }
+
+    @Override
+    public void close() throws Exception {
+        AutoCloseable listener = this.listener;
+        if (listener != null) {
+            listener.close();
+        }
+    }
+}
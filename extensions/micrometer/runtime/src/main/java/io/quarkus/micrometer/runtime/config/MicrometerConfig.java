@@ -154,6 +154,16 @@ default boolean isEnabled(CapabilityEnabled config) {
     /** Build / static runtime config for binders */
     @ConfigGroup
     interface BinderConfig {
+        /**
+         * Micrometer metrics support for the contention of the ArC {@code @Lock} interceptor, per business method.
+         * <p>
+         * Off by default. Support for these metrics will be enabled if Micrometer
+         * support is enabled, and either this value is true, or
+         * {@code quarkus.micrometer.binder.enable-all} is true.
+         */
+        @WithDefault("false")
+        Optional<Boolean> arcLock();
+
         HttpClientConfigGroup httpClient();
 
         HttpServerConfigGroup httpServer();
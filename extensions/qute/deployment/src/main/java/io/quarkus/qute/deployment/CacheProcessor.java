@@ -7,35 +7,44 @@
 import io.quarkus.cache.deployment.spi.CacheTypeBuildItem;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.builditem.RunTimeConfigurationDefaultBuildItem;
 import io.quarkus.qute.cache.QuteCache;
 import io.quarkus.qute.runtime.cache.CacheConfigurator;
+import io.quarkus.qute.runtime.cache.FragmentExpiry;
+import io.quarkus.qute.runtime.cache.FragmentWeigher;
 import io.quarkus.qute.runtime.cache.MissingCacheConfigurator;
-import io.quarkus.qute.runtime.cache.UnsupportedRemoteCacheConfigurator;
+import io.quarkus.qute.runtime.cache.RemoteCacheConfigurator;
 
 public class CacheProcessor {
 
     @BuildStep
     void initialize(Optional<CacheTypeBuildItem> cacheTypeBuildItem,
             BuildProducer<AdditionalBeanBuildItem> beans,
-            BuildProducer<AdditionalCacheNameBuildItem> cacheNames) {
-        Class configuratorClass;
-        boolean supported = false;
+            BuildProducer<AdditionalCacheNameBuildItem> cacheNames,
+            BuildProducer<RunTimeConfigurationDefaultBuildItem> configDefaults) {
         if (cacheTypeBuildItem.isEmpty()) { // no caching enabled
-            configuratorClass = MissingCacheConfigurator.class;
-        } else {
-            CacheTypeBuildItem.Type type = cacheTypeBuildItem.get().getType();
-            if (type != CacheTypeBuildItem.Type.LOCAL) { // it does not make sense to use a remote cache for Qute
-                configuratorClass = UnsupportedRemoteCacheConfigurator.class;
-            } else {
-                configuratorClass = CacheConfigurator.class;
-                supported = true;
-            }
+            beans.produce(new AdditionalBeanBuildItem(MissingCacheConfigurator.class.getName()));
+            return;
         }
 
-        beans.produce(new AdditionalBeanBuildItem(configuratorClass.getName()));
         // We need to produce additional cache name because quarkus-cache only considers the CombinedIndexBuildItem and not the bean archive index
-        if (supported) {
+        if (cacheTypeBuildItem.get().getType() == CacheTypeBuildItem.Type.LOCAL) {
+            beans.produce(new AdditionalBeanBuildItem(CacheConfigurator.class.getName(), FragmentExpiry.class.getName(),
+                    FragmentWeigher.class.getName()));
             cacheNames.produce(new AdditionalCacheNameBuildItem(QuteCache.NAME));
+            // The time to live of each section is applied by default, unless a custom expiry is configured
+            configDefaults.produce(new RunTimeConfigurationDefaultBuildItem(
+                    "quarkus.cache.caffeine." + QuteCache.NAME + ".expiry", QuteCache.NAME));
+        } else {
+            // The fragments are stored as byte arrays in a remote cache
+            beans.produce(new AdditionalBeanBuildItem(RemoteCacheConfigurator.class.getName(),
+                    FragmentExpiry.class.getName()));
+            cacheNames.produce(new AdditionalCacheNameBuildItem(QuteCache.NAME, "byte[]"));
+            if ("redis".equals(cacheTypeBuildItem.get().getName())) {
+                // Redis removes the fragments once their time to live elapsed, even if they are never read again
+                configDefaults.produce(new RunTimeConfigurationDefaultBuildItem(
+                        "quarkus.cache.redis." + QuteCache.NAME + ".expiry", QuteCache.NAME));
+            }
         }
     }
 
@@ -0,0 +1,57 @@
+package io.quarkus.qute.deployment.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CaffeineCache;
+import io.quarkus.qute.CacheSectionHelper.Fragment;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.cache.QuteCache;
+import io.quarkus.qute.deployment.cache.CacheTest.Counter;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CacheTtlTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClass(Counter.class)
+                    .addAsResource(new StringAsset("{#cached ttl=200ms}{counter.val}{/cached}::"
+                            + "{#cached}{counter.val}{/cached}"),
+                            "templates/foo.txt"))
+            .overrideConfigKey("quarkus.cache.caffeine.qute-cache.maximum-size", "100");
+
+    @Inject
+    Template foo;
+
+    @CacheName(QuteCache.NAME)
+    Cache cache;
+
+    Counter counter = new Counter();
+
+    @Test
+    public void testExpiredParts() throws InterruptedException {
+        assertEquals("1::2", render());
+        assertEquals("1::2", render());
+        CaffeineCache caffeineCache = cache.as(CaffeineCache.class);
+        Object key = caffeineCache.keySet().stream().filter(k -> k.toString().endsWith(":1:1_")).findFirst().orElseThrow();
+        Fragment fragment = caffeineCache.<Fragment> getIfPresent(key).join();
+        assertNotNull(fragment.getTimeToLive());
+        Thread.sleep(300);
+        // Only the first part expired
+        assertEquals("3::2", render());
+    }
+
+    private String render() {
+        return foo.data("counter", counter).render();
+    }
+
+}
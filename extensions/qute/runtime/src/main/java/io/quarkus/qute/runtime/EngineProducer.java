@@ -277,6 +277,7 @@ public void run() {
 
         builder.timeout(runtimeConfig.timeout());
         builder.useAsyncTimeout(runtimeConfig.useAsyncTimeout());
+        builder.compileTemplates(runtimeConfig.compileTemplates());
 
         engine = builder.build();
 
@@ -56,6 +56,14 @@ public interface QuteRuntimeConfig {
     @WithDefault("true")
     boolean useAsyncTimeout();
 
+    /**
+     * If set to {@code true} then the templates are compiled into renderers that append the output directly when rendered as
+     * a string, e.g. via {@link TemplateInstance#render()}. Values that are already available are rendered synchronously.
+     * Compilation is ignored if tracing is enabled.
+     */
+    @WithDefault("false")
+    boolean compileTemplates();
+
     public enum PropertyNotFoundStrategy {
         /**
          * Output the {@code NOT_FOUND} constant.
@@ -8,11 +8,15 @@
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheName;
 import io.quarkus.qute.CacheSectionHelper;
+import io.quarkus.qute.CacheSectionHelper.Fragment;
 import io.quarkus.qute.EngineBuilder;
 import io.quarkus.qute.ResultNode;
 import io.quarkus.qute.cache.QuteCache;
 import io.smallrye.mutiny.Uni;
 
+/**
+ * Stores the fragments in a local cache. The fragments are evicted by the cache once expired, see {@link FragmentExpiry}.
+ */
 public class CacheConfigurator {
 
     @CacheName(QuteCache.NAME)
@@ -23,8 +27,18 @@ void configureEngine(@Observes EngineBuilder builder) {
 
             @Override
             public CompletionStage<ResultNode> getValue(String key, Function<String, CompletionStage<ResultNode>> loader) {
+                return getValue(key, loader, true).subscribeAsCompletionStage();
+            }
+
+            private Uni<ResultNode> getValue(String key, Function<String, CompletionStage<ResultNode>> loader, boolean retry) {
                 return cache.<String, ResultNode> getAsync(key, k -> Uni.createFrom().completionStage(loader.apply(k)))
-                        .subscribeAsCompletionStage();
+                        .chain(value -> {
+                            if (retry && ((Fragment) value).isExpired()) {
+                                // The expiration of the cache may be computed by a custom CacheEntryExpiry
+                                return cache.invalidate(key).chain(() -> getValue(key, loader, false));
+                            }
+                            return Uni.createFrom().item(value);
+                        });
             }
         }));
     }
@@ -0,0 +1,30 @@
+package io.quarkus.qute.runtime.cache;
+
+import java.time.Duration;
+
+import jakarta.inject.Singleton;
+
+import io.quarkus.cache.CacheEntryExpiry;
+import io.quarkus.qute.CacheSectionHelper.Fragment;
+import io.quarkus.qute.cache.QuteCache;
+import io.smallrye.common.annotation.Identifier;
+
+/**
+ * Expires the fragments according to the {@code ttl} parameter of the {@code #cached} section. The remote caches store the
+ * fragments as byte arrays.
+ */
+@Identifier(QuteCache.NAME)
+@Singleton
+public class FragmentExpiry implements CacheEntryExpiry {
+
+    @Override
+    public Duration expireAfterWrite(Object key, Object value) {
+        if (value instanceof Fragment fragment) {
+            return fragment.getTimeToLive();
+        } else if (value instanceof byte[] bytes) {
+            return Fragment.getTimeToLive(bytes);
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,23 @@
+package io.quarkus.qute.runtime.cache;
+
+import jakarta.inject.Singleton;
+
+import io.quarkus.cache.CacheEntryWeigher;
+import io.quarkus.qute.CacheSectionHelper.Fragment;
+import io.quarkus.qute.cache.QuteCache;
+import io.smallrye.common.annotation.Identifier;
+
+/**
+ * Weighs the fragments of the local cache by the size of their encoded contents, so that the cache can be given a budget in
+ * bytes.
+ */
+@Identifier(QuteCache.NAME)
+@Singleton
+public class FragmentWeigher implements CacheEntryWeigher {
+
+    @Override
+    public int weigh(Object key, Object value) {
+        return value instanceof Fragment fragment ? fragment.getContentLength() : 0;
+    }
+
+}
@@ -0,0 +1,48 @@
+package io.quarkus.qute.runtime.cache;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import jakarta.enterprise.event.Observes;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.qute.CacheSectionHelper;
+import io.quarkus.qute.CacheSectionHelper.Fragment;
+import io.quarkus.qute.EngineBuilder;
+import io.quarkus.qute.ResultNode;
+import io.quarkus.qute.cache.QuteCache;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Stores the fragments in a remote cache, e.g. Redis, as byte arrays. Redis expires them according to their time to live,
+ * see {@link FragmentExpiry}. In any case, a fragment is replaced when read after its time to live elapsed.
+ */
+public class RemoteCacheConfigurator {
+
+    @CacheName(QuteCache.NAME)
+    Cache cache;
+
+    void configureEngine(@Observes EngineBuilder builder) {
+        builder.addSectionHelper(new CacheSectionHelper.Factory(new CacheSectionHelper.Cache() {
+
+            @Override
+            public CompletionStage<ResultNode> getValue(String key, Function<String, CompletionStage<ResultNode>> loader) {
+                return getValue(key, loader, true).subscribeAsCompletionStage();
+            }
+
+            private Uni<ResultNode> getValue(String key, Function<String, CompletionStage<ResultNode>> loader, boolean retry) {
+                return cache.<String, byte[]> getAsync(key, k -> Uni.createFrom().completionStage(loader.apply(k))
+                        .map(value -> ((Fragment) value).toByteArray()))
+                        .chain(bytes -> {
+                            Fragment fragment = Fragment.fromByteArray(bytes);
+                            if (retry && fragment.isExpired()) {
+                                return cache.invalidate(key).chain(() -> getValue(key, loader, false));
+                            }
+                            return Uni.createFrom().item(fragment);
+                        });
+            }
+        }));
+    }
+
+}
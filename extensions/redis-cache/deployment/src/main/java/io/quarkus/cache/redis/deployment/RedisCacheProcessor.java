@@ -27,6 +27,7 @@
 import io.quarkus.cache.deployment.CacheDeploymentConstants;
 import io.quarkus.cache.deployment.CacheManagerInfoBuildItem;
 import io.quarkus.cache.deployment.CacheNamesBuildItem;
+import io.quarkus.cache.deployment.spi.AdditionalCacheNameBuildItem;
 import io.quarkus.cache.redis.runtime.RedisCacheBuildRecorder;
 import io.quarkus.cache.redis.runtime.RedisCacheBuildTimeConfig;
 import io.quarkus.cache.redis.runtime.RedisCachesBuildTimeConfig;
@@ -34,6 +35,7 @@
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.types.TypeParser;
 import io.quarkus.redis.deployment.client.RequestedRedisClientBuildItem;
@@ -48,8 +50,8 @@ public class RedisCacheProcessor {
 
     @BuildStep
     @Record(RUNTIME_INIT)
-    CacheManagerInfoBuildItem cacheManagerInfo(RedisCacheBuildRecorder recorder) {
-        return new CacheManagerInfoBuildItem(recorder.getCacheManagerSupplier());
+    CacheManagerInfoBuildItem cacheManagerInfo(RedisCacheBuildRecorder recorder, ShutdownContextBuildItem shutdown) {
+        return new CacheManagerInfoBuildItem(recorder.getCacheManagerSupplier(shutdown));
     }
 
     @BuildStep
@@ -72,7 +74,8 @@ void nativeImage(BuildProducer<ReflectiveClassBuildItem> producer) {
     @BuildStep
     @Record(STATIC_INIT)
     void determineKeyValueTypes(RedisCacheBuildRecorder recorder, CombinedIndexBuildItem combinedIndex,
-            CacheNamesBuildItem cacheNamesBuildItem, RedisCachesBuildTimeConfig buildConfig) {
+            CacheNamesBuildItem cacheNamesBuildItem, RedisCachesBuildTimeConfig buildConfig,
+            List<AdditionalCacheNameBuildItem> additionalCacheNames) {
 
         Map<String, java.lang.reflect.Type> keyTypes = new HashMap<>();
         RedisCacheBuildTimeConfig defaultBuildTimeConfig = buildConfig.defaultConfig();
@@ -88,6 +91,12 @@ void determineKeyValueTypes(RedisCacheBuildRecorder recorder, CombinedIndexBuild
         recorder.setCacheKeyTypes(keyTypes);
 
         Map<String, Type> resolvedValuesTypesFromAnnotations = valueTypesFromCacheResultAnnotation(combinedIndex);
+        Map<String, String> valueTypesFromExtensions = new HashMap<>();
+        for (AdditionalCacheNameBuildItem additionalCacheName : additionalCacheNames) {
+            if (additionalCacheName.getValueType() != null) {
+                valueTypesFromExtensions.put(additionalCacheName.getName(), additionalCacheName.getValueType());
+            }
+        }
 
         Map<String, java.lang.reflect.Type> valueTypes = new HashMap<>();
         Optional<String> defaultValueType = buildConfig.defaultConfig().valueType();
@@ -110,6 +119,11 @@ void determineKeyValueTypes(RedisCacheBuildRecorder recorder, CombinedIndexBuild
                 valueType = typeToString(resolvedValuesTypesFromAnnotations.get(cacheName));
             }
 
+            if (valueType == null) {
+                // e.g. a cache used internally by another extension
+                valueType = valueTypesFromExtensions.get(cacheName);
+            }
+
             if (valueType != null) {
                 valueTypes.put(cacheName, TypeParser.parse(valueType));
             } else {
@@ -0,0 +1,88 @@
+package io.quarkus.cache.redis.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.function.BooleanSupplier;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class NearRedisCacheTest {
+
+    private static final String KEY = "1";
+    private static final String REDIS_KEY = "cache:" + SimpleCachedService.CACHE_NAME + ":" + KEY;
+    private static final String CHANNEL = "cache:" + SimpleCachedService.CACHE_NAME + ":near-cache-invalidations";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(SimpleCachedService.class, TestUtil.class))
+            .overrideConfigKey("quarkus.cache.redis.near-cache.enabled", "true");
+
+    @Inject
+    SimpleCachedService simpleCachedService;
+
+    @Test
+    public void testNearCache() {
+        RedisDataSource redisDataSource = Arc.container().select(RedisDataSource.class).get();
+
+        // STEP 1
+        // Action: @CacheResult-annotated method call, then removal of the Redis entry.
+        // Expected effect: once the invalidation channel is subscribed, the value is served by the near cache.
+        // Verified by: same value returned while the Redis entry does not exist.
+        await(() -> {
+            String value = simpleCachedService.cachedMethod(KEY);
+            redisDataSource.key().del(REDIS_KEY);
+            return value.equals(simpleCachedService.cachedMethod(KEY));
+        });
+        String value1 = simpleCachedService.cachedMethod(KEY);
+
+        // STEP 2
+        // Action: invalidation published by another instance of the application.
+        // Expected effect: the near cache entry is removed and the method is invoked again.
+        // Verified by: different value returned.
+        redisDataSource.key().del(REDIS_KEY);
+        redisDataSource.pubsub(String.class).publish(CHANNEL, "another-instance|" + KEY);
+        await(() -> !value1.equals(simpleCachedService.cachedMethod(KEY)));
+        String value2 = simpleCachedService.cachedMethod(KEY);
+        assertEquals(value2, simpleCachedService.cachedMethod(KEY));
+
+        // STEP 3
+        // Action: @CacheInvalidate-annotated method call.
+        // Expected effect: the near cache entry is removed along with the Redis entry.
+        // Verified by: different value returned.
+        simpleCachedService.invalidate(KEY);
+        assertNotEquals(value2, simpleCachedService.cachedMethod(KEY));
+
+        // STEP 4
+        // Action: @CacheInvalidateAll-annotated method call.
+        // Expected effect: the near cache is cleared.
+        // Verified by: different value returned.
+        String value4 = simpleCachedService.cachedMethod(KEY);
+        simpleCachedService.invalidateAll();
+        assertNotEquals(value4, simpleCachedService.cachedMethod(KEY));
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Condition not met within 10 seconds");
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+            }
+        }
+    }
+
+}
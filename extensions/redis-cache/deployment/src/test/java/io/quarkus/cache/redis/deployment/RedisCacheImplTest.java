@@ -2,13 +2,16 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -16,6 +19,7 @@
 import java.util.function.Supplier;
 
 import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
 
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.junit.jupiter.api.AfterEach;
@@ -23,9 +27,11 @@
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.testcontainers.containers.GenericContainer;
 
+import io.quarkus.cache.CacheEntryExpiry;
 import io.quarkus.cache.redis.runtime.RedisCacheImpl;
 import io.quarkus.cache.redis.runtime.RedisCacheInfo;
 import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.common.annotation.Identifier;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.vertx.core.json.Json;
@@ -41,7 +47,8 @@ class RedisCacheImplTest {
     private static final Supplier<Boolean> BLOCKING_ALLOWED = () -> false;
 
     @RegisterExtension
-    static final QuarkusUnitTest TEST = new QuarkusUnitTest();
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClass(ShortValueExpiry.class));
 
     @Inject
     Vertx vertx;
@@ -217,6 +224,198 @@ public void testManualInvalidation() {
         assertThat(foo).isEqualTo("FOO");
     }
 
+    @Test
+    public void testGetAll() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        cache.get("a", s -> "cached-a").await().indefinitely();
+
+        List<Set<String>> loads = new ArrayList<>();
+        Map<String, String> values = cache.getAll(List.of("a", "b", "c", "d"), (Set<String> missing) -> {
+            loads.add(Set.copyOf(missing));
+            Map<String, String> loaded = new HashMap<>();
+            for (String key : missing) {
+                if (!key.equals("d")) {
+                    loaded.put(key, key.toUpperCase());
+                }
+            }
+            return loaded;
+        }).await().indefinitely();
+
+        // the missing keys are loaded at once, the keys without a value are left out
+        assertThat(values).containsExactly(entry("a", "cached-a"), entry("b", "B"), entry("c", "C"));
+        assertThat(loads).containsExactly(Set.of("b", "c", "d"));
+        assertThatTheKeyDoesExist("cache:foo:b");
+        assertThatTheKeyDoesExist("cache:foo:c");
+        assertThatTheKeyDoesNotExist("cache:foo:d");
+        long ttl = redis.send(Request.cmd(Command.TTL).arg("cache:foo:b")).await().indefinitely().toLong();
+        assertThat(ttl).isPositive().isLessThanOrEqualTo(10);
+
+        // all the keys are cached now, the value loader is not called
+        values = cache.getAll(List.of("b", "c"), (Set<String> missing) -> {
+            throw new IllegalStateException("Unexpected load of " + missing);
+        }).await().indefinitely();
+        assertThat(values).containsExactly(entry("b", "B"), entry("c", "C"));
+    }
+
+    @Test
+    public void testGetAllWithExpireAfterAccess() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.valueType = String.class;
+        info.expireAfterAccess = Optional.of(Duration.ofSeconds(100));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        cache.get("a", s -> "cached-a").await().indefinitely();
+        redis.send(Request.cmd(Command.EXPIRE).arg("cache:foo:a").arg(5)).await().indefinitely();
+
+        Map<String, String> values = cache.getAll(List.of("a", "b"), (Set<String> missing) -> {
+            Map<String, String> loaded = new HashMap<>();
+            for (String key : missing) {
+                loaded.put(key, key.toUpperCase());
+            }
+            return loaded;
+        }).await().indefinitely();
+
+        assertThat(values).containsExactly(entry("a", "cached-a"), entry("b", "B"));
+        // the hit was read with GETEX, which extended its expiration
+        long ttl = redis.send(Request.cmd(Command.TTL).arg("cache:foo:a")).await().indefinitely().toLong();
+        assertThat(ttl).isGreaterThan(5);
+        assertThatTheKeyDoesExist("cache:foo:b");
+    }
+
+    @Test
+    public void testGetAllWithoutRedis() {
+        // must start our own Redis server, because we need to stop it in the middle of the test
+        GenericContainer<?> server = new GenericContainer<>("redis:7").withExposedPorts(6379);
+        server.start();
+        Redis redis = Redis.createClient(vertx, "redis://" + server.getHost() + ":" + server.getFirstMappedPort());
+
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(2));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        server.close();
+        Map<String, String> values = cache.getAll(List.of("a", "b"), (Set<String> missing) -> {
+            Map<String, String> loaded = new HashMap<>();
+            for (String key : missing) {
+                loaded.put(key, key.toUpperCase());
+            }
+            return loaded;
+        }).await().indefinitely();
+        assertThat(values).containsExactly(entry("a", "A"), entry("b", "B"));
+        redis.close();
+    }
+
+    @Test
+    public void testExpiry() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(100));
+        info.expiry = "short-value";
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        cache.get("short", s -> "a").await().indefinitely();
+        cache.get("long", s -> "a long value").await().indefinitely();
+        cache.put("put", "b").await().indefinitely();
+
+        // the expiration of the short values is computed by the expiry, the others expire after write
+        assertThat(countMillisToLive("cache:foo:short")).isPositive().isLessThanOrEqualTo(5000);
+        assertThat(countMillisToLive("cache:foo:put")).isPositive().isLessThanOrEqualTo(5000);
+        assertThat(countMillisToLive("cache:foo:long")).isGreaterThan(5000);
+    }
+
+    private long countMillisToLive(String key) {
+        return redis.send(Request.cmd(Command.PTTL).arg(key)).await().indefinitely().toLong();
+    }
+
+    @Identifier("short-value")
+    @Singleton
+    public static class ShortValueExpiry implements CacheEntryExpiry {
+
+        @Override
+        public Duration expireAfterWrite(Object key, Object value) {
+            return ((String) value).length() == 1 ? Duration.ofSeconds(5) : null;
+        }
+    }
+
+    @Test
+    public void testCloseNearCache() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "near";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        info.nearCache = true;
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        String channel = "cache:near:near-cache-invalidations";
+        // the first read subscribes to the invalidation channel
+        assertThat(cache.get("foo", s -> "hello").await().indefinitely()).isEqualTo("hello");
+        await().until(() -> countSubscribers(channel) == 1);
+
+        cache.close();
+        await().until(() -> countSubscribers(channel) == 0);
+        // the near cache is bypassed and no new subscription is attempted
+        assertThat(cache.get("foo", s -> "bye").await().indefinitely()).isEqualTo("hello");
+        assertThat(countSubscribers(channel)).isZero();
+    }
+
+    @Test
+    public void testGetAllWithNearCache() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "near-all";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        info.nearCache = true;
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        // the first read subscribes to the invalidation channel
+        cache.get("a", s -> "cached-a").await().indefinitely();
+        await().until(() -> countSubscribers("cache:near-all:near-cache-invalidations") == 1);
+
+        // once the subscription is acknowledged, the values read from Redis and the loaded ones are stored locally
+        await().until(() -> {
+            cache.getAll(List.of("a", "b"), (Set<String> missing) -> {
+                Map<String, String> loaded = new HashMap<>();
+                for (String key : missing) {
+                    loaded.put(key, key.toUpperCase());
+                }
+                return loaded;
+            }).await().indefinitely();
+            // removed from Redis only, the local values are still used
+            redis.send(Request.cmd(Command.DEL).arg("cache:near-all:a").arg("cache:near-all:b")).await().indefinitely();
+            return cache.getAll(List.of("a", "b"), (Set<String> missing) -> Map.<String, String> of())
+                    .await().indefinitely().size() == 2;
+        });
+
+        // only the keys that are not stored locally are read from Redis and loaded
+        List<Set<String>> loads = new ArrayList<>();
+        Map<String, String> values = cache.getAll(List.of("a", "b", "c"), (Set<String> missing) -> {
+            loads.add(Set.copyOf(missing));
+            Map<String, String> loaded = new HashMap<>();
+            for (String key : missing) {
+                loaded.put(key, key.toUpperCase());
+            }
+            return loaded;
+        }).await().indefinitely();
+        assertThat(values).containsExactly(entry("a", "cached-a"), entry("b", "B"), entry("c", "C"));
+        assertThat(loads).containsExactly(Set.of("c"));
+        assertThatTheKeyDoesNotExist("cache:near-all:a");
+        assertThatTheKeyDoesExist("cache:near-all:c");
+
+        // the invalidation removes the local value
+        cache.invalidate("c").await().indefinitely();
+        values = cache.getAll(List.of("c"), (Set<String> missing) -> Map.of("c", "new-c")).await().indefinitely();
+        assertThat(values).containsExactly(entry("c", "new-c"));
+        cache.close();
+    }
+
+    private long countSubscribers(String channel) {
+        Response response = redis.send(Request.cmd(Command.PUBSUB).arg("NUMSUB").arg(channel)).await().indefinitely();
+        return response.get(1).toLong();
+    }
+
     public static class Person {
         public String firstName;
         public String lastName;
@@ -0,0 +1,300 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * A local in-memory cache kept in front of a {@link RedisCacheImpl}.
+ * <p>
+ * The local entries are invalidated on every instance of the application through a Redis channel: each instance publishes
+ * the keys it invalidates or replaces, and removes the keys published by the other instances. The local cache is only used
+ * while the subscription to the channel is active, so that a missed invalidation cannot leave a stale entry behind: when the
+ * subscription is lost, the local cache is cleared and the reads go to Redis until the next subscription is acknowledged.
+ * The failed subscriptions are retried with an exponential backoff, and the subscription connection is closed with the
+ * application.
+ */
+class NearCache {
+
+    private static final Logger log = Logger.getLogger(NearCache.class);
+
+    private static final String ALL = "*";
+    private static final char SEPARATOR = '|';
+    private static final long MIN_BACKOFF = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long MAX_BACKOFF = TimeUnit.SECONDS.toNanos(30);
+
+    private final Cache<String, Object> cache;
+    private final Redis redis;
+    private final String channel;
+    private final String id = UUID.randomUUID().toString();
+
+    // incremented on each invalidation so that a value read from Redis concurrently is not stored afterwards
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicBoolean subscribing = new AtomicBoolean();
+    private volatile boolean active;
+    private volatile boolean closed;
+    // the connection of the current subscription, guarded by this
+    private RedisConnection connection;
+    // no subscription is attempted before retryAt if the last one failed
+    private volatile long backoff;
+    private volatile long retryAt;
+
+    NearCache(RedisCacheInfo cacheInfo, Redis redis, String channel) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder();
+        if (cacheInfo.nearCacheMaximumSize.isPresent()) {
+            builder.maximumSize(cacheInfo.nearCacheMaximumSize.getAsLong());
+        }
+        if (cacheInfo.nearCacheExpireAfterWrite.isPresent()) {
+            builder.expireAfterWrite(cacheInfo.nearCacheExpireAfterWrite.get().toNanos(), TimeUnit.NANOSECONDS);
+        }
+        this.cache = builder.build();
+        this.redis = redis;
+        this.channel = channel;
+    }
+
+    /**
+     * Returns the local value of the given key, or the value provided by {@code remote} which is then stored locally.
+     */
+    <V> Uni<V> get(String key, Supplier<Uni<V>> remote) {
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+            @Override
+            public Uni<? extends V> get() {
+                if (!active) {
+                    subscribe();
+                    return remote.get();
+                }
+                @SuppressWarnings("unchecked")
+                V local = (V) cache.getIfPresent(key);
+                if (local != null) {
+                    return Uni.createFrom().item(local);
+                }
+                long expected = version.get();
+                return remote.get().invoke(new Consumer<V>() {
+                    @Override
+                    public void accept(V value) {
+                        if (value != null && active && version.get() == expected) {
+                            cache.put(key, value);
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Returns the local values of the given keys, and the values provided by {@code remote} for the other keys which are
+     * then stored locally.
+     *
+     * @param keys the keys mapped to their encoded form
+     * @param remote the function that provides the values of the keys that are not stored locally
+     */
+    <K, V> Uni<Map<K, V>> getAll(Map<K, String> keys, Function<Set<K>, Uni<Map<K, V>>> remote) {
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends Map<K, V>>>() {
+            @Override
+            public Uni<? extends Map<K, V>> get() {
+                if (!active) {
+                    subscribe();
+                    return remote.apply(keys.keySet());
+                }
+                Map<K, V> local = new HashMap<>();
+                Set<K> missing = new LinkedHashSet<>();
+                for (Map.Entry<K, String> e : keys.entrySet()) {
+                    @SuppressWarnings("unchecked")
+                    V value = (V) cache.getIfPresent(e.getValue());
+                    if (value != null) {
+                        local.put(e.getKey(), value);
+                    } else {
+                        missing.add(e.getKey());
+                    }
+                }
+                if (missing.isEmpty()) {
+                    return Uni.createFrom().item(local);
+                }
+                long expected = version.get();
+                return remote.apply(missing).map(new Function<Map<K, V>, Map<K, V>>() {
+                    @Override
+                    public Map<K, V> apply(Map<K, V> values) {
+                        if (active && version.get() == expected) {
+                            for (Map.Entry<K, V> e : values.entrySet()) {
+                                if (e.getValue() != null) {
+                                    cache.put(keys.get(e.getKey()), e.getValue());
+                                }
+                            }
+                        }
+                        local.putAll(values);
+                        return local;
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Removes the given key locally and from the local caches of the other instances.
+     */
+    Uni<Void> invalidate(String key) {
+        version.incrementAndGet();
+        cache.invalidate(key);
+        return publish(id + SEPARATOR + key);
+    }
+
+    /**
+     * Removes all the keys locally and from the local caches of the other instances.
+     */
+    Uni<Void> invalidateAll() {
+        version.incrementAndGet();
+        cache.invalidateAll();
+        return publish(id + SEPARATOR + ALL);
+    }
+
+    private Uni<Void> publish(String message) {
+        return redis.send(Request.cmd(Command.PUBLISH).arg(channel).arg(message))
+                .onFailure().invoke(new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable t) {
+                        log.warnf(t, "Unable to publish the invalidation of the near cache of [%s]", channel);
+                    }
+                })
+                .replaceWithVoid();
+    }
+
+    private void subscribe() {
+        if (closed || backoff > 0 && System.nanoTime() - retryAt < 0 || !subscribing.compareAndSet(false, true)) {
+            return;
+        }
+        redis.connect()
+                .chain(new Function<RedisConnection, Uni<?>>() {
+                    @Override
+                    public Uni<?> apply(RedisConnection connection) {
+                        synchronized (NearCache.this) {
+                            if (closed) {
+                                connection.closeAndForget();
+                                return Uni.createFrom().voidItem();
+                            }
+                            NearCache.this.connection = connection;
+                        }
+                        connection.handler(new Consumer<Response>() {
+                            @Override
+                            public void accept(Response response) {
+                                onResponse(response);
+                            }
+                        });
+                        connection.endHandler(new Runnable() {
+                            @Override
+                            public void run() {
+                                failed(connection, null);
+                            }
+                        });
+                        connection.exceptionHandler(new Consumer<Throwable>() {
+                            @Override
+                            public void accept(Throwable t) {
+                                failed(connection, t);
+                            }
+                        });
+                        return connection.send(Request.cmd(Command.SUBSCRIBE).arg(channel))
+                                .onFailure().recoverWithUni(new Function<Throwable, Uni<? extends Response>>() {
+                                    @Override
+                                    public Uni<? extends Response> apply(Throwable t) {
+                                        failed(connection, t);
+                                        return Uni.createFrom().nullItem();
+                                    }
+                                });
+                    }
+                })
+                .subscribe().with(new Consumer<Object>() {
+                    @Override
+                    public void accept(Object ignored) {
+                    }
+                }, new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable t) {
+                        // not connected
+                        failed(null, t);
+                    }
+                });
+    }
+
+    private void onResponse(Response response) {
+        if (response.size() < 2) {
+            return;
+        }
+        String type = response.get(0).toString();
+        if ("subscribe".equals(type)) {
+            // entries stored before the subscription may have missed invalidations
+            cache.invalidateAll();
+            backoff = 0;
+            active = !closed;
+        } else if ("message".equals(type) && response.size() == 3) {
+            String message = response.get(2).toString();
+            int separator = message.indexOf(SEPARATOR);
+            if (separator < 0 || message.regionMatches(0, id, 0, separator) && separator == id.length()) {
+                // our own invalidations were already applied locally
+                return;
+            }
+            String key = message.substring(separator + 1);
+            version.incrementAndGet();
+            if (ALL.equals(key)) {
+                cache.invalidateAll();
+            } else {
+                cache.invalidate(key);
+            }
+        }
+    }
+
+    /**
+     * Bypasses the local cache until the next subscription, which is attempted after the backoff.
+     *
+     * @param connection the connection of the failed subscription, {@code null} if it could not connect
+     */
+    private synchronized void failed(RedisConnection connection, Throwable failure) {
+        if (this.connection != connection) {
+            // already handled, or closed
+            return;
+        }
+        log.debugf(failure, "The subscription to [%s] was lost, the near cache is bypassed", channel);
+        this.connection = null;
+        active = false;
+        cache.invalidateAll();
+        if (connection != null) {
+            connection.closeAndForget();
+        }
+        long backoff = this.backoff == 0 ? MIN_BACKOFF : Math.min(this.backoff * 2, MAX_BACKOFF);
+        this.backoff = backoff;
+        retryAt = System.nanoTime() + backoff;
+        subscribing.set(false);
+    }
+
+    /**
+     * Closes the subscription, the local cache is bypassed from now on.
+     */
+    synchronized void close() {
+        closed = true;
+        active = false;
+        cache.invalidateAll();
+        if (connection != null) {
+            connection.closeAndForget();
+            connection = null;
+        }
+    }
+
+}
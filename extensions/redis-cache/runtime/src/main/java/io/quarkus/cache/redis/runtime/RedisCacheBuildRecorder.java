@@ -11,6 +11,7 @@
 import io.quarkus.cache.CacheManagerInfo;
 import io.quarkus.cache.runtime.CacheManagerImpl;
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
@@ -30,7 +31,7 @@ public RedisCacheBuildRecorder(RedisCachesBuildTimeConfig buildConfig,
         this.redisCacheConfigRV = redisCacheConfigRV;
     }
 
-    public CacheManagerInfo getCacheManagerSupplier() {
+    public CacheManagerInfo getCacheManagerSupplier(ShutdownContext shutdown) {
         return new CacheManagerInfo() {
             @Override
             public boolean supports(Context context) {
@@ -52,13 +53,21 @@ public CacheManager get() {
                             for (RedisCacheInfo cacheInfo : cacheInfos) {
                                 if (LOGGER.isDebugEnabled()) {
                                     LOGGER.debugf(
-                                            "Building Redis cache [%s] with [ttl=%s], [prefix=%s], [classOfItems=%s]",
+                                            "Building Redis cache [%s] with [ttl=%s], [prefix=%s], [classOfItems=%s], [nearCache=%s]",
                                             cacheInfo.name, cacheInfo.expireAfterAccess, cacheInfo.prefix,
-                                            cacheInfo.valueType);
+                                            cacheInfo.valueType, cacheInfo.nearCache);
                                 }
 
                                 RedisCacheImpl cache = new RedisCacheImpl(cacheInfo, buildConfig.clientName());
                                 caches.put(cacheInfo.name, cache);
+                                if (cacheInfo.nearCache) {
+                                    shutdown.addShutdownTask(new Runnable() {
+                                        @Override
+                                        public void run() {
+                                            cache.close();
+                                        }
+                                    });
+                                }
                             }
                             return new CacheManagerImpl(caches);
                         }
@@ -4,7 +4,15 @@
 import java.net.ConnectException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -19,12 +27,16 @@
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableInstance;
+import io.quarkus.cache.CacheEntryExpiry;
 import io.quarkus.cache.CacheException;
 import io.quarkus.cache.CompositeCacheKey;
 import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.redis.client.RedisClientName;
 import io.quarkus.redis.runtime.datasource.Marshaller;
 import io.quarkus.runtime.BlockingOperationControl;
+import io.quarkus.runtime.configuration.ConfigurationException;
+import io.smallrye.common.annotation.Identifier;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.subscription.UniEmitter;
 import io.smallrye.mutiny.unchecked.Unchecked;
@@ -57,6 +69,10 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
 
     private final Supplier<Boolean> blockingAllowedSupplier;
 
+    private final NearCache nearCache;
+
+    private final CacheEntryExpiry expiry;
+
     public RedisCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName) {
 
         this(cacheInfo, Arc.container().select(Vertx.class).get(), determineRedisClient(redisClientName),
@@ -88,6 +104,27 @@ public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Suppli
         }
         this.marshaller.add(CompositeCacheKey.class);
         this.redis = redis;
+        this.nearCache = cacheInfo.nearCache ? new NearCache(cacheInfo, redis, getKeyPrefix() + ":near-cache-invalidations")
+                : null;
+        this.expiry = cacheInfo.expiry != null ? selectExpiry(cacheInfo.expiry) : null;
+    }
+
+    private static CacheEntryExpiry selectExpiry(String identifier) {
+        InjectableInstance<CacheEntryExpiry> instance = Arc.container().select(CacheEntryExpiry.class,
+                Identifier.Literal.of(identifier));
+        if (!instance.isResolvable()) {
+            throw new ConfigurationException("Unable to find a single CacheEntryExpiry bean identified with " + identifier);
+        }
+        return instance.get();
+    }
+
+    /**
+     * Closes the subscription of the near cache, if any.
+     */
+    public void close() {
+        if (nearCache != null) {
+            nearCache.close();
+        }
     }
 
     private static boolean isRecomputableError(Throwable error) {
@@ -144,6 +181,18 @@ public <K, V> Uni<V> get(K key, TypeLiteral<V> type, Function<K, V> valueLoader)
     }
 
     private <K, V> Uni<V> get(K key, Type type, Function<K, V> valueLoader) {
+        if (nearCache != null) {
+            return nearCache.get(encodeKey(key), new Supplier<Uni<V>>() {
+                @Override
+                public Uni<V> get() {
+                    return getFromRedis(key, type, valueLoader);
+                }
+            });
+        }
+        return getFromRedis(key, type, valueLoader);
+    }
+
+    private <K, V> Uni<V> getFromRedis(K key, Type type, Function<K, V> valueLoader) {
         // With optimistic locking:
         // WATCH K
         // val = deserialize(GET K)
@@ -192,12 +241,15 @@ public Uni<?> apply(V value) {
                                                 throw new IllegalArgumentException("Cannot cache `null` value");
                                             }
                                             byte[] encodedValue = marshaller.encode(value);
+                                            Optional<Duration> expiration = expireAfterWrite(key, value);
                                             Uni<V> result;
                                             if (cacheInfo.useOptimisticLocking) {
-                                                result = multi(connection, set(connection, encodedKey, encodedValue))
+                                                result = multi(connection,
+                                                        set(connection, encodedKey, encodedValue, expiration))
                                                         .replaceWith(value);
                                             } else {
-                                                result = set(connection, encodedKey, encodedValue).replaceWith(value);
+                                                result = set(connection, encodedKey, encodedValue, expiration)
+                                                        .replaceWith(value);
                                             }
                                             if (isWorkerThread) {
                                                 return result.runSubscriptionOn(
@@ -238,6 +290,18 @@ public <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> va
     }
 
     private <K, V> Uni<V> getAsync(K key, Type type, Function<K, Uni<V>> valueLoader) {
+        if (nearCache != null) {
+            return nearCache.get(encodeKey(key), new Supplier<Uni<V>>() {
+                @Override
+                public Uni<V> get() {
+                    return getAsyncFromRedis(key, type, valueLoader);
+                }
+            });
+        }
+        return getAsyncFromRedis(key, type, valueLoader);
+    }
+
+    private <K, V> Uni<V> getAsyncFromRedis(K key, Type type, Function<K, Uni<V>> valueLoader) {
         byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
@@ -264,11 +328,13 @@ public Uni<V> apply(RedisConnection connection) {
                                 return getter
                                         .chain(value -> {
                                             byte[] encodedValue = marshaller.encode(value);
+                                            Optional<Duration> expiration = expireAfterWrite(key, value);
                                             if (cacheInfo.useOptimisticLocking) {
-                                                return multi(connection, set(connection, encodedKey, encodedValue))
+                                                return multi(connection,
+                                                        set(connection, encodedKey, encodedValue, expiration))
                                                         .replaceWith(value);
                                             } else {
-                                                return set(connection, encodedKey, encodedValue)
+                                                return set(connection, encodedKey, encodedValue, expiration)
                                                         .replaceWith(value);
                                             }
                                         });
@@ -282,6 +348,137 @@ public Uni<V> apply(RedisConnection connection) {
                 });
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> valueLoader) {
+        enforceDefaultType("getAll");
+        Map<K, String> userKeys = new LinkedHashMap<>();
+        for (K key : keys) {
+            userKeys.put(key, encodeKey(key));
+        }
+        if (userKeys.isEmpty()) {
+            return Uni.createFrom().item(new Supplier<Map<K, V>>() {
+                @Override
+                public Map<K, V> get() {
+                    return new LinkedHashMap<>();
+                }
+            });
+        }
+        boolean isWorkerThread = blockingAllowedSupplier.get();
+        if (nearCache != null) {
+            // Only the keys that are not stored locally are read from Redis
+            return nearCache.getAll(userKeys, new Function<Set<K>, Uni<Map<K, V>>>() {
+                @Override
+                public Uni<Map<K, V>> apply(Set<K> missing) {
+                    return getAllFromRedis(missing, userKeys, valueLoader, isWorkerThread);
+                }
+            }).map(new Function<Map<K, V>, Map<K, V>>() {
+                @Override
+                public Map<K, V> apply(Map<K, V> found) {
+                    return merge(userKeys.keySet(), found, Map.of());
+                }
+            });
+        }
+        return getAllFromRedis(userKeys.keySet(), userKeys, valueLoader, isWorkerThread);
+    }
+
+    private <K, V> Uni<Map<K, V>> getAllFromRedis(Set<K> keys, Map<K, String> userKeys,
+            Function<Set<K>, Map<K, V>> valueLoader, boolean isWorkerThread) {
+        // MGET K1 K2 ... (or a pipeline of GETEX if the entries expire after access)
+        // missing = keys without value
+        // if missing is not empty => pipeline of SET Kx computation.apply(missing).get(Kx)
+        Map<K, byte[]> encodedKeys = new LinkedHashMap<>();
+        for (K key : keys) {
+            encodedKeys.put(key, marshaller.encode(computeActualKey(userKeys.get(key))));
+        }
+        return doGetAll(encodedKeys.values())
+                .chain(new Function<List<Response>, Uni<? extends Map<K, V>>>() {
+                    @Override
+                    public Uni<? extends Map<K, V>> apply(List<Response> responses) {
+                        Map<K, V> cached = new HashMap<>();
+                        Set<K> missing = new LinkedHashSet<>();
+                        Iterator<Response> it = responses.iterator();
+                        for (K key : encodedKeys.keySet()) {
+                            V value = marshaller.decode(classOfValue, it.next());
+                            if (value != null) {
+                                cached.put(key, value);
+                            } else {
+                                missing.add(key);
+                            }
+                        }
+                        if (missing.isEmpty()) {
+                            return Uni.createFrom().item(merge(encodedKeys.keySet(), cached, Map.of()));
+                        }
+                        return computeValues(missing, valueLoader, isWorkerThread)
+                                .call(new Function<Map<K, V>, Uni<?>>() {
+                                    @Override
+                                    public Uni<?> apply(Map<K, V> loaded) {
+                                        List<Request> requests = new ArrayList<>();
+                                        for (K key : missing) {
+                                            V value = loaded.get(key);
+                                            if (value != null) {
+                                                requests.add(set(encodedKeys.get(key), marshaller.encode(value),
+                                                        expireAfterWrite(key, value)));
+                                            }
+                                        }
+                                        if (requests.isEmpty()) {
+                                            return Uni.createFrom().voidItem();
+                                        }
+                                        return redis.batch(requests);
+                                    }
+                                })
+                                .map(new Function<Map<K, V>, Map<K, V>>() {
+                                    @Override
+                                    public Map<K, V> apply(Map<K, V> loaded) {
+                                        return merge(encodedKeys.keySet(), cached, loaded);
+                                    }
+                                });
+                    }
+                })
+                .onFailure(RedisCacheImpl::isRecomputableError)
+                .recoverWithUni(new Function<Throwable, Uni<? extends Map<K, V>>>() {
+                    @Override
+                    public Uni<? extends Map<K, V>> apply(Throwable e) {
+                        log.warn("Unable to connect to Redis, recomputing cached values", e);
+                        return computeValues(new LinkedHashSet<>(encodedKeys.keySet()), valueLoader, isWorkerThread)
+                                .map(new Function<Map<K, V>, Map<K, V>>() {
+                                    @Override
+                                    public Map<K, V> apply(Map<K, V> loaded) {
+                                        return merge(encodedKeys.keySet(), Map.of(), loaded);
+                                    }
+                                });
+                    }
+                });
+    }
+
+    private <K, V> Uni<Map<K, V>> computeValues(Set<K> keys, Function<Set<K>, Map<K, V>> valueLoader,
+            boolean isWorkerThread) {
+        Uni<Map<K, V>> uni = Uni.createFrom().item(new Supplier<Map<K, V>>() {
+            @Override
+            public Map<K, V> get() {
+                Map<K, V> loaded = valueLoader.apply(keys);
+                return loaded != null ? loaded : Map.of();
+            }
+        });
+        if (isWorkerThread) {
+            return uni.runSubscriptionOn(MutinyHelper.blockingExecutor(vertx.getDelegate(), false));
+        }
+        return uni;
+    }
+
+    private static <K, V> Map<K, V> merge(Set<K> keys, Map<K, V> cached, Map<K, V> loaded) {
+        Map<K, V> result = new LinkedHashMap<>();
+        for (K key : keys) {
+            V value = cached.get(key);
+            if (value == null) {
+                value = loaded.get(key);
+            }
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
     @Override
     public <K, V> Uni<Void> put(K key, V value) {
         return put(key, new StaticSupplier<>(value));
@@ -289,14 +486,27 @@ public <K, V> Uni<Void> put(K key, V value) {
 
     @Override
     public <K, V> Uni<Void> put(K key, Supplier<V> supplier) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        byte[] encodedValue = marshaller.encode(supplier.get());
-        return withConnection(new Function<RedisConnection, Uni<Void>>() {
+        String userKey = encodeKey(key);
+        byte[] encodedKey = marshaller.encode(computeActualKey(userKey));
+        V value = supplier.get();
+        byte[] encodedValue = marshaller.encode(value);
+        Optional<Duration> expiration = expireAfterWrite(key, value);
+        Uni<Void> put = withConnection(new Function<RedisConnection, Uni<Void>>() {
             @Override
             public Uni<Void> apply(RedisConnection connection) {
-                return set(connection, encodedKey, encodedValue);
+                return set(connection, encodedKey, encodedValue, expiration);
             }
         });
+        if (nearCache != null) {
+            // the replaced value must not be read from the near caches anymore
+            return put.call(new Supplier<Uni<?>>() {
+                @Override
+                public Uni<?> get() {
+                    return nearCache.invalidate(userKey);
+                }
+            });
+        }
+        return put;
     }
 
     private void enforceDefaultType(String methodName) {
@@ -325,13 +535,7 @@ public <K, V> Uni<V> getOrDefault(K key, TypeLiteral<V> type, V defaultValue) {
     }
 
     private <K, V> Uni<V> getOrDefault(K key, Type type, V defaultValue) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
-            @Override
-            public Uni<V> apply(RedisConnection redisConnection) {
-                return doGet(redisConnection, encodedKey, type, marshaller);
-            }
-        }).onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
+        return getOrNull(key, type).onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
     }
 
     @Override
@@ -351,20 +555,40 @@ public <K, V> Uni<V> getOrNull(K key, TypeLiteral<V> type) {
     }
 
     private <K, V> Uni<V> getOrNull(K key, Type type) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
+        String userKey = encodeKey(key);
+        byte[] encodedKey = marshaller.encode(computeActualKey(userKey));
+        Supplier<Uni<V>> remote = new Supplier<Uni<V>>() {
             @Override
-            public Uni<V> apply(RedisConnection redisConnection) {
-                return doGet(redisConnection, encodedKey, type, marshaller);
+            public Uni<V> get() {
+                return withConnection(new Function<RedisConnection, Uni<V>>() {
+                    @Override
+                    public Uni<V> apply(RedisConnection redisConnection) {
+                        return doGet(redisConnection, encodedKey, type, marshaller);
+                    }
+                });
             }
-        });
+        };
+        if (nearCache != null) {
+            return nearCache.get(userKey, remote);
+        }
+        return remote.get();
     }
 
     @Override
     public Uni<Void> invalidate(Object key) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return redis.send(Request.cmd(Command.DEL).arg(encodedKey))
+        String userKey = encodeKey(key);
+        byte[] encodedKey = marshaller.encode(computeActualKey(userKey));
+        Uni<Void> invalidate = redis.send(Request.cmd(Command.DEL).arg(encodedKey))
                 .replaceWithVoid();
+        if (nearCache != null) {
+            return invalidate.call(new Supplier<Uni<?>>() {
+                @Override
+                public Uni<?> get() {
+                    return nearCache.invalidate(userKey);
+                }
+            });
+        }
+        return invalidate;
     }
 
     @Override
@@ -374,6 +598,20 @@ public Uni<Void> invalidateAll() {
 
     @Override
     public Uni<Void> invalidateIf(Predicate<Object> predicate) {
+        Uni<Void> invalidate = invalidateIfFromRedis(predicate);
+        if (nearCache != null) {
+            // the near caches do not know the user keys, so they are cleared entirely
+            return invalidate.call(new Supplier<Uni<?>>() {
+                @Override
+                public Uni<?> get() {
+                    return nearCache.invalidateAll();
+                }
+            });
+        }
+        return invalidate;
+    }
+
+    private Uni<Void> invalidateIfFromRedis(Predicate<Object> predicate) {
         return Uni.createFrom().emitter(new Consumer<UniEmitter<? super Set<String>>>() {
             @Override
             public void accept(UniEmitter<? super Set<String>> uniEmitter) {
@@ -501,12 +739,58 @@ public X apply(Response r) {
         }
     }
 
-    private Uni<Void> set(RedisConnection connection, byte[] key, byte[] value) {
+    private Uni<List<Response>> doGetAll(Collection<byte[]> encodedKeys) {
+        if (cacheInfo.expireAfterAccess.isPresent()) {
+            long seconds = cacheInfo.expireAfterAccess.get().toSeconds();
+            List<Request> requests = new ArrayList<>(encodedKeys.size());
+            for (byte[] encodedKey : encodedKeys) {
+                requests.add(Request.cmd(Command.GETEX).arg(encodedKey).arg("EX").arg(seconds));
+            }
+            return redis.batch(requests);
+        } else {
+            Request request = Request.cmd(Command.MGET);
+            for (byte[] encodedKey : encodedKeys) {
+                request.arg(encodedKey);
+            }
+            return redis.send(request)
+                    .map(new Function<Response, List<Response>>() {
+                        @Override
+                        public List<Response> apply(Response r) {
+                            List<Response> responses = new ArrayList<>(r.size());
+                            for (int i = 0; i < r.size(); i++) {
+                                responses.add(r.get(i));
+                            }
+                            return responses;
+                        }
+                    });
+        }
+    }
+
+    /**
+     * @return the expiration of the given entry computed by the configured {@link CacheEntryExpiry}, or the
+     *         {@code expire-after-write} value
+     */
+    private Optional<Duration> expireAfterWrite(Object key, Object value) {
+        if (expiry != null) {
+            Duration duration = expiry.expireAfterWrite(key, value);
+            if (duration != null) {
+                return Optional.of(duration);
+            }
+        }
+        return cacheInfo.expireAfterWrite;
+    }
+
+    private Uni<Void> set(RedisConnection connection, byte[] key, byte[] value, Optional<Duration> expireAfterWrite) {
+        return connection.send(set(key, value, expireAfterWrite)).replaceWithVoid();
+    }
+
+    private Request set(byte[] key, byte[] value, Optional<Duration> expireAfterWrite) {
         Request request = Request.cmd(Command.SET).arg(key).arg(value);
-        if (cacheInfo.expireAfterWrite.isPresent()) {
-            request = request.arg("EX").arg(cacheInfo.expireAfterWrite.get().toSeconds());
+        if (expireAfterWrite.isPresent()) {
+            // Redis rejects an expiration that is not positive
+            request = request.arg("PX").arg(Math.max(1, expireAfterWrite.get().toMillis()));
         }
-        return connection.send(request).replaceWithVoid();
+        return request;
     }
 
     private Uni<Void> multi(RedisConnection connection, Uni<Void> operation) {
@@ -4,6 +4,7 @@
 import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 public class RedisCacheInfo {
 
@@ -22,6 +23,11 @@ public class RedisCacheInfo {
      */
     public Optional<Duration> expireAfterWrite = Optional.empty();
 
+    /**
+     * The identifier of the {@link io.quarkus.cache.CacheEntryExpiry} bean computing the expiration of each entry
+     */
+    public String expiry;
+
     /**
      * the key prefix allowing to identify the keys belonging to the cache.
      * If not set, use "cache:$cache-name"
@@ -51,4 +57,19 @@ public class RedisCacheInfo {
      * no {@code COUNT} argument is present.
      */
     public OptionalInt invalidationScanSize = OptionalInt.empty();
+
+    /**
+     * Whether the values are also kept in a local cache in front of Redis.
+     */
+    public boolean nearCache = false;
+
+    /**
+     * The maximum number of entries of the local cache, unbounded if not set.
+     */
+    public OptionalLong nearCacheMaximumSize = OptionalLong.empty();
+
+    /**
+     * The duration after which a local entry expires, the {@link #expireAfterWrite} value if not set.
+     */
+    public Optional<Duration> nearCacheExpireAfterWrite = Optional.empty();
 }
@@ -43,6 +43,12 @@ public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesRunti
                     cacheInfo.expireAfterWrite = defaultRuntimeConfig.ttl();
                 }
 
+                if (namedRuntimeConfig != null && namedRuntimeConfig.expiry().isPresent()) {
+                    cacheInfo.expiry = namedRuntimeConfig.expiry().get();
+                } else if (defaultRuntimeConfig.expiry().isPresent()) {
+                    cacheInfo.expiry = defaultRuntimeConfig.expiry().get();
+                }
+
                 if (namedRuntimeConfig != null && namedRuntimeConfig.prefix().isPresent()) {
                     cacheInfo.prefix = namedRuntimeConfig.prefix().get();
                 } else if (defaultRuntimeConfig.prefix().isPresent()) {
@@ -67,6 +73,26 @@ public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesRunti
                     cacheInfo.invalidationScanSize = defaultRuntimeConfig.invalidationScanSize();
                 }
 
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCache().enabled().isPresent()) {
+                    cacheInfo.nearCache = namedRuntimeConfig.nearCache().enabled().get();
+                } else if (defaultRuntimeConfig.nearCache().enabled().isPresent()) {
+                    cacheInfo.nearCache = defaultRuntimeConfig.nearCache().enabled().get();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCache().maximumSize().isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = namedRuntimeConfig.nearCache().maximumSize();
+                } else if (defaultRuntimeConfig.nearCache().maximumSize().isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = defaultRuntimeConfig.nearCache().maximumSize();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCache().expireAfterWrite().isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = namedRuntimeConfig.nearCache().expireAfterWrite();
+                } else if (defaultRuntimeConfig.nearCache().expireAfterWrite().isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = defaultRuntimeConfig.nearCache().expireAfterWrite();
+                } else {
+                    cacheInfo.nearCacheExpireAfterWrite = cacheInfo.expireAfterWrite;
+                }
+
                 result.add(cacheInfo);
             }
             return result;
@@ -3,6 +3,7 @@
 import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
 
@@ -28,6 +29,12 @@ public interface RedisCacheRuntimeConfig {
      */
     Optional<Duration> expireAfterAccess();
 
+    /**
+     * The identifier of the {@link io.quarkus.cache.CacheEntryExpiry} bean used to compute the expiration of each entry
+     * when it is written. When the bean returns {@code null}, {@code expire-after-write} applies.
+     */
+    Optional<String> expiry();
+
     /**
      * The key prefix allowing to identify the keys belonging to the cache.
      * If not set, the value "{@code cache:{cache-name}}" will be used. The variable
@@ -49,4 +56,33 @@ public interface RedisCacheRuntimeConfig {
      * no {@code COUNT} argument is present.
      */
     OptionalInt invalidationScanSize();
+
+    /**
+     * The local cache in front of Redis.
+     */
+    NearCacheConfig nearCache();
+
+    @ConfigGroup
+    interface NearCacheConfig {
+
+        /**
+         * Whether the values read from Redis are also kept in a local in-memory cache, so that subsequent reads of the same
+         * keys do not require a network round-trip. The local entries are invalidated on every instance of the application
+         * through a Redis channel when a key is invalidated or replaced. Default is {@code false}.
+         */
+        Optional<Boolean> enabled();
+
+        /**
+         * Maximum number of entries the local cache may contain.
+         * If not set, the local cache is unbounded.
+         */
+        OptionalLong maximumSize();
+
+        /**
+         * Specifies that each local entry should be automatically removed once a fixed duration has elapsed after its
+         * creation. It defaults to the {@code expire-after-write} value of the cache, so that a local entry never outlives
+         * the Redis entry it was read from.
+         */
+        Optional<Duration> expireAfterWrite();
+    }
 }
@@ -90,6 +90,31 @@ public interface ResteasyReactiveConfig {
     @WithDefault("true")
     boolean removesTrailingSlash();
 
+    /**
+     * If true, the request mappers used to select the resource method of a resource class are compiled at startup
+     * into an immutable radix trie, making the lookup cost proportional to the length of the path instead of the number
+     * of endpoints.
+     * <p>
+     * In this mode the mappers only record where the path parameters are located in the path, and their values are
+     * extracted and decoded when they are read.
+     */
+    @WithDefault("false")
+    boolean compiledRouter();
+
+    /**
+     * If true, a handler is generated at build time for each endpoint with only {@code String} path, query or header
+     * parameters and a single fixed produced media type. It extracts the parameters, invokes the resource method and
+     * runs the response handlers directly, so the JIT can inline them into straight-line code. The generated handler is
+     * only used if the endpoint has no filters.
+     */
+    @WithDefault("false")
+    boolean fusedHandlerChains();
+
+    /**
+     * Pooling of the request contexts.
+     */
+    RequestContextPoolConfig requestContextPool();
+
     /**
      * Configuration for exception mapping.
      */
@@ -100,4 +125,33 @@ interface ExceptionMappingConfig {
          */
         Optional<List<String>> disableMapperFor();
     }
+
+    /**
+     * Configuration for the pooling of the request contexts.
+     */
+    interface RequestContextPoolConfig {
+        /**
+         * If true, the request contexts, along with the JAX-RS objects they create, are kept per event loop once their
+         * request completed and reused by the next requests, instead of being allocated for each request.
+         * <p>
+         * Only the contexts of requests that completed synchronously on the event loop are reused: the contexts of
+         * suspended or blocking requests are never returned to the pool.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The maximum number of request contexts kept for each event loop.
+         */
+        @WithDefault("32")
+        int maxSize();
+
+        /**
+         * If true, a request context that is used after it was returned to the pool, because the application kept a
+         * reference to it or to one of its JAX-RS objects, makes the request fail with an error that shows where it was
+         * returned to the pool. This is meant for debugging only.
+         */
+        @WithDefault("false")
+        boolean leakDetection();
+    }
 }
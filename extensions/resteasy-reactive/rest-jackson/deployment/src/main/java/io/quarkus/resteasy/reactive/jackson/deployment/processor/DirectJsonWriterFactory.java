@@ -0,0 +1,369 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_STATIC;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ArrayType;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+import org.jboss.resteasy.reactive.server.vertx.json.DirectJsonWriter;
+import org.jboss.resteasy.reactive.server.vertx.json.DirectJsonWriters;
+import org.jboss.resteasy.reactive.server.vertx.json.JsonByteBufWriter;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+
+/**
+ * Generates a {@link DirectJsonWriter} for each class that is returned by an endpoint, so that it can be written as JSON
+ * straight into the Vert.x response buffer instead of going through a Jackson {@code JsonGenerator}. For instance for a
+ * pojo like this
+ *
+ * <pre>{@code
+ * public class Person {
+ *     private String firstName;
+ *
+ *     &#64;JsonProperty("familyName")
+ *     private String lastName;
+ *
+ *     private int age;
+ *
+ *     private List<Address> addresses;
+ *
+ *     // getters and setters omitted
+ * }
+ * }</pre>
+ *
+ * it generates the following {@code DirectJsonWriter} implementation
+ *
+ * <pre>{@code
+ * public class Person$quarkusdirectjsonwriter extends DirectJsonWriter {
+ *     private static final byte[] NAME_0 = JsonByteBufWriter.encodeFieldName("firstName");
+ *     private static final byte[] NAME_1 = JsonByteBufWriter.encodeFieldName("familyName");
+ *     private static final byte[] NAME_2 = JsonByteBufWriter.encodeFieldName("age");
+ *     private static final byte[] NAME_3 = JsonByteBufWriter.encodeFieldName("addresses");
+ *
+ *     public Person$quarkusdirectjsonwriter() {
+ *         super(Person.class);
+ *     }
+ *
+ *     public String[] propertyNames() {
+ *         return new String[] { "firstName", "familyName", "age", "addresses" };
+ *     }
+ *
+ *     public void write(Object var1, JsonByteBufWriter var2) {
+ *         Person var3 = (Person) var1;
+ *         var2.writeStartObject();
+ *         var2.writeFieldName(NAME_0);
+ *         var2.writeString(var3.getFirstName());
+ *         var2.writeFieldName(NAME_1);
+ *         var2.writeString(var3.getLastName());
+ *         var2.writeFieldName(NAME_2);
+ *         var2.writeNumber(var3.getAge());
+ *         var2.writeFieldName(NAME_3);
+ *         DirectJsonWriters.writeIterable(var3.getAddresses(), var2);
+ *         var2.writeEndObject();
+ *     }
+ * }
+ * }</pre>
+ *
+ * The properties are discovered in the same way as {@link JacksonSerializerFactory} does. Only the classes whose
+ * properties are all of a type that can be written without Jackson get a writer: primitives and their wrappers, strings,
+ * big numbers, other classes of the index without subclasses, and arrays and collections of those. Classes annotated with
+ * a Jackson annotation, or extending such a class, are left to Jackson. As for {@link JacksonSerializerFactory}, the
+ * classes found while generating a writer are enqueued so that they get a writer too, and a writer is only kept if all the
+ * classes it refers to got a writer as well. This way the whole type graph is known to be supported at build time, and
+ * only a value of a class created at runtime, like a proxy, makes the entity be written by Jackson instead.
+ * <p>
+ * At runtime, the writers are also compared to the Jackson serializers of the configured {@code ObjectMapper}, see
+ * {@code BasicServerJacksonMessageBodyWriter}.
+ */
+public class DirectJsonWriterFactory extends JacksonCodeGenerator {
+
+    private static final String CLASS_NAME_SUFFIX = "$quarkusdirectjsonwriter";
+    private static final String JACKSON_ANNOTATIONS_PREFIX = "com.fasterxml.jackson.";
+    private static final String SUPER_CLASS_NAME = DirectJsonWriter.class.getName();
+
+    private static final MethodDescriptor ENCODE_FIELD_NAME = MethodDescriptor.ofMethod(JsonByteBufWriter.class,
+            "encodeFieldName", byte[].class, String.class);
+    private static final MethodDescriptor WRITE_FIELD_NAME = MethodDescriptor.ofMethod(JsonByteBufWriter.class,
+            "writeFieldName", void.class, byte[].class);
+    private static final MethodDescriptor WRITE_START_OBJECT = MethodDescriptor.ofMethod(JsonByteBufWriter.class,
+            "writeStartObject", void.class);
+    private static final MethodDescriptor WRITE_END_OBJECT = MethodDescriptor.ofMethod(JsonByteBufWriter.class,
+            "writeEndObject", void.class);
+    private static final MethodDescriptor WRITE_VALUE = MethodDescriptor.ofMethod(DirectJsonWriters.class, "writeValue",
+            void.class, Object.class, JsonByteBufWriter.class);
+    private static final MethodDescriptor WRITE_ITERABLE = MethodDescriptor.ofMethod(DirectJsonWriters.class,
+            "writeIterable", void.class, Iterable.class, JsonByteBufWriter.class);
+    private static final MethodDescriptor WRITE_ARRAY = MethodDescriptor.ofMethod(DirectJsonWriters.class, "writeArray",
+            void.class, Object[].class, JsonByteBufWriter.class);
+
+    // the classes of the index that each generated writer delegates to
+    private final Map<String, Set<String>> dependencies = new HashMap<>();
+    private Set<String> currentDependencies;
+
+    public DirectJsonWriterFactory(BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer,
+            IndexView jandexIndex) {
+        super(generatedClassBuildItemBuildProducer, jandexIndex);
+    }
+
+    @Override
+    public Collection<String> create(Collection<ClassInfo> classInfos) {
+        Set<String> writable = new HashSet<>();
+        for (String generatedClassName : super.create(classInfos)) {
+            writable.add(generatedClassName.substring(0, generatedClassName.length() - CLASS_NAME_SUFFIX.length()));
+        }
+        // drop the writers that refer to a class without a writer, until there are none left
+        boolean removed;
+        do {
+            removed = writable.removeIf(className -> !writable.containsAll(dependencies.get(className)));
+        } while (removed);
+        List<String> result = new ArrayList<>(writable.size());
+        for (String className : writable) {
+            result.add(className + CLASS_NAME_SUFFIX);
+        }
+        return result;
+    }
+
+    @Override
+    protected String getSuperClassName() {
+        return SUPER_CLASS_NAME;
+    }
+
+    @Override
+    protected String getClassSuffix() {
+        return CLASS_NAME_SUFFIX;
+    }
+
+    @Override
+    protected boolean createSerializationMethod(ClassInfo classInfo, ClassCreator classCreator, String beanClassName) {
+        MethodCreator write = classCreator.getMethodCreator("write", void.class, Object.class, JsonByteBufWriter.class)
+                .setModifiers(ACC_PUBLIC);
+        MethodCreator clinit = classCreator.getMethodCreator("<clinit>", void.class).setModifiers(ACC_STATIC);
+
+        currentDependencies = new HashSet<>();
+        dependencies.put(beanClassName, currentDependencies);
+        List<String> propertyNames = new ArrayList<>();
+        boolean valid = !classInfo.hasAnnotation(JsonValue.class) && !hasJacksonClassAnnotation(classInfo)
+                && writeObject(classInfo, classCreator, clinit, write, beanClassName, propertyNames);
+
+        write.returnVoid();
+        clinit.returnVoid();
+
+        MethodCreator names = classCreator.getMethodCreator("propertyNames", String[].class).setModifiers(ACC_PUBLIC);
+        ResultHandle array = names.newArray(String.class, propertyNames.size());
+        for (int i = 0; i < propertyNames.size(); i++) {
+            names.writeArrayValue(array, i, names.load(propertyNames.get(i)));
+        }
+        names.returnValue(array);
+        return valid;
+    }
+
+    /**
+     * Jackson annotations on the class, like {@code @JsonInclude}, {@code @JsonPropertyOrder} or {@code @JsonNaming},
+     * change the output in ways that the generated writers do not implement. They are also inherited.
+     */
+    private boolean hasJacksonClassAnnotation(ClassInfo classInfo) {
+        for (AnnotationInstance annotation : classInfo.declaredAnnotations()) {
+            if (annotation.name().toString().startsWith(JACKSON_ANNOTATIONS_PREFIX)) {
+                return true;
+            }
+        }
+        for (DotName interfaceName : classInfo.interfaceNames()) {
+            ClassInfo interfaceInfo = jandexIndex.getClassByName(interfaceName);
+            if (interfaceInfo != null && hasJacksonClassAnnotation(interfaceInfo)) {
+                return true;
+            }
+        }
+        Boolean superClassAnnotated = onSuperClass(classInfo, this::hasJacksonClassAnnotation);
+        return superClassAnnotated != null && superClassAnnotated;
+    }
+
+    private boolean writeObject(ClassInfo classInfo, ClassCreator classCreator, MethodCreator clinit, MethodCreator write,
+            String beanClassName, List<String> propertyNames) {
+        ResultHandle value = write.checkCast(write.getMethodParam(0), beanClassName);
+        ResultHandle writer = write.getMethodParam(1);
+        write.invokeVirtualMethod(WRITE_START_OBJECT, writer);
+
+        Set<String> writtenFields = new HashSet<>();
+        MethodInfo constructor = findConstructor(classInfo).orElse(null);
+        int written = 0;
+        for (FieldInfo fieldInfo : declaredFields(classInfo)) {
+            FieldSpecs fieldSpecs = fieldSpecsFromField(classInfo, constructor, fieldInfo);
+            if (fieldSpecs != null && writtenFields.add(fieldSpecs.jsonName) && !fieldSpecs.isIgnoredField()) {
+                if (!writeField(fieldSpecs, classCreator, clinit, write, value, writer, written++)) {
+                    return false;
+                }
+                propertyNames.add(fieldSpecs.jsonName);
+            }
+        }
+        for (MethodInfo methodInfo : declaredMethods(classInfo)) {
+            if (isGetterMethod(methodInfo)) {
+                FieldSpecs fieldSpecs = new FieldSpecs(methodInfo);
+                if (writtenFields.add(fieldSpecs.jsonName) && !fieldSpecs.isIgnoredField()) {
+                    if (!writeField(fieldSpecs, classCreator, clinit, write, value, writer, written++)) {
+                        return false;
+                    }
+                    propertyNames.add(fieldSpecs.jsonName);
+                }
+            }
+        }
+
+        write.invokeVirtualMethod(WRITE_END_OBJECT, writer);
+        // Jackson may be configured to fail on empty beans, let it decide
+        return written > 0;
+    }
+
+    /**
+     * Jackson writes the properties in declaration order, starting with the ones of the superclasses, while the index
+     * sorts the fields and methods of a class by name.
+     */
+    private List<FieldInfo> declaredFields(ClassInfo classInfo) {
+        List<FieldInfo> fields = new ArrayList<>();
+        onSuperClass(classInfo, superClassInfo -> fields.addAll(declaredFields(superClassInfo)));
+        fields.addAll(classInfo.unsortedFields());
+        return fields;
+    }
+
+    private List<MethodInfo> declaredMethods(ClassInfo classInfo) {
+        List<MethodInfo> methods = new ArrayList<>();
+        onSuperClass(classInfo, superClassInfo -> methods.addAll(declaredMethods(superClassInfo)));
+        methods.addAll(classInfo.unsortedMethods());
+        return methods;
+    }
+
+    private boolean writeField(FieldSpecs fieldSpecs, ClassCreator classCreator, MethodCreator clinit,
+            MethodCreator write, ResultHandle value, ResultHandle writer, int index) {
+        if (fieldSpecs.hasUnknownAnnotation() || fieldSpecs.rolesAllowed() != null) {
+            return false;
+        }
+        String typeName = fieldSpecs.fieldType.name().toString();
+        MethodDescriptor valueWriter = valueWriter(fieldSpecs.fieldType, typeName);
+        if (valueWriter == null) {
+            return false;
+        }
+
+        // the field name is encoded once, when the writer is initialized
+        FieldDescriptor nameField = classCreator.getFieldCreator("NAME_" + index, byte[].class)
+                .setModifiers(ACC_PRIVATE | ACC_STATIC | ACC_FINAL).getFieldDescriptor();
+        clinit.writeStaticField(nameField, clinit.invokeStaticMethod(ENCODE_FIELD_NAME, clinit.load(fieldSpecs.jsonName)));
+
+        write.invokeVirtualMethod(WRITE_FIELD_NAME, writer, write.readStaticField(nameField));
+        ResultHandle fieldValue = fieldSpecs.toValueReaderHandle(write, value);
+        invokeValueWriter(write, valueWriter, fieldValue, writer);
+        return true;
+    }
+
+    private static void invokeValueWriter(BytecodeCreator bytecode, MethodDescriptor valueWriter, ResultHandle fieldValue,
+            ResultHandle writer) {
+        if (valueWriter == WRITE_VALUE || valueWriter == WRITE_ITERABLE || valueWriter == WRITE_ARRAY) {
+            bytecode.invokeStaticMethod(valueWriter, fieldValue, writer);
+        } else {
+            bytecode.invokeVirtualMethod(valueWriter, writer, fieldValue);
+        }
+    }
+
+    /**
+     * @return the method to use to write a value of the given type, or {@code null} if it cannot be written directly
+     */
+    private MethodDescriptor valueWriter(Type fieldType, String typeName) {
+        return switch (typeName) {
+            // char values are converted to a String by FieldSpecs.toValueReaderHandle
+            case "java.lang.String", "char" -> writerMethod("writeString", String.class);
+            case "int", "byte" -> writerMethod("writeNumber", int.class);
+            case "long" -> writerMethod("writeNumber", long.class);
+            case "short" -> writerMethod("writeNumber", short.class);
+            case "double" -> writerMethod("writeNumber", double.class);
+            case "float" -> writerMethod("writeNumber", float.class);
+            case "boolean" -> writerMethod("writeBoolean", boolean.class);
+            case "java.lang.Integer", "java.lang.Long", "java.lang.Short", "java.lang.Byte", "java.lang.Double",
+                    "java.lang.Float", "java.lang.Boolean", "java.math.BigInteger", "java.math.BigDecimal" ->
+                WRITE_VALUE;
+            default -> containerOrPojoWriter(fieldType, typeName);
+        };
+    }
+
+    private MethodDescriptor containerOrPojoWriter(Type fieldType, String typeName) {
+        if (fieldType.kind() == Type.Kind.ARRAY) {
+            ArrayType arrayType = fieldType.asArrayType();
+            if (arrayType.dimensions() != 1 || !isSupportedElement(arrayType.constituent())) {
+                return null;
+            }
+            registerTypeToBeGenerated(fieldType, typeName);
+            return WRITE_ARRAY;
+        }
+        if (fieldType.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+            FieldKind kind = registerTypeToBeGenerated(fieldType, typeName);
+            if ((kind == FieldKind.LIST || kind == FieldKind.SET)
+                    && isSupportedElement(fieldType.asParameterizedType().arguments().get(0))) {
+                return WRITE_ITERABLE;
+            }
+            return null;
+        }
+        if (fieldType.kind() == Type.Kind.CLASS && isIndexedPojo(typeName)) {
+            registerTypeToBeGenerated(fieldType, typeName);
+            return WRITE_VALUE;
+        }
+        return null;
+    }
+
+    private boolean isSupportedElement(Type elementType) {
+        if (elementType.kind() != Type.Kind.CLASS) {
+            return false;
+        }
+        String typeName = elementType.name().toString();
+        return typeName.equals("java.lang.String") || typeName.equals("java.math.BigInteger")
+                || typeName.equals("java.math.BigDecimal")
+                || (JacksonSerializationUtils.isBoxedPrimitive(typeName) && !typeName.equals("java.lang.Character"))
+                || isIndexedPojo(typeName);
+    }
+
+    /**
+     * A value of a class with subclasses could be written by Jackson with the properties of the subclass, so only the
+     * classes without subclasses are supported. The class is recorded as a dependency of the writer being generated.
+     */
+    private boolean isIndexedPojo(String typeName) {
+        ClassInfo classInfo = jandexIndex.getClassByName(typeName);
+        if (classInfo == null || vetoedClass(classInfo, typeName) || !shouldGenerateCodeFor(classInfo)
+                || !jandexIndex.getAllKnownSubclasses(classInfo.name()).isEmpty()) {
+            return false;
+        }
+        currentDependencies.add(typeName);
+        return true;
+    }
+
+    private static MethodDescriptor writerMethod(String name, Class<?> parameterType) {
+        return MethodDescriptor.ofMethod(JsonByteBufWriter.class, name, void.class, parameterType);
+    }
+
+    private static boolean isGetterMethod(MethodInfo methodInfo) {
+        String methodName = methodInfo.name();
+        return Modifier.isPublic(methodInfo.flags()) && !Modifier.isStatic(methodInfo.flags())
+                && methodInfo.parametersCount() == 0
+                && (methodName.startsWith("get") || methodName.startsWith("is"));
+    }
+}
@@ -27,4 +27,42 @@ public boolean getAsBoolean() {
             return config.enableReflectionFreeSerializers();
         }
     }
+
+    /**
+     * Enable build time generation of JSON writers that write the entities returned by the endpoints directly into the
+     * response buffer, bypassing the Jackson {@code JsonGenerator}.
+     * <p>
+     * The writers are only generated for the classes that do not use Jackson annotations and only refer to supported types,
+     * and they are only used if the serializers of the {@code ObjectMapper} would produce the same output, which is checked
+     * once per type at startup. The regular Jackson serialization is used otherwise.
+     */
+    @WithDefault("false")
+    boolean enableDirectJsonWriters();
+
+    class IsDirectJsonWritersEnabled implements BooleanSupplier {
+        JacksonOptimizationConfig config;
+
+        public boolean getAsBoolean() {
+            return config.enableDirectJsonWriters();
+        }
+    }
+
+    /**
+     * Enable the parsing of JSON request bodies as they are received, with the non-blocking Jackson parser, for the
+     * non-blocking endpoints without reader interceptors. This applies to bodies of any length, including chunked ones,
+     * which are otherwise read from a stream on a worker thread once they exceed {@code quarkus.rest.input-buffer-size}.
+     * <p>
+     * The elements of a JSON array bound to a {@code List} or an array are bound as soon as they have been received. Any
+     * other value is bound once all its tokens have been received, so they are retained until then.
+     */
+    @WithDefault("false")
+    boolean enableStreamingDeserialization();
+
+    class IsStreamingDeserializationEnabled implements BooleanSupplier {
+        JacksonOptimizationConfig config;
+
+        public boolean getAsBoolean() {
+            return config.enableStreamingDeserialization();
+        }
+    }
 }
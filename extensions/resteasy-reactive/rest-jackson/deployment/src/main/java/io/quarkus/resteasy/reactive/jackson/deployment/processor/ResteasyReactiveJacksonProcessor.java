@@ -436,6 +436,37 @@ public void handleEndpointParams(ResteasyReactiveResourceMethodEntriesBuildItem
         }
     }
 
+    @BuildStep(onlyIf = JacksonOptimizationConfig.IsStreamingDeserializationEnabled.class)
+    @Record(ExecutionTime.STATIC_INIT)
+    public void enableStreamingDeserialization(ResteasyReactiveServerJacksonRecorder recorder) {
+        recorder.enableStreamingDeserialization();
+    }
+
+    @BuildStep(onlyIf = JacksonOptimizationConfig.IsDirectJsonWritersEnabled.class)
+    @Record(ExecutionTime.STATIC_INIT)
+    public void handleDirectJsonWriters(ResteasyReactiveResourceMethodEntriesBuildItem resourceMethodEntries,
+            JaxRsResourceIndexBuildItem jaxRsIndex, CombinedIndexBuildItem index,
+            ResteasyReactiveServerJacksonRecorder recorder,
+            BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer) {
+
+        IndexView indexView = jaxRsIndex.getIndexView();
+
+        Map<String, ClassInfo> writtenClasses = new HashMap<>();
+        for (ResteasyReactiveResourceMethodEntriesBuildItem.Entry entry : resourceMethodEntries.getEntries()) {
+            ClassInfo effectiveReturnClassInfo = getEffectiveClassInfo(entry.getMethodInfo().returnType(), indexView);
+            if (effectiveReturnClassInfo != null && !effectiveReturnClassInfo.isEnum()) {
+                writtenClasses.put(effectiveReturnClassInfo.name().toString(), effectiveReturnClassInfo);
+            }
+        }
+
+        if (!writtenClasses.isEmpty()) {
+            DirectJsonWriterFactory factory = new DirectJsonWriterFactory(generatedClassBuildItemBuildProducer,
+                    index.getComputingIndex());
+            factory.create(writtenClasses.values())
+                    .forEach(recorder::recordGeneratedDirectJsonWriter);
+        }
+    }
+
     @BuildStep(onlyIf = JacksonOptimizationConfig.IsReflectionFreeSerializersEnabled.class)
     void unremovable(BuildProducer<AdditionalBeanBuildItem> additionalProducer) {
         additionalProducer.produce(AdditionalBeanBuildItem.unremovableOf(GeneratedSerializersRegister.class));
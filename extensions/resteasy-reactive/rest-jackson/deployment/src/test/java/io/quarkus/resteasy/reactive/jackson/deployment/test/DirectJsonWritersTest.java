@@ -0,0 +1,323 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.resteasy.reactive.server.vertx.json.DirectJsonWriters;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+/**
+ * The output of the endpoints must be the same as the one of the {@link ObjectMapper}, whether a direct writer is used or
+ * not.
+ */
+public class DirectJsonWritersTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(EntityResource.class, Plain.class, Child.class, Included.class, Ordered.class,
+                            Named.class, Priced.class, Amount.class, AmountCustomizer.class))
+            .overrideConfigKey("quarkus.rest.jackson.optimization.enable-direct-json-writers", "true");
+
+    @Inject
+    ObjectMapper mapper;
+
+    @Test
+    public void testWritersDecidedAtBuildTime() {
+        assertNotNull(DirectJsonWriters.getWriter(Plain.class));
+        assertNotNull(DirectJsonWriters.getWriter(Child.class));
+        // the customized serializer is only known at runtime
+        assertNotNull(DirectJsonWriters.getWriter(Priced.class));
+        assertNull(DirectJsonWriters.getWriter(Included.class));
+        assertNull(DirectJsonWriters.getWriter(Ordered.class));
+        assertNull(DirectJsonWriters.getWriter(Named.class));
+    }
+
+    @Test
+    public void testPlain() throws IOException {
+        assertSameOutput("plain", EntityResource.plain());
+    }
+
+    @Test
+    public void testJsonInclude() throws IOException {
+        assertSameOutput("included", EntityResource.included());
+    }
+
+    @Test
+    public void testJsonPropertyOrder() throws IOException {
+        assertSameOutput("ordered", EntityResource.ordered());
+    }
+
+    @Test
+    public void testJsonNaming() throws IOException {
+        assertSameOutput("named", EntityResource.named());
+    }
+
+    @Test
+    public void testCustomizedSerializer() throws IOException {
+        String expected = mapper.writeValueAsString(EntityResource.priced());
+        assertEquals("{\"label\":\"coffee\",\"amount\":\"2.50 EUR\"}", expected);
+        assertSameOutput("priced", EntityResource.priced());
+    }
+
+    private void assertSameOutput(String path, Object entity) throws IOException {
+        String body = RestAssured.get("/entities/" + path)
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .extract().asString();
+        assertEquals(mapper.writeValueAsString(entity), body);
+    }
+
+    @Path("/entities")
+    @Produces(MediaType.APPLICATION_JSON)
+    public static class EntityResource {
+
+        static Plain plain() {
+            return new Plain("foo", 3, List.of("a", "b\"c"), 1.5d, new BigDecimal("10.01"),
+                    List.of(new Child("x", true), new Child(null, false)));
+        }
+
+        static Included included() {
+            return new Included("foo", null);
+        }
+
+        static Ordered ordered() {
+            return new Ordered("a", "b");
+        }
+
+        static Named named() {
+            return new Named("John", "Doe");
+        }
+
+        static Priced priced() {
+            return new Priced("coffee", new Amount(new BigDecimal("2.50"), "EUR"));
+        }
+
+        @GET
+        @Path("plain")
+        public Plain getPlain() {
+            return plain();
+        }
+
+        @GET
+        @Path("included")
+        public Included getIncluded() {
+            return included();
+        }
+
+        @GET
+        @Path("ordered")
+        public Ordered getOrdered() {
+            return ordered();
+        }
+
+        @GET
+        @Path("named")
+        public Named getNamed() {
+            return named();
+        }
+
+        @GET
+        @Path("priced")
+        public Priced getPriced() {
+            return priced();
+        }
+    }
+
+    public static class Plain {
+        private final String name;
+        private final int count;
+        private final List<String> tags;
+        private final Double ratio;
+        private final BigDecimal total;
+        private final List<Child> children;
+
+        public Plain(String name, int count, List<String> tags, Double ratio, BigDecimal total, List<Child> children) {
+            this.name = name;
+            this.count = count;
+            this.tags = tags;
+            this.ratio = ratio;
+            this.total = total;
+            this.children = children;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public Double getRatio() {
+            return ratio;
+        }
+
+        public BigDecimal getTotal() {
+            return total;
+        }
+
+        public List<Child> getChildren() {
+            return children;
+        }
+    }
+
+    public static class Child {
+        private final String value;
+        private final boolean enabled;
+
+        public Child(String value, boolean enabled) {
+            this.value = value;
+            this.enabled = enabled;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Included {
+        private final String name;
+        private final String description;
+
+        public Included(String name, String description) {
+            this.name = name;
+            this.description = description;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    @JsonPropertyOrder({ "second", "first" })
+    public static class Ordered {
+        private final String first;
+        private final String second;
+
+        public Ordered(String first, String second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        public String getFirst() {
+            return first;
+        }
+
+        public String getSecond() {
+            return second;
+        }
+    }
+
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public static class Named {
+        private final String firstName;
+        private final String lastName;
+
+        public Named(String firstName, String lastName) {
+            this.firstName = firstName;
+            this.lastName = lastName;
+        }
+
+        public String getFirstName() {
+            return firstName;
+        }
+
+        public String getLastName() {
+            return lastName;
+        }
+    }
+
+    public static class Priced {
+        private final String label;
+        private final Amount amount;
+
+        public Priced(String label, Amount amount) {
+            this.label = label;
+            this.amount = amount;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public Amount getAmount() {
+            return amount;
+        }
+    }
+
+    public static class Amount {
+        private final BigDecimal value;
+        private final String currency;
+
+        public Amount(BigDecimal value, String currency) {
+            this.value = value;
+            this.currency = currency;
+        }
+
+        public BigDecimal getValue() {
+            return value;
+        }
+
+        public String getCurrency() {
+            return currency;
+        }
+    }
+
+    @Singleton
+    public static class AmountCustomizer implements ObjectMapperCustomizer {
+
+        @Override
+        public void customize(ObjectMapper objectMapper) {
+            SimpleModule module = new SimpleModule();
+            module.addSerializer(Amount.class, new StdSerializer<>(Amount.class) {
+                @Override
+                public void serialize(Amount amount, JsonGenerator gen, SerializerProvider provider) throws IOException {
+                    gen.writeString(amount.getValue().toPlainString() + " " + amount.getCurrency());
+                }
+            });
+            objectMapper.registerModule(module);
+        }
+    }
+}
@@ -8,6 +8,9 @@
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
+import org.jboss.resteasy.reactive.server.vertx.json.DirectJsonWriter;
+import org.jboss.resteasy.reactive.server.vertx.json.DirectJsonWriters;
+
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.ObjectWriter;
@@ -29,6 +32,7 @@ public class ResteasyReactiveServerJacksonRecorder {
     private static final Map<String, Class<?>> jsonViewMap = new HashMap<>();
     private static final Map<String, Class<?>> customSerializationMap = new HashMap<>();
     private static final Map<String, Class<?>> customDeserializationMap = new HashMap<>();
+    private static volatile boolean streamingDeserialization;
 
     @StaticInit
     public RuntimeValue<Map<String, Supplier<String[]>>> createConfigExpToAllowedRoles() {
@@ -89,6 +93,14 @@ public void recordGeneratedDeserializer(String className) {
         GeneratedSerializersRegister.addDeserializer((Class<? extends StdDeserializer>) loadClass(className));
     }
 
+    public void recordGeneratedDirectJsonWriter(String className) {
+        DirectJsonWriters.addWriter((Class<? extends DirectJsonWriter>) loadClass(className));
+    }
+
+    public void enableStreamingDeserialization() {
+        streamingDeserialization = true;
+    }
+
     public void configureShutdown(ShutdownContext shutdownContext) {
         shutdownContext.addShutdownTask(new Runnable() {
             @Override
@@ -96,10 +108,16 @@ public void run() {
                 jsonViewMap.clear();
                 customSerializationMap.clear();
                 customDeserializationMap.clear();
+                DirectJsonWriters.clear();
+                streamingDeserialization = false;
             }
         });
     }
 
+    public static boolean isStreamingDeserializationEnabled() {
+        return streamingDeserialization;
+    }
+
     public static Class<?> jsonViewForClass(Class<?> clazz) {
         return jsonViewMap.get(clazz.getName());
     }
@@ -19,8 +19,13 @@
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
 
+import org.jboss.resteasy.reactive.server.core.serialization.EntityWriter;
+import org.jboss.resteasy.reactive.server.spi.EntityWriterProvider;
 import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
 import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+import org.jboss.resteasy.reactive.server.vertx.json.DirectJsonEntityWriter;
+import org.jboss.resteasy.reactive.server.vertx.json.DirectJsonWriter;
+import org.jboss.resteasy.reactive.server.vertx.json.DirectJsonWriters;
 
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -29,18 +34,23 @@
 import io.quarkus.arc.impl.LazyValue;
 import io.quarkus.resteasy.reactive.jackson.runtime.mappers.JacksonMapperUtil;
 
-public class BasicServerJacksonMessageBodyWriter extends ServerMessageBodyWriter.AllWriteableMessageBodyWriter {
+public class BasicServerJacksonMessageBodyWriter extends ServerMessageBodyWriter.AllWriteableMessageBodyWriter
+        implements EntityWriterProvider {
 
+    private final Instance<ObjectMapper> mapper;
     private final LazyValue<ObjectWriter> defaultWriter;
     private final Map<JavaType, ObjectWriter> genericWriters = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Boolean> directJsonWriterCompatibility = new ConcurrentHashMap<>();
 
     // used by Arc
     public BasicServerJacksonMessageBodyWriter() {
+        mapper = null;
         defaultWriter = null;
     }
 
     @Inject
     public BasicServerJacksonMessageBodyWriter(Instance<ObjectMapper> mapper) {
+        this.mapper = mapper;
         this.defaultWriter = new LazyValue<>(new Supplier<>() {
             @Override
             public ObjectWriter get() {
@@ -88,6 +98,26 @@ public void writeResponse(Object o, Type genericType, ServerRequestContext conte
         stream.close();
     }
 
+    /**
+     * Uses the writer generated at build time for the returned type, if any, to write the JSON straight into the Vert.x
+     * response buffer. This is only possible when the generated writers produce the same output as the serializers of
+     * the {@link ObjectMapper}, which is checked once per type when the endpoints are deployed.
+     */
+    @Override
+    public EntityWriter createEntityWriter(Class<?> entityType, MediaType mediaType, EntityWriter fallback) {
+        DirectJsonWriter writer = DirectJsonWriters.getWriter(entityType);
+        if (writer == null || !MediaType.APPLICATION_JSON_TYPE.isCompatible(mediaType)
+                || !directJsonWriterCompatibility.computeIfAbsent(entityType, this::isDirectJsonWriterCompatible)) {
+            return null;
+        }
+        return new DirectJsonEntityWriter(writer, fallback);
+    }
+
+    private boolean isDirectJsonWriterCompatible(Class<?> entityType) {
+        ObjectWriter writer = defaultWriter.get();
+        return DirectJsonWriterCompatibility.isCompatible(mapper.get(), writer.getConfig(), writer.getFactory(), entityType);
+    }
+
     @Override
     public void writeTo(Object o, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
             MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException, WebApplicationException {
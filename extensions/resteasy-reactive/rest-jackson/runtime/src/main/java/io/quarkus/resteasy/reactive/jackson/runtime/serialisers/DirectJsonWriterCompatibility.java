@@ -0,0 +1,150 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.jboss.resteasy.reactive.server.vertx.json.DirectJsonWriter;
+import org.jboss.resteasy.reactive.server.vertx.json.DirectJsonWriters;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.core.json.JsonWriteFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.NullSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdDelegatingSerializer;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+/**
+ * Checks that a {@link DirectJsonWriter} generated at build time produces the same output as the serializers of the
+ * {@link ObjectMapper}, which may have been customized at runtime, e.g. by an {@code ObjectMapperCustomizer} that
+ * registers a module with custom serializers.
+ * <p>
+ * A writer is compatible if Jackson would use a plain {@link BeanSerializer} with the same properties in the same order,
+ * none of them being filtered or having a custom serializer, and if the same holds for all the classes it refers to.
+ */
+final class DirectJsonWriterCompatibility {
+
+    private static final String STD_SERIALIZERS_PACKAGE = "com.fasterxml.jackson.databind.ser.std.";
+    private static final String IMPL_SERIALIZERS_PACKAGE = "com.fasterxml.jackson.databind.ser.impl.";
+
+    private final SerializationConfig config;
+    private final SerializerProvider provider;
+    // the classes being checked, a class that refers to itself is compatible if the rest of its properties are
+    private final Set<Class<?>> visiting = new HashSet<>();
+
+    private DirectJsonWriterCompatibility(ObjectMapper mapper, SerializationConfig config) {
+        this.config = config;
+        this.provider = mapper.getSerializerProviderInstance();
+    }
+
+    /**
+     * @return {@code true} if the writer registered for the given type produces the same output as the given mapper
+     */
+    static boolean isCompatible(ObjectMapper mapper, SerializationConfig config, JsonFactory factory, Class<?> type) {
+        if (!hasDefaultOutputSettings(config, factory)) {
+            return false;
+        }
+        try {
+            DirectJsonWriterCompatibility compatibility = new DirectJsonWriterCompatibility(mapper, config);
+            // the null serializer is assigned to every property
+            return compatibility.provider.getDefaultNullValueSerializer() instanceof NullSerializer
+                    && compatibility.isCompatibleBean(type);
+        } catch (JsonMappingException e) {
+            return false;
+        }
+    }
+
+    private static boolean hasDefaultOutputSettings(SerializationConfig config, JsonFactory factory) {
+        return isIncludeAlways(config.getDefaultPropertyInclusion())
+                && config.getPropertyNamingStrategy() == null
+                && config.mixInCount() == 0
+                && !config.isEnabled(SerializationFeature.INDENT_OUTPUT)
+                && !config.isEnabled(SerializationFeature.WRITE_SINGLE_ELEM_ARRAYS_UNWRAPPED)
+                && !config.isEnabled(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                && !config.isEnabled(JsonWriteFeature.WRITE_NUMBERS_AS_STRINGS.mappedFeature(), factory)
+                && !config.isEnabled(JsonWriteFeature.ESCAPE_NON_ASCII.mappedFeature(), factory)
+                && config.isEnabled(JsonWriteFeature.WRITE_NAN_AS_STRINGS.mappedFeature(), factory)
+                && !config.isEnabled(StreamWriteFeature.WRITE_BIGDECIMAL_AS_PLAIN.mappedFeature(), factory);
+    }
+
+    private static boolean isIncludeAlways(JsonInclude.Value inclusion) {
+        JsonInclude.Include include = inclusion.getValueInclusion();
+        return include == JsonInclude.Include.ALWAYS || include == JsonInclude.Include.USE_DEFAULTS;
+    }
+
+    private boolean isCompatibleBean(Class<?> type) throws JsonMappingException {
+        if (!visiting.add(type)) {
+            return true;
+        }
+        DirectJsonWriter writer = DirectJsonWriters.getWriter(type);
+        if (writer == null || !isIncludeAlways(config.getDefaultPropertyInclusion(type))) {
+            return false;
+        }
+        JsonSerializer<Object> serializer = provider.findValueSerializer(type);
+        if (serializer.getClass() != BeanSerializer.class) {
+            return false;
+        }
+        String[] names = writer.propertyNames();
+        int index = 0;
+        Iterator<PropertyWriter> properties = serializer.properties();
+        while (properties.hasNext()) {
+            PropertyWriter property = properties.next();
+            if (index == names.length || !names[index++].equals(property.getName())
+                    || property.getClass() != BeanPropertyWriter.class) {
+                return false;
+            }
+            BeanPropertyWriter beanProperty = (BeanPropertyWriter) property;
+            if (beanProperty.willSuppressNulls() || beanProperty.getTypeSerializer() != null
+                    || beanProperty.getViews() != null) {
+                return false;
+            }
+            JsonSerializer<Object> propertySerializer = beanProperty.getSerializer();
+            if (propertySerializer != null && !isStandard(propertySerializer)
+                    && propertySerializer.getClass() != BeanSerializer.class) {
+                return false;
+            }
+            if (!isCompatibleValue(beanProperty.getType())) {
+                return false;
+            }
+        }
+        return index == names.length;
+    }
+
+    private boolean isCompatibleValue(JavaType type) throws JsonMappingException {
+        if (type.isContainerType()) {
+            // arrays and collections, maps are not supported by the generated writers
+            return !type.isMapLikeType() && isStandard(provider.findValueSerializer(type))
+                    && isCompatibleValue(type.getContentType());
+        }
+        Class<?> rawClass = type.getRawClass();
+        if (DirectJsonWriters.getWriter(rawClass) != null) {
+            return isCompatibleBean(rawClass);
+        }
+        // primitives, their wrappers, strings and big numbers
+        return isStandard(provider.findValueSerializer(type));
+    }
+
+    /**
+     * @return {@code true} if the serializer is one of the Jackson serializers used by default
+     */
+    private static boolean isStandard(JsonSerializer<?> serializer) {
+        if (serializer instanceof StdDelegatingSerializer || serializer instanceof ToStringSerializer) {
+            // these are only used when configured explicitly
+            return false;
+        }
+        String name = serializer.getClass().getName();
+        return name.startsWith(STD_SERIALIZERS_PACKAGE) || name.startsWith(IMPL_SERIALIZERS_PACKAGE);
+    }
+}
@@ -4,6 +4,7 @@
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
@@ -13,9 +14,10 @@
 import jakarta.ws.rs.core.Response;
 
 import org.jboss.resteasy.reactive.common.util.StreamUtil;
+import org.jboss.resteasy.reactive.server.jackson.JacksonStreamingBodyParser;
 import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
-import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyReader;
 import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+import org.jboss.resteasy.reactive.server.spi.StreamingServerMessageBodyReader;
 
 import com.fasterxml.jackson.core.exc.StreamReadException;
 import com.fasterxml.jackson.databind.DatabindException;
@@ -24,8 +26,10 @@
 import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 
+import io.quarkus.resteasy.reactive.jackson.runtime.ResteasyReactiveServerJacksonRecorder;
+
 public class ServerJacksonMessageBodyReader extends AbstractServerJacksonMessageBodyReader
-        implements ServerMessageBodyReader<Object> {
+        implements StreamingServerMessageBodyReader<Object> {
 
     // used by Arc
     public ServerJacksonMessageBodyReader() {
@@ -83,6 +87,22 @@ public Object readFrom(Class<Object> type, Type genericType, MediaType mediaType
         return readFrom(type, genericType, null, mediaType, null, context.getInputStream());
     }
 
+    @Override
+    public BodyParser<Object> createBodyParser(Class<Object> type, Type genericType, MediaType mediaType,
+            ServerRequestContext context) {
+        if (!ResteasyReactiveServerJacksonRecorder.isStreamingDeserializationEnabled()) {
+            return null;
+        }
+        ObjectReader reader = getEffectiveReader();
+        try {
+            return new StreamingBodyParser(
+                    reader.forType(reader.getTypeFactory().constructType(genericType != null ? genericType : type)));
+        } catch (IOException e) {
+            // fall back to the InputStream based deserialization
+            return null;
+        }
+    }
+
     private Object doReadFrom(Class<Object> type, Type genericType, InputStream entityStream) throws IOException {
         if (StreamUtil.isEmpty(entityStream)) {
             return null;
@@ -103,4 +123,37 @@ private boolean isEmptyInputException(MismatchedInputException e) {
         // this isn't great, but Jackson doesn't have a specific exception for empty input...
         return e.getMessage().startsWith("No content");
     }
+
+    /**
+     * Reports the errors the same way {@link #readFrom(Class, Type, Annotation[], MediaType, MultivaluedMap, InputStream)}
+     * does.
+     */
+    private static final class StreamingBodyParser extends JacksonStreamingBodyParser {
+
+        StreamingBodyParser(ObjectReader reader) throws IOException {
+            super(reader);
+        }
+
+        @Override
+        public void parse(ByteBuffer data) throws IOException {
+            try {
+                super.parse(data);
+            } catch (MismatchedInputException | InvalidDefinitionException e) {
+                throw e;
+            } catch (StreamReadException | DatabindException e) {
+                throw new WebApplicationException(e, Response.Status.BAD_REQUEST);
+            }
+        }
+
+        @Override
+        public Object complete() throws IOException {
+            try {
+                return super.complete();
+            } catch (MismatchedInputException | InvalidDefinitionException e) {
+                throw e;
+            } catch (StreamReadException | DatabindException e) {
+                throw new WebApplicationException(e, Response.Status.BAD_REQUEST);
+            }
+        }
+    }
 }
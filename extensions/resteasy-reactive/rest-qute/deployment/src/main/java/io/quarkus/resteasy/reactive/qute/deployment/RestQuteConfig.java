@@ -1,5 +1,6 @@
 package io.quarkus.resteasy.reactive.qute.deployment;
 
+import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
@@ -19,4 +20,28 @@ public interface RestQuteConfig {
     @WithDefault("false")
     boolean templateInstanceNonBlockingType();
 
+    /**
+     * Streaming of the rendered templates.
+     */
+    StreamingConfig streaming();
+
+    @ConfigGroup
+    interface StreamingConfig {
+
+        /**
+         * If set to {@code true} then a {@link io.quarkus.qute.TemplateInstance} returned from a resource method is rendered
+         * into pooled buffers instead of a {@link String}. The output is encoded as UTF-8 straight into the buffers and
+         * the buffers are written to the HTTP response one by one, without any intermediate copy.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The size of a chunk in bytes. A new buffer is started once the current one reaches the chunk size.
+         */
+        @WithDefault("8192")
+        int chunkSize();
+
+    }
+
 }
@@ -7,6 +7,9 @@
 import java.util.List;
 import java.util.Map;
 
+import jakarta.ws.rs.RuntimeType;
+import jakarta.ws.rs.core.MediaType;
+
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.MethodInfo;
@@ -23,11 +26,14 @@
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveHierarchyIgnoreWarningBuildItem;
 import io.quarkus.qute.TemplateInstance;
+import io.quarkus.resteasy.reactive.qute.runtime.TemplateChunks;
+import io.quarkus.resteasy.reactive.qute.runtime.TemplateChunksMessageBodyWriter;
 import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseFilter;
 import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseUniHandler;
 import io.quarkus.resteasy.reactive.server.spi.MethodScannerBuildItem;
 import io.quarkus.resteasy.reactive.server.spi.NonBlockingReturnTypeBuildItem;
 import io.quarkus.resteasy.reactive.spi.CustomContainerResponseFilterBuildItem;
+import io.quarkus.resteasy.reactive.spi.MessageBodyWriterBuildItem;
 
 public class ResteasyReactiveQuteProcessor {
 
@@ -57,7 +63,18 @@ void nonBlockingTemplateInstance(RestQuteConfig config, BuildProducer<NonBlockin
     }
 
     @BuildStep
-    public MethodScannerBuildItem configureHandler() {
+    MessageBodyWriterBuildItem registerWriters() {
+        return new MessageBodyWriterBuildItem.Builder(TemplateChunksMessageBodyWriter.class.getName(),
+                TemplateChunks.class.getName())
+                .setMediaTypeStrings(List.of(MediaType.WILDCARD))
+                .setBuiltin(true)
+                .setRuntimeType(RuntimeType.SERVER)
+                .build();
+    }
+
+    @BuildStep
+    public MethodScannerBuildItem configureHandler(RestQuteConfig config) {
+        int chunkSize = config.streaming().enabled() ? config.streaming().chunkSize() : 0;
         return new MethodScannerBuildItem(new MethodScanner() {
             @Override
             public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndpointClass,
@@ -68,7 +85,7 @@ public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndp
                     // the reason why we use AFTER_METHOD_INVOKE_SECOND_ROUND is to be able to properly support Uni<TemplateInstance>
                     return Collections.singletonList(
                             new FixedHandlersChainCustomizer(
-                                    List.of(new TemplateResponseUniHandler(), new UniResponseHandler()),
+                                    List.of(new TemplateResponseUniHandler(chunkSize), new UniResponseHandler()),
                                     HandlerChainCustomizer.Phase.AFTER_METHOD_INVOKE_SECOND_ROUND));
                 }
                 return Collections.emptyList();
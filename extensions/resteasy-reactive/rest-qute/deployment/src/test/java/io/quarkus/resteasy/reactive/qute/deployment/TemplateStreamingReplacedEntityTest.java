@@ -0,0 +1,84 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.when;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.core.MediaType;
+
+import org.hamcrest.Matchers;
+import org.jboss.resteasy.reactive.server.ServerResponseFilter;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.netty.buffer.ByteBuf;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.resteasy.reactive.qute.runtime.TemplateChunks;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class TemplateStreamingReplacedEntityTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TestResource.class, ReplacingFilter.class)
+                    .addAsResource(new StringAsset("{#for item in items}{item}:x;{/for}"), "templates/items.txt"))
+            .overrideConfigKey("quarkus.rest.qute.streaming.enabled", "true")
+            .overrideConfigKey("quarkus.rest.qute.streaming.chunk-size", "16");
+
+    static final List<ByteBuf> BUFFERS = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void testReplacedChunksAreReleased() throws InterruptedException {
+        when().get("/test").then().statusCode(200).body(Matchers.is("replaced"));
+        assertFalse(BUFFERS.isEmpty());
+        // The completion callbacks run once the response is ended
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (BUFFERS.stream().anyMatch(b -> b.refCnt() > 0) && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        for (ByteBuf buffer : BUFFERS) {
+            assertEquals(0, buffer.refCnt());
+        }
+    }
+
+    @Path("test")
+    public static class TestResource {
+
+        @Inject
+        Template items;
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public TemplateInstance get() {
+            return items.data("items", IntStream.range(0, 100).boxed().toList());
+        }
+    }
+
+    public static class ReplacingFilter {
+
+        @SuppressWarnings("unchecked")
+        @ServerResponseFilter
+        public void replace(ContainerResponseContext context) throws ReflectiveOperationException {
+            if (context.getEntity() instanceof TemplateChunks chunks) {
+                Field buffers = TemplateChunks.class.getDeclaredField("buffers");
+                buffers.setAccessible(true);
+                BUFFERS.addAll((List<ByteBuf>) buffers.get(chunks));
+                context.setEntity("replaced");
+            }
+        }
+    }
+}
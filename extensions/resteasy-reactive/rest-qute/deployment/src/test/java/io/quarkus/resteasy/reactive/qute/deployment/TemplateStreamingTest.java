@@ -0,0 +1,56 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.when;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class TemplateStreamingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TestResource.class)
+                    .addAsResource(new StringAsset("{#for item in items}{item}:x;{/for}"), "templates/items.txt"))
+            .overrideConfigKey("quarkus.rest.qute.streaming.enabled", "true")
+            .overrideConfigKey("quarkus.rest.qute.streaming.chunk-size", "16");
+
+    @Test
+    public void test() {
+        String expected = IntStream.range(0, 100).mapToObj(i -> i + ":x;").collect(Collectors.joining());
+        when().get("/test?count=100").then().statusCode(200).body(Matchers.is(expected));
+        when().get("/test?count=1").then().statusCode(200).header("Content-Length", "4").body(Matchers.is("0:x;"));
+        when().get("/test?count=0").then().statusCode(200).body(Matchers.is(""));
+    }
+
+    @Path("test")
+    public static class TestResource {
+
+        @Inject
+        Template items;
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public TemplateInstance get(@QueryParam("count") int count) {
+            List<Integer> data = IntStream.range(0, count).boxed().toList();
+            return items.data("items", data);
+        }
+    }
+}
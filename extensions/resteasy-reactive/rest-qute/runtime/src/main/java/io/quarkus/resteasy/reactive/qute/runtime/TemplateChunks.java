@@ -0,0 +1,115 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.quarkus.qute.TemplateInstance;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.buffer.impl.VertxByteBufAllocator;
+
+/**
+ * The output of a template instance encoded as UTF-8 straight into pooled Netty buffers.
+ * <p>
+ * A new buffer is started once the current one reaches the chunk size, so that the output is never held in a single
+ * {@link String} and can be written to the response chunk by chunk. The buffers are handed over to the response by
+ * {@link TemplateChunksMessageBodyWriter}, or released when the rendering fails or is cancelled. The chunks that were not
+ * handed over, e.g. because a filter replaced the entity, are released once the request completes.
+ */
+public final class TemplateChunks implements Consumer<String> {
+
+    private static final int RENDERING = 0;
+    private static final int RENDERED = 1;
+    private static final int CANCELLED = 2;
+
+    private final int chunkSize;
+    private final List<ByteBuf> buffers;
+    private final AtomicInteger state;
+    private ByteBuf current;
+
+    TemplateChunks(int chunkSize) {
+        this.chunkSize = chunkSize;
+        this.buffers = new ArrayList<>();
+        this.state = new AtomicInteger(RENDERING);
+    }
+
+    static Uni<TemplateChunks> render(TemplateInstance instance, int chunkSize) {
+        return Uni.createFrom().deferred(() -> {
+            TemplateChunks chunks = new TemplateChunks(chunkSize);
+            return Uni.createFrom().completionStage(() -> instance.consume(chunks))
+                    .onItem().transform(ignored -> chunks.rendered())
+                    .onFailure().invoke(chunks::release)
+                    .onCancellation().invoke(chunks::cancel);
+        });
+    }
+
+    @Override
+    public void accept(String value) {
+        if (current == null) {
+            current = VertxByteBufAllocator.POOLED_ALLOCATOR.directBuffer(chunkSize);
+            buffers.add(current);
+        }
+        ByteBufUtil.writeUtf8(current, value);
+        if (current.readableBytes() >= chunkSize) {
+            // Start a new chunk with the next value
+            current = null;
+        }
+    }
+
+    int size() {
+        return buffers.size();
+    }
+
+    /**
+     *
+     * @return the number of readable bytes of the chunks that were not taken
+     */
+    int readableBytes() {
+        int length = 0;
+        for (ByteBuf buffer : buffers) {
+            if (buffer != null) {
+                length += buffer.readableBytes();
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Transfers the ownership of the chunk at the given index to the caller.
+     */
+    ByteBuf take(int index) {
+        ByteBuf buffer = buffers.get(index);
+        buffers.set(index, null);
+        return buffer;
+    }
+
+    /**
+     * Releases the chunks that were not taken. This method can be called multiple times.
+     */
+    void release() {
+        for (int i = 0; i < buffers.size(); i++) {
+            ByteBuf buffer = take(i);
+            if (buffer != null) {
+                buffer.release();
+            }
+        }
+    }
+
+    private TemplateChunks rendered() {
+        if (!state.compareAndSet(RENDERING, RENDERED)) {
+            // Cancelled in the meantime, the chunks will be dropped
+            release();
+        }
+        return this;
+    }
+
+    private void cancel() {
+        if (state.getAndSet(CANCELLED) == RENDERED) {
+            release();
+        }
+    }
+
+}
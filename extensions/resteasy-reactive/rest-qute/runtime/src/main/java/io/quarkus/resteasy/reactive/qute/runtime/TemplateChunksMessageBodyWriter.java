@@ -0,0 +1,122 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+import org.jboss.resteasy.reactive.server.vertx.VertxResteasyReactiveRequestContext;
+
+import io.netty.buffer.ByteBuf;
+import io.quarkus.vertx.utils.NoBoundChecksBuffer;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * Writes the {@link TemplateChunks} to the Vert.x response without any intermediate copy; every chunk but the last one is
+ * written as soon as possible and the response is ended with the last chunk.
+ */
+public class TemplateChunksMessageBodyWriter implements ServerMessageBodyWriter<TemplateChunks> {
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return true;
+    }
+
+    @Override
+    public void writeTo(TemplateChunks chunks, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+            throws IOException, WebApplicationException {
+        try {
+            for (int i = 0; i < chunks.size(); i++) {
+                ByteBuf buffer = chunks.take(i);
+                try {
+                    buffer.readBytes(entityStream, buffer.readableBytes());
+                } finally {
+                    buffer.release();
+                }
+            }
+        } finally {
+            chunks.release();
+        }
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveResourceInfo target, MediaType mediaType) {
+        return true;
+    }
+
+    @Override
+    public void writeResponse(TemplateChunks chunks, Type genericType, ServerRequestContext context)
+            throws WebApplicationException, IOException {
+        if (!(context.serverResponse() instanceof VertxResteasyReactiveRequestContext vertxContext)) {
+            context.serverResponse().end(toBytes(chunks));
+            return;
+        }
+        HttpServerResponse response = vertxContext.vertxServerResponse();
+        try {
+            int last = chunks.size() - 1;
+            if (last < 0) {
+                vertxContext.end();
+                return;
+            }
+            if (last > 0) {
+                // The length is not known before the last chunk is written
+                response.setChunked(true);
+                for (int i = 0; i < last; i++) {
+                    ByteBuf buffer = chunks.take(i);
+                    try {
+                        response.write(new NoBoundChecksBuffer(buffer));
+                    } catch (RuntimeException e) {
+                        releaseIfNotWritten(buffer);
+                        throw e;
+                    }
+                }
+            }
+            ByteBuf buffer = chunks.take(last);
+            try {
+                vertxContext.end(new NoBoundChecksBuffer(buffer));
+            } catch (RuntimeException e) {
+                releaseIfNotWritten(buffer);
+                throw e;
+            }
+        } finally {
+            // Release the chunks that were not written, e.g. if the connection was closed
+            chunks.release();
+        }
+    }
+
+    private static void releaseIfNotWritten(ByteBuf buffer) {
+        // The buffer is released by Netty once written
+        if (buffer.refCnt() > 0) {
+            buffer.release();
+        }
+    }
+
+    private static byte[] toBytes(TemplateChunks chunks) {
+        try {
+            byte[] bytes = new byte[chunks.readableBytes()];
+            int offset = 0;
+            for (int i = 0; i < chunks.size(); i++) {
+                ByteBuf buffer = chunks.take(i);
+                try {
+                    int readable = buffer.readableBytes();
+                    buffer.readBytes(bytes, offset, readable);
+                    offset += readable;
+                } finally {
+                    buffer.release();
+                }
+            }
+            return bytes;
+        } finally {
+            chunks.release();
+        }
+    }
+
+}
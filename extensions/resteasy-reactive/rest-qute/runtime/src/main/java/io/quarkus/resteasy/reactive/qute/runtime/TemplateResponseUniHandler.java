@@ -2,6 +2,9 @@
 
 import static io.quarkus.resteasy.reactive.qute.runtime.Util.*;
 
+import java.util.function.Consumer;
+
+import jakarta.ws.rs.container.CompletionCallback;
 import jakarta.ws.rs.core.MediaType;
 
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
@@ -15,6 +18,23 @@
 public class TemplateResponseUniHandler implements ServerRestHandler {
 
     private volatile Engine engine;
+    // If greater than zero then the template is rendered into chunks of the given size
+    private int chunkSize;
+
+    public TemplateResponseUniHandler() {
+    }
+
+    public TemplateResponseUniHandler(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
 
     @Override
     public void handle(ResteasyReactiveRequestContext requestContext) {
@@ -35,10 +55,24 @@ public void handle(ResteasyReactiveRequestContext requestContext) {
         requestContext.setResult(createUni(requestContext, (TemplateInstance) result, engine));
     }
 
-    private Uni<String> createUni(ResteasyReactiveRequestContext requestContext, TemplateInstance result, Engine engine) {
+    private Uni<?> createUni(ResteasyReactiveRequestContext requestContext, TemplateInstance result, Engine engine) {
         MediaType mediaType = setSelectedVariant(result, requestContext.getRequest(),
                 requestContext.getHttpHeaders().getAcceptableLanguages());
         requestContext.setResponseContentType(mediaType);
+        if (chunkSize > 0) {
+            return toChunks(result, engine, chunkSize).onItem().invoke(new Consumer<TemplateChunks>() {
+                @Override
+                public void accept(TemplateChunks chunks) {
+                    // The chunks are not written if the entity is replaced, e.g. by a response filter
+                    requestContext.registerCompletionCallback(new CompletionCallback() {
+                        @Override
+                        public void onComplete(Throwable throwable) {
+                            chunks.release();
+                        }
+                    });
+                }
+            });
+        }
         return toUni(result, engine);
     }
 
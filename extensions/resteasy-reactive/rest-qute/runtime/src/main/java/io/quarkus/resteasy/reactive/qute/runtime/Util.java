@@ -21,7 +21,14 @@ private Util() {
     }
 
     static Uni<String> toUni(TemplateInstance instance, Engine engine) {
-        Uni<String> uni = instance.createUni();
+        return withTimeout(instance.createUni(), instance, engine);
+    }
+
+    static Uni<TemplateChunks> toChunks(TemplateInstance instance, Engine engine, int chunkSize) {
+        return withTimeout(TemplateChunks.render(instance, chunkSize), instance, engine);
+    }
+
+    private static <T> Uni<T> withTimeout(Uni<T> uni, TemplateInstance instance, Engine engine) {
         if (!engine.useAsyncTimeout()) {
             // Make sure the timeout is always used
             long timeout = instance.getTimeout();
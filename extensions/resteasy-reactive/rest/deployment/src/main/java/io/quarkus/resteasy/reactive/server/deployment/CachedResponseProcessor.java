@@ -0,0 +1,89 @@
+package io.quarkus.resteasy.reactive.server.deployment;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import jakarta.enterprise.inject.spi.DeploymentException;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.resteasy.reactive.server.processor.scanning.CachedResponseScanner;
+
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.cache.deployment.spi.AdditionalCacheNameBuildItem;
+import io.quarkus.cache.deployment.spi.CacheTypeBuildItem;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.resteasy.reactive.server.runtime.cache.CacheResponseCacheStore;
+import io.quarkus.resteasy.reactive.server.spi.MethodScannerBuildItem;
+import io.quarkus.security.spi.SecurityTransformer;
+import io.quarkus.security.spi.SecurityTransformerBuildItem;
+
+public class CachedResponseProcessor {
+
+    @BuildStep
+    MethodScannerBuildItem cachedResponseSupport() {
+        return new MethodScannerBuildItem(new CachedResponseScanner());
+    }
+
+    /**
+     * Cached responses are served before the endpoint is invoked, so security checks that run at invocation time, such
+     * as checks that need the parameters of the endpoint, would not protect them.
+     */
+    @BuildStep
+    void validateSecuredEndpoints(CombinedIndexBuildItem combinedIndex,
+            Optional<SecurityTransformerBuildItem> securityTransformerBuildItem) {
+        if (securityTransformerBuildItem.isEmpty()) {
+            return;
+        }
+        IndexView index = combinedIndex.getIndex();
+        SecurityTransformer securityTransformer = SecurityTransformerBuildItem.createSecurityTransformer(index,
+                securityTransformerBuildItem);
+        for (AnnotationInstance instance : index.getAnnotations(CachedResponseScanner.CACHED_RESPONSE)) {
+            AnnotationTarget target = instance.target();
+            boolean secured;
+            if (target.kind() == AnnotationTarget.Kind.METHOD) {
+                MethodInfo method = target.asMethod();
+                secured = securityTransformer.hasSecurityAnnotation(method)
+                        || securityTransformer.hasSecurityAnnotation(method.declaringClass());
+            } else {
+                ClassInfo clazz = target.asClass();
+                secured = securityTransformer.hasSecurityAnnotation(clazz);
+                for (MethodInfo method : clazz.methods()) {
+                    secured |= securityTransformer.hasSecurityAnnotation(method);
+                }
+            }
+            if (secured) {
+                throw new DeploymentException("@CachedResponse cannot be used on '" + target
+                        + "' as it is secured: cached responses are served before the endpoint is invoked, so security"
+                        + " checks performed on invocation would be skipped");
+            }
+        }
+    }
+
+    @BuildStep
+    void cacheStore(Optional<CacheTypeBuildItem> cacheTypeBuildItem, CombinedIndexBuildItem combinedIndex,
+            BuildProducer<AdditionalBeanBuildItem> beans,
+            BuildProducer<AdditionalCacheNameBuildItem> cacheNames) {
+        if (cacheTypeBuildItem.isEmpty()) {
+            // without quarkus-cache, the responses are kept in memory by the default store
+            return;
+        }
+        Set<String> names = new HashSet<>();
+        for (AnnotationInstance instance : combinedIndex.getIndex().getAnnotations(CachedResponseScanner.CACHED_RESPONSE)) {
+            names.add(CachedResponseScanner.cacheName(instance));
+        }
+        if (names.isEmpty()) {
+            return;
+        }
+        beans.produce(AdditionalBeanBuildItem.unremovableOf(CacheResponseCacheStore.class));
+        for (String name : names) {
+            cacheNames.produce(new AdditionalCacheNameBuildItem(name));
+        }
+    }
+}
@@ -111,6 +111,7 @@
 import org.jboss.resteasy.reactive.server.processor.ServerEndpointIndexer;
 import org.jboss.resteasy.reactive.server.processor.generation.converters.GeneratedConverterIndexerExtension;
 import org.jboss.resteasy.reactive.server.processor.generation.exceptionmappers.ServerExceptionMapperGenerator;
+import org.jboss.resteasy.reactive.server.processor.generation.fused.FusedHandlerGenerator;
 import org.jboss.resteasy.reactive.server.processor.generation.injection.TransformedFieldInjectionIndexerExtension;
 import org.jboss.resteasy.reactive.server.processor.generation.multipart.GeneratedHandlerMultipartReturnTypeIndexerExtension;
 import org.jboss.resteasy.reactive.server.processor.scanning.MethodScanner;
@@ -706,6 +707,22 @@ public Supplier<Boolean> apply(ClassInfo classInfo) {
 
             serverEndpointIndexerBuilder.setMultipartReturnTypeIndexerExtension(new QuarkusMultipartReturnTypeHandler(
                     generatedClassBuildItemBuildProducer, applicationClassPredicate, reflectiveClassBuildItemBuildProducer));
+
+            if (config.fusedHandlerChains()) {
+                FusedHandlerGenerator fusedHandlerGenerator = new FusedHandlerGenerator(
+                        (name) -> new GeneratedClassGizmoAdaptor(generatedClassBuildItemBuildProducer,
+                                applicationClassPredicate.test(name)));
+                serverEndpointIndexerBuilder.setFusedHandlerIndexerExtension((method, currentClassInfo, info) -> {
+                    String fusedHandlerClassName = fusedHandlerGenerator.generateFusedHandler(method, currentClassInfo,
+                            info);
+                    if (fusedHandlerClassName != null) {
+                        reflectiveClassBuildItemBuildProducer.produce(ReflectiveClassBuildItem.builder(fusedHandlerClassName)
+                                .reason(getClass().getName())
+                                .build());
+                    }
+                    return fusedHandlerClassName;
+                });
+            }
             serverEndpointIndexer = serverEndpointIndexerBuilder.build();
 
             Map<String, List<EndpointConfig>> allServerMethods = new HashMap<>();
@@ -1547,7 +1564,9 @@ public void setupDeployment(BeanContainerBuildItem beanContainerBuildItem,
         RuntimeValue<Deployment> deployment = recorder.createDeployment(deploymentPath, deploymentInfo,
                 beanContainerBuildItem.getValue(), shutdownContext, httpBuildTimeConfig,
                 requestContextFactoryBuildItem.map(RequestContextFactoryBuildItem::getFactory).orElse(null),
-                initClassFactory, launchModeBuildItem.getLaunchMode(), servletPresent);
+                initClassFactory, launchModeBuildItem.getLaunchMode(), servletPresent,
+                config.requestContextPool().enabled() ? config.requestContextPool().maxSize() : 0,
+                config.requestContextPool().leakDetection());
 
         quarkusRestDeploymentBuildItemBuildProducer
                 .produce(new ResteasyReactiveDeploymentBuildItem(deployment, deploymentPath));
@@ -1715,7 +1734,8 @@ private org.jboss.resteasy.reactive.common.ResteasyReactiveConfig createRestReac
                 config.minChunkSize(),
                 config.outputBufferSize(),
                 config.singleDefaultProduces(),
-                config.defaultProduces());
+                config.defaultProduces(),
+                config.compiledRouter());
     }
 
     @BuildStep
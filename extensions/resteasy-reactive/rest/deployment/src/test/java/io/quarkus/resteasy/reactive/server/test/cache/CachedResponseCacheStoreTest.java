@@ -0,0 +1,103 @@
+package io.quarkus.resteasy.reactive.server.test.cache;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+
+import org.awaitility.Awaitility;
+import org.jboss.resteasy.reactive.server.CachedResponse;
+import org.jboss.resteasy.reactive.server.handlers.CachedResponseHandler;
+import org.jboss.resteasy.reactive.server.spi.CachedResponseEntry;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CaffeineCache;
+import io.quarkus.resteasy.reactive.server.runtime.cache.CacheResponseCacheStore;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class CachedResponseCacheStoreTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Resource.class);
+                }
+            });
+
+    @CacheName("responses")
+    Cache cache;
+
+    @Inject
+    CacheResponseCacheStore store;
+
+    @Test
+    public void testResponsesAreStoredInTheNamedCache() {
+        assertTrue(CachedResponseHandler.getStore() instanceof CacheResponseCacheStore);
+
+        RestAssured.get("/test/a")
+                .then()
+                .statusCode(200)
+                .body(equalTo("a:1"));
+        CaffeineCache caffeineCache = cache.as(CaffeineCache.class);
+        // the response is stored once it has been written
+        Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> caffeineCache.keySet().size() == 1);
+        String key = (String) caffeineCache.keySet().iterator().next();
+        CachedResponseEntry entry = store.get("responses", key).toCompletableFuture().join();
+        assertEquals(200, entry.getStatus());
+        assertEquals("a:1", new String(entry.getBody()));
+
+        RestAssured.get("/test/a")
+                .then()
+                .statusCode(200)
+                .header("ETag", entry.getEntityTag())
+                .body(equalTo("a:1"));
+        RestAssured.get("/test/b")
+                .then()
+                .statusCode(200)
+                .body(equalTo("b:2"));
+        Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> caffeineCache.keySet().size() == 2);
+
+        cache.invalidateAll().await().indefinitely();
+        RestAssured.get("/test/a")
+                .then()
+                .statusCode(200)
+                .body(equalTo("a:3"));
+    }
+
+    @Test
+    public void testMissingResponse() {
+        assertNull(store.get("responses", "missing").toCompletableFuture().join());
+        assertNull(store.get("unknown", "missing").toCompletableFuture().join());
+    }
+
+    @Path("test")
+    public static class Resource {
+
+        private static final AtomicInteger count = new AtomicInteger();
+
+        @GET
+        @Path("{name}")
+        @CachedResponse(cacheName = "responses")
+        public String get(@PathParam("name") String name) {
+            return name + ":" + count.incrementAndGet();
+        }
+    }
+}
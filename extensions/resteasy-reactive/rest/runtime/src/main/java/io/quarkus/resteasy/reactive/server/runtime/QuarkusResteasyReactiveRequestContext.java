@@ -39,6 +39,20 @@ public QuarkusResteasyReactiveRequestContext(Deployment deployment,
         }
     }
 
+    @Override
+    public void reuse(RoutingContext context, ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
+        super.reuse(context, handlerChain, abortHandlerChain);
+        if (VertxContext.isOnDuplicatedContext()) {
+            VertxContextSafetyToggle.setCurrentContextSafe(true);
+        }
+    }
+
+    @Override
+    protected void resetState() {
+        super.resetState();
+        userSetup = false;
+    }
+
     protected void handleRequestScopeActivation() {
         super.handleRequestScopeActivation();
         if (!userSetup && association != null) {
@@ -194,6 +208,8 @@ protected void invokeHandler(int pos) throws Exception {
             handler.handle(this);
         } else if (handler instanceof org.jboss.resteasy.reactive.server.handlers.ResponseWriterHandler) {
             handler.handle(this);
+        } else if (handler instanceof org.jboss.resteasy.reactive.server.handlers.FusedHandler) {
+            handler.handle(this);
         } else {
             // megamorphic call for other handlers
             handler.handle(this);
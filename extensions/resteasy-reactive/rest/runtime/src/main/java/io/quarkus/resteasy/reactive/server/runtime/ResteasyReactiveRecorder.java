@@ -19,6 +19,7 @@
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import jakarta.ws.rs.core.Application;
@@ -35,9 +36,11 @@
 import org.jboss.resteasy.reactive.server.core.DeploymentInfo;
 import org.jboss.resteasy.reactive.server.core.ExceptionMapping;
 import org.jboss.resteasy.reactive.server.core.RequestContextFactory;
+import org.jboss.resteasy.reactive.server.core.RequestContextPool;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 import org.jboss.resteasy.reactive.server.core.ServerSerialisers;
 import org.jboss.resteasy.reactive.server.core.startup.RuntimeDeploymentManager;
+import org.jboss.resteasy.reactive.server.handlers.AdaptiveExecutionHandler;
 import org.jboss.resteasy.reactive.server.handlers.RestInitialHandler;
 import org.jboss.resteasy.reactive.server.mapping.RequestMapper;
 import org.jboss.resteasy.reactive.server.mapping.RuntimeResource;
@@ -59,6 +62,7 @@
 import io.quarkus.resteasy.reactive.common.runtime.ResteasyReactiveCommonRecorder;
 import io.quarkus.resteasy.reactive.server.runtime.observability.ObservabilityIntegrationRecorder;
 import io.quarkus.runtime.BlockingOperationControl;
+import io.quarkus.runtime.BlockingOperationNotAllowedException;
 import io.quarkus.runtime.ExecutorRecorder;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.RuntimeValue;
@@ -81,6 +85,7 @@
 import io.quarkus.vertx.http.runtime.security.QuarkusHttpUser;
 import io.quarkus.virtual.threads.VirtualThreadsRecorder;
 import io.vertx.core.Handler;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.ext.web.RoutingContext;
 
 @Recorder
@@ -116,7 +121,9 @@ public RuntimeValue<Deployment> createDeployment(String applicationPath, Deploym
             RequestContextFactory contextFactory,
             BeanFactory<ResteasyReactiveInitialiser> initClassFactory,
             LaunchMode launchMode,
-            boolean servletPresent) {
+            boolean servletPresent,
+            int requestContextPoolMaxSize,
+            boolean requestContextPoolLeakDetection) {
 
         info.setServletPresent(servletPresent);
 
@@ -131,6 +138,12 @@ public boolean isBlockingAllowed() {
                 return BlockingOperationControl.isBlockingAllowed();
             }
         });
+        AdaptiveExecutionHandler.setBlockingOperationDetector(new Predicate<>() {
+            @Override
+            public boolean test(Throwable throwable) {
+                return throwable instanceof BlockingOperationNotAllowedException;
+            }
+        });
 
         Consumer<Closeable> closeTaskHandler = new Consumer<>() {
             @Override
@@ -142,17 +155,40 @@ public void accept(Closeable closeable) {
                 .orNull();
         ClassLoader tccl = Thread.currentThread().getContextClassLoader();
         if (contextFactory == null) {
+            RequestContextPool<QuarkusResteasyReactiveRequestContext> pool = requestContextPoolMaxSize > 0
+                    ? new RequestContextPool<>(requestContextPoolMaxSize, requestContextPoolLeakDetection)
+                    : null;
             contextFactory = new RequestContextFactory() {
                 @Override
                 public ResteasyReactiveRequestContext createContext(Deployment deployment,
                         Object context, ThreadSetupAction requestContext,
                         ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
+                    if (pool != null) {
+                        QuarkusResteasyReactiveRequestContext pooled = pool.acquire();
+                        if (pooled != null) {
+                            pooled.reuse((RoutingContext) context, handlerChain, abortHandlerChain);
+                            return pooled;
+                        }
+                        return pool.register(createNewContext(deployment, context, requestContext, handlerChain,
+                                abortHandlerChain));
+                    }
+                    return createNewContext(deployment, context, requestContext, handlerChain, abortHandlerChain);
+                }
+
+                private QuarkusResteasyReactiveRequestContext createNewContext(Deployment deployment,
+                        Object context, ThreadSetupAction requestContext,
+                        ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
                     return new QuarkusResteasyReactiveRequestContext(deployment, (RoutingContext) context,
                             requestContext,
                             handlerChain,
                             abortHandlerChain, launchMode == LaunchMode.DEVELOPMENT ? tccl : null, currentIdentityAssociation);
                 }
 
+                @Override
+                public CharSequence createOptimizedHeaderValue(String value) {
+                    return HttpHeaders.createOptimized(value);
+                }
+
             };
         }
 
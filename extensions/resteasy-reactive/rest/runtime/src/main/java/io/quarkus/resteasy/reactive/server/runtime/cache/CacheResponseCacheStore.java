@@ -0,0 +1,76 @@
+package io.quarkus.resteasy.reactive.server.runtime.cache;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.server.handlers.CachedResponseHandler;
+import org.jboss.resteasy.reactive.server.spi.CachedResponseEntry;
+import org.jboss.resteasy.reactive.server.spi.ResponseCacheStore;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheManager;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Stores the responses of endpoints annotated with {@link org.jboss.resteasy.reactive.server.CachedResponse} in the
+ * caches of the {@code quarkus-cache} extension, so that they are kept in Caffeine or in a distributed backend such as
+ * Redis, depending on the configuration of the cache. Distributed backends must be configured with
+ * {@link CachedResponseEntry} as the value type.
+ * <p>
+ * Only the {@link Cache} API is used: a lookup is a load that fails when the response is not stored, which leaves the
+ * cache unchanged.
+ */
+@Singleton
+public class CacheResponseCacheStore implements ResponseCacheStore {
+
+    private static final Logger log = Logger.getLogger(CacheResponseCacheStore.class);
+
+    private static final CompletableFuture<CachedResponseEntry> MISS = CompletableFuture.completedFuture(null);
+
+    @Inject
+    CacheManager cacheManager;
+
+    void install(@Observes StartupEvent event) {
+        CachedResponseHandler.setStore(this);
+    }
+
+    @Override
+    public CompletionStage<CachedResponseEntry> get(String cacheName, String key) {
+        Optional<Cache> cache = cacheManager.getCache(cacheName);
+        if (cache.isEmpty()) {
+            return MISS;
+        }
+        return cache.get().<String, CachedResponseEntry> getAsync(key, k -> Uni.createFrom().failure(NotCached.INSTANCE))
+                .onFailure(NotCached.class).recoverWithNull()
+                .subscribeAsCompletionStage();
+    }
+
+    @Override
+    public void put(String cacheName, String key, CachedResponseEntry entry) {
+        Optional<Cache> cache = cacheManager.getCache(cacheName);
+        if (cache.isEmpty()) {
+            return;
+        }
+        // an expired response is still stored, it has to be replaced
+        cache.get().invalidate(key)
+                .chain(() -> cache.get().<String, CachedResponseEntry> getAsync(key, k -> Uni.createFrom().item(entry)))
+                .subscribe().with(ignored -> {
+                }, t -> log.debugf(t, "Unable to store the response of %s in cache %s", key, cacheName));
+    }
+
+    private static final class NotCached extends RuntimeException {
+
+        static final NotCached INSTANCE = new NotCached();
+
+        private NotCached() {
+            super("The response is not cached", null, false, false);
+        }
+    }
+}
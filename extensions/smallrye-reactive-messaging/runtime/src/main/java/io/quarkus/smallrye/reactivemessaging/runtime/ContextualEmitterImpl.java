@@ -7,6 +7,7 @@
 
 import org.eclipse.microprofile.reactive.messaging.Message;
 
+import io.quarkus.vertx.runtime.VertxCurrentContextFactory;
 import io.smallrye.common.annotation.CheckReturnValue;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
@@ -108,6 +109,8 @@ private static <T, M extends Message<T>> Message<T> createContextualMessage(M ms
             ContextInternal internal = (ContextInternal) context;
             ContextInternal newCtx = internal.duplicate();
             newCtx.localContextData().putAll(internal.localContextData());
+            // the states of the current contexts, e.g. the request context, are stored in context locals
+            VertxCurrentContextFactory.copyContextStates(internal, newCtx);
             return msg.addMetadata(new LocalContextMetadata(newCtx));
         }
     }
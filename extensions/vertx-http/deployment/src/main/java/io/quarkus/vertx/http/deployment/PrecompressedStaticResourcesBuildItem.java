@@ -0,0 +1,34 @@
+package io.quarkus.vertx.http.deployment;
+
+import java.util.List;
+import java.util.Map;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * The static resources of {@code META-INF/resources} that were compressed at build time.
+ */
+public final class PrecompressedStaticResourcesBuildItem extends SimpleBuildItem {
+
+    private final Map<String, String> entityTags;
+    private final Map<String, List<String>> encodings;
+
+    public PrecompressedStaticResourcesBuildItem(Map<String, String> entityTags, Map<String, List<String>> encodings) {
+        this.entityTags = entityTags;
+        this.encodings = encodings;
+    }
+
+    /**
+     * @return the strong entity tag of every resource, keyed by path
+     */
+    public Map<String, String> getEntityTags() {
+        return entityTags;
+    }
+
+    /**
+     * @return the compressed variants of the resources that have some, keyed by path
+     */
+    public Map<String, List<String>> getEncodings() {
+        return encodings;
+    }
+}
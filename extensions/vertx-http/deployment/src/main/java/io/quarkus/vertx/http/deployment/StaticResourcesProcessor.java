@@ -2,14 +2,29 @@
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
+import org.jboss.logging.Logger;
+
+import com.aayushatharva.brotli4j.encoder.Encoder;
+
+import io.netty.handler.codec.compression.Brotli;
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.bootstrap.classloading.ClassPathElement;
 import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
@@ -19,21 +34,28 @@
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.pkg.steps.NativeOrNativeSourcesBuild;
 import io.quarkus.paths.PathVisitor;
+import io.quarkus.runtime.LaunchMode;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.spi.AdditionalStaticResourceBuildItem;
 import io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.quarkus.vertx.http.runtime.VertxHttpBuildTimeConfig;
+import io.quarkus.vertx.http.runtime.handlers.PrecompressedStaticHandler;
+import io.vertx.core.http.impl.MimeMapping;
 
 /**
  * Handles all static file resources found in {@code META-INF/resources} unless the servlet container is present.
  */
 public class StaticResourcesProcessor {
 
+    private static final Logger LOGGER = Logger.getLogger(StaticResourcesProcessor.class);
+
     @BuildStep(onlyIf = IsDevelopment.class)
     HotDeploymentWatchedFileBuildItem indexHtmlFile() {
         String staticRoot = StaticResourcesRecorder.META_INF_RESOURCES + "/index.html";
@@ -60,13 +82,121 @@ void collectStaticResources(Capabilities capabilities,
         }
     }
 
+    @BuildStep
+    void precompressStaticResources(Optional<StaticResourcesBuildItem> staticResources,
+            VertxHttpBuildTimeConfig httpBuildTimeConfig,
+            LaunchModeBuildItem launchModeBuildItem,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources,
+            BuildProducer<PrecompressedStaticResourcesBuildItem> precompressedStaticResources) {
+        if (staticResources.isEmpty() || !httpBuildTimeConfig.staticResources().precompress()
+                || launchModeBuildItem.getLaunchMode() == LaunchMode.DEVELOPMENT) {
+            return;
+        }
+        Set<String> compressMediaTypes = Set.copyOf(httpBuildTimeConfig.compressMediaTypes().orElse(List.of()));
+        boolean brotli = Brotli.isAvailable();
+        if (!brotli) {
+            LOGGER.debug("Brotli is not available, static resources are only compressed with gzip");
+        }
+        Map<String, String> entityTags = new HashMap<>();
+        Map<String, List<String>> encodings = new HashMap<>();
+        final String prefix = StaticResourcesRecorder.META_INF_RESOURCES;
+        visitRuntimeMetaInfResources(visit -> {
+            Path visitPath = visit.getPath();
+            String rel = visit.getRelativePath();
+            if (Files.isDirectory(visitPath) || !rel.startsWith(prefix)) {
+                return;
+            }
+            String subPath = rel.substring(prefix.length());
+            if (entityTags.containsKey(subPath)) {
+                // the first resource found on the classpath is the one that is served
+                return;
+            }
+            byte[] content;
+            try {
+                content = Files.readAllBytes(visitPath);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            entityTags.put(subPath, entityTag(content));
+            String contentType = MimeMapping.getMimeTypeForFilename(subPath);
+            if (contentType == null || !compressMediaTypes.contains(contentType)) {
+                return;
+            }
+            List<String> variants = new ArrayList<>(2);
+            if (brotli) {
+                addVariant(subPath, PrecompressedStaticHandler.BROTLI, content, brotli(content), variants,
+                        generatedResources, nativeImageResources);
+            }
+            addVariant(subPath, PrecompressedStaticHandler.GZIP, content, gzip(content), variants, generatedResources,
+                    nativeImageResources);
+            if (!variants.isEmpty()) {
+                encodings.put(subPath, variants);
+            }
+        });
+        if (!entityTags.isEmpty()) {
+            precompressedStaticResources.produce(new PrecompressedStaticResourcesBuildItem(entityTags, encodings));
+        }
+    }
+
+    private static void addVariant(String path, String encoding, byte[] content, byte[] compressed, List<String> variants,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources) {
+        if (compressed == null || compressed.length >= content.length) {
+            return;
+        }
+        String name = StaticResourcesRecorder.PRECOMPRESSED_RESOURCES + path + PrecompressedStaticHandler.extension(encoding);
+        generatedResources.produce(new GeneratedResourceBuildItem(name, compressed));
+        nativeImageResources.produce(new NativeImageResourceBuildItem(name));
+        variants.add(encoding);
+    }
+
+    private static String entityTag(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16)) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(9);
+            }
+        }) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] brotli(byte[] content) {
+        try {
+            return Encoder.compress(content, new Encoder.Parameters().setQuality(11));
+        } catch (IOException e) {
+            LOGGER.debugf(e, "Unable to compress static resource with brotli");
+            return null;
+        }
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
-    public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources, StaticResourcesRecorder recorder,
-            CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer,
+    public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources,
+            Optional<PrecompressedStaticResourcesBuildItem> precompressedStaticResources,
+            StaticResourcesRecorder recorder, CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer,
             BuildProducer<DefaultRouteBuildItem> defaultRoutes) {
         if (staticResources.isPresent()) {
-            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths())));
+            if (precompressedStaticResources.isPresent()) {
+                defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths(),
+                        precompressedStaticResources.get().getEntityTags(),
+                        precompressedStaticResources.get().getEncodings())));
+            } else {
+                defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths())));
+            }
         }
     }
 
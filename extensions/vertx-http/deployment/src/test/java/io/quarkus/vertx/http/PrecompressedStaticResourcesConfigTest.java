@@ -0,0 +1,49 @@
+package io.quarkus.vertx.http;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class PrecompressedStaticResourcesConfigTest {
+
+    private static final String APP_PROPS = "" +
+            "quarkus.http.static-resources.precompress=true\n" +
+            "quarkus.http.static-resources.caching-enabled=false\n" +
+            "quarkus.http.static-resources.include-hidden=false\n" +
+            "quarkus.http.static-resources.index-page=home.html\n";
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties")
+                    .addAsResource(new StringAsset(CompressionTest.TEXT), "META-INF/resources/home.html")
+                    .addAsResource(new StringAsset(CompressionTest.TEXT), "META-INF/resources/.hidden.txt"));
+
+    @Test
+    public void shouldNotContainCachingHeaders() {
+        given().get("/home.html").then().statusCode(200)
+                .header("content-encoding", is("gzip"))
+                .header("etag", nullValue())
+                .header("cache-control", nullValue())
+                .body(equalTo(CompressionTest.TEXT));
+    }
+
+    @Test
+    public void shouldServeConfiguredIndexPage() {
+        given().get("/").then().statusCode(200)
+                .header("content-encoding", is("gzip"))
+                .body(equalTo(CompressionTest.TEXT));
+    }
+
+    @Test
+    public void shouldNotServeHiddenFile() {
+        given().get("/.hidden.txt").then().statusCode(404);
+    }
+}
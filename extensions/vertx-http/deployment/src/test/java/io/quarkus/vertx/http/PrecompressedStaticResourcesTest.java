@@ -0,0 +1,116 @@
+package io.quarkus.vertx.http;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.emptyString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.netty.handler.codec.compression.Brotli;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.specification.RequestSpecification;
+
+public class PrecompressedStaticResourcesTest {
+
+    private static final String APP_PROPS = "" +
+            "quarkus.http.enable-compression=true\n" +
+            "quarkus.http.static-resources.precompress=true\n";
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties")
+                    .addAsResource(new StringAsset(CompressionTest.TEXT), "META-INF/resources/text.txt")
+                    .addAsResource(new StringAsset(CompressionTest.TEXT), "META-INF/resources/dir/index.html")
+                    .addAsResource(new StringAsset(CompressionTest.TEXT), "META-INF/resources/.hidden.txt")
+                    .addAsResource(new StringAsset("tiny"), "META-INF/resources/tiny.txt"));
+
+    @Test
+    public void shouldSendGzipVariant() {
+        given().config(RestAssured.config
+                .decoderConfig(DecoderConfig.decoderConfig().with().contentDecoders(DecoderConfig.ContentDecoder.GZIP)))
+                .get("/text.txt").then().statusCode(200)
+                .header("content-encoding", is("gzip"))
+                .header("content-length", Integer::parseInt, lessThan(CompressionTest.TEXT.length()))
+                .header("vary", is("Accept-Encoding"))
+                .header("content-type", is("text/plain;charset=UTF-8"))
+                .body(equalTo(CompressionTest.TEXT));
+    }
+
+    @Test
+    public void shouldPreferBrotliVariant() {
+        // RestAssured cannot decode brotli, so only the headers are checked
+        given().header("Accept-Encoding", "gzip, br")
+                .config(RestAssured.config.decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                .get("/text.txt").then().statusCode(200)
+                .header("content-encoding", is(Brotli.isAvailable() ? "br" : "gzip"))
+                .header("content-length", Integer::parseInt, lessThan(CompressionTest.TEXT.length()))
+                .header("vary", is("Accept-Encoding"));
+    }
+
+    @Test
+    public void shouldSendIdentityWithoutAcceptEncoding() {
+        identity().get("/text.txt").then().statusCode(200)
+                .header("content-encoding", is(nullValue()))
+                .header("content-length", Integer::parseInt, equalTo(CompressionTest.TEXT.length()))
+                .header("vary", is("Accept-Encoding"))
+                .body(equalTo(CompressionTest.TEXT));
+    }
+
+    @Test
+    public void shouldSendIdentityWhenCompressionDoesNotHelp() {
+        given().get("/tiny.txt").then().statusCode(200)
+                .header("content-encoding", is(nullValue()))
+                .header("content-length", Integer::parseInt, equalTo(4))
+                .body(equalTo("tiny"));
+    }
+
+    @Test
+    public void shouldAnswerConditionalRequests() {
+        String etag = given().get("/text.txt").then().statusCode(200)
+                .header("etag", not(emptyString()))
+                .header("cache-control", is("public, immutable, max-age=86400"))
+                .extract().header("etag");
+        given().header("If-None-Match", etag).get("/text.txt").then().statusCode(304)
+                .header("etag", is(etag));
+        // the variants do not share the entity tag
+        identity().header("If-None-Match", etag).get("/text.txt").then().statusCode(200)
+                .header("etag", not(etag));
+    }
+
+    @Test
+    public void shouldServeIndexPage() {
+        given().get("/dir/").then().statusCode(200)
+                .header("content-encoding", is("gzip"))
+                .header("content-type", is("text/html;charset=UTF-8"))
+                .body(equalTo(CompressionTest.TEXT));
+    }
+
+    @Test
+    public void shouldServeHiddenFile() {
+        given().get("/.hidden.txt").then().statusCode(200)
+                .header("content-encoding", is("gzip"))
+                .body(equalTo(CompressionTest.TEXT));
+    }
+
+    @Test
+    public void shouldFallBackToStaticHandler() {
+        given().header("Range", "bytes=0-4").get("/text.txt").then().statusCode(206)
+                .header("content-encoding", is(nullValue()))
+                .body(equalTo(CompressionTest.TEXT.substring(0, 5)));
+        given().get("/missing.txt").then().statusCode(404);
+    }
+
+    private static RequestSpecification identity() {
+        // RestAssured sends an Accept-Encoding header unless it has no decoder
+        return given().config(RestAssured.config.decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()));
+    }
+}
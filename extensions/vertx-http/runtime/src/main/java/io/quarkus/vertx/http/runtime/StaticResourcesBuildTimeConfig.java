@@ -0,0 +1,23 @@
+package io.quarkus.vertx.http.runtime;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface StaticResourcesBuildTimeConfig {
+
+    /**
+     * Whether the static resources found in {@code META-INF/resources} are compressed when the application is built.
+     * <p>
+     * The resources whose media type is listed in {@code quarkus.http.compress-media-types} are compressed with gzip,
+     * and with brotli when the Brotli4J native library is available during the build. A variant is only kept when it is
+     * smaller than the original resource. The variant is picked from the {@code Accept-Encoding} header of the request
+     * and sent with {@code sendfile}, so that the resources are neither compressed nor copied to the heap for every
+     * request. The static resources settings apply: hidden files, index page, content encoding, and the caching headers,
+     * which include a strong {@code ETag} when caching is enabled.
+     * <p>
+     * This has no effect in dev mode.
+     */
+    @WithDefault("false")
+    boolean precompress();
+}
@@ -5,12 +5,14 @@
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.vertx.http.runtime.handlers.PrecompressedStaticHandler;
 import io.vertx.core.Handler;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.ext.web.Route;
@@ -22,6 +24,7 @@
 public class StaticResourcesRecorder {
 
     public static final String META_INF_RESOURCES = "META-INF/resources";
+    public static final String PRECOMPRESSED_RESOURCES = "META-INF/quarkus-precompressed-resources";
 
     private static volatile List<Path> hotDeploymentResourcePaths;
 
@@ -40,6 +43,15 @@ public static void setHotDeploymentResources(List<Path> resources) {
     }
 
     public Consumer<Route> start(Set<String> knownPaths) {
+        return start(knownPaths, Map.of(), Map.of());
+    }
+
+    /**
+     * @param entityTags the strong entity tags of the resources compressed at build time
+     * @param encodings the variants of the resources compressed at build time
+     */
+    public Consumer<Route> start(Set<String> knownPaths, Map<String, String> entityTags,
+            Map<String, List<String>> encodings) {
         List<Handler<RoutingContext>> handlers = new ArrayList<>();
         Set<String> compressMediaTypes;
         if (httpBuildTimeConfig.enableCompression() && httpBuildTimeConfig.compressMediaTypes().isPresent()) {
@@ -78,6 +90,13 @@ public void handle(RoutingContext ctx) {
                 });
             }
         }
+        if (!entityTags.isEmpty()) {
+            String indexPage = (config.indexPage().charAt(0) == '/')
+                    ? config.indexPage().substring(1)
+                    : config.indexPage();
+            handlers.add(new PrecompressedStaticHandler(entityTags, encodings, indexPage, config.includeHidden(),
+                    config.contentEncoding().name(), config.cachingEnabled(), config.maxAge().toSeconds()));
+        }
         if (!knownPaths.isEmpty()) {
             ClassLoader currentCl = Thread.currentThread().getContextClassLoader();
             StaticHandler staticHandler = StaticHandler.create(META_INF_RESOURCES)
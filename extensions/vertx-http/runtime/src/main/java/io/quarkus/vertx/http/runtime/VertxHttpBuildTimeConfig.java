@@ -122,4 +122,9 @@ public interface VertxHttpBuildTimeConfig {
      */
     @WithName("static-dir")
     Optional<HttpStaticDirConfig> httpStaticDirConfig();
+
+    /**
+     * Static Resources.
+     */
+    StaticResourcesBuildTimeConfig staticResources();
 }
@@ -0,0 +1,274 @@
+package io.quarkus.vertx.http.runtime.handlers;
+
+import static io.quarkus.vertx.http.runtime.RoutingUtils.resolvePath;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.impl.MimeMapping;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Serves the static resources that were compressed when the application was built.
+ * <p>
+ * The variant is picked from the {@code Accept-Encoding} header of the request and sent with
+ * {@link HttpServerResponse#sendFile(String)}, which uses {@code sendfile} on plain connections. Nothing is extracted at
+ * startup: resources found in a directory are sent from there, and resources packaged in a jar are resolved by Vert.x
+ * like the ones of the {@link io.vertx.ext.web.handler.StaticHandler}, which copies them to its file cache the first time
+ * they are sent. Resources that are only held in memory by the class loader are sent from a buffer. Range requests,
+ * hidden files when they are not included, and the resources that are not known are passed to the next handler.
+ */
+public class PrecompressedStaticHandler implements Handler<RoutingContext> {
+
+    public static final String BROTLI = "br";
+    public static final String GZIP = "gzip";
+    public static final String IDENTITY = "identity";
+
+    private static final String ACCEPT_ENCODING_VARY = HttpHeaders.ACCEPT_ENCODING.toString();
+
+    private final Map<String, String> entityTags;
+    private final Map<String, List<String>> encodings;
+    private final String indexPage;
+    private final boolean includeHidden;
+    private final String defaultContentEncoding;
+    private final boolean cachingEnabled;
+    private final String cacheControl;
+    private final ClassLoader classLoader;
+    /**
+     * The name of the file or the buffer to send, for each resource name
+     */
+    private final ConcurrentMap<String, Object> targets = new ConcurrentHashMap<>();
+
+    /**
+     * @param entityTags the strong entity tag of each resource, computed from its uncompressed content
+     * @param encodings the encodings available for each resource, besides {@code identity}
+     * @param indexPage the index page, without leading {@code /}
+     * @param includeHidden whether the files whose name starts with {@code .} are served
+     * @param defaultContentEncoding the charset of text resources
+     * @param cachingEnabled whether the responses carry caching headers, and conditional requests are answered
+     * @param maxAgeSeconds the max age of the responses, when caching is enabled
+     */
+    public PrecompressedStaticHandler(Map<String, String> entityTags, Map<String, List<String>> encodings,
+            String indexPage, boolean includeHidden, String defaultContentEncoding, boolean cachingEnabled,
+            long maxAgeSeconds) {
+        this.entityTags = entityTags;
+        this.encodings = encodings;
+        this.indexPage = indexPage;
+        this.includeHidden = includeHidden;
+        this.defaultContentEncoding = defaultContentEncoding;
+        this.cachingEnabled = cachingEnabled;
+        // same value as the StaticHandler
+        this.cacheControl = "public, immutable, max-age=" + maxAgeSeconds;
+        this.classLoader = Thread.currentThread().getContextClassLoader();
+    }
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        HttpServerRequest request = ctx.request();
+        if ((request.method() != HttpMethod.GET && request.method() != HttpMethod.HEAD)
+                || request.headers().contains(HttpHeaderNames.RANGE)) {
+            ctx.next();
+            return;
+        }
+        String rel = resolvePath(ctx);
+        if (rel == null) {
+            // the next handler rejects the request
+            ctx.next();
+            return;
+        }
+        if (rel.endsWith("/")) {
+            rel = rel.concat(indexPage);
+        }
+        String entityTag = entityTags.get(rel);
+        if (entityTag == null || (!includeHidden && isHidden(rel))) {
+            ctx.next();
+            return;
+        }
+        String encoding = selectEncoding(request.headers().get(HttpHeaders.ACCEPT_ENCODING),
+                encodings.getOrDefault(rel, List.of()));
+        Object target = target(file(rel, encoding));
+        if (target == null) {
+            ctx.next();
+            return;
+        }
+
+        HttpServerResponse response = ctx.response();
+        MultiMap headers = response.headers();
+        headers.set(HttpHeaders.VARY, ACCEPT_ENCODING_VARY);
+        if (!encoding.equals(IDENTITY)) {
+            // an explicit encoding also stops the compression of the response by the server
+            headers.set(HttpHeaders.CONTENT_ENCODING, encoding);
+        }
+        if (cachingEnabled) {
+            String variantTag = variantEntityTag(entityTag, encoding);
+            headers.set(HttpHeaders.ETAG, variantTag);
+            headers.set(HttpHeaders.CACHE_CONTROL, cacheControl);
+            if (matches(request.headers().get(HttpHeaders.IF_NONE_MATCH), variantTag)) {
+                response.setStatusCode(304).end();
+                return;
+            }
+        }
+        String contentType = MimeMapping.getMimeTypeForFilename(rel);
+        if (contentType != null) {
+            if (contentType.startsWith("text")) {
+                contentType = contentType + ";charset=" + defaultContentEncoding;
+            }
+            headers.set(HttpHeaders.CONTENT_TYPE, contentType);
+        }
+        if (target instanceof Buffer) {
+            response.end((Buffer) target);
+        } else {
+            response.sendFile((String) target).onFailure(ctx::fail);
+        }
+    }
+
+    /**
+     * @return the file name or the buffer to send for a resource, or {@code null} if the resource does not exist
+     */
+    private Object target(String name) {
+        Object target = targets.get(name);
+        if (target != null) {
+            return target;
+        }
+        URL url = classLoader.getResource(name);
+        if (url == null) {
+            return null;
+        }
+        switch (url.getProtocol()) {
+            case "file":
+                try {
+                    target = Path.of(url.toURI()).toString();
+                } catch (URISyntaxException e) {
+                    target = name;
+                }
+                break;
+            case "jar":
+            case "resource":
+                // resolved by Vert.x
+                target = name;
+                break;
+            default:
+                try (InputStream in = url.openStream()) {
+                    target = Buffer.buffer(in.readAllBytes());
+                } catch (IOException e) {
+                    return null;
+                }
+        }
+        Object existing = targets.putIfAbsent(name, target);
+        return existing != null ? existing : target;
+    }
+
+    /**
+     * Same rule as the StaticHandler, which only looks at the name of the file
+     */
+    private static boolean isHidden(String rel) {
+        return rel.charAt(rel.lastIndexOf('/') + 1) == '.';
+    }
+
+    /**
+     * @return the name of the classpath resource of a variant
+     */
+    static String file(String rel, String encoding) {
+        if (encoding.equals(IDENTITY)) {
+            return StaticResourcesRecorder.META_INF_RESOURCES + rel;
+        }
+        return StaticResourcesRecorder.PRECOMPRESSED_RESOURCES + rel + extension(encoding);
+    }
+
+    /**
+     * @return the extension of the file of a variant
+     */
+    public static String extension(String encoding) {
+        return encoding.equals(BROTLI) ? ".br" : ".gz";
+    }
+
+    /**
+     * The entity tag of a variant differs from the one of the resource, as they are not byte-for-byte identical.
+     */
+    static String variantEntityTag(String entityTag, String encoding) {
+        if (encoding.equals(IDENTITY)) {
+            return entityTag;
+        }
+        return entityTag.substring(0, entityTag.length() - 1) + '-' + encoding + '"';
+    }
+
+    /**
+     * Picks brotli over gzip over identity, among the encodings the client did not refuse with {@code q=0}.
+     */
+    static String selectEncoding(String acceptEncoding, List<String> available) {
+        if (acceptEncoding == null || available.isEmpty()) {
+            return IDENTITY;
+        }
+        boolean brotli = false;
+        boolean gzip = false;
+        for (String coding : acceptEncoding.split(",")) {
+            int parameters = coding.indexOf(';');
+            String name = (parameters == -1 ? coding : coding.substring(0, parameters)).trim();
+            if (parameters != -1 && isRefused(coding.substring(parameters + 1))) {
+                continue;
+            }
+            if (name.equalsIgnoreCase(BROTLI)) {
+                brotli = true;
+            } else if (name.equalsIgnoreCase(GZIP)) {
+                gzip = true;
+            } else if (name.equals("*")) {
+                brotli = true;
+                gzip = true;
+            }
+        }
+        if (brotli && available.contains(BROTLI)) {
+            return BROTLI;
+        }
+        if (gzip && available.contains(GZIP)) {
+            return GZIP;
+        }
+        return IDENTITY;
+    }
+
+    private static boolean isRefused(String parameters) {
+        for (String parameter : parameters.split(";")) {
+            String p = parameter.trim();
+            if (p.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(p.substring(2)) <= 0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(String ifNoneMatch, String entityTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                // If-None-Match uses the weak comparison
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(entityTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
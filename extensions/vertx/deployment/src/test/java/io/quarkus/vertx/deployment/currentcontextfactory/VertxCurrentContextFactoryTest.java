@@ -0,0 +1,106 @@
+package io.quarkus.vertx.deployment.currentcontextfactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.runtime.VertxCurrentContextFactory;
+import io.smallrye.common.vertx.VertxContext;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+public class VertxCurrentContextFactoryTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(root -> root.addClasses(Counter.class));
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    Counter counter;
+
+    @Test
+    public void testStateStoredInContextLocal() throws Exception {
+        VertxCurrentContextFactory factory = (VertxCurrentContextFactory) Arc.container().getCurrentContextFactory();
+        Context context = VertxContext.createNewDuplicatedContext(vertx.getOrCreateContext());
+        CompletableFuture<Integer> result = new CompletableFuture<>();
+        context.runOnContext(ignored -> {
+            ManagedContext requestContext = Arc.container().requestContext();
+            assertFalse(VertxCurrentContextFactory.hasContextState(context));
+            requestContext.activate();
+            try {
+                counter.increment();
+                assertTrue(VertxCurrentContextFactory.hasContextState(context));
+                for (String key : factory.keys()) {
+                    // the state is kept in the slot of the context local, not in the local context data
+                    assertNull(context.getLocal(key));
+                }
+                result.complete(counter.increment());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            } finally {
+                requestContext.terminate();
+            }
+        });
+        assertEquals(2, result.get(5, TimeUnit.SECONDS));
+        // a new duplicated context does not see the state
+        assertFalse(VertxCurrentContextFactory.hasContextState(
+                VertxContext.createNewDuplicatedContext(vertx.getOrCreateContext())));
+    }
+
+    @Test
+    public void testCopyContextStates() throws Exception {
+        Context context = VertxContext.createNewDuplicatedContext(vertx.getOrCreateContext());
+        Context copy = VertxContext.createNewDuplicatedContext(vertx.getOrCreateContext());
+        CompletableFuture<Integer> result = new CompletableFuture<>();
+        context.runOnContext(ignored -> {
+            ManagedContext requestContext = Arc.container().requestContext();
+            requestContext.activate();
+            try {
+                counter.increment();
+                VertxCurrentContextFactory.copyContextStates(context, copy);
+                assertTrue(VertxCurrentContextFactory.hasContextState(copy));
+                copy.runOnContext(i -> {
+                    // the copy sees the same request context
+                    try {
+                        result.complete(counter.increment());
+                    } catch (Throwable t) {
+                        result.completeExceptionally(t);
+                    }
+                });
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        try {
+            assertEquals(2, result.get(5, TimeUnit.SECONDS));
+        } finally {
+            context.runOnContext(ignored -> Arc.container().requestContext().terminate());
+        }
+    }
+
+    @RequestScoped
+    public static class Counter {
+
+        private int count;
+
+        int increment() {
+            return ++count;
+        }
+    }
+}
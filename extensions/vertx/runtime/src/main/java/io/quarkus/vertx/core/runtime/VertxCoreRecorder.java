@@ -223,6 +223,14 @@ public static Supplier<Vertx> getVertx() {
         return vertx;
     }
 
+    /**
+     * @return the Vert.x instance if it was already created, {@code null} otherwise
+     */
+    public static Vertx getVertxIfCreated() {
+        VertxSupplier supplier = vertx;
+        return supplier != null ? supplier.peek() : null;
+    }
+
     public static Vertx initialize(VertxConfiguration conf, VertxOptionsCustomizer customizer,
             ThreadPoolConfig threadPoolConfig, ShutdownContext shutdown,
             LaunchMode launchMode, List<VertxServiceProvider> vertxServiceProviders,
@@ -664,8 +672,11 @@ public void runWith(Runnable task, Object context) {
                     // First test if VertxCurrentContextFactory is actually used
                     if (ignoredKeys != null) {
                         ConcurrentMap<Object, Object> local = vertxContext.localContextData();
-                        if (containsIgnoredKey(ignoredKeys, local)) {
+                        if (containsIgnoredKey(ignoredKeys, local)
+                                || VertxCurrentContextFactory.hasContextState(vertxContext)) {
                             // Duplicate the context, copy the data, remove the request context
+                            // The states stored in the context locals are not copied by the duplication, i.e.
+                            // VertxCurrentContextFactory#copyContextStates() must not be used here
                             vertxContext = vertxContext.duplicate();
                             vertxContext.localContextData().putAll(local);
                             ignoredKeys.forEach(vertxContext.localContextData()::remove);
@@ -746,6 +757,10 @@ public synchronized Vertx get() {
             }
             return v;
         }
+
+        synchronized Vertx peek() {
+            return v;
+        }
     }
 
     static class VertxOptionsCustomizer {
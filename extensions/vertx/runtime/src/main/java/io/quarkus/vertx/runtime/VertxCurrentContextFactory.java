@@ -3,7 +3,10 @@
 import java.lang.annotation.Annotation;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import io.netty.util.concurrent.FastThreadLocal;
@@ -12,15 +15,28 @@
 import io.quarkus.arc.InjectableContext;
 import io.quarkus.arc.InjectableContext.ContextState;
 import io.quarkus.arc.impl.LazyValue;
+import io.quarkus.vertx.core.runtime.VertxCoreRecorder;
 import io.quarkus.vertx.core.runtime.context.VertxContextSafetyToggle;
 import io.smallrye.common.vertx.VertxContext;
 import io.vertx.core.Context;
 import io.vertx.core.Vertx;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.spi.context.storage.ContextLocal;
 
 public class VertxCurrentContextFactory implements CurrentContextFactory {
 
     private static final String LOCAL_KEY_PREFIX = "io.quarkus.vertx.cdi-current-context";
 
+    /**
+     * The context locals are indexed slots of every Vert.x context, they are registered once per scope and kept across
+     * restarts as they cannot be unregistered.
+     */
+    private static final Map<String, ContextLocal<ContextState>> LOCALS = new ConcurrentHashMap<>();
+    /**
+     * The context locals that have a slot in the contexts of the Vert.x instance
+     */
+    private static final List<ContextLocal<ContextState>> USABLE_LOCALS = new CopyOnWriteArrayList<>();
+
     private final List<String> keys;
     private final List<String> unmodifiableKeys;
 
@@ -40,7 +56,17 @@ public <T extends InjectableContext.ContextState> CurrentContext<T> create(Class
                             + scope + " already exists!");
         }
         keys.add(key);
-        return new VertxCurrentContext<>(key);
+        ContextLocal<ContextState> local = local(key);
+        // A Vert.x instance only has slots for the locals that were registered before it was created, which is the
+        // case unless a new scope appears when the application is restarted in dev mode
+        Vertx vertx = VertxCoreRecorder.getVertxIfCreated();
+        if (vertx == null || ((VertxInternal) vertx).contextLocals().contains(local)) {
+            if (!USABLE_LOCALS.contains(local)) {
+                USABLE_LOCALS.add(local);
+            }
+            return new VertxCurrentContext<>(key, local);
+        }
+        return new VertxCurrentContext<>(key, null);
     }
 
     /**
@@ -51,9 +77,53 @@ public List<String> keys() {
         return unmodifiableKeys;
     }
 
+    /**
+     * @return {@code true} if a state of a current context is stored in the context locals of the given context
+     */
+    public static boolean hasContextState(Context context) {
+        for (ContextLocal<ContextState> local : USABLE_LOCALS) {
+            if (local.get(context) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Copies the states of the current contexts stored in the context locals of the source context to the target context.
+     * <p>
+     * The local context data do not contain these states. Code that duplicates a context and copies its local context data
+     * in order to propagate the current contexts must call this method as well.
+     *
+     * @param from the source context
+     * @param to the target context
+     */
+    public static void copyContextStates(Context from, Context to) {
+        for (ContextLocal<ContextState> local : USABLE_LOCALS) {
+            ContextState state = local.get(from);
+            if (state != null) {
+                local.put(to, state);
+            }
+        }
+    }
+
+    private static ContextLocal<ContextState> local(String key) {
+        return LOCALS.computeIfAbsent(key, new Function<>() {
+            @Override
+            public ContextLocal<ContextState> apply(String k) {
+                return ContextLocal.registerLocal(ContextState.class);
+            }
+        });
+    }
+
     private static final class VertxCurrentContext<T extends ContextState> implements CurrentContext<T> {
 
         private final String key;
+        /**
+         * {@code null} if the Vert.x instance has no slot for the local, the state is then stored in the local context
+         * data
+         */
+        private final ContextLocal<ContextState> local;
         private final LazyValue<FastThreadLocal<T>> fallback = new LazyValue<>(
                 new Supplier<>() {
                     @Override
@@ -62,14 +132,19 @@ public FastThreadLocal<T> get() {
                     }
                 });
 
-        private VertxCurrentContext(String key) {
+        private VertxCurrentContext(String key, ContextLocal<ContextState> local) {
             this.key = key;
+            this.local = local;
         }
 
+        @SuppressWarnings("unchecked")
         @Override
         public T get() {
             Context context = Vertx.currentContext();
             if (context != null && VertxContext.isDuplicatedContext(context)) {
+                if (local != null) {
+                    return (T) local.get(context);
+                }
                 return context.getLocal(key);
             }
             return fallback.get().get();
@@ -82,11 +157,16 @@ public void set(T state) {
                 VertxContextSafetyToggle.setContextSafe(context, true);
                 // this is racy but should be fine, because DC should not be shared
                 // and never remove the existing mapping
-                var oldState = context.getLocal(key);
-                if (oldState != state) {
-                    context.putLocal(key, state);
+                if (local != null) {
+                    if (local.get(context) != state) {
+                        local.put(context, state);
+                    }
+                } else {
+                    var oldState = context.getLocal(key);
+                    if (oldState != state) {
+                        context.putLocal(key, state);
+                    }
                 }
-
             } else {
                 fallback.get().set(state);
             }
@@ -0,0 +1,225 @@
+package io.quarkus.arc.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ComponentsProvider;
+import io.quarkus.arc.impl.LockInterceptor;
+import io.quarkus.arc.processor.BeanArchives;
+import io.quarkus.arc.processor.BeanProcessor;
+import io.quarkus.arc.processor.ResourceOutput;
+import io.quarkus.arc.processor.ResourceOutput.Resource;
+
+/**
+ * Builds a container for the given bean classes with the {@link BeanProcessor}, the same way the build of an application
+ * does, and initializes it in the current JVM.
+ * <p>
+ * The generated classes that belong to a package of an existing class, such as the package of a bean, are defined with a
+ * {@link java.lang.invoke.MethodHandles.Lookup} so that they can access package-private members. The remaining generated
+ * classes are defined by a class loader that is set as the TCCL while the container is running.
+ */
+public final class BenchmarkContainer implements AutoCloseable {
+
+    private static final String SERVICES = "META-INF/services/";
+
+    private final ClassLoader oldTccl;
+
+    private BenchmarkContainer(ClassLoader oldTccl) {
+        this.oldTccl = oldTccl;
+    }
+
+    /**
+     * @param name the name of the deployment, must be unique in the JVM
+     * @param beanClasses the bean classes, including interceptors and decorators
+     * @return the started container
+     */
+    public static BenchmarkContainer start(String name, Class<?>... beanClasses) {
+        List<Resource> classes = new ArrayList<>();
+        Map<String, byte[]> services = new HashMap<>();
+        try {
+            IndexView index = BeanArchives.buildImmutableBeanArchiveIndex(index(beanClasses));
+            BeanProcessor beanProcessor = BeanProcessor.builder()
+                    .setName(name)
+                    .setImmutableBeanArchiveIndex(index)
+                    .setComputingBeanArchiveIndex(BeanArchives.buildComputingBeanArchiveIndex(
+                            BenchmarkContainer.class.getClassLoader(), new ConcurrentHashMap<>(), index))
+                    .setOutput(new ResourceOutput() {
+                        @Override
+                        public void writeResource(Resource resource) {
+                            switch (resource.getType()) {
+                                case JAVA_CLASS:
+                                    classes.add(resource);
+                                    break;
+                                case SERVICE_PROVIDER:
+                                    services.put(SERVICES + resource.getName(), resource.getData());
+                                    break;
+                                default:
+                                    throw new IllegalArgumentException(resource.getType().toString());
+                            }
+                        }
+                    })
+                    .build();
+            beanProcessor.process();
+        } catch (IOException | ExecutionException e) {
+            throw new IllegalStateException("Unable to build the container", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Unable to build the container", e);
+        }
+
+        ClassLoader oldTccl = Thread.currentThread().getContextClassLoader();
+        GeneratedClassLoader classLoader = new GeneratedClassLoader(BenchmarkContainer.class.getClassLoader(), services);
+        defineClasses(classes, anchors(beanClasses), classLoader);
+        Thread.currentThread().setContextClassLoader(classLoader);
+        Arc.initialize();
+        return new BenchmarkContainer(oldTccl);
+    }
+
+    public ArcContainer container() {
+        return Arc.requireContainer();
+    }
+
+    @Override
+    public void close() {
+        Arc.shutdown();
+        Thread.currentThread().setContextClassLoader(oldTccl);
+    }
+
+    private static IndexView index(Class<?>... classes) throws IOException {
+        Indexer indexer = new Indexer();
+        for (Class<?> clazz : classes) {
+            try (InputStream in = clazz.getClassLoader().getResourceAsStream(clazz.getName().replace('.', '/') + ".class")) {
+                indexer.index(in);
+            }
+        }
+        return indexer.complete();
+    }
+
+    private static Map<String, Class<?>> anchors(Class<?>... beanClasses) {
+        Map<String, Class<?>> anchors = new HashMap<>();
+        anchors.put(Arc.class.getPackageName(), Arc.class);
+        anchors.put(LockInterceptor.class.getPackageName(), LockInterceptor.class);
+        for (Class<?> beanClass : beanClasses) {
+            anchors.putIfAbsent(beanClass.getPackageName(), beanClass);
+        }
+        return anchors;
+    }
+
+    private static void defineClasses(List<Resource> classes, Map<String, Class<?>> anchors,
+            GeneratedClassLoader classLoader) {
+        // the verification of a bean class loads its subclass and client proxy, which must be defined first
+        classes.sort(Comparator.comparingInt(BenchmarkContainer::definitionOrder));
+        for (Resource resource : classes) {
+            String name = resource.getFullyQualifiedName();
+            Class<?> anchor = anchors.computeIfAbsent(name.substring(0, name.lastIndexOf('.')),
+                    p -> originalClass(name));
+            if (anchor == null) {
+                classLoader.add(name, resource.getData());
+                continue;
+            }
+            try {
+                MethodHandles.privateLookupIn(anchor, MethodHandles.lookup()).defineClass(resource.getData());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    // e.g. the annotation of an annotation literal generated in the package of the annotation
+    private static Class<?> originalClass(String generatedClassName) {
+        int idx = generatedClassName.lastIndexOf('_');
+        if (idx < 0) {
+            return null;
+        }
+        try {
+            return Class.forName(generatedClassName.substring(0, idx), false, BenchmarkContainer.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    private static int definitionOrder(Resource resource) {
+        if (resource.getSpecialType() == null) {
+            return 2;
+        }
+        switch (resource.getSpecialType()) {
+            case SUBCLASS:
+                return 0;
+            case CLIENT_PROXY:
+                return 1;
+            default:
+                return 3;
+        }
+    }
+
+    static final class GeneratedClassLoader extends ClassLoader {
+
+        private final Map<String, byte[]> classes = new ConcurrentHashMap<>();
+        private final Map<String, byte[]> resources;
+
+        GeneratedClassLoader(ClassLoader parent, Map<String, byte[]> resources) {
+            super(parent);
+            this.resources = resources;
+        }
+
+        void add(String name, byte[] data) {
+            classes.put(name, data);
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] data = classes.remove(name);
+            if (data == null) {
+                throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, data, 0, data.length);
+        }
+
+        @Override
+        public Enumeration<URL> getResources(String name) throws IOException {
+            byte[] data = resources.get(name);
+            if (data == null) {
+                if (name.equals(SERVICES + ComponentsProvider.class.getName())) {
+                    // only the components of this container
+                    return Collections.emptyEnumeration();
+                }
+                return super.getResources(name);
+            }
+            return Collections.enumeration(List.of(new URL("memory", null, -1, name, new URLStreamHandler() {
+                @Override
+                protected URLConnection openConnection(URL u) {
+                    return new URLConnection(u) {
+                        @Override
+                        public void connect() {
+                        }
+
+                        @Override
+                        public InputStream getInputStream() {
+                            return new ByteArrayInputStream(data);
+                        }
+                    };
+                }
+            })));
+        }
+    }
+
+}
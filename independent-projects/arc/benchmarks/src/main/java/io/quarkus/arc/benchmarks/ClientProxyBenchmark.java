@@ -0,0 +1,119 @@
+package io.quarkus.arc.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Singleton;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ManagedContext;
+
+/**
+ * The cost of a business method invocation through a client proxy, compared to a bean without a client proxy, and of the
+ * programmatic lookup of a bean with {@link ArcContainer#instance(Class, java.lang.annotation.Annotation...)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientProxyBenchmark {
+
+    private BenchmarkContainer container;
+    private ManagedContext requestContext;
+    private SingletonBean singletonBean;
+    private ApplicationBean applicationBean;
+    private RequestBean requestBean;
+    private int value;
+
+    @Setup
+    public void setup() {
+        container = BenchmarkContainer.start("ClientProxyBenchmark", SingletonBean.class, ApplicationBean.class,
+                RequestBean.class);
+        ArcContainer arc = container.container();
+        singletonBean = arc.instance(SingletonBean.class).get();
+        applicationBean = arc.instance(ApplicationBean.class).get();
+        requestBean = arc.instance(RequestBean.class).get();
+        requestContext = arc.requestContext();
+        // the request context stays active on the benchmark thread
+        requestContext.activate();
+    }
+
+    @TearDown
+    public void tearDown() {
+        requestContext.terminate();
+        container.close();
+    }
+
+    @Benchmark
+    public int singleton() {
+        return singletonBean.ping(value++);
+    }
+
+    @Benchmark
+    public int applicationScoped() {
+        return applicationBean.ping(value++);
+    }
+
+    @Benchmark
+    public int requestScoped() {
+        return requestBean.ping(value++);
+    }
+
+    @Benchmark
+    public Object instanceSingleton() {
+        return container.container().instance(SingletonBean.class).get();
+    }
+
+    @Benchmark
+    public Object instanceApplicationScoped() {
+        return container.container().instance(ApplicationBean.class).get();
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { ClientProxyBenchmark.class.getSimpleName(), "-prof", "gc" });
+    }
+
+    @Singleton
+    public static class SingletonBean {
+
+        public int ping(int value) {
+            return value + 1;
+        }
+
+    }
+
+    @ApplicationScoped
+    public static class ApplicationBean {
+
+        public int ping(int value) {
+            return value + 1;
+        }
+
+    }
+
+    @RequestScoped
+    public static class RequestBean {
+
+        public int ping(int value) {
+            return value + 1;
+        }
+
+    }
+
+}
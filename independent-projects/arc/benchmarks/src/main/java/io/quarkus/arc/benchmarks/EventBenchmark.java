@@ -0,0 +1,125 @@
+package io.quarkus.arc.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The synchronous notification of observers with {@link Event#fire(Object)}, for an event type without observers, with a
+ * single observer and with several observers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBenchmark {
+
+    private BenchmarkContainer container;
+    private Events events;
+    private final Unobserved unobserved = new Unobserved();
+    private final Single single = new Single();
+    private final Multi multi = new Multi();
+
+    @Setup
+    public void setup() {
+        container = BenchmarkContainer.start("EventBenchmark", Events.class, Observers.class);
+        events = container.container().instance(Events.class).get();
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.close();
+    }
+
+    @Benchmark
+    public void noObserver() {
+        events.unobserved.fire(unobserved);
+    }
+
+    @Benchmark
+    public void oneObserver() {
+        events.single.fire(single);
+    }
+
+    @Benchmark
+    public void fiveObservers() {
+        events.multi.fire(multi);
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { EventBenchmark.class.getSimpleName(), "-prof", "gc" });
+    }
+
+    @Singleton
+    public static class Events {
+
+        @Inject
+        Event<Unobserved> unobserved;
+
+        @Inject
+        Event<Single> single;
+
+        @Inject
+        Event<Multi> multi;
+
+    }
+
+    @Singleton
+    public static class Observers {
+
+        int count;
+
+        void single(@Observes Single event) {
+            count++;
+        }
+
+        void multi1(@Observes Multi event) {
+            count++;
+        }
+
+        void multi2(@Observes Multi event) {
+            count++;
+        }
+
+        void multi3(@Observes Multi event) {
+            count++;
+        }
+
+        void multi4(@Observes Multi event) {
+            count++;
+        }
+
+        void multi5(@Observes Multi event) {
+            count++;
+        }
+
+    }
+
+    public static final class Unobserved {
+    }
+
+    public static final class Single {
+    }
+
+    public static final class Multi {
+    }
+
+}
@@ -0,0 +1,174 @@
+package io.quarkus.arc.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.literal.NamedLiteral;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The programmatic lookup with an injected {@link Instance}: resolving a single bean, selecting a bean by qualifier,
+ * iterating over several beans and obtaining a {@link Dependent} instance that must be destroyed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstanceBenchmark {
+
+    private BenchmarkContainer container;
+    private Lookups lookups;
+
+    @Setup
+    public void setup() {
+        container = BenchmarkContainer.start("InstanceBenchmark", Lookups.class, Single.class, Plugin.class,
+                PluginA.class, PluginB.class, PluginC.class, PluginD.class, PluginE.class, Prototype.class);
+        lookups = container.container().instance(Lookups.class).get();
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.close();
+    }
+
+    @Benchmark
+    public Object get() {
+        return lookups.single.get();
+    }
+
+    @Benchmark
+    public int selectQualifierGet() {
+        return lookups.plugins.select(NamedLiteral.of("a")).get().id();
+    }
+
+    @Benchmark
+    public int iterate() {
+        int sum = 0;
+        for (Plugin plugin : lookups.plugins) {
+            sum += plugin.id();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int stream() {
+        return lookups.plugins.stream().mapToInt(Plugin::id).sum();
+    }
+
+    @Benchmark
+    public int getAndDestroyDependent() {
+        Instance.Handle<Prototype> handle = lookups.prototype.getHandle();
+        try {
+            return handle.get().id();
+        } finally {
+            handle.destroy();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { InstanceBenchmark.class.getSimpleName(), "-prof", "gc" });
+    }
+
+    @Singleton
+    public static class Lookups {
+
+        @Inject
+        Instance<Single> single;
+
+        @Inject
+        Instance<Plugin> plugins;
+
+        @Inject
+        Instance<Prototype> prototype;
+
+    }
+
+    @Singleton
+    public static class Single {
+    }
+
+    public interface Plugin {
+
+        int id();
+
+    }
+
+    @Named("a")
+    @Singleton
+    public static class PluginA implements Plugin {
+
+        @Override
+        public int id() {
+            return 1;
+        }
+
+    }
+
+    @Singleton
+    public static class PluginB implements Plugin {
+
+        @Override
+        public int id() {
+            return 2;
+        }
+
+    }
+
+    @Singleton
+    public static class PluginC implements Plugin {
+
+        @Override
+        public int id() {
+            return 3;
+        }
+
+    }
+
+    @Singleton
+    public static class PluginD implements Plugin {
+
+        @Override
+        public int id() {
+            return 4;
+        }
+
+    }
+
+    @Singleton
+    public static class PluginE implements Plugin {
+
+        @Override
+        public int id() {
+            return 5;
+        }
+
+    }
+
+    @Dependent
+    public static class Prototype {
+
+        public int id() {
+            return 6;
+        }
+
+    }
+
+}
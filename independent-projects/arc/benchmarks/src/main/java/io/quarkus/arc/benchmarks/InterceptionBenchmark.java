@@ -0,0 +1,135 @@
+package io.quarkus.arc.benchmarks;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.io.IOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Singleton;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InterceptorBinding;
+import jakarta.interceptor.InvocationContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The overhead of {@code @AroundInvoke} interceptors, from a business method without interceptors to a chain of two
+ * interceptors, one of which uses the context data.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterceptionBenchmark {
+
+    private BenchmarkContainer container;
+    private Service service;
+    private int value;
+
+    @Setup
+    public void setup() {
+        container = BenchmarkContainer.start("InterceptionBenchmark", Service.class, First.class, Second.class,
+                FirstInterceptor.class, SecondInterceptor.class);
+        service = container.container().instance(Service.class).get();
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.close();
+    }
+
+    @Benchmark
+    public int notIntercepted() {
+        return service.notIntercepted(value++);
+    }
+
+    @Benchmark
+    public int oneInterceptor() {
+        return service.oneInterceptor(value++);
+    }
+
+    @Benchmark
+    public int twoInterceptors() {
+        return service.twoInterceptors(value++);
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { InterceptionBenchmark.class.getSimpleName(), "-prof", "gc" });
+    }
+
+    @Singleton
+    public static class Service {
+
+        public int notIntercepted(int value) {
+            return value + 1;
+        }
+
+        @First
+        public int oneInterceptor(int value) {
+            return value + 1;
+        }
+
+        @First
+        @Second
+        public int twoInterceptors(int value) {
+            return value + 1;
+        }
+
+    }
+
+    @InterceptorBinding
+    @Retention(RUNTIME)
+    @Target({ TYPE, METHOD })
+    public @interface First {
+    }
+
+    @InterceptorBinding
+    @Retention(RUNTIME)
+    @Target({ TYPE, METHOD })
+    public @interface Second {
+    }
+
+    @First
+    @Priority(1)
+    @Interceptor
+    public static class FirstInterceptor {
+
+        @AroundInvoke
+        Object intercept(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+
+    }
+
+    @Second
+    @Priority(2)
+    @Interceptor
+    public static class SecondInterceptor {
+
+        @AroundInvoke
+        Object intercept(InvocationContext ctx) throws Exception {
+            ctx.getContextData().put("second", Boolean.TRUE);
+            return ctx.proceed();
+        }
+
+    }
+
+}
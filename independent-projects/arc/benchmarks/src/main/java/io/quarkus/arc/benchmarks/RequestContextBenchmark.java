@@ -0,0 +1,100 @@
+package io.quarkus.arc.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.RequestScoped;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.ManagedContext;
+
+/**
+ * The lifecycle of the request context, i.e. what every request pays: activation, the creation of the request scoped
+ * beans that are used and the termination that destroys them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestContextBenchmark {
+
+    private BenchmarkContainer container;
+    private ManagedContext requestContext;
+    private First first;
+    private Second second;
+
+    @Setup
+    public void setup() {
+        container = BenchmarkContainer.start("RequestContextBenchmark", First.class, Second.class);
+        requestContext = container.container().requestContext();
+        first = container.container().instance(First.class).get();
+        second = container.container().instance(Second.class).get();
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.close();
+    }
+
+    @Benchmark
+    public void activateTerminate() {
+        requestContext.activate();
+        requestContext.terminate();
+    }
+
+    @Benchmark
+    public int activateUseOneBeanTerminate() {
+        requestContext.activate();
+        try {
+            return first.ping();
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    @Benchmark
+    public int activateUseTwoBeansTerminate() {
+        requestContext.activate();
+        try {
+            return first.ping() + second.ping();
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { RequestContextBenchmark.class.getSimpleName(), "-prof", "gc" });
+    }
+
+    @RequestScoped
+    public static class First {
+
+        public int ping() {
+            return 1;
+        }
+
+    }
+
+    @RequestScoped
+    public static class Second {
+
+        public int ping() {
+            return 2;
+        }
+
+    }
+
+}
@@ -0,0 +1,106 @@
+package io.quarkus.arc.benchmarks;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.spi.context.storage.ContextLocal;
+
+/**
+ * The lookups that the current context of a scope does on a Vert.x duplicated context when it is stored in the
+ * local context data under a String key, in a context local, and in a context local that the Vert.x instance has no
+ * slot for, which throws an {@link IllegalArgumentException} on every access.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VertxContextStorageBenchmark {
+
+    private static final String KEY = "io.quarkus.vertx.cdi-current-contextjakarta.enterprise.context.RequestScoped";
+    private static final ContextLocal<ContextState> LOCAL = ContextLocal.registerLocal(ContextState.class);
+
+    private Vertx vertx;
+    private ContextInternal context;
+    private ContextLocal<ContextState> unknownLocal;
+    private ContextState state;
+
+    @Setup
+    public void setup() {
+        vertx = Vertx.vertx();
+        // registered after the creation of the Vert.x instance
+        unknownLocal = ContextLocal.registerLocal(ContextState.class);
+        context = ((ContextInternal) vertx.getOrCreateContext()).duplicate();
+        state = new ContextState() {
+            @Override
+            public Map<InjectableBean<?>, Object> getContextualInstances() {
+                return Map.of();
+            }
+        };
+        context.putLocal(KEY, state);
+        LOCAL.put(context, state);
+    }
+
+    @TearDown
+    public void tearDown() {
+        vertx.close().toCompletionStage().toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public Object localContextData() {
+        Object current = context.getLocal(KEY);
+        if (current != state) {
+            context.putLocal(KEY, state);
+        }
+        return current;
+    }
+
+    @Benchmark
+    public Object contextLocal() {
+        ContextState current = LOCAL.get(context);
+        if (current != state) {
+            LOCAL.put(context, state);
+        }
+        return current;
+    }
+
+    @Benchmark
+    public Object contextLocalWithoutSlot() {
+        Object current;
+        try {
+            current = unknownLocal.get(context);
+        } catch (IllegalArgumentException e) {
+            current = context.getLocal(KEY);
+        }
+        if (current != state) {
+            try {
+                unknownLocal.put(context, state);
+            } catch (IllegalArgumentException e) {
+                context.putLocal(KEY, state);
+            }
+        }
+        return current;
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { VertxContextStorageBenchmark.class.getSimpleName(), "-prof", "gc" });
+    }
+}
@@ -40,11 +40,13 @@
 
 import io.quarkus.arc.All;
 import io.quarkus.arc.Lock;
+import io.quarkus.arc.LockKey;
 import io.quarkus.arc.impl.ActivateRequestContextInterceptor;
 import io.quarkus.arc.impl.DefaultAsyncObserverExceptionHandler;
 import io.quarkus.arc.impl.Identified;
 import io.quarkus.arc.impl.InjectableRequestContextController;
 import io.quarkus.arc.impl.LockInterceptor;
+import io.quarkus.arc.impl.LockKeyParameterPositions;
 
 public final class BeanArchives {
 
@@ -86,6 +88,8 @@ private static IndexView buildAdditionalIndex() {
         index(indexer, Decorated.class.getName());
         index(indexer, Model.class.getName());
         index(indexer, Lock.class.getName());
+        index(indexer, LockKey.class.getName());
+        index(indexer, LockKeyParameterPositions.class.getName());
         index(indexer, All.class.getName());
         index(indexer, Identified.class.getName());
         // Arc built-in beans
@@ -35,6 +35,7 @@
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.AnnotationTarget.Kind;
+import org.jboss.jandex.AnnotationTransformation;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.ClassInfo.NestingType;
 import org.jboss.jandex.DotName;
@@ -162,7 +163,7 @@ public class BeanDeployment {
         this.annotationStore = new AnnotationStore(builder.beanArchiveComputingIndex != null
                 ? builder.beanArchiveComputingIndex
                 : builder.beanArchiveImmutableIndex,
-                builder.annotationTransformers);
+                annotationTransformations(builder.annotationTransformers));
         buildContext.putInternal(Key.ANNOTATION_STORE, annotationStore);
 
         this.injectionPointTransformer = new InjectionPointModifier(
@@ -253,6 +254,14 @@ public class BeanDeployment {
         this.invokerFactory = new InvokerFactory(this, injectionPointTransformer);
     }
 
+    private static List<AnnotationTransformation> annotationTransformations(List<AnnotationTransformation> transformations) {
+        List<AnnotationTransformation> result = new ArrayList<>(transformations.size() + 1);
+        result.addAll(transformations);
+        // built-in transformations are applied last
+        result.add(new LockKeyTransformation());
+        return result;
+    }
+
     ContextRegistrar.RegistrationContext registerCustomContexts(List<ContextRegistrar> contextRegistrars) {
         ContextRegistrar.RegistrationContext registrationContext = new ContextRegistrar.RegistrationContext() {
             @Override
@@ -261,7 +261,6 @@ public List<Resource> generateResources(ReflectionRegistration reflectionRegistr
                 refReg, beanDeployment, scopeToGeneratedName);
         if (optimizeContextsValue) {
             contextInstancesGenerator.precomputeGeneratedName(BuiltinScope.APPLICATION.getName());
-            contextInstancesGenerator.precomputeGeneratedName(BuiltinScope.REQUEST.getName());
         }
 
         InvokerGenerator invokerGenerator = new InvokerGenerator(generateSources,
@@ -430,7 +429,6 @@ public Collection<Resource> call() throws Exception {
                     public Collection<Resource> call() throws Exception {
                         Collection<Resource> resources = new ArrayList<>();
                         resources.addAll(contextInstancesGenerator.generate(BuiltinScope.APPLICATION.getName()));
-                        resources.addAll(contextInstancesGenerator.generate(BuiltinScope.REQUEST.getName()));
                         return resources;
                     }
                 }));
@@ -527,7 +525,6 @@ public Collection<Resource> call() throws Exception {
             if (optimizeContextsValue) {
                 // Generate _ContextInstances
                 resources.addAll(contextInstancesGenerator.generate(BuiltinScope.APPLICATION.getName()));
-                resources.addAll(contextInstancesGenerator.generate(BuiltinScope.REQUEST.getName()));
             }
         }
 
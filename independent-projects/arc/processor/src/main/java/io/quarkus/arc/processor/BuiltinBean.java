@@ -5,6 +5,7 @@
 
 import java.lang.constant.ClassDesc;
 import java.lang.reflect.Member;
+import java.lang.reflect.Modifier;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.function.BiPredicate;
@@ -268,12 +269,28 @@ private static void generateEventBytecode(GeneratorContext ctx) {
                 Const.of(ctx.injectionPoint.getPosition()), Const.of(ctx.injectionPoint.isTransient()));
 
         Expr eventProvider = ctx.constructor.new_(ConstructorDesc.of(EventProvider.class,
-                java.lang.reflect.Type.class, Set.class, InjectionPoint.class),
-                parameterizedType, qualifiers, injectionPoint);
+                java.lang.reflect.Type.class, Set.class, InjectionPoint.class, boolean.class),
+                parameterizedType, qualifiers, injectionPoint, Const.of(isExactEventType(ctx)));
         Expr eventProviderSupplier = ctx.constructor.new_(MethodDescs.FIXED_VALUE_SUPPLIER_CONSTRUCTOR, eventProvider);
         ctx.constructor.set(ctx.clazzCreator.this_().field(ctx.providerField), eventProviderSupplier);
     }
 
+    /**
+     * The runtime type of all events fired by {@code Event<T>} is known if {@code T} is a final class.
+     */
+    private static boolean isExactEventType(GeneratorContext ctx) {
+        Type type = ctx.injectionPoint.getRequiredType();
+        if (type.kind() != Kind.PARAMETERIZED_TYPE) {
+            return false;
+        }
+        Type eventType = type.asParameterizedType().arguments().get(0);
+        if (eventType.kind() != Kind.CLASS) {
+            return false;
+        }
+        ClassInfo eventClass = getClassByName(ctx.beanDeployment.getBeanArchiveIndex(), eventType.name());
+        return eventClass != null && Modifier.isFinal(eventClass.flags());
+    }
+
     private static void generateInjectionPointBytecode(GeneratorContext ctx) {
         // this.injectionPointProvider1 = () -> new InjectionPointProvider();
         Expr injectionPointProvider = ctx.constructor.new_(InjectionPointProvider.class);
@@ -19,7 +19,6 @@
 import java.util.function.Supplier;
 
 import jakarta.enterprise.context.spi.CreationalContext;
-import jakarta.interceptor.InvocationContext;
 
 import org.jboss.jandex.AnnotationInstanceEquivalenceProxy;
 import org.jboss.jandex.ClassInfo;
@@ -379,22 +378,12 @@ private void createInitMetadataMethod(ClassCreator cc, ClassDesc pseudoBeanClass
                     });
 
                     // Instantiate the forwarding function
-                    // BiFunction<Object, InvocationContext, Object> forward = (target, ctx) -> target.foo$$superforward((java.lang.String)ctx.getParameters()[0])
+                    // BiFunction<Object, InvocationContext, Object> forward = (target, ctx) -> target.foo$$superforward((java.lang.String)InvocationContexts.getParameter(ctx, 0))
                     Expr forwardFunArg = bc.lambda(BiFunction.class, lc -> {
                         ParamVar target = lc.parameter("target", 0);
                         ParamVar ctx = lc.parameter("ctx", 1);
                         lc.body(lbc -> {
-                            Expr[] superArgs;
-                            if (parameters.isEmpty()) {
-                                superArgs = new Expr[0];
-                            } else {
-                                Expr ctxArgs = lbc.localVar("args", lbc.invokeInterface(
-                                        MethodDesc.of(InvocationContext.class, "getParameters", Object[].class), ctx));
-                                superArgs = new Expr[parameters.size()];
-                                for (int i = 0; i < parameters.size(); i++) {
-                                    superArgs[i] = ctxArgs.elem(i);
-                                }
-                            }
+                            Expr[] superArgs = SubclassGenerator.forwardedParameters(lbc, ctx, parameters.size());
                             Expr superResult = method.declaringClass().isInterface()
                                     ? lbc.invokeInterface(methodDesc, target, superArgs)
                                     : lbc.invokeVirtual(methodDesc, target, superArgs);
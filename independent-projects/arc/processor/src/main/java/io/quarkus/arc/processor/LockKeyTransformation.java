@@ -0,0 +1,48 @@
+package io.quarkus.arc.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget.Kind;
+import org.jboss.jandex.AnnotationTransformation;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.MethodParameterInfo;
+
+import io.quarkus.arc.LockKey;
+import io.quarkus.arc.impl.LockKeyParameterPositions;
+
+/**
+ * Adds the {@link LockKeyParameterPositions} interceptor binding to the methods that declare a {@link LockKey}
+ * parameter, so that the lock interceptor does not need to inspect the parameters at runtime.
+ */
+final class LockKeyTransformation implements AnnotationTransformation {
+
+    static final DotName LOCK_KEY = DotName.createSimple(LockKey.class);
+    static final DotName LOCK_KEY_PARAMETER_POSITIONS = DotName.createSimple(LockKeyParameterPositions.class);
+
+    @Override
+    public boolean supports(Kind kind) {
+        return kind == Kind.METHOD;
+    }
+
+    @Override
+    public void apply(TransformationContext context) {
+        MethodInfo method = context.declaration().asMethod();
+        if (!method.hasAnnotation(LOCK_KEY)) {
+            return;
+        }
+        List<AnnotationValue> positions = new ArrayList<>();
+        for (MethodParameterInfo parameter : method.parameters()) {
+            if (parameter.hasDeclaredAnnotation(LOCK_KEY)) {
+                positions.add(AnnotationValue.createShortValue("", parameter.position()));
+            }
+        }
+        if (!positions.isEmpty()) {
+            context.add(AnnotationInstance.create(LOCK_KEY_PARAMETER_POSITIONS, method,
+                    new AnnotationValue[] { AnnotationValue.createArrayValue("value", positions) }));
+        }
+    }
+}
@@ -127,6 +127,18 @@ private MethodDescs() {
     static final MethodDesc INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE = MethodDesc.of(InvocationContexts.class,
             "performAroundInvoke", Object.class, Object.class, Object[].class, InterceptedMethodMetadata.class);
 
+    // variants of performAroundInvoke() for the methods with one, two or three parameters
+    static final List<MethodDesc> INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE_PARAMS = List.of(
+            MethodDesc.of(InvocationContexts.class, "performAroundInvoke", Object.class, Object.class,
+                    InterceptedMethodMetadata.class, Object.class),
+            MethodDesc.of(InvocationContexts.class, "performAroundInvoke", Object.class, Object.class,
+                    InterceptedMethodMetadata.class, Object.class, Object.class),
+            MethodDesc.of(InvocationContexts.class, "performAroundInvoke", Object.class, Object.class,
+                    InterceptedMethodMetadata.class, Object.class, Object.class, Object.class));
+
+    static final MethodDesc INVOCATION_CONTEXTS_GET_PARAMETER = MethodDesc.of(InvocationContexts.class,
+            "getParameter", Object.class, InvocationContext.class, int.class);
+
     static final MethodDesc INVOCATION_CONTEXTS_PERFORM_TARGET_AROUND_INVOKE = MethodDesc.of(InvocationContexts.class,
             "performTargetAroundInvoke", Object.class, InvocationContext.class, List.class, BiFunction.class);
 
@@ -424,7 +424,7 @@ private void generateInitMetadata(ClassCreator cc, BeanInfo bean, Type providerT
                         }
 
                         // Instantiate the forwarding function
-                        // BiFunction<Object, InvocationContext, Object> forward = (target, ctx) -> target.foo$$superforward((java.lang.String)ctx.getParameters()[0])
+                        // BiFunction<Object, InvocationContext, Object> forward = (target, ctx) -> target.foo$$superforward((java.lang.String)InvocationContexts.getParameter(ctx, 0))
                         LocalVar forwardFun = bc.localVar("forwardFun", bc.lambda(BiFunction.class, lc -> {
                             Var capturedDecorator = decorator != null ? lc.capture(decorator) : null;
                             ParamVar target = lc.parameter("target", 0);
@@ -442,17 +442,7 @@ private void generateInitMetadata(ClassCreator cc, BeanInfo bean, Type providerT
                                     instance = capturedDecorator;
                                 }
 
-                                Expr[] superArgs;
-                                if (parameters.isEmpty()) {
-                                    superArgs = new Expr[0];
-                                } else {
-                                    Expr ctxArgs = lbc.localVar("args", lbc.invokeInterface(
-                                            MethodDescs.INVOCATION_CONTEXT_GET_PARAMETERS, ctx));
-                                    superArgs = new Expr[parameters.size()];
-                                    for (int i = 0; i < parameters.size(); i++) {
-                                        superArgs[i] = ctxArgs.elem(i);
-                                    }
-                                }
+                                Expr[] superArgs = forwardedParameters(lbc, ctx, parameters.size());
 
                                 Expr superResult = decoratorMethod == null
                                         ? lbc.invokeVirtual(desc, instance, superArgs)
@@ -885,15 +875,34 @@ static void createInterceptedMethod(MethodInfo method, ClassCreator subclass,
                 });
 
                 // Object[] args = new Object[] {p1}
-                LocalVar args = b0.localVar("args",
-                        method.parametersCount() > 0 ? b0.newArray(Object.class, params) : Const.ofNull(Object[].class));
+                // a method with up to three parameters passes them directly,
+                // the array is only created if an interceptor needs it
+                int paramsCount = method.parametersCount();
+                boolean passParams = paramsCount > 0
+                        && paramsCount <= MethodDescs.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE_PARAMS.size();
+                LocalVar args = passParams ? null
+                        : b0.localVar("args",
+                                paramsCount > 0 ? b0.newArray(Object.class, params) : Const.ofNull(Object[].class));
 
                 b0.try_(tc -> {
                     tc.body(b1 -> {
                         // InvocationContexts.performAroundInvoke(...)
                         FieldVar methodMetadata = subclass.this_().field(metadataField);
-                        Expr result = b1.invokeStatic(MethodDescs.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE,
-                                getTarget.get(), args, methodMetadata);
+                        Expr result;
+                        if (passParams) {
+                            Expr[] performArgs = new Expr[2 + paramsCount];
+                            performArgs[0] = getTarget.get();
+                            performArgs[1] = methodMetadata;
+                            for (int i = 0; i < paramsCount; i++) {
+                                ParamVar param = params.get(i);
+                                performArgs[2 + i] = param.type().isPrimitive() ? b1.box(param) : param;
+                            }
+                            result = b1.invokeStatic(MethodDescs.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE_PARAMS
+                                    .get(paramsCount - 1), performArgs);
+                        } else {
+                            result = b1.invokeStatic(MethodDescs.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE,
+                                    getTarget.get(), args, methodMetadata);
+                        }
                         if (method.returnType().kind() == Kind.VOID) {
                             result = Const.ofVoid();
                         }
@@ -933,6 +942,17 @@ static void createInterceptedMethod(MethodInfo method, ClassCreator subclass,
         });
     }
 
+    /**
+     * The parameters of an intercepted method, as read by the forwarding function from the invocation context.
+     */
+    static Expr[] forwardedParameters(BlockCreator bc, Expr ctx, int count) {
+        Expr[] params = new Expr[count];
+        for (int i = 0; i < count; i++) {
+            params[i] = bc.invokeStatic(MethodDescs.INVOCATION_CONTEXTS_GET_PARAMETER, ctx, Const.of(i));
+        }
+        return params;
+    }
+
     static class IntegerHolder {
         int i = 1;
     }
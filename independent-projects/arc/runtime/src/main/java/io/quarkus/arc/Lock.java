@@ -18,6 +18,12 @@
  * <p>
  * The container provides a built-in interceptor for this interceptor binding. Each interceptor instance associated with a
  * contextual instance of an intercepted bean holds a {@link ReadWriteLock} instance with non-fair ordering policy.
+ * <p>
+ * If {@link #perMethod()} is {@code true}, each business method uses its own lock instead. If some parameters of a business
+ * method are annotated with {@link LockKey}, the lock is picked from a fixed set of stripes based on the values of these
+ * parameters, so that the invocations with different keys are unlikely to contend. A business method that holds the write
+ * lock of the bean still excludes all the other business methods, whatever their lock: it waits until the per-method and
+ * striped locks held by the other threads are released, and these locks are not used until it completes.
  */
 @InterceptorBinding
 @Inherited
@@ -48,6 +54,14 @@
     @Nonbinding
     TimeUnit unit() default TimeUnit.MILLISECONDS;
 
+    /**
+     * If set to {@code true}, the business method does not share the lock with the other business methods of the bean.
+     *
+     * @return {@code true} if the lock is specific to the business method
+     */
+    @Nonbinding
+    boolean perMethod() default false;
+
     public enum Type {
         /**
          * Acquires the read lock before the business method is invoked.
@@ -57,6 +71,16 @@ public enum Type {
          * Acquires the write (exclusive) lock before the business method is invoked.
          */
         WRITE,
+        /**
+         * Invokes the business method without acquiring a lock, and invokes it again with the read lock if a write lock
+         * was acquired in the meantime.
+         * <p>
+         * This avoids the contention of readers on the lock, but the business method must be free of side effects and
+         * tolerate reading inconsistent state, which is discarded.
+         *
+         * @see java.util.concurrent.locks.StampedLock#tryOptimisticRead()
+         */
+        OPTIMISTIC_READ,
         /**
          * Acquires no lock.
          * <p>
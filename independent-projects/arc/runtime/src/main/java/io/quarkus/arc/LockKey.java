@@ -0,0 +1,20 @@
+package io.quarkus.arc;
+
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Identifies a parameter of a business method annotated with {@link Lock} whose value is used to pick the lock.
+ * <p>
+ * The invocations with keys of different stripes do not contend, whereas the invocations with keys of the same stripe use
+ * the same lock. The keys are compared using {@link Object#hashCode()}. If multiple parameters are annotated, the key is
+ * composed of all of them.
+ */
+@Retention(RUNTIME)
+@Target(PARAMETER)
+public @interface LockKey {
+
+}
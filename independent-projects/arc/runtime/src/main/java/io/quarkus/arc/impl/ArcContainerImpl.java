@@ -95,6 +95,7 @@ public class ArcContainerImpl implements ArcContainer {
     private final Contexts contexts;
     private final ComputingCache<Resolvable, Set<InjectableBean<?>>> resolved;
     private final ComputingCache<String, Set<InjectableBean<?>>> beansByName;
+    private final InstanceResolutionCache instanceResolutions;
 
     private final ArrayList<ResourceReferenceProvider> resourceProviders;
 
@@ -172,6 +173,7 @@ public ArcContainerImpl(CurrentContextFactory currentContextFactory, boolean str
 
         resolved = new ComputingCache<>(this::resolve);
         beansByName = new ComputingCache<>(this::resolve);
+        instanceResolutions = new InstanceResolutionCache();
         resourceProviders = new ArrayList<>();
         for (ResourceReferenceProvider resourceProvider : ServiceLoader.load(ResourceReferenceProvider.class)) {
             resourceProviders.add(resourceProvider);
@@ -209,11 +211,11 @@ public List<RemovedBean> get() {
                 notifierOrNull(Set.of(Initialized.Literal.REQUEST, Any.Literal.INSTANCE)),
                 notifierOrNull(Set.of(BeforeDestroyed.Literal.REQUEST, Any.Literal.INSTANCE)),
                 notifierOrNull(Set.of(Destroyed.Literal.REQUEST, Any.Literal.INSTANCE)),
-                requestContextInstances != null ? requestContextInstances : ComputingCacheContextInstances::new);
+                requestContextInstances != null ? requestContextInstances : CompactContextInstances::new);
         SessionContext sessionContext = new SessionContext(this.currentContextFactory.create(SessionScoped.class),
                 notifierOrNull(Set.of(Initialized.Literal.SESSION, Any.Literal.INSTANCE)),
                 notifierOrNull(Set.of(BeforeDestroyed.Literal.SESSION, Any.Literal.INSTANCE)),
-                notifierOrNull(Set.of(Destroyed.Literal.SESSION, Any.Literal.INSTANCE)), ComputingCacheContextInstances::new);
+                notifierOrNull(Set.of(Destroyed.Literal.SESSION, Any.Literal.INSTANCE)), CompactContextInstances::new);
 
         Contexts.Builder contextsBuilder = new Contexts.Builder(
                 requestContext,
@@ -481,6 +483,7 @@ public synchronized void shutdown() {
             // Clear caches
             Reflections.clearCaches();
             resolved.clear();
+            instanceResolutions.clear();
             running.set(false);
             InterceptedStaticMethods.clear();
             if (eventMocks != null) {
@@ -964,6 +967,26 @@ Set<InjectableBean<?>> getResolvedBeans(Type requiredType, Annotation... qualifi
         return resolved.getValue(new Resolvable(requiredType, qualifiers));
     }
 
+    /**
+     * Performs typesafe resolution and resolves ambiguities. Unlike {@link #getResolvedBeans(Type, Annotation...)}, the
+     * result is sorted by priority and cached for subsequent programmatic lookups.
+     *
+     * @param requiredType
+     * @param qualifiers
+     * @return the immutable list of resolved beans, sorted by priority
+     */
+    List<InjectableBean<?>> getSortedResolvedBeans(Type requiredType, Annotation... qualifiers) {
+        return instanceResolutions.get(requiredType, qualifiers != null ? qualifiers : Instances.EMPTY_ANNOTATION_ARRAY,
+                new Supplier<List<InjectableBean<?>>>() {
+                    @Override
+                    public List<InjectableBean<?>> get() {
+                        List<InjectableBean<?>> beans = new ArrayList<>(getResolvedBeans(requiredType, qualifiers));
+                        beans.sort(Instances.PRIORITY_COMPARATOR);
+                        return List.copyOf(beans);
+                    }
+                });
+    }
+
     private boolean matches(InjectableBean<?> bean, Type requiredType, Annotation... qualifiers) {
         return matches(bean.getTypes(), bean.getQualifiers(), requiredType, qualifiers);
     }
@@ -1026,13 +1049,18 @@ public static ArcContainerImpl instance() {
     }
 
     <T> EventImpl<T> getEvent(Type eventType, Set<Annotation> eventQualifiers, InjectionPoint ip) {
+        return getEvent(eventType, eventQualifiers, ip, new EventImpl.Notifiers<>(false));
+    }
+
+    <T> EventImpl<T> getEvent(Type eventType, Set<Annotation> eventQualifiers, InjectionPoint ip,
+            EventImpl.Notifiers<T> notifiers) {
         if (eventMocks != null) {
             AtomicReference<Event<?>> mock = eventMocks.computeIfAbsent(
                     new TypeAndQualifiers(ip.getType(), ip.getQualifiers()),
                     ArcContainerImpl::newEventMockReference);
-            return new MockableEventImpl<>(eventType, eventQualifiers, ip, mock);
+            return new MockableEventImpl<>(eventType, eventQualifiers, ip, notifiers, mock);
         } else {
-            return new EventImpl<>(eventType, eventQualifiers, ip);
+            return new EventImpl<>(eventType, eventQualifiers, ip, notifiers);
         }
     }
 
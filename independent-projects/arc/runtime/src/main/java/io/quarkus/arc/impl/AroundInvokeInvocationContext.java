@@ -20,21 +20,64 @@
  * <p>
  * Note that context data and method parameters are mutable and are not guarded/synchronized. We expect them to be modified
  * before or after dispatch. If modified before and after dispatch an unpredictable behavior may occur.
+ * <p>
+ * The chain is unrolled at runtime: each interceptor receives the context of its position, which remembers where the chain
+ * continues, so that an outer interceptor may proceed several times, e.g. to retry, while an inner one may proceed after it
+ * returned. The parameters of a method with up to three parameters are kept in fields and only copied into an array if an
+ * interceptor reads or replaces them; the forwarding function reads them with {@link #getParameter(int)}.
  */
 class AroundInvokeInvocationContext extends AbstractInvocationContext {
 
     static Object perform(Object target, Object[] args, InterceptedMethodMetadata metadata) throws Exception {
-        if (metadata.chain.isEmpty()) {
-            return metadata.aroundInvokeForward.apply(target, new AroundInvokeInvocationContext(target, args, metadata));
+        return perform(new AroundInvokeInvocationContext(target, args, metadata));
+    }
+
+    static Object perform(AroundInvokeInvocationContext ctx) throws Exception {
+        InterceptedMethodMetadata metadata = ctx.metadata;
+        InterceptorInvocation[] interceptors = metadata.interceptors;
+        if (interceptors.length == 0) {
+            return metadata.aroundInvokeForward.apply(ctx.target, ctx);
         }
-        return metadata.chain.get(0).invoke(new AroundInvokeInvocationContext(target, args, metadata));
+        return interceptors[0].invoke(ctx);
     }
 
     private final InterceptedMethodMetadata metadata;
+    // the number of parameters kept in fields, -1 if they were passed as an array
+    private final int parameterCount;
+    private final Object p0;
+    private final Object p1;
+    private final Object p2;
 
     AroundInvokeInvocationContext(Object target, Object[] args, InterceptedMethodMetadata metadata) {
-        super(target, args, new ContextDataMap(metadata.bindings));
+        // the context data map is only created if an interceptor needs it
+        super(target, args, null);
+        this.metadata = metadata;
+        this.parameterCount = -1;
+        this.p0 = null;
+        this.p1 = null;
+        this.p2 = null;
+    }
+
+    AroundInvokeInvocationContext(Object target, InterceptedMethodMetadata metadata, int parameterCount, Object p0,
+            Object p1, Object p2) {
+        super(target, null, null);
+        // the array is only created if an interceptor needs it
+        this.parameters = null;
         this.metadata = metadata;
+        this.parameterCount = parameterCount;
+        this.p0 = p0;
+        this.p1 = p1;
+        this.p2 = p2;
+    }
+
+    @Override
+    public Map<String, Object> getContextData() {
+        ContextDataMap contextData = this.contextData;
+        if (contextData == null) {
+            contextData = new ContextDataMap(metadata.bindings);
+            this.contextData = contextData;
+        }
+        return contextData;
     }
 
     @Override
@@ -48,9 +91,41 @@ public Method getMethod() {
 
     @Override
     public Object[] getParameters() {
+        Object[] parameters = this.parameters;
+        if (parameters == null) {
+            switch (parameterCount) {
+                case 1:
+                    parameters = new Object[] { p0 };
+                    break;
+                case 2:
+                    parameters = new Object[] { p0, p1 };
+                    break;
+                default:
+                    parameters = new Object[] { p0, p1, p2 };
+            }
+            this.parameters = parameters;
+        }
         return parameters;
     }
 
+    /**
+     * @return the parameter at the given position, without creating the array of parameters
+     */
+    Object getParameter(int position) {
+        Object[] parameters = this.parameters;
+        if (parameters != null) {
+            return parameters[position];
+        }
+        switch (position) {
+            case 0:
+                return p0;
+            case 1:
+                return p1;
+            default:
+                return p2;
+        }
+    }
+
     @Override
     public void setParameters(Object[] params) {
         validateParameters(metadata.method, params);
@@ -64,9 +139,10 @@ public Object proceed() throws Exception {
 
     private Object proceed(int currentPosition) throws Exception {
         try {
-            if (currentPosition < metadata.chain.size()) {
+            InterceptorInvocation[] interceptors = metadata.interceptors;
+            if (currentPosition < interceptors.length) {
                 // Invoke the next interceptor in the chain
-                return metadata.chain.get(currentPosition)
+                return interceptors[currentPosition]
                         .invoke(new NextAroundInvokeInvocationContext(currentPosition + 1));
             } else {
                 // Invoke the target method
@@ -0,0 +1,202 @@
+package io.quarkus.arc.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import io.quarkus.arc.ContextInstanceHandle;
+
+/**
+ * Context instances backed by a small open-addressing table of instance handles, keyed by the identifier of the bean
+ * of each handle.
+ * <p>
+ * The size of the table depends on the number of instances that were created, not on the number of beans of the scope,
+ * which makes it suitable for short-lived contexts such as the request context. Lookups do not lock; the table is only
+ * modified under a lock. An instance is created under a lock dedicated to its bean, i.e. instances of different beans are
+ * created in parallel.
+ */
+public final class CompactContextInstances implements ContextInstances {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(ContextInstanceHandle[].class);
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // the capacity is a power of two and the table is at most half full
+    private volatile ContextInstanceHandle<?>[] table = new ContextInstanceHandle<?>[INITIAL_CAPACITY];
+    private int size;
+    // the locks of the instances being created, guarded by lock; lazily initialized
+    private Map<String, ReentrantLock> creating;
+
+    @Override
+    public ContextInstanceHandle<?> computeIfAbsent(String id, Supplier<ContextInstanceHandle<?>> supplier) {
+        for (;;) {
+            ContextInstanceHandle<?> handle = getIfPresent(id);
+            if (handle != null) {
+                return handle;
+            }
+            ReentrantLock creationLock;
+            lock.lock();
+            try {
+                handle = getIfPresent(id);
+                if (handle != null) {
+                    return handle;
+                }
+                if (creating == null) {
+                    creating = new HashMap<>();
+                }
+                creationLock = creating.computeIfAbsent(id, k -> new ReentrantLock());
+            } finally {
+                lock.unlock();
+            }
+            // The instance is created under the lock of its bean only, so that other instances can be created in parallel
+            creationLock.lock();
+            try {
+                handle = getIfPresent(id);
+                if (handle != null) {
+                    return handle;
+                }
+                if (isCreationLock(id, creationLock)) {
+                    return create(id, supplier, creationLock);
+                }
+                // the creation failed in the meantime, try again
+            } finally {
+                creationLock.unlock();
+            }
+        }
+    }
+
+    private boolean isCreationLock(String id, ReentrantLock creationLock) {
+        lock.lock();
+        try {
+            return creating != null && creating.get(id) == creationLock;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ContextInstanceHandle<?> create(String id, Supplier<ContextInstanceHandle<?>> supplier,
+            ReentrantLock creationLock) {
+        ContextInstanceHandle<?> handle = null;
+        try {
+            handle = supplier.get();
+        } finally {
+            lock.lock();
+            try {
+                if (handle != null) {
+                    ContextInstanceHandle<?>[] table = this.table;
+                    if ((size + 1) * 2 > table.length) {
+                        table = rehash(table, table.length * 2, null);
+                    }
+                    insert(table, id, handle);
+                    size++;
+                    this.table = table;
+                }
+                creating.remove(id, creationLock);
+            } finally {
+                lock.unlock();
+            }
+        }
+        return handle;
+    }
+
+    @Override
+    public ContextInstanceHandle<?> getIfPresent(String id) {
+        ContextInstanceHandle<?>[] table = this.table;
+        int mask = table.length - 1;
+        for (int i = index(id, mask);; i = (i + 1) & mask) {
+            ContextInstanceHandle<?> handle = (ContextInstanceHandle<?>) SLOT.getAcquire(table, i);
+            if (handle == null) {
+                return null;
+            }
+            if (handle.getBean().getIdentifier().equals(id)) {
+                return handle;
+            }
+        }
+    }
+
+    @Override
+    public ContextInstanceHandle<?> remove(String id) {
+        if (getIfPresent(id) == null) {
+            return null;
+        }
+        lock.lock();
+        try {
+            ContextInstanceHandle<?> removed = getIfPresent(id);
+            if (removed != null) {
+                // removals are rare, the table is rebuilt without the handle so that lookups never see a gap
+                table = rehash(table, table.length, removed);
+                size--;
+            }
+            return removed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Set<ContextInstanceHandle<?>> getAllPresent() {
+        Set<ContextInstanceHandle<?>> result = new HashSet<>();
+        for (ContextInstanceHandle<?> handle : table) {
+            if (handle != null) {
+                result.add(handle);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void removeEach(Consumer<? super ContextInstanceHandle<?>> action) {
+        ContextInstanceHandle<?>[] removed;
+        lock.lock();
+        try {
+            removed = table;
+            if (size == 0) {
+                return;
+            }
+            table = new ContextInstanceHandle<?>[INITIAL_CAPACITY];
+            size = 0;
+        } finally {
+            lock.unlock();
+        }
+        if (action != null) {
+            for (ContextInstanceHandle<?> handle : removed) {
+                if (handle != null) {
+                    action.accept(handle);
+                }
+            }
+        }
+    }
+
+    private static ContextInstanceHandle<?>[] rehash(ContextInstanceHandle<?>[] table, int capacity,
+            ContextInstanceHandle<?> skipped) {
+        ContextInstanceHandle<?>[] result = new ContextInstanceHandle<?>[capacity];
+        for (ContextInstanceHandle<?> handle : table) {
+            if (handle != null && handle != skipped) {
+                insert(result, handle.getBean().getIdentifier(), handle);
+            }
+        }
+        return result;
+    }
+
+    private static void insert(ContextInstanceHandle<?>[] table, String id, ContextInstanceHandle<?> handle) {
+        int mask = table.length - 1;
+        int i = index(id, mask);
+        while (table[i] != null) {
+            i = (i + 1) & mask;
+        }
+        SLOT.setRelease(table, i, handle);
+    }
+
+    private static int index(String id, int mask) {
+        int h = id.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
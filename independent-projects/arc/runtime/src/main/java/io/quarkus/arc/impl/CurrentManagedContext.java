@@ -101,16 +101,20 @@ public <T> T getIfActive(Contextual<T> contextual, Function<Contextual<T>, Creat
             return null;
         }
         ContextInstances contextInstances = state.contextInstances;
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) contextInstances.getIfPresent(bean.getIdentifier());
+        ContextInstanceHandle<T> instance = contextInstances != null
+                ? (ContextInstanceHandle<T>) contextInstances.getIfPresent(bean.getIdentifier())
+                : null;
         if (instance == null) {
             CreationalContext<T> creationalContext = creationalContextFun.apply(contextual);
-            return (T) contextInstances.computeIfAbsent(bean.getIdentifier(), new Supplier<ContextInstanceHandle<?>>() {
-
-                @Override
-                public ContextInstanceHandle<?> get() {
-                    return new ContextInstanceHandleImpl<>(bean, contextual.create(creationalContext), creationalContext);
-                }
-            }).get();
+            return (T) state.contextInstances().computeIfAbsent(bean.getIdentifier(),
+                    new Supplier<ContextInstanceHandle<?>>() {
+
+                        @Override
+                        public ContextInstanceHandle<?> get() {
+                            return new ContextInstanceHandleImpl<>(bean, contextual.create(creationalContext),
+                                    creationalContext);
+                        }
+                    }).get();
         }
         return instance.get();
     }
@@ -136,9 +140,12 @@ public <T> T get(Contextual<T> contextual) {
         if (state == null || !state.isValid()) {
             throw notActive();
         }
+        ContextInstances contextInstances = state.contextInstances;
+        if (contextInstances == null) {
+            return null;
+        }
         @SuppressWarnings("unchecked")
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) state.contextInstances
-                .getIfPresent(bean.getIdentifier());
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) contextInstances.getIfPresent(bean.getIdentifier());
         return instance == null ? null : instance.get();
     }
 
@@ -159,8 +166,12 @@ public void destroy(Contextual<?> contextual) {
         if (state == null || !state.isValid()) {
             throw notActive();
         }
+        ContextInstances contextInstances = state.contextInstances;
+        if (contextInstances == null) {
+            return;
+        }
         InjectableBean<?> bean = (InjectableBean<?>) contextual;
-        ContextInstanceHandle<?> instance = state.contextInstances.remove(bean.getIdentifier());
+        ContextInstanceHandle<?> instance = contextInstances.remove(bean.getIdentifier());
         if (instance != null) {
             instance.destroy();
         }
@@ -181,12 +192,16 @@ public void destroy(ContextState state) {
                 fireIfNotNull(beforeDestroyedNotifier);
             }
             if (currentState.invalidate()) {
-                currentState.contextInstances.removeEach(new Consumer<>() {
-                    @Override
-                    public void accept(ContextInstanceHandle<?> contextInstanceHandle) {
-                        contextInstanceHandle.destroy();
-                    }
-                });
+                ContextInstances contextInstances = currentState.contextInstances;
+                // nothing to destroy if no bean was created
+                if (contextInstances != null) {
+                    contextInstances.removeEach(new Consumer<>() {
+                        @Override
+                        public void accept(ContextInstanceHandle<?> contextInstanceHandle) {
+                            contextInstanceHandle.destroy();
+                        }
+                    });
+                }
                 fireIfNotNull(destroyedNotifier);
             }
         } else {
@@ -196,7 +211,7 @@ public void accept(ContextInstanceHandle<?> contextInstanceHandle) {
 
     @Override
     public CurrentContextState initializeState() {
-        CurrentContextState state = new CurrentContextState(contextInstances.get());
+        CurrentContextState state = new CurrentContextState(contextInstances);
         return state;
     }
 
@@ -241,6 +256,7 @@ public static class CurrentContextState implements ContextState {
         // they should be the very first value observable even in presence of
         // unsafe publication of this object.
         private static final VarHandle STATE_UPDATER;
+        private static final VarHandle CONTEXT_INSTANCES_UPDATER;
 
         private static final byte INVALID_MASK = 0b00000001;
         private static final byte INITIALIZED_FIRED_MASK = 0b00000010;
@@ -249,25 +265,44 @@ public static class CurrentContextState implements ContextState {
         static {
             try {
                 STATE_UPDATER = MethodHandles.lookup().findVarHandle(CurrentContextState.class, "state", byte.class);
+                CONTEXT_INSTANCES_UPDATER = MethodHandles.lookup().findVarHandle(CurrentContextState.class,
+                        "contextInstances", ContextInstances.class);
             } catch (ReflectiveOperationException e) {
                 throw new Error(e);
             }
         }
 
-        private final ContextInstances contextInstances;
+        private final Supplier<ContextInstances> contextInstancesSupplier;
+        // created when the first instance is created, most states are activated and destroyed without any
+        private volatile ContextInstances contextInstances;
         // it contains 3 states: isValid, initializedFired and beforeDestroyedFired
         private volatile byte state;
 
-        CurrentContextState(ContextInstances contextInstances) {
-            this.contextInstances = Objects.requireNonNull(contextInstances);
+        CurrentContextState(Supplier<ContextInstances> contextInstancesSupplier) {
+            this.contextInstancesSupplier = Objects.requireNonNull(contextInstancesSupplier);
         }
 
         @Override
         public Map<InjectableBean<?>, Object> getContextualInstances() {
+            ContextInstances contextInstances = this.contextInstances;
+            if (contextInstances == null) {
+                return Map.of();
+            }
             return contextInstances.getAllPresent().stream()
                     .collect(Collectors.toUnmodifiableMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
         }
 
+        ContextInstances contextInstances() {
+            ContextInstances contextInstances = this.contextInstances;
+            if (contextInstances != null) {
+                return contextInstances;
+            }
+            ContextInstances newInstances = contextInstancesSupplier.get();
+            ContextInstances witness = (ContextInstances) CONTEXT_INSTANCES_UPDATER.compareAndExchange(this, null,
+                    newInstances);
+            return witness != null ? witness : newInstances;
+        }
+
         /**
          * @return {@code true} if the state was successfully invalidated, {@code false} otherwise
          */
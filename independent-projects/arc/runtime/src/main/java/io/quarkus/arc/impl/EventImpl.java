@@ -60,18 +60,24 @@
     private final HierarchyDiscovery injectionPointTypeHierarchy;
     private final Type eventType;
     private final Set<Annotation> qualifiers;
-    private final ConcurrentMap<Class<?>, Notifier<? super T>> notifiers;
+    private final Notifiers<T> notifiers;
     private final InjectionPoint injectionPoint;
 
-    private transient volatile Notifier<? super T> lastNotifier;
-
     private static final Logger LOGGER = Logger.getLogger(EventImpl.class);
 
     EventImpl(Type eventType, Set<Annotation> qualifiers, InjectionPoint injectionPoint) {
+        this(eventType, qualifiers, injectionPoint, new Notifiers<>(false));
+    }
+
+    /**
+     *
+     * @param notifiers the notifiers shared by all events created for the same injection point
+     */
+    EventImpl(Type eventType, Set<Annotation> qualifiers, InjectionPoint injectionPoint, Notifiers<T> notifiers) {
         this.eventType = initEventType(eventType);
         this.injectionPointTypeHierarchy = new HierarchyDiscovery(this.eventType);
         this.qualifiers = Set.copyOf(qualifiers);
-        this.notifiers = new ConcurrentHashMap<>(DEFAULT_CACHE_CAPACITY);
+        this.notifiers = notifiers;
         this.injectionPoint = injectionPoint;
     }
 
@@ -98,7 +104,7 @@ public <U extends T> CompletionStage<U> fireAsync(U event, NotificationOptions o
             executor = Arc.requireContainer().getExecutorService();
         }
 
-        if (notifier.isEmpty()) {
+        if (!notifier.hasAsyncObservers()) {
             return AsyncEventDeliveryStage.completed(event, executor);
         }
 
@@ -119,11 +125,15 @@ public U get() {
     }
 
     private Notifier<? super T> getNotifier(Class<?> runtimeType) {
-        Notifier<? super T> notifier = this.lastNotifier;
-        if (notifier != null && notifier.runtimeType.equals(runtimeType)) {
+        Notifier<? super T> notifier = notifiers.last;
+        if (notifier != null && notifier.runtimeType == runtimeType) {
             return notifier;
         }
-        return this.lastNotifier = notifiers.computeIfAbsent(runtimeType,
+        if (notifiers.exactType) {
+            // the event type is final, all events have the same runtime type
+            return notifiers.last = createNotifier(runtimeType);
+        }
+        return notifiers.last = notifiers.byRuntimeType.computeIfAbsent(runtimeType,
                 new Function<>() {
                     @Override
                     public Notifier<? super T> apply(Class<?> clazz) {
@@ -251,12 +261,34 @@ private void handleExceptions(ObserverExceptionHandler handler) {
         }
     }
 
+    /**
+     * The notifiers of an injection point, which are shared by all the events created for it.
+     *
+     * @param <T>
+     */
+    static final class Notifiers<T> {
+
+        // true if the event type is a final class, in which case only the last notifier is used
+        final boolean exactType;
+        final ConcurrentMap<Class<?>, Notifier<? super T>> byRuntimeType;
+        volatile Notifier<? super T> last;
+
+        Notifiers(boolean exactType) {
+            this.exactType = exactType;
+            this.byRuntimeType = exactType ? null : new ConcurrentHashMap<>(DEFAULT_CACHE_CAPACITY);
+        }
+
+    }
+
     static class Notifier<T> {
 
         private final Class<?> runtimeType;
         private final List<ObserverMethod<? super T>> observerMethods;
+        // the observers of synchronous events, in the order of notification
+        private final ObserverMethod<? super T>[] syncObserverMethods;
         final EventMetadata eventMetadata;
         private final boolean hasTxObservers;
+        private final boolean hasAsyncObservers;
         private final boolean activateRequestContext;
 
         Notifier(Class<?> runtimeType, List<ObserverMethod<? super T>> observerMethods, EventMetadata eventMetadata) {
@@ -269,13 +301,18 @@ private void handleExceptions(ObserverExceptionHandler handler) {
             this.observerMethods = observerMethods;
             this.eventMetadata = eventMetadata;
             boolean hasTxObservers = false;
+            List<ObserverMethod<? super T>> syncObserverMethods = new ArrayList<>(observerMethods.size());
             for (var method : observerMethods) {
                 if (isTxObserver(method)) {
                     hasTxObservers = true;
-                    break;
+                }
+                if (!method.isAsync()) {
+                    syncObserverMethods.add(method);
                 }
             }
+            this.syncObserverMethods = syncObserverMethods.toArray(new ObserverMethod[0]);
             this.hasTxObservers = hasTxObservers;
+            this.hasAsyncObservers = syncObserverMethods.size() < observerMethods.size();
             this.activateRequestContext = activateRequestContext;
         }
 
@@ -285,10 +322,10 @@ void notify(T event) {
 
         @SuppressWarnings("rawtypes")
         void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
-            if (!isEmpty()) {
+            if (async ? hasAsyncObservers : syncObserverMethods.length > 0) {
 
-                Predicate<ObserverMethod<?>> predicate = async ? ObserverMethodIsAsync.INSTANCE
-                        : ObserverMethodIsNotAsync.INSTANCE;
+                // null means all the observers of synchronous events
+                Predicate<ObserverMethod<?>> predicate = async ? ObserverMethodIsAsync.INSTANCE : null;
 
                 if (!async && hasTxObservers) {
                     // Note that tx observers are never async
@@ -318,13 +355,14 @@ void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
                                 // See for instance discussions on https://github.com/eclipse-ee4j/cdi/issues/467
                                 txManager.getTransaction().registerSynchronization(sync);
                                 // registration succeeded, notify all non-tx observers synchronously
-                                predicate = predicate.and(ObserverMethodIsNotTxObserver.INSTANCE);
+                                predicate = ObserverMethodIsNotAsync.INSTANCE.and(ObserverMethodIsNotTxObserver.INSTANCE);
                             } catch (Exception e) {
                                 if (e.getCause() instanceof RollbackException
                                         || e.getCause() instanceof IllegalStateException
                                         || e.getCause() instanceof SystemException) {
                                     // registration failed, AFTER_SUCCESS OMs are accordingly to CDI spec left out
-                                    predicate = predicate.and(ObserverMethodIsNotAfterSuccessTxObserver.INSTANCE);
+                                    predicate = ObserverMethodIsNotAsync.INSTANCE
+                                            .and(ObserverMethodIsNotAfterSuccessTxObserver.INSTANCE);
                                 }
                             }
                         }
@@ -360,6 +398,16 @@ void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
         private void notifyObservers(T event, ObserverExceptionHandler exceptionHandler,
                 Predicate<ObserverMethod<?>> predicate) {
             EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
+            if (predicate == null) {
+                for (ObserverMethod<?> observerMethod : syncObserverMethods) {
+                    try {
+                        observerMethod.notify(eventContext);
+                    } catch (Throwable t) {
+                        exceptionHandler.handle(t, observerMethod, eventContext);
+                    }
+                }
+                return;
+            }
             for (ObserverMethod<?> observerMethod : observerMethods) {
                 if (predicate.test(observerMethod)) {
                     try {
@@ -375,6 +423,10 @@ boolean isEmpty() {
             return observerMethods.isEmpty();
         }
 
+        boolean hasAsyncObservers() {
+            return hasAsyncObservers;
+        }
+
         private static boolean isTxObserver(ObserverMethod<?> observer) {
             return !observer.getTransactionPhase().equals(TransactionPhase.IN_PROGRESS);
         }
@@ -19,16 +19,31 @@
     private final Type eventType;
     private final Set<Annotation> eventQualifiers;
     private final InjectionPoint injectionPoint;
+    private final EventImpl.Notifiers<T> notifiers;
 
     public EventProvider(Type eventType, Set<Annotation> eventQualifiers, InjectionPoint injectionPoint) {
+        this(eventType, eventQualifiers, injectionPoint, false);
+    }
+
+    /**
+     *
+     * @param eventType
+     * @param eventQualifiers
+     * @param injectionPoint
+     * @param exactEventType {@code true} if the event type is a final class, as determined at build time
+     */
+    public EventProvider(Type eventType, Set<Annotation> eventQualifiers, InjectionPoint injectionPoint,
+            boolean exactEventType) {
         this.eventType = eventType;
         this.eventQualifiers = eventQualifiers;
         this.injectionPoint = injectionPoint;
+        // the observers are resolved once per injection point, not per injected instance
+        this.notifiers = new EventImpl.Notifiers<>(exactEventType);
     }
 
     @Override
     public Event<T> get(CreationalContext<Event<T>> creationalContext) {
-        return ArcContainerImpl.instance().getEvent(eventType, eventQualifiers, injectionPoint);
+        return ArcContainerImpl.instance().getEvent(eventType, eventQualifiers, injectionPoint, notifiers);
     }
 
 }
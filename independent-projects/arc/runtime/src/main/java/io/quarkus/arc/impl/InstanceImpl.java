@@ -192,23 +192,30 @@ public T get() {
 
     @Override
     public InjectableInstance<T> select(Annotation... qualifiers) {
-        Set<Annotation> newQualifiers = new HashSet<>(this.requiredQualifiers);
-        Collections.addAll(newQualifiers, qualifiers);
-        return InstanceImpl.child(this, requiredType, newQualifiers);
+        return InstanceImpl.child(this, requiredType, selectQualifiers(qualifiers));
     }
 
     @Override
     public <U extends T> InjectableInstance<U> select(Class<U> subtype, Annotation... qualifiers) {
-        Set<Annotation> newQualifiers = new HashSet<>(this.requiredQualifiers);
-        Collections.addAll(newQualifiers, qualifiers);
-        return InstanceImpl.child(this, subtype, newQualifiers);
+        return InstanceImpl.child(this, subtype, selectQualifiers(qualifiers));
     }
 
     @Override
     public <U extends T> InjectableInstance<U> select(TypeLiteral<U> subtype, Annotation... qualifiers) {
+        return InstanceImpl.child(this, subtype.getType(), selectQualifiers(qualifiers));
+    }
+
+    private Set<Annotation> selectQualifiers(Annotation... qualifiers) {
+        if (qualifiers.length == 0) {
+            return requiredQualifiers;
+        }
+        if (qualifiers.length == 1 && requiredQualifiers.isEmpty()) {
+            // the typical Instance.select(qualifier)
+            return Collections.singleton(qualifiers[0]);
+        }
         Set<Annotation> newQualifiers = new HashSet<>(this.requiredQualifiers);
         Collections.addAll(newQualifiers, qualifiers);
-        return InstanceImpl.child(this, subtype.getType(), newQualifiers);
+        return newQualifiers;
     }
 
     @Override
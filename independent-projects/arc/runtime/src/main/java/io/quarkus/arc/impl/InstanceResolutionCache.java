@@ -0,0 +1,95 @@
+package io.quarkus.arc.impl;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+import io.quarkus.arc.InjectableBean;
+
+/**
+ * A bounded lock-free cache of the beans resolved by the programmatic lookup, i.e. for {@code Instance.select(...)}.
+ * <p>
+ * The cache is direct-mapped: an entry is stored in the slot given by its hash and simply replaces the previous entry of
+ * the slot. A lookup that does not find its entry resolves the beans again, so the result is always correct and the number
+ * of entries never exceeds the number of slots.
+ */
+final class InstanceResolutionCache {
+
+    // a power of two
+    private static final int SLOTS = 256;
+
+    private final AtomicReferenceArray<Entry> entries = new AtomicReferenceArray<>(SLOTS);
+
+    List<InjectableBean<?>> get(Type requiredType, Annotation[] qualifiers, Supplier<List<InjectableBean<?>>> resolver) {
+        int hash = hash(requiredType, qualifiers);
+        int slot = (hash ^ (hash >>> 16)) & (SLOTS - 1);
+        Entry entry = entries.get(slot);
+        if (entry != null && entry.matches(hash, requiredType, qualifiers)) {
+            return entry.beans;
+        }
+        List<InjectableBean<?>> beans = resolver.get();
+        entries.set(slot, new Entry(hash, requiredType, qualifiers.clone(), beans));
+        return beans;
+    }
+
+    void clear() {
+        for (int i = 0; i < SLOTS; i++) {
+            entries.set(i, null);
+        }
+    }
+
+    private static int hash(Type requiredType, Annotation[] qualifiers) {
+        int hash = requiredType.hashCode();
+        for (Annotation qualifier : qualifiers) {
+            // the order of qualifiers does not matter
+            hash += qualifier.hashCode();
+        }
+        return hash;
+    }
+
+    private static final class Entry {
+
+        final int hash;
+        final Type requiredType;
+        final Annotation[] qualifiers;
+        final List<InjectableBean<?>> beans;
+
+        Entry(int hash, Type requiredType, Annotation[] qualifiers, List<InjectableBean<?>> beans) {
+            this.hash = hash;
+            this.requiredType = requiredType;
+            this.qualifiers = qualifiers;
+            this.beans = beans;
+        }
+
+        boolean matches(int hash, Type requiredType, Annotation[] qualifiers) {
+            if (this.hash != hash || this.qualifiers.length != qualifiers.length
+                    || (this.requiredType != requiredType && !this.requiredType.equals(requiredType))) {
+                return false;
+            }
+            for (Annotation qualifier : qualifiers) {
+                if (!contains(qualifier)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean contains(Annotation qualifier) {
+            for (Annotation q : qualifiers) {
+                if (q == qualifier) {
+                    return true;
+                }
+            }
+            for (Annotation q : qualifiers) {
+                if (q.equals(qualifier)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
+}
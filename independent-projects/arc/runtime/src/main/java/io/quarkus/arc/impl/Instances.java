@@ -37,15 +37,26 @@ public static List<InjectableBean<?>> resolveBeans(Type requiredType, Set<Annota
     }
 
     public static List<InjectableBean<?>> resolveBeans(Type requiredType, Annotation... requiredQualifiers) {
-        Set<InjectableBean<?>> resolvedBeans = ArcContainerImpl.instance()
-                .getResolvedBeans(requiredType, requiredQualifiers);
-        List<InjectableBean<?>> nonSuppressed = new ArrayList<>(resolvedBeans.size());
-        for (InjectableBean<?> injectableBean : resolvedBeans) {
+        List<InjectableBean<?>> resolvedBeans = ArcContainerImpl.instance()
+                .getSortedResolvedBeans(requiredType, requiredQualifiers);
+        // suppression is evaluated on every lookup, the sorted list is only copied if a bean is suppressed
+        for (int i = 0; i < resolvedBeans.size(); i++) {
+            if (resolvedBeans.get(i).isSuppressed()) {
+                return removeSuppressed(resolvedBeans, i);
+            }
+        }
+        return resolvedBeans;
+    }
+
+    private static List<InjectableBean<?>> removeSuppressed(List<InjectableBean<?>> resolvedBeans, int firstSuppressed) {
+        List<InjectableBean<?>> nonSuppressed = new ArrayList<>(resolvedBeans.size() - 1);
+        nonSuppressed.addAll(resolvedBeans.subList(0, firstSuppressed));
+        for (int i = firstSuppressed + 1; i < resolvedBeans.size(); i++) {
+            InjectableBean<?> injectableBean = resolvedBeans.get(i);
             if (!injectableBean.isSuppressed()) {
                 nonSuppressed.add(injectableBean);
             }
         }
-        nonSuppressed.sort(PRIORITY_COMPARATOR);
         return List.copyOf(nonSuppressed);
     }
 
@@ -17,6 +17,8 @@ public class InterceptedMethodMetadata {
     public final Method method;
     public final Set<Annotation> bindings;
     public final BiFunction<Object, InvocationContext, Object> aroundInvokeForward;
+    // the chain as an array, so that walking it does not involve the List interface
+    final InterceptorInvocation[] interceptors;
 
     public InterceptedMethodMetadata(List<InterceptorInvocation> chain, Method method, Set<Annotation> bindings,
             BiFunction<Object, InvocationContext, Object> aroundInvokeForward) {
@@ -24,6 +26,7 @@ public InterceptedMethodMetadata(List<InterceptorInvocation> chain, Method metho
         this.method = method;
         this.bindings = bindings;
         this.aroundInvokeForward = aroundInvokeForward;
+        this.interceptors = chain.toArray(new InterceptorInvocation[0]);
     }
 
 }
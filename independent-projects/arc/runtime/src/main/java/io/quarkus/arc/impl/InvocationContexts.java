@@ -27,6 +27,68 @@ public static Object performAroundInvoke(Object target, Object[] args, Intercept
         return AroundInvokeInvocationContext.perform(target, args, metadata);
     }
 
+    /**
+     * A variant of {@link #performAroundInvoke(Object, Object[], InterceptedMethodMetadata)} for a method with one
+     * parameter, which does not create the array of parameters unless an interceptor needs it.
+     *
+     * @param target
+     * @param metadata
+     * @param p0
+     * @return the return value
+     * @throws Exception
+     */
+    public static Object performAroundInvoke(Object target, InterceptedMethodMetadata metadata, Object p0)
+            throws Exception {
+        return AroundInvokeInvocationContext.perform(new AroundInvokeInvocationContext(target, metadata, 1, p0, null, null));
+    }
+
+    /**
+     * A variant of {@link #performAroundInvoke(Object, Object[], InterceptedMethodMetadata)} for a method with two
+     * parameters, which does not create the array of parameters unless an interceptor needs it.
+     *
+     * @param target
+     * @param metadata
+     * @param p0
+     * @param p1
+     * @return the return value
+     * @throws Exception
+     */
+    public static Object performAroundInvoke(Object target, InterceptedMethodMetadata metadata, Object p0, Object p1)
+            throws Exception {
+        return AroundInvokeInvocationContext.perform(new AroundInvokeInvocationContext(target, metadata, 2, p0, p1, null));
+    }
+
+    /**
+     * A variant of {@link #performAroundInvoke(Object, Object[], InterceptedMethodMetadata)} for a method with three
+     * parameters, which does not create the array of parameters unless an interceptor needs it.
+     *
+     * @param target
+     * @param metadata
+     * @param p0
+     * @param p1
+     * @param p2
+     * @return the return value
+     * @throws Exception
+     */
+    public static Object performAroundInvoke(Object target, InterceptedMethodMetadata metadata, Object p0, Object p1,
+            Object p2) throws Exception {
+        return AroundInvokeInvocationContext.perform(new AroundInvokeInvocationContext(target, metadata, 3, p0, p1, p2));
+    }
+
+    /**
+     * Used by the forwarding functions of intercepted methods.
+     *
+     * @param ctx
+     * @param position
+     * @return the parameter at the given position
+     */
+    public static Object getParameter(InvocationContext ctx, int position) {
+        if (ctx instanceof AroundInvokeInvocationContext aroundInvoke) {
+            return aroundInvoke.getParameter(position);
+        }
+        return ctx.getParameters()[position];
+    }
+
     /**
      *
      * @param delegate
@@ -2,8 +2,19 @@
 
 import static jakarta.interceptor.Interceptor.Priority.PLATFORM_BEFORE;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
 
 import jakarta.annotation.Priority;
 import jakarta.interceptor.AroundInvoke;
@@ -19,88 +30,279 @@
 @Priority(PLATFORM_BEFORE)
 public class LockInterceptor {
 
-    private final ReentrantReadWriteLock rwl = new ReentrantReadWriteLock();
+    // a power of two
+    static final int KEY_STRIPES = Math.min(64,
+            Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) * 2);
 
-    // This lock is used exclusively to synchronize the block where we release all read locks and aquire the write lock
-    private final ReentrantLock rl = new ReentrantLock();
+    private static final long MIN_PARK = TimeUnit.MICROSECONDS.toNanos(10);
+    private static final long MAX_PARK = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Locks locks = new Locks();
+
+    // created when a business method with @Lock(perMethod = true) is invoked for the first time
+    private volatile Map<Method, Locks> methodLocks;
 
     @AroundInvoke
     Object lock(ArcInvocationContext ctx) throws Exception {
         Lock lock = getLock(ctx);
+        if (lock.value() == Lock.Type.NONE) {
+            return ctx.proceed();
+        }
+        Locks locks = getLocks(lock, ctx);
+        // A per-method or striped lock is nested in the lock of the bean, so that the business methods that hold the
+        // write lock of the bean still exclude all the other ones
+        Locks outer = locks != this.locks ? this.locks : null;
         switch (lock.value()) {
             case WRITE:
-                return writeLock(lock, ctx);
+                return outer != null ? nested(outer, locks, lock, ctx, true) : writeLock(locks, lock, ctx);
             case READ:
-                return readLock(lock, ctx);
-            case NONE:
-                return ctx.proceed();
+                return outer != null ? nested(outer, locks, lock, ctx, false) : readLock(locks, lock, ctx);
+            case OPTIMISTIC_READ:
+                return optimisticRead(outer, locks, lock, ctx);
             default:
                 throw new LockException("Unsupported @Lock type found on business method " + ctx.getMethod());
         }
     }
 
-    private Object writeLock(Lock lock, InvocationContext ctx) throws Exception {
-        long time = lock.time();
-        int readHoldCount = rwl.getReadHoldCount();
-        boolean locked = false;
-
-        try {
-            if (readHoldCount > 0) {
-                rl.lock();
+    /**
+     * The nested lock does not touch the lock of the bean, which would make all the business methods contend on the same
+     * reader count. Instead, the write lock of the bean is checked once the nested lock is acquired, and a business method
+     * that acquires the write lock of the bean waits until the nested locks acquired before are released.
+     */
+    private Object nested(Locks outer, Locks locks, Lock lock, InvocationContext ctx, boolean write) throws Exception {
+        for (;;) {
+            int readHoldCount = 0;
+            if (write) {
+                readHoldCount = locks.acquireWrite(lock, ctx, null);
+            } else {
+                acquireRead(locks, lock, ctx);
             }
-            try {
-                if (readHoldCount > 0) {
-                    // Release all read locks hold by the current thread before acquiring the write lock
-                    for (int i = 0; i < readHoldCount; i++) {
-                        rwl.readLock().unlock();
+            if (!outer.sl.isWriteLocked() || admitted(outer, locks, write, readHoldCount)) {
+                long stamp = 0L;
+                try {
+                    if (write && locks.rwl.getWriteHoldCount() == 1) {
+                        // invalidate the optimistic reads, the write lock is not reentrant
+                        stamp = locks.sl.writeLock();
                     }
-                }
-                if (time > 0) {
-                    locked = rwl.writeLock().tryLock(time, lock.unit());
-                    if (!locked) {
-                        throw new LockException("Write lock not acquired in " + lock.unit().toMillis(time) + " ms");
+                    return ctx.proceed();
+                } finally {
+                    if (stamp != 0L) {
+                        locks.sl.unlockWrite(stamp);
                     }
-                } else {
-                    rwl.writeLock().lock();
-                    locked = true;
-                }
-            } finally {
-                if (readHoldCount > 0) {
-                    rl.unlock();
+                    release(locks, write, readHoldCount);
                 }
             }
+            release(locks, write, readHoldCount);
+            // wait until the business method that holds the write lock of the bean completes
+            acquireRead(outer, lock, ctx);
+            outer.rwl.readLock().unlock();
+        }
+    }
+
+    /**
+     * The write lock of the bean is held: the nested lock may only be used by the writer itself, or by a thread that already
+     * holds a nested lock, which the writer waits for.
+     */
+    private boolean admitted(Locks outer, Locks locks, boolean write, int readHoldCount) {
+        if (outer.rwl.isWriteLockedByCurrentThread()) {
+            return true;
+        }
+        ReentrantReadWriteLock rwl = locks.rwl;
+        if (write ? rwl.getWriteHoldCount() > 1 || readHoldCount > 0
+                : rwl.getReadHoldCount() > 1 || rwl.isWriteLockedByCurrentThread()) {
+            return true;
+        }
+        return anyNested(n -> n != locks && n.holds() > 0);
+    }
+
+    private static void release(Locks locks, boolean write, int readHoldCount) {
+        if (write) {
+            releaseWrite(locks, readHoldCount);
+        } else {
+            locks.rwl.readLock().unlock();
+        }
+    }
+
+    private Object writeLock(Locks locks, Lock lock, InvocationContext ctx) throws Exception {
+        int readHoldCount = locks.acquireWrite(lock, ctx, null);
+        long stamp = 0L;
+        try {
+            if (locks.rwl.getWriteHoldCount() == 1) {
+                // invalidate the optimistic reads, the write lock is not reentrant
+                stamp = locks.sl.writeLock();
+                // the nested locks acquired from now on see the write lock
+                awaitNested(lock, ctx);
+            }
             return ctx.proceed();
         } finally {
-            if (locked) {
-                if (readHoldCount > 0) {
-                    // Re-aqcquire the read locks
-                    for (int i = 0; i < readHoldCount; i++) {
-                        rwl.readLock().lock();
-                    }
-                }
-                rwl.writeLock().unlock();
+            if (stamp != 0L) {
+                locks.sl.unlockWrite(stamp);
             }
+            releaseWrite(locks, readHoldCount);
+        }
+    }
+
+    private static void releaseWrite(Locks locks, int readHoldCount) {
+        ReentrantReadWriteLock rwl = locks.rwl;
+        // Re-aqcquire the read locks
+        for (int i = 0; i < readHoldCount; i++) {
+            rwl.readLock().lock();
         }
+        rwl.writeLock().unlock();
     }
 
-    private Object readLock(Lock lock, InvocationContext ctx) throws Exception {
-        boolean locked = false;
+    private Object readLock(Locks locks, Lock lock, InvocationContext ctx) throws Exception {
+        acquireRead(locks, lock, ctx);
+        try {
+            return ctx.proceed();
+        } finally {
+            locks.rwl.readLock().unlock();
+        }
+    }
+
+    private void acquireRead(Locks locks, Lock lock, InvocationContext ctx) throws InterruptedException {
+        ReentrantReadWriteLock rwl = locks.rwl;
         long time = lock.time();
+        // do not barge in front of a waiting writer
+        if (!rwl.hasQueuedThreads() && rwl.readLock().tryLock()) {
+            return;
+        }
+        boolean yielded = locks == this.locks && yieldNested(1);
         try {
             if (time > 0) {
-                locked = rwl.readLock().tryLock(time, lock.unit());
-                if (!locked) {
+                if (!tryLockContended(rwl.readLock(), time, lock.unit(), ctx)) {
                     throw new LockException("Read lock not acquired in " + lock.unit().toMillis(time) + " ms");
                 }
             } else {
-                rwl.readLock().lock();
-                locked = true;
+                lockContended(rwl.readLock(), ctx);
             }
-            return ctx.proceed();
         } finally {
-            if (locked) {
-                rwl.readLock().unlock();
+            if (yielded) {
+                yieldNested(-1);
+            }
+        }
+    }
+
+    /**
+     * Waits until the nested locks are released by the other threads, the write lock of the bean is held.
+     */
+    private void awaitNested(Lock lock, InvocationContext ctx) throws InterruptedException {
+        if (!anyNested(Locks::busy)) {
+            return;
+        }
+        LockStatistics statistics = LockStatistics.of(ctx.getMethod());
+        statistics.contended.increment();
+        statistics.waiting.increment();
+        long start = System.nanoTime();
+        long timeout = lock.time() > 0 ? lock.unit().toNanos(lock.time()) : -1L;
+        long park = MIN_PARK;
+        try {
+            while (anyNested(Locks::busy)) {
+                if (timeout >= 0 && System.nanoTime() - start > timeout) {
+                    throw new LockException("Write lock not acquired in " + lock.unit().toMillis(lock.time()) + " ms");
+                }
+                LockSupport.parkNanos(this, park);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                park = Math.min(park * 2, MAX_PARK);
+            }
+        } finally {
+            statistics.waitTime.add(System.nanoTime() - start);
+            statistics.waiting.decrement();
+        }
+    }
+
+    /**
+     * A thread that holds nested locks and waits for the lock of the bean lets a writer of the bean proceed, otherwise they
+     * would wait for each other.
+     *
+     * @param delta {@code 1} before waiting, {@code -1} after
+     * @return {@code true} if the current thread holds nested locks
+     */
+    private boolean yieldNested(int delta) {
+        int[] yielded = new int[1];
+        anyNested(n -> {
+            int holds = n.holds();
+            if (holds > 0) {
+                n.yielded.addAndGet(delta * holds);
+                yielded[0] += holds;
+            }
+            return false;
+        });
+        return yielded[0] > 0;
+    }
+
+    private boolean anyNested(Predicate<Locks> predicate) {
+        if (locks.anyStripe(predicate)) {
+            return true;
+        }
+        Map<Method, Locks> methodLocks = this.methodLocks;
+        if (methodLocks != null) {
+            for (Locks nested : methodLocks.values()) {
+                if (predicate.test(nested) || nested.anyStripe(predicate)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param outer the locks of the bean if the locks are per-method or striped, {@code null} otherwise
+     */
+    private Object optimisticRead(Locks outer, Locks locks, Lock lock, InvocationContext ctx) throws Exception {
+        long stamp = locks.sl.tryOptimisticRead();
+        // a write of the bean invalidates the optimistic reads of the nested locks too
+        long outerStamp = outer != null ? outer.sl.tryOptimisticRead() : 0L;
+        if (stamp != 0L && (outer == null || outerStamp != 0L)) {
+            Object result;
+            try {
+                result = ctx.proceed();
+            } catch (Exception e) {
+                if (validate(outer, outerStamp, locks, stamp)) {
+                    throw e;
+                }
+                // the exception may be caused by a concurrent write
+                LockStatistics.of(ctx.getMethod()).optimisticReadFailures.increment();
+                return outer != null ? nested(outer, locks, lock, ctx, false) : readLock(locks, lock, ctx);
+            }
+            if (validate(outer, outerStamp, locks, stamp)) {
+                return result;
             }
+            LockStatistics.of(ctx.getMethod()).optimisticReadFailures.increment();
+        }
+        return outer != null ? nested(outer, locks, lock, ctx, false) : readLock(locks, lock, ctx);
+    }
+
+    private static boolean validate(Locks outer, long outerStamp, Locks locks, long stamp) {
+        return locks.sl.validate(stamp) && (outer == null || outer.sl.validate(outerStamp));
+    }
+
+    private static boolean tryLockContended(java.util.concurrent.locks.Lock lock, long time, TimeUnit unit,
+            InvocationContext ctx) throws InterruptedException {
+        LockStatistics statistics = LockStatistics.of(ctx.getMethod());
+        statistics.contended.increment();
+        statistics.waiting.increment();
+        long start = System.nanoTime();
+        try {
+            return lock.tryLock(time, unit);
+        } finally {
+            statistics.waitTime.add(System.nanoTime() - start);
+            statistics.waiting.decrement();
+        }
+    }
+
+    private static void lockContended(java.util.concurrent.locks.Lock lock, InvocationContext ctx) {
+        LockStatistics statistics = LockStatistics.of(ctx.getMethod());
+        statistics.contended.increment();
+        statistics.waiting.increment();
+        long start = System.nanoTime();
+        try {
+            lock.lock();
+        } finally {
+            statistics.waitTime.add(System.nanoTime() - start);
+            statistics.waiting.decrement();
         }
     }
 
@@ -113,4 +315,164 @@ Lock getLock(ArcInvocationContext ctx) {
         return lock;
     }
 
+    private Locks getLocks(Lock lock, ArcInvocationContext ctx) {
+        Locks locks = lock.perMethod() ? methodLocks(ctx.getMethod()) : this.locks;
+        LockKeyParameterPositions keyPositions = ctx.findIterceptorBinding(LockKeyParameterPositions.class);
+        if (keyPositions != null) {
+            locks = locks.stripe(ctx.getParameters(), keyPositions.value());
+        }
+        return locks;
+    }
+
+    private Locks methodLocks(Method method) {
+        Map<Method, Locks> methodLocks = this.methodLocks;
+        if (methodLocks == null) {
+            synchronized (this) {
+                methodLocks = this.methodLocks;
+                if (methodLocks == null) {
+                    methodLocks = new ConcurrentHashMap<>();
+                    this.methodLocks = methodLocks;
+                }
+            }
+        }
+        Locks locks = methodLocks.get(method);
+        if (locks == null) {
+            locks = methodLocks.computeIfAbsent(method, m -> new Locks());
+        }
+        return locks;
+    }
+
+    static final class Locks {
+
+        private static final VarHandle STRIPES;
+
+        static {
+            try {
+                STRIPES = MethodHandles.lookup().findVarHandle(Locks.class, "stripes", Locks[].class);
+            } catch (ReflectiveOperationException e) {
+                throw new Error(e);
+            }
+        }
+
+        final ReentrantReadWriteLock rwl = new ReentrantReadWriteLock();
+
+        // This lock is used exclusively to synchronize the block where we release all read locks and aquire the write lock
+        final ReentrantLock rl = new ReentrantLock();
+
+        // Acquired by the outermost write, so that optimistic reads can detect it
+        final StampedLock sl = new StampedLock();
+
+        // The holds of the threads that wait for the lock of the bean, which a writer of the bean does not wait for
+        final AtomicInteger yielded = new AtomicInteger();
+
+        // created when a business method with a lock key is invoked for the first time
+        private volatile Locks[] stripes;
+
+        Locks stripe(Object[] parameters, short[] keyPositions) {
+            int hash;
+            if (keyPositions.length == 1) {
+                hash = Objects.hashCode(parameters[keyPositions[0]]);
+            } else {
+                hash = 1;
+                for (short position : keyPositions) {
+                    hash = 31 * hash + Objects.hashCode(parameters[position]);
+                }
+            }
+            Locks[] stripes = this.stripes;
+            if (stripes == null) {
+                Locks[] newStripes = new Locks[KEY_STRIPES];
+                for (int i = 0; i < newStripes.length; i++) {
+                    newStripes[i] = new Locks();
+                }
+                Locks[] witness = (Locks[]) STRIPES.compareAndExchange(this, null, newStripes);
+                stripes = witness != null ? witness : newStripes;
+            }
+            return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+        }
+
+        /**
+         * Releases the read locks held by the current thread and acquires the write lock.
+         *
+         * @param interceptor the interceptor of the bean if these are its locks, {@code null} for nested locks
+         * @return the number of read locks to re-acquire when the write lock is released
+         */
+        int acquireWrite(Lock lock, InvocationContext ctx, LockInterceptor interceptor) throws InterruptedException {
+            long time = lock.time();
+            int readHoldCount = rwl.getReadHoldCount();
+            boolean locked = false;
+
+            if (readHoldCount > 0) {
+                rl.lock();
+            }
+            try {
+                // Release all read locks hold by the current thread before acquiring the write lock
+                for (int i = 0; i < readHoldCount; i++) {
+                    rwl.readLock().unlock();
+                }
+                if (rwl.writeLock().tryLock()) {
+                    locked = true;
+                    return readHoldCount;
+                }
+                boolean yielded = interceptor != null && interceptor.yieldNested(1);
+                try {
+                    if (time > 0) {
+                        locked = tryLockContended(rwl.writeLock(), time, lock.unit(), ctx);
+                        if (!locked) {
+                            throw new LockException("Write lock not acquired in " + lock.unit().toMillis(time) + " ms");
+                        }
+                    } else {
+                        lockContended(rwl.writeLock(), ctx);
+                        locked = true;
+                    }
+                } finally {
+                    if (yielded) {
+                        interceptor.yieldNested(-1);
+                    }
+                }
+                return readHoldCount;
+            } finally {
+                if (readHoldCount > 0) {
+                    if (!locked) {
+                        for (int i = 0; i < readHoldCount; i++) {
+                            rwl.readLock().lock();
+                        }
+                    }
+                    rl.unlock();
+                }
+            }
+        }
+
+        boolean anyStripe(Predicate<Locks> predicate) {
+            Locks[] stripes = this.stripes;
+            if (stripes != null) {
+                for (Locks stripe : stripes) {
+                    if (predicate.test(stripe)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        /**
+         * @return the number of read and write locks held by the current thread
+         */
+        int holds() {
+            return rwl.getReadHoldCount() + (rwl.isWriteLockedByCurrentThread() ? 1 : 0);
+        }
+
+        /**
+         * @return {@code true} if the lock is held by another thread, or about to be acquired by a thread that released
+         *         its read locks
+         */
+        boolean busy() {
+            int others = rwl.isWriteLocked() && !rwl.isWriteLockedByCurrentThread() ? 1 : 0;
+            int readLockCount = rwl.getReadLockCount();
+            if (readLockCount > 0) {
+                others += readLockCount - rwl.getReadHoldCount();
+            }
+            return others > yielded.get() || rl.isLocked() && !rl.isHeldByCurrentThread();
+        }
+    }
+
 }
@@ -0,0 +1,24 @@
+package io.quarkus.arc.impl;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.InterceptorBinding;
+
+/**
+ * This interceptor binding is added at build time on a method if at least one of its parameters is annotated with
+ * {@link io.quarkus.arc.LockKey}, so that the {@link LockInterceptor} does not need to find these parameters at runtime.
+ */
+@InterceptorBinding
+@Retention(RUNTIME)
+@Target({ TYPE, METHOD })
+public @interface LockKeyParameterPositions {
+
+    @Nonbinding
+    short[] value() default {};
+}
@@ -0,0 +1,106 @@
+package io.quarkus.arc.impl;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * The contention of the {@link io.quarkus.arc.Lock} locks of a business method.
+ * <p>
+ * Only the lock acquisitions that have to wait and the optimistic reads that fail are recorded. The statistics of a
+ * business method are created the first time it happens.
+ */
+public final class LockStatistics {
+
+    private static final Map<Method, LockStatistics> STATISTICS = new ConcurrentHashMap<>();
+    private static final List<Consumer<LockStatistics>> LISTENERS = new CopyOnWriteArrayList<>();
+
+    private final Method method;
+    final LongAdder contended = new LongAdder();
+    final LongAdder waitTime = new LongAdder();
+    final LongAdder waiting = new LongAdder();
+    final LongAdder optimisticReadFailures = new LongAdder();
+
+    private LockStatistics(Method method) {
+        this.method = method;
+    }
+
+    static LockStatistics of(Method method) {
+        LockStatistics statistics = STATISTICS.get(method);
+        if (statistics == null) {
+            synchronized (LockStatistics.class) {
+                statistics = STATISTICS.get(method);
+                if (statistics == null) {
+                    statistics = new LockStatistics(method);
+                    STATISTICS.put(method, statistics);
+                    for (Consumer<LockStatistics> listener : LISTENERS) {
+                        listener.accept(statistics);
+                    }
+                }
+            }
+        }
+        return statistics;
+    }
+
+    /**
+     * Passes the statistics of every business method to the given listener, the existing ones first and then the ones
+     * created later.
+     *
+     * @param listener
+     * @return a handle that unregisters the listener when it is closed
+     */
+    public static AutoCloseable observe(Consumer<LockStatistics> listener) {
+        synchronized (LockStatistics.class) {
+            for (LockStatistics statistics : STATISTICS.values()) {
+                listener.accept(statistics);
+            }
+            LISTENERS.add(listener);
+        }
+        return new AutoCloseable() {
+            @Override
+            public void close() {
+                LISTENERS.remove(listener);
+            }
+        };
+    }
+
+    /**
+     * @return the business method
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * @return the number of lock acquisitions that had to wait
+     */
+    public long getContendedAcquisitions() {
+        return contended.sum();
+    }
+
+    /**
+     * @return the total time spent waiting for the lock in nanoseconds
+     */
+    public long getWaitTime() {
+        return waitTime.sum();
+    }
+
+    /**
+     * @return the number of threads currently waiting for the lock
+     */
+    public long getQueueLength() {
+        return waiting.sum();
+    }
+
+    /**
+     * @return the number of optimistic reads that had to be repeated with the read lock
+     */
+    public long getOptimisticReadFailures() {
+        return optimisticReadFailures.sum();
+    }
+
+}
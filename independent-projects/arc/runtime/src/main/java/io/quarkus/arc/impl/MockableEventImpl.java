@@ -15,9 +15,9 @@
 
     private final AtomicReference<Event<?>> mock;
 
-    MockableEventImpl(Type eventType, Set<Annotation> qualifiers, InjectionPoint injectionPoint,
+    MockableEventImpl(Type eventType, Set<Annotation> qualifiers, InjectionPoint injectionPoint, Notifiers<T> notifiers,
             AtomicReference<Event<?>> mock) {
-        super(eventType, qualifiers, injectionPoint);
+        super(eventType, qualifiers, injectionPoint, notifiers);
         this.mock = mock;
     }
 
@@ -0,0 +1,139 @@
+package io.quarkus.arc.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.arc.ContextInstanceHandle;
+import io.quarkus.arc.InjectableBean;
+
+public class CompactContextInstancesTest {
+
+    @Test
+    public void testComputeAndGet() {
+        CompactContextInstances instances = new CompactContextInstances();
+        assertNull(instances.getIfPresent("1"));
+        List<ContextInstanceHandle<?>> handles = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            ContextInstanceHandle<?> handle = handle(String.valueOf(i));
+            assertSame(handle, instances.computeIfAbsent(String.valueOf(i), () -> handle));
+            handles.add(handle);
+        }
+        for (int i = 0; i < 100; i++) {
+            ContextInstanceHandle<?> handle = handles.get(i);
+            assertSame(handle, instances.getIfPresent(String.valueOf(i)));
+            assertSame(handle, instances.computeIfAbsent(String.valueOf(i), () -> {
+                throw new AssertionError();
+            }));
+        }
+        assertNull(instances.getIfPresent("100"));
+        assertEquals(100, instances.getAllPresent().size());
+    }
+
+    @Test
+    public void testRemove() {
+        CompactContextInstances instances = new CompactContextInstances();
+        for (int i = 0; i < 10; i++) {
+            ContextInstanceHandle<?> handle = handle(String.valueOf(i));
+            instances.computeIfAbsent(String.valueOf(i), () -> handle);
+        }
+        assertEquals("5", instances.remove("5").getBean().getIdentifier());
+        assertNull(instances.remove("5"));
+        assertNull(instances.getIfPresent("5"));
+        for (int i = 0; i < 10; i++) {
+            if (i != 5) {
+                assertEquals(String.valueOf(i), instances.getIfPresent(String.valueOf(i)).getBean().getIdentifier());
+            }
+        }
+        List<ContextInstanceHandle<?>> removed = new ArrayList<>();
+        instances.removeEach(removed::add);
+        assertEquals(9, removed.size());
+        assertTrue(instances.getAllPresent().isEmpty());
+        assertNull(instances.getIfPresent("1"));
+    }
+
+    @Test
+    public void testConcurrentCreation() throws Exception {
+        CompactContextInstances instances = new CompactContextInstances();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            // the same instance is created once
+            AtomicInteger created = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<ContextInstanceHandle<?>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return instances.computeIfAbsent("1", () -> {
+                        created.incrementAndGet();
+                        return handle("1");
+                    });
+                }));
+            }
+            start.countDown();
+            ContextInstanceHandle<?> first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<ContextInstanceHandle<?>> result : results) {
+                assertSame(first, result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, created.get());
+
+            // an instance of another bean can be created while the creation of an instance is in progress
+            CountDownLatch creating = new CountDownLatch(1);
+            CountDownLatch otherCreated = new CountDownLatch(1);
+            Future<Boolean> slow = executor.submit(() -> instances.computeIfAbsent("2", () -> {
+                creating.countDown();
+                try {
+                    return otherCreated.await(5, TimeUnit.SECONDS) ? handle("2") : null;
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }) != null);
+            assertTrue(creating.await(5, TimeUnit.SECONDS));
+            instances.computeIfAbsent("3", () -> {
+                otherCreated.countDown();
+                return handle("3");
+            });
+            assertTrue(slow.get(5, TimeUnit.SECONDS));
+            assertEquals(3, instances.getAllPresent().size());
+
+            // a failed creation does not prevent the next one
+            assertThrows(IllegalStateException.class, () -> instances.computeIfAbsent("4", () -> {
+                throw new IllegalStateException();
+            }));
+            assertEquals("4", instances.computeIfAbsent("4", () -> handle("4")).getBean().getIdentifier());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ContextInstanceHandle<?> handle(String id) {
+        InjectableBean<?> bean = (InjectableBean<?>) Proxy.newProxyInstance(CompactContextInstancesTest.class.getClassLoader(),
+                new Class<?>[] { InjectableBean.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getIdentifier":
+                            return id;
+                        case "hashCode":
+                            return id.hashCode();
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+        return new ContextInstanceHandleImpl<>((InjectableBean<Object>) bean, new Object(), null);
+    }
+}
@@ -0,0 +1,81 @@
+package io.quarkus.arc.test.event.fire;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.ObservesAsync;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class FinalEventTypeTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Producer.class, Observers.class);
+
+    @Test
+    public void testFire() throws Exception {
+        Observers observers = Arc.container().instance(Observers.class).get();
+        // each dependent instance has its own Event, the observers are resolved once per injection point
+        for (int i = 0; i < 3; i++) {
+            Arc.container().instance(Producer.class).get().event.fire(new Ping(i));
+        }
+        assertEquals(List.of("first:0", "second:0", "first:1", "second:1", "first:2", "second:2"), observers.events);
+
+        observers.events.clear();
+        Ping ping = new Ping(3);
+        assertSame(ping, Arc.container().instance(Producer.class).get().event.fireAsync(ping).toCompletableFuture()
+                .get(5, TimeUnit.SECONDS));
+        assertEquals(List.of("async:3"), observers.events);
+    }
+
+    @Dependent
+    static class Producer {
+
+        @Inject
+        Event<Ping> event;
+
+    }
+
+    @Singleton
+    static class Observers {
+
+        final List<String> events = new CopyOnWriteArrayList<>();
+
+        void second(@Observes @Priority(2) Ping ping) {
+            events.add("second:" + ping.value);
+        }
+
+        void first(@Observes @Priority(1) Ping ping) {
+            events.add("first:" + ping.value);
+        }
+
+        void async(@ObservesAsync Ping ping) {
+            events.add("async:" + ping.value);
+        }
+
+    }
+
+    static final class Ping {
+
+        final int value;
+
+        Ping(int value) {
+            this.value = value;
+        }
+
+    }
+}
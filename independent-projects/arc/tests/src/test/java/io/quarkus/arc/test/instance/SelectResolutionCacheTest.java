@@ -0,0 +1,80 @@
+package io.quarkus.arc.test.instance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.literal.NamedLiteral;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class SelectResolutionCacheTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Plugins.class, Plugin.class, Alpha.class, Bravo.class);
+
+    @Test
+    public void testSelect() {
+        Instance<Plugin> plugins = Arc.container().instance(Plugins.class).get().plugins;
+        for (int i = 0; i < 3; i++) {
+            assertEquals("alpha", plugins.select(NamedLiteral.of("alpha")).get().name());
+            assertEquals("bravo", plugins.select(NamedLiteral.of("bravo")).get().name());
+        }
+        // far more selections than the cache can hold
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(plugins.select(NamedLiteral.of("plugin" + i)).isUnsatisfied());
+        }
+        assertEquals("alpha", plugins.select(NamedLiteral.of("alpha")).get().name());
+        assertEquals("bravo", plugins.select(NamedLiteral.of("bravo")).get().name());
+        // the order of qualifiers does not matter
+        assertSame(plugins.select(Any.Literal.INSTANCE, NamedLiteral.of("alpha")).get(),
+                plugins.select(NamedLiteral.of("alpha"), Any.Literal.INSTANCE).get());
+        assertEquals(2, plugins.select(Any.Literal.INSTANCE).stream().count());
+    }
+
+    @Singleton
+    static class Plugins {
+
+        @Inject
+        Instance<Plugin> plugins;
+
+    }
+
+    interface Plugin {
+
+        String name();
+
+    }
+
+    @Named("alpha")
+    @Singleton
+    static class Alpha implements Plugin {
+
+        @Override
+        public String name() {
+            return "alpha";
+        }
+
+    }
+
+    @Named("bravo")
+    @Singleton
+    static class Bravo implements Plugin {
+
+        @Override
+        public String name() {
+            return "bravo";
+        }
+
+    }
+
+}
@@ -0,0 +1,117 @@
+package io.quarkus.arc.test.interceptors.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Singleton;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.interceptors.Simple;
+
+/**
+ * An outer interceptor proceeds twice while an inner one proceeds after it returned, so each interceptor must proceed from
+ * its own position in the chain.
+ */
+public class RepeatedProceedTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Simple.class, SimpleBean.class,
+            RetryInterceptor.class, AsyncInterceptor.class, CountingInterceptor.class);
+
+    private static ExecutorService executor;
+
+    @BeforeAll
+    static void init() {
+        executor = Executors.newFixedThreadPool(1);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testRetryAndAsyncContinuation() throws InterruptedException {
+        AsyncInterceptor.reset();
+        assertEquals("async:async", Arc.container().instance(SimpleBean.class).get().foo());
+        assertTrue(AsyncInterceptor.latch.await(3, TimeUnit.SECONDS));
+        assertEquals(List.of("C:ok", "C:ok"), AsyncInterceptor.asyncResults);
+    }
+
+    @Simple
+    @Singleton
+    static class SimpleBean {
+
+        String foo() {
+            return "ok";
+        }
+
+    }
+
+    @Simple
+    @Priority(1)
+    @Interceptor
+    public static class RetryInterceptor {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            return ctx.proceed() + ":" + ctx.proceed();
+        }
+    }
+
+    @Simple
+    @Priority(2)
+    @Interceptor
+    public static class AsyncInterceptor {
+
+        static CountDownLatch latch;
+        static List<String> asyncResults;
+
+        static void reset() {
+            latch = new CountDownLatch(2);
+            asyncResults = new CopyOnWriteArrayList<>();
+        }
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            executor.submit(() -> {
+                try {
+                    asyncResults.add(ctx.proceed().toString());
+                    latch.countDown();
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            return "async";
+        }
+    }
+
+    @Simple
+    @Priority(3)
+    @Interceptor
+    public static class CountingInterceptor {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            return "C:" + ctx.proceed();
+        }
+    }
+
+}
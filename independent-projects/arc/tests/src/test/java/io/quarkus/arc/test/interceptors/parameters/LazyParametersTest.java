@@ -0,0 +1,142 @@
+package io.quarkus.arc.test.interceptors.parameters;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.Dependent;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InterceptorBinding;
+import jakarta.interceptor.InvocationContext;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+
+/**
+ * The parameters of a method with up to three parameters are only copied into an array if an interceptor needs them.
+ */
+public class LazyParametersTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Calculator.class, Passing.class, Doubling.class,
+            PassingInterceptor.class, DoublingInterceptor.class);
+
+    @Test
+    public void testParameters() {
+        Calculator calculator = Arc.container().instance(Calculator.class).get();
+        assertEquals(1, calculator.one(1));
+        assertEquals("a2", calculator.two("a", 2));
+        assertEquals(6, calculator.three(1, 2L, 3));
+        assertEquals(10, calculator.four(1, 2, 3, 4));
+
+        // the interceptor replaces the parameters in the array it obtained
+        assertEquals(2, calculator.doubledOne(1));
+        assertEquals("aa4", calculator.doubledTwo("a", 2));
+        assertEquals(12, calculator.doubledThree(1, 2L, 3));
+        assertEquals(20, calculator.doubledFour(1, 2, 3, 4));
+    }
+
+    @Dependent
+    static class Calculator {
+
+        @Passing
+        int one(int a) {
+            return a;
+        }
+
+        @Passing
+        String two(String a, int b) {
+            return a + b;
+        }
+
+        @Passing
+        long three(int a, long b, Integer c) {
+            return a + b + c;
+        }
+
+        @Passing
+        int four(int a, int b, int c, int d) {
+            return a + b + c + d;
+        }
+
+        @Passing
+        @Doubling
+        int doubledOne(int a) {
+            return a;
+        }
+
+        @Passing
+        @Doubling
+        String doubledTwo(String a, int b) {
+            return a + b;
+        }
+
+        @Passing
+        @Doubling
+        long doubledThree(int a, long b, Integer c) {
+            return a + b + c;
+        }
+
+        @Passing
+        @Doubling
+        int doubledFour(int a, int b, int c, int d) {
+            return a + b + c + d;
+        }
+
+    }
+
+    @InterceptorBinding
+    @Retention(RUNTIME)
+    @Target({ TYPE, METHOD })
+    @interface Passing {
+    }
+
+    @InterceptorBinding
+    @Retention(RUNTIME)
+    @Target({ TYPE, METHOD })
+    @interface Doubling {
+    }
+
+    @Passing
+    @Priority(1)
+    @Interceptor
+    static class PassingInterceptor {
+
+        @AroundInvoke
+        Object intercept(InvocationContext ctx) throws Exception {
+            return ctx.proceed();
+        }
+
+    }
+
+    @Doubling
+    @Priority(2)
+    @Interceptor
+    static class DoublingInterceptor {
+
+        @AroundInvoke
+        Object intercept(InvocationContext ctx) throws Exception {
+            Object[] params = ctx.getParameters();
+            for (int i = 0; i < params.length; i++) {
+                if (params[i] instanceof String s) {
+                    params[i] = s + s;
+                } else if (params[i] instanceof Integer n) {
+                    params[i] = n * 2;
+                } else if (params[i] instanceof Long n) {
+                    params[i] = n * 2;
+                }
+            }
+            return ctx.proceed();
+        }
+
+    }
+}
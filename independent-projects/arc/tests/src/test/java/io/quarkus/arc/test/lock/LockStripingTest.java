@@ -0,0 +1,268 @@
+package io.quarkus.arc.test.lock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.ToLongFunction;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.Lock;
+import io.quarkus.arc.Lock.Type;
+import io.quarkus.arc.LockKey;
+import io.quarkus.arc.impl.LockInterceptor;
+import io.quarkus.arc.impl.LockKeyParameterPositions;
+import io.quarkus.arc.impl.LockStatistics;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class LockStripingTest {
+
+    static ExecutorService executor;
+
+    @BeforeAll
+    static void initExecutor() {
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterAll
+    static void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(KeyedBean.class, PerMethodBean.class, OptimisticBean.class,
+            MixedBean.class, Lock.class, LockKey.class, LockKeyParameterPositions.class, LockInterceptor.class);
+
+    @Test
+    public void testLockKey() throws Exception {
+        KeyedBean bean = Arc.container().instance(KeyedBean.class).get();
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch mayComplete = new CountDownLatch(1);
+        // consecutive hash codes never share a stripe
+        Future<?> first = executor.submit(() -> bean.update(0, inside, mayComplete));
+        try {
+            assertTrue(inside.await(5, TimeUnit.SECONDS));
+            assertEquals(1, bean.update(1, null, null));
+            // the same key uses the same lock
+            Future<?> sameKey = executor.submit(() -> bean.update(0, null, null));
+            Assertions.assertThrows(TimeoutException.class, () -> sameKey.get(100, TimeUnit.MILLISECONDS));
+            mayComplete.countDown();
+            assertEquals(0, sameKey.get(5, TimeUnit.SECONDS));
+        } finally {
+            mayComplete.countDown();
+            first.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testPerMethod() throws Exception {
+        PerMethodBean bean = Arc.container().instance(PerMethodBean.class).get();
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch mayComplete = new CountDownLatch(1);
+        Future<?> first = executor.submit(() -> bean.foo(inside, mayComplete));
+        try {
+            assertTrue(inside.await(5, TimeUnit.SECONDS));
+            assertEquals("bar", bean.bar());
+        } finally {
+            mayComplete.countDown();
+            first.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testBeanWriteLockExcludesNestedLocks() throws Exception {
+        MixedBean bean = Arc.container().instance(MixedBean.class).get();
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch mayComplete = new CountDownLatch(1);
+        Future<?> write = executor.submit(() -> bean.writeAll(inside, mayComplete));
+        try {
+            assertTrue(inside.await(5, TimeUnit.SECONDS));
+            Future<Integer> keyed = executor.submit(() -> bean.update(1));
+            Assertions.assertThrows(TimeoutException.class, () -> keyed.get(100, TimeUnit.MILLISECONDS));
+            mayComplete.countDown();
+            assertEquals(1, keyed.get(5, TimeUnit.SECONDS));
+        } finally {
+            mayComplete.countDown();
+            write.get(5, TimeUnit.SECONDS);
+        }
+        // the write lock of the bean allows the nested locks to be acquired by the same thread
+        assertEquals(2, bean.writeAndUpdate(2));
+        assertTrue(statistic(MixedBean.class, "update", LockStatistics::getContendedAcquisitions) > 0);
+        assertEquals(0, statistic(MixedBean.class, "writeAll", LockStatistics::getContendedAcquisitions));
+    }
+
+    @Test
+    public void testBeanWriteLockWaitsForNestedLocks() throws Exception {
+        MixedBean bean = Arc.container().instance(MixedBean.class).get();
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch mayComplete = new CountDownLatch(1);
+        Future<Integer> keyed = executor.submit(() -> bean.updateAndWait(1, inside, mayComplete));
+        try {
+            assertTrue(inside.await(5, TimeUnit.SECONDS));
+            Future<?> write = executor.submit(() -> bean.write());
+            Assertions.assertThrows(TimeoutException.class, () -> write.get(100, TimeUnit.MILLISECONDS));
+            // another key is not used while the write lock of the bean is being acquired
+            Future<Integer> otherKey = CompletableFuture.supplyAsync(() -> bean.update(2));
+            Assertions.assertThrows(TimeoutException.class, () -> otherKey.get(100, TimeUnit.MILLISECONDS));
+            mayComplete.countDown();
+            write.get(5, TimeUnit.SECONDS);
+            assertEquals(2, otherKey.get(5, TimeUnit.SECONDS));
+        } finally {
+            mayComplete.countDown();
+            assertEquals(1, keyed.get(5, TimeUnit.SECONDS));
+        }
+        assertTrue(statistic(MixedBean.class, "write", LockStatistics::getContendedAcquisitions) > 0);
+        // a nested lock may be held while acquiring the write lock of the bean
+        assertEquals(3, bean.updateAndWriteAll(3));
+    }
+
+    @Test
+    public void testOptimisticRead() throws Exception {
+        OptimisticBean bean = Arc.container().instance(OptimisticBean.class).get();
+        assertEquals(0, bean.read());
+        assertEquals(0, statistic(OptimisticBean.class, "read", LockStatistics::getOptimisticReadFailures));
+
+        // a write during the optimistic read invalidates the result
+        OptimisticBean.writeOnNextRead = true;
+        assertEquals(1, bean.read());
+        assertEquals(1, statistic(OptimisticBean.class, "read", LockStatistics::getOptimisticReadFailures));
+
+        // the read waits for a write in progress
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch mayComplete = new CountDownLatch(1);
+        Future<?> write = executor.submit(() -> bean.write(inside, mayComplete));
+        try {
+            assertTrue(inside.await(5, TimeUnit.SECONDS));
+            Future<Integer> read = executor.submit(() -> bean.read());
+            Assertions.assertThrows(TimeoutException.class, () -> read.get(100, TimeUnit.MILLISECONDS));
+            mayComplete.countDown();
+            assertEquals(2, read.get(5, TimeUnit.SECONDS));
+        } finally {
+            mayComplete.countDown();
+            write.get(5, TimeUnit.SECONDS);
+        }
+        assertTrue(statistic(OptimisticBean.class, "read", LockStatistics::getContendedAcquisitions) > 0);
+    }
+
+    static long statistic(Class<?> beanClass, String methodName, ToLongFunction<LockStatistics> statistic)
+            throws Exception {
+        List<LockStatistics> found = new ArrayList<>();
+        try (AutoCloseable listener = LockStatistics.observe(statistics -> {
+            if (statistics.getMethod().getDeclaringClass() == beanClass
+                    && statistics.getMethod().getName().equals(methodName)) {
+                found.add(statistics);
+            }
+        })) {
+            // the statistics are only created when there is contention
+            return found.isEmpty() ? 0 : statistic.applyAsLong(found.get(0));
+        }
+    }
+
+    static void await(CountDownLatch inside, CountDownLatch mayComplete) {
+        if (inside != null) {
+            inside.countDown();
+            try {
+                assertTrue(mayComplete.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    @Lock
+    @ApplicationScoped
+    static class KeyedBean {
+
+        int update(@LockKey int key, CountDownLatch inside, CountDownLatch mayComplete) {
+            await(inside, mayComplete);
+            return key;
+        }
+
+    }
+
+    @Lock(perMethod = true)
+    @ApplicationScoped
+    static class PerMethodBean {
+
+        void foo(CountDownLatch inside, CountDownLatch mayComplete) {
+            await(inside, mayComplete);
+        }
+
+        String bar() {
+            return "bar";
+        }
+
+    }
+
+    @Lock
+    @ApplicationScoped
+    static class MixedBean {
+
+        void writeAll(CountDownLatch inside, CountDownLatch mayComplete) {
+            await(inside, mayComplete);
+        }
+
+        void write() {
+        }
+
+        int update(@LockKey int key) {
+            return key;
+        }
+
+        int writeAndUpdate(int key) {
+            return Arc.container().instance(MixedBean.class).get().update(key);
+        }
+
+        int updateAndWait(@LockKey int key, CountDownLatch inside, CountDownLatch mayComplete) {
+            await(inside, mayComplete);
+            return key;
+        }
+
+        int updateAndWriteAll(@LockKey int key) {
+            Arc.container().instance(MixedBean.class).get().write();
+            return key;
+        }
+
+    }
+
+    @Lock
+    @ApplicationScoped
+    static class OptimisticBean {
+
+        volatile int value;
+        static volatile boolean writeOnNextRead;
+
+        @Lock(Type.OPTIMISTIC_READ)
+        int read() {
+            int result = value;
+            if (writeOnNextRead) {
+                writeOnNextRead = false;
+                Arc.container().instance(OptimisticBean.class).get().write(null, null);
+            }
+            return result;
+        }
+
+        void write(CountDownLatch inside, CountDownLatch mayComplete) {
+            await(inside, mayComplete);
+            value++;
+        }
+
+    }
+}
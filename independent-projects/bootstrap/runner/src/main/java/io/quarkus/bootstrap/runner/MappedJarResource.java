@@ -0,0 +1,209 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A jar resource whose entries are all stored uncompressed.
+ * <p>
+ * The jar is memory-mapped on first access and the central directory is read once to build an index of the entries. The
+ * data of an entry is then a slice of the mapped file, i.e. classes can be defined directly from the mapped memory and
+ * reading a resource neither opens a {@link java.util.jar.JarFile} nor needs to be coordinated with the other resources of
+ * the ClassLoader. All lookups are lock-free and can be performed by any number of threads in parallel.
+ * <p>
+ * If the jar cannot be mapped, e.g. because it uses the ZIP64 format or contains compressed entries after all, then all
+ * calls are delegated to the {@link JarResource} implementation.
+ */
+public class MappedJarResource extends JarResource {
+
+    private static final int END_OF_CENTRAL_DIR_SIGNATURE = 0x06054b50;
+    private static final int END_OF_CENTRAL_DIR_LENGTH = 22;
+    private static final int CENTRAL_DIR_ENTRY_SIGNATURE = 0x02014b50;
+    private static final int CENTRAL_DIR_ENTRY_LENGTH = 46;
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int LOCAL_HEADER_LENGTH = 30;
+    private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+    private static final int STORED = 0;
+
+    private static final Mapping UNMAPPABLE = new Mapping(null, Map.of());
+
+    private final AtomicReference<Mapping> mapping = new AtomicReference<>();
+
+    public MappedJarResource(ManifestInfo manifestInfo, Path jarPath) {
+        super(manifestInfo, jarPath);
+    }
+
+    /**
+     *
+     * @param resource
+     * @return a read-only buffer that holds the data of the given resource, or {@code null} if the resource does not exist
+     *         or the jar cannot be mapped
+     */
+    public ByteBuffer getResourceBuffer(String resource) {
+        Mapping mapping = getMapping();
+        if (mapping == UNMAPPABLE) {
+            return null;
+        }
+        return mapping.slice(resource);
+    }
+
+    @Override
+    public byte[] getResourceData(String resource) {
+        Mapping mapping = getMapping();
+        if (mapping == UNMAPPABLE) {
+            return super.getResourceData(resource);
+        }
+        ByteBuffer buffer = mapping.slice(resource);
+        if (buffer == null) {
+            // The index contains all the entries of the jar, no need to look any further
+            return null;
+        }
+        byte[] data = new byte[buffer.remaining()];
+        buffer.get(data);
+        return data;
+    }
+
+    /**
+     *
+     * @return {@code true} if the jar is mapped, i.e. it is not necessary to open the jar file to read the resources
+     */
+    boolean isMapped() {
+        return getMapping() != UNMAPPABLE;
+    }
+
+    private Mapping getMapping() {
+        Mapping current = mapping.get();
+        if (current != null) {
+            return current;
+        }
+        // Multiple threads may map the jar in parallel; the first one wins and the other mappings are simply dropped
+        Mapping created = map(jarPath);
+        return mapping.compareAndSet(null, created) ? created : mapping.get();
+    }
+
+    @Override
+    public void resetInternalCaches() {
+        // Only the jar file opened to resolve resource URLs is released, the mapping remains valid
+        super.close();
+    }
+
+    @Override
+    public void close() {
+        // The mapping is released once the buffer is garbage collected
+        mapping.set(UNMAPPABLE);
+        super.close();
+    }
+
+    @Override
+    public String toString() {
+        return "MappedJarResource{" +
+                jarPath.getFileName() +
+                '}';
+    }
+
+    static Mapping map(Path jarPath) {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(jarPath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < END_OF_CENTRAL_DIR_LENGTH || size > Integer.MAX_VALUE) {
+                return UNMAPPABLE;
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size).order(ByteOrder.LITTLE_ENDIAN);
+        } catch (IOException | UnsupportedOperationException e) {
+            return UNMAPPABLE;
+        }
+        Map<String, Entry> entries = readCentralDirectory(buffer);
+        return entries != null ? new Mapping(buffer, entries) : UNMAPPABLE;
+    }
+
+    /**
+     *
+     * @param buffer
+     * @return the entries of the jar, or {@code null} if the jar cannot be read from the mapped buffer
+     */
+    private static Map<String, Entry> readCentralDirectory(ByteBuffer buffer) {
+        int end = findEndOfCentralDirectory(buffer);
+        if (end == -1) {
+            return null;
+        }
+        int count = Short.toUnsignedInt(buffer.getShort(end + 10));
+        long dirSize = Integer.toUnsignedLong(buffer.getInt(end + 12));
+        long dirOffset = Integer.toUnsignedLong(buffer.getInt(end + 16));
+        if (count == 0xFFFF || dirSize == 0xFFFFFFFFL || dirOffset == 0xFFFFFFFFL || dirOffset + dirSize > end) {
+            // ZIP64 or malformed
+            return null;
+        }
+        Map<String, Entry> entries = new HashMap<>((int) Math.ceil(count / 0.75f));
+        int pos = (int) dirOffset;
+        for (int i = 0; i < count; i++) {
+            if (pos + CENTRAL_DIR_ENTRY_LENGTH > end || buffer.getInt(pos) != CENTRAL_DIR_ENTRY_SIGNATURE) {
+                return null;
+            }
+            int method = Short.toUnsignedInt(buffer.getShort(pos + 10));
+            long compressedSize = Integer.toUnsignedLong(buffer.getInt(pos + 20));
+            long size = Integer.toUnsignedLong(buffer.getInt(pos + 24));
+            int nameLength = Short.toUnsignedInt(buffer.getShort(pos + 28));
+            int extraLength = Short.toUnsignedInt(buffer.getShort(pos + 30));
+            int commentLength = Short.toUnsignedInt(buffer.getShort(pos + 32));
+            long localHeaderOffset = Integer.toUnsignedLong(buffer.getInt(pos + 42));
+            if (method != STORED || compressedSize != size || size == 0xFFFFFFFFL || localHeaderOffset >= dirOffset) {
+                // Compressed entries cannot be sliced
+                return null;
+            }
+            byte[] name = new byte[nameLength];
+            buffer.get(pos + CENTRAL_DIR_ENTRY_LENGTH, name);
+            entries.put(new String(name, StandardCharsets.UTF_8), new Entry((int) localHeaderOffset, (int) size));
+            pos += CENTRAL_DIR_ENTRY_LENGTH + nameLength + extraLength + commentLength;
+        }
+        return entries;
+    }
+
+    private static int findEndOfCentralDirectory(ByteBuffer buffer) {
+        int limit = Math.max(0, buffer.capacity() - END_OF_CENTRAL_DIR_LENGTH - MAX_COMMENT_LENGTH);
+        for (int pos = buffer.capacity() - END_OF_CENTRAL_DIR_LENGTH; pos >= limit; pos--) {
+            if (buffer.getInt(pos) == END_OF_CENTRAL_DIR_SIGNATURE) {
+                return pos;
+            }
+        }
+        return -1;
+    }
+
+    record Entry(int localHeaderOffset, int size) {
+    }
+
+    static final class Mapping {
+
+        private final ByteBuffer buffer;
+        private final Map<String, Entry> entries;
+
+        Mapping(ByteBuffer buffer, Map<String, Entry> entries) {
+            this.buffer = buffer;
+            this.entries = entries;
+        }
+
+        ByteBuffer slice(String resource) {
+            Entry entry = entries.get(resource);
+            if (entry == null) {
+                return null;
+            }
+            // Only absolute reads are used so that the shared buffer can be accessed concurrently
+            int header = entry.localHeaderOffset();
+            if (buffer.getInt(header) != LOCAL_HEADER_SIGNATURE) {
+                throw new RuntimeException("Invalid local header for zip entry " + resource);
+            }
+            int nameLength = Short.toUnsignedInt(buffer.getShort(header + 26));
+            int extraLength = Short.toUnsignedInt(buffer.getShort(header + 28));
+            return buffer.slice(header + LOCAL_HEADER_LENGTH + nameLength + extraLength, entry.size());
+        }
+
+    }
+
+}
@@ -4,6 +4,7 @@
 import static io.quarkus.commons.classloading.ClassLoaderHelper.isInJdkPackage;
 
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
@@ -26,6 +27,10 @@
  * jar(s) containing the requested class or resource.
  * The implementation also contains optimizations that allow the ClassLoader to keep a minimum number of jars open
  * while also preventing the lookup of the entire classpath for missing resources in known directories (like META-INF/services).
+ * <p>
+ * Classes from jars with uncompressed entries (see {@link MappedJarResource}) are defined directly from the memory-mapped
+ * jar. These jars are never opened as a {@link java.util.jar.JarFile} and so they are not tracked in the buffered resources,
+ * which means that such classes can be loaded by any number of threads in parallel without any synchronization.
  */
 public final class RunnerClassLoader extends ClassLoader {
 
@@ -52,8 +57,8 @@ public final class RunnerClassLoader extends ClassLoader {
 
     //Mutations protected by synchronization on the field value itself:
     private final ClassLoadingResource[] currentlyBufferedResources = new ClassLoadingResource[4];//Experimentally found to be a reasonable number
-    //Protected by synchronization on the above field, as they are related.
-    private boolean postBootPhase = false;
+    //Only mutated while holding the lock on the above field, as they are related; volatile so that it can be checked without it.
+    private volatile boolean postBootPhase = false;
 
     RunnerClassLoader(ClassLoader parent, Map<String, ClassLoadingResource[]> resourceDirectoryMap,
             Set<String> parentFirstPackages,
@@ -117,6 +122,16 @@ public Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundExce
                     continue;
                 }
 
+                if (resource instanceof MappedJarResource mapped) {
+                    ByteBuffer buffer = mapped.getResourceBuffer(classResource);
+                    if (buffer != null) {
+                        definePackage(packageName, resources);
+                        return defineClass(name, buffer, resource);
+                    }
+                    if (mapped.isMapped()) {
+                        continue;
+                    }
+                }
                 accessingResource(resource);
                 byte[] data = resource.getResourceData(classResource);
                 if (data == null) {
@@ -177,13 +192,30 @@ private Class<?> defineClass(String name, byte[] data, ClassLoadingResource reso
         }
     }
 
+    private Class<?> defineClass(String name, ByteBuffer data, ClassLoadingResource resource) {
+        Class<?> loaded = findLoadedClass(name);
+        if (loaded != null) {
+            return loaded;
+        }
+        try {
+            return defineClass(name, data, resource.getProtectionDomain());
+        } catch (LinkageError e) {
+            loaded = findLoadedClass(name);
+            if (loaded != null) {
+                return loaded;
+            }
+            throw e;
+        }
+    }
+
     private void accessingResource(final ClassLoadingResource resource) {
+        if (!postBootPhase) {
+            //We only want to limit the jar buffers after the initial bootstrap has been completed,
+            //so there is no need to contend on the lock until then
+            return;
+        }
         final ClassLoadingResource toEvict;
         synchronized (this.currentlyBufferedResources) {
-            if (!postBootPhase) {
-                //We only want to limit the jar buffers after the initial bootstrap has been completed
-                return;
-            }
             // This is not a cache aiming to accurately retain the most hot resources:
             // it's too small to benefit from traditional hit metrics,
             // we rather prefer to keep it very light.
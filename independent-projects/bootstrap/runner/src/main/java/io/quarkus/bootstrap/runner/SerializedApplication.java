@@ -7,6 +7,7 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -35,7 +36,7 @@ public class SerializedApplication {
     private static final List<String> FULLY_INDEXED_DIRECTORIES = List.of("", "META-INF", "META-INF/services");
 
     private static final int MAGIC = 0XF0315432;
-    private static final int VERSION = 3;
+    private static final int VERSION = 4;
 
     private static final ClassLoadingResource[] EMPTY_ARRAY = new ClassLoadingResource[0];
     private static final JarResource SENTINEL = new JarResource(null, Path.of("wqxehxivam"));
@@ -91,6 +92,7 @@ public static void write(OutputStream outputStream, String mainClass, Path appli
 
                 data.writeBoolean(jarInspectorVisitor.isGeneratedBytecode());
                 data.writeBoolean(jarInspectorVisitor.isTransformedBytecode());
+                data.writeBoolean(jarInspectorVisitor.isMappable());
 
                 data.writeShort(jarInspectorVisitor.getDirectories().size());
                 for (String directory : jarInspectorVisitor.getDirectories()) {
@@ -153,9 +155,11 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
                     info = new ManifestInfo(readNullableString(in), readNullableString(in), readNullableString(in),
                             readNullableString(in), readNullableString(in), readNullableString(in));
                 }
-                JarResource resource = new JarResource(info, appRoot.resolve(path));
                 boolean generatedBytecodeJar = in.readBoolean();
                 boolean transformedBytecodeJar = in.readBoolean();
+                // jars without compressed entries are memory-mapped instead of being opened as a JarFile
+                JarResource resource = in.readBoolean() ? new MappedJarResource(info, appRoot.resolve(path))
+                        : new JarResource(info, appRoot.resolve(path));
                 if (generatedBytecodeJar) {
                     generatedBytecodeClassLoadingResource = resource;
                 } else if (transformedBytecodeJar) {
@@ -229,6 +233,7 @@ private static class JarInspectorVisitor implements JarVisitor {
         private Attributes manifestAttributes;
         private boolean generatedBytecode;
         private boolean transformedBytecode;
+        private boolean mappable;
         private final Set<String> directories = new LinkedHashSet<>();
         private final Set<String> allEntries = new LinkedHashSet<>();
 
@@ -248,6 +253,10 @@ public Set<String> getDirectories() {
             return directories;
         }
 
+        public boolean isMappable() {
+            return mappable;
+        }
+
         public boolean isWriteAllEntries() {
             return generatedBytecode || transformedBytecode;
         }
@@ -260,15 +269,23 @@ public Set<String> getAllEntries() {
         public void preVisit(Path jar) {
             generatedBytecode = jar.endsWith("generated-bytecode.jar");
             transformedBytecode = jar.endsWith("transformed-bytecode.jar");
+            mappable = !Files.isDirectory(jar);
         }
 
         @Override
         public void visitJarManifest(Path jar, Manifest manifest) {
             manifestAttributes = manifest.getMainAttributes();
+            if (Boolean.parseBoolean(manifestAttributes.getValue(Attributes.Name.MULTI_RELEASE))) {
+                // the versioned entries are resolved by the JarFile
+                mappable = false;
+            }
         }
 
         @Override
         public void visitJarFileEntry(JarFile jarFile, ZipEntry entry) {
+            if (!entry.isDirectory() && entry.getMethod() != ZipEntry.STORED) {
+                mappable = false;
+            }
             if (isWriteAllEntries()) {
                 allEntries.add(entry.getName());
             }
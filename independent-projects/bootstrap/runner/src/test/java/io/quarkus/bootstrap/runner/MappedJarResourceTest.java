@@ -0,0 +1,108 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests {@link MappedJarResource}
+ */
+public class MappedJarResourceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testStoredEntries() throws Exception {
+        Path jar = createJar(ZipEntry.STORED, Map.of("a.txt", "hello", "org/acme/b.txt", "world", "empty.txt", ""));
+        MappedJarResource resource = new MappedJarResource(null, jar);
+        Assertions.assertTrue(resource.isMapped());
+        Assertions.assertEquals("hello", new String(resource.getResourceData("a.txt"), StandardCharsets.UTF_8));
+        Assertions.assertEquals("world", new String(resource.getResourceData("org/acme/b.txt"), StandardCharsets.UTF_8));
+        Assertions.assertEquals(0, resource.getResourceData("empty.txt").length);
+        Assertions.assertNull(resource.getResourceData("c.txt"));
+
+        ByteBuffer buffer = resource.getResourceBuffer("org/acme/b.txt");
+        Assertions.assertNotNull(buffer);
+        Assertions.assertEquals(5, buffer.remaining());
+        Assertions.assertNull(resource.getResourceBuffer("c.txt"));
+        // URLs are still resolved from the jar file
+        Assertions.assertNotNull(resource.getResourceURL("a.txt"));
+        resource.close();
+    }
+
+    @Test
+    public void testCompressedEntries() throws Exception {
+        Path jar = createJar(ZipEntry.DEFLATED, Map.of("a.txt", "hello"));
+        MappedJarResource resource = new MappedJarResource(null, jar);
+        Assertions.assertFalse(resource.isMapped());
+        Assertions.assertNull(resource.getResourceBuffer("a.txt"));
+        // falls back to the jar file
+        Assertions.assertEquals("hello", new String(resource.getResourceData("a.txt"), StandardCharsets.UTF_8));
+        resource.close();
+    }
+
+    @Test
+    public void testEvictionKeepsMapping() throws Exception {
+        Path jar = createJar(ZipEntry.STORED, Map.of("org/acme/a.txt", "hello"));
+        MappedJarResource resource = new MappedJarResource(null, jar);
+        Assertions.assertTrue(resource.isMapped());
+        // opens the jar file
+        Assertions.assertNotNull(resource.getResourceURL("org/acme/a.txt"));
+
+        // evicted from the buffered resources of the class loader
+        resource.resetInternalCaches();
+        Assertions.assertTrue(resource.isMapped());
+        Assertions.assertEquals("hello", new String(resource.getResourceData("org/acme/a.txt"), StandardCharsets.UTF_8));
+        Assertions.assertNotNull(resource.getResourceURL("org/acme/a.txt"));
+
+        // all the resources are reset once the application has started
+        RunnerClassLoader runnerClassLoader = new RunnerClassLoader(ClassLoader.getSystemClassLoader(),
+                Map.of("org/acme", new ClassLoadingResource[] { resource }),
+                Collections.emptySet(),
+                Collections.emptyList(), Collections.emptyMap(),
+                null, Collections.emptySet(),
+                null, Collections.emptySet());
+        runnerClassLoader.resetInternalCaches();
+        Assertions.assertTrue(resource.isMapped());
+        Assertions.assertNotNull(runnerClassLoader.getResource("org/acme/a.txt"));
+        Assertions.assertTrue(resource.isMapped());
+
+        resource.close();
+        Assertions.assertFalse(resource.isMapped());
+    }
+
+    private Path createJar(int method, Map<String, String> entries) throws IOException {
+        Path jar = Files.createTempFile(tempDir, "mapped", ".jar");
+        try (OutputStream out = Files.newOutputStream(jar); JarOutputStream jarOut = new JarOutputStream(out)) {
+            for (Map.Entry<String, String> e : entries.entrySet()) {
+                byte[] data = e.getValue().getBytes(StandardCharsets.UTF_8);
+                ZipEntry entry = new ZipEntry(e.getKey());
+                entry.setMethod(method);
+                if (method == ZipEntry.STORED) {
+                    CRC32 crc = new CRC32();
+                    crc.update(data);
+                    entry.setSize(data.length);
+                    entry.setCompressedSize(data.length);
+                    entry.setCrc(crc.getValue());
+                }
+                jarOut.putNextEntry(entry);
+                jarOut.write(data);
+                jarOut.closeEntry();
+            }
+        }
+        return jar;
+    }
+}
@@ -1,9 +1,16 @@
 package io.quarkus.qute;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * This section can be used to cache parts of the template.
@@ -13,11 +20,13 @@ public class CacheSectionHelper implements SectionHelper {
     private final String keyPrefix;
     private final Expression key;
     private final Cache cache;
+    private final Duration ttl;
 
-    CacheSectionHelper(String keyPrefix, Expression key, Cache cache) {
+    CacheSectionHelper(String keyPrefix, Expression key, Cache cache, Duration ttl) {
         this.keyPrefix = keyPrefix;
         this.key = key;
         this.cache = cache;
+        this.ttl = ttl;
     }
 
     @Override
@@ -36,17 +45,10 @@ private CompletionStage<ResultNode> resolveInternal(String key, SectionResolutio
             @Override
             public CompletionStage<ResultNode> apply(String key) {
                 return context.execute().thenCompose(rn -> {
-                    // Note that we cannot cache the ResultNode but the string representation instead
+                    // Note that we cannot cache the ResultNode but the encoded output instead
                     StringBuilder sb = new StringBuilder();
                     rn.process(sb::append);
-                    String result = sb.toString();
-                    return CompletedStage.of(new ResultNode() {
-
-                        @Override
-                        public void process(Consumer<String> resultConsumer) {
-                            resultConsumer.accept(result);
-                        }
-                    });
+                    return CompletedStage.<ResultNode> of(Fragment.of(sb.toString(), ttl));
                 });
             }
         });
@@ -56,6 +58,9 @@ public static class Factory implements SectionHelperFactory<CacheSectionHelper>
 
         static final String KEY = "key";
         static final String DEFAULT_KEY = "$default$";
+        static final String TTL = "ttl";
+
+        private static final Pattern TTL_PATTERN = Pattern.compile("(\\d+)(ms|s|m|h|d)?");
 
         private final Cache cache;
 
@@ -70,7 +75,10 @@ public List<String> getDefaultAliases() {
 
         @Override
         public ParametersInfo getParameters() {
-            return ParametersInfo.builder().addParameter(KEY, DEFAULT_KEY).build();
+            return ParametersInfo.builder()
+                    .addParameter(KEY, DEFAULT_KEY)
+                    .addParameter(Parameter.builder(TTL).ignoreUnnamedValues().optional().build())
+                    .build();
         }
 
         @Override
@@ -85,7 +93,11 @@ public CacheSectionHelper initialize(SectionInitContext context) {
             if (!context.getParameter(KEY).equals(DEFAULT_KEY)) {
                 key = context.getExpression(KEY);
             }
-            return new CacheSectionHelper(keyPrefix.toString(), key, cache);
+            Duration ttl = null;
+            if (context.hasParameter(TTL)) {
+                ttl = parseTtl(context);
+            }
+            return new CacheSectionHelper(keyPrefix.toString(), key, cache, ttl);
         }
 
         @Override
@@ -101,10 +113,184 @@ public Scope initializeBlock(Scope previousScope, BlockInfo block) {
             }
         }
 
+        private static Duration parseTtl(SectionInitContext context) {
+            String value = context.getParameter(TTL);
+            if (LiteralSupport.isStringLiteralSeparator(value.charAt(0))) {
+                value = value.substring(1, value.length() - 1);
+            }
+            Duration ttl = null;
+            Matcher matcher = TTL_PATTERN.matcher(value);
+            try {
+                if (matcher.matches()) {
+                    // A number with an optional unit; seconds are used by default
+                    long amount = Long.parseLong(matcher.group(1));
+                    String unit = matcher.group(2);
+                    ttl = Duration.of(amount, unit == null ? ChronoUnit.SECONDS : switch (unit) {
+                        case "ms" -> ChronoUnit.MILLIS;
+                        case "m" -> ChronoUnit.MINUTES;
+                        case "h" -> ChronoUnit.HOURS;
+                        case "d" -> ChronoUnit.DAYS;
+                        default -> ChronoUnit.SECONDS;
+                    });
+                } else {
+                    ttl = Duration.parse(value);
+                }
+            } catch (NumberFormatException | ArithmeticException | DateTimeParseException e) {
+                // ttl remains null
+            }
+            if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+                throw context.error(
+                        "invalid time to live [{ttl}] - a positive number with an optional unit (ms, s, m, h, d) or an ISO-8601 duration is expected")
+                        .code(Code.INVALID_TTL)
+                        .argument("ttl", value)
+                        .origin(context.getOrigin())
+                        .build();
+            }
+            return ttl;
+        }
+
+    }
+
+    /**
+     * The rendered contents of a cached section.
+     * <p>
+     * This is the value stored in a {@link Cache}. It can be converted to a byte array with {@link #toByteArray()} in order to
+     * store it in a cache that does not hold Java objects.
+     */
+    public static final class Fragment extends ResultNode {
+
+        static final long NEVER = 0;
+
+        // only the decoded contents are kept, so that a hit neither decodes them again nor holds a second copy
+        private final String value;
+        private final int contentLength;
+        private final long expiresAt;
+
+        /**
+         *
+         * @param content the UTF-8 encoded contents
+         * @param expiresAt the epoch millisecond at which the fragment expires, or {@code 0} if it never expires
+         */
+        public Fragment(byte[] content, long expiresAt) {
+            this(new String(content, StandardCharsets.UTF_8), content.length, expiresAt);
+        }
+
+        private Fragment(String value, int contentLength, long expiresAt) {
+            this.value = value;
+            this.contentLength = contentLength;
+            this.expiresAt = expiresAt;
+        }
+
+        static Fragment of(String value, Duration ttl) {
+            return new Fragment(value, encodedLength(value),
+                    ttl != null ? System.currentTimeMillis() + ttl.toMillis() : NEVER);
+        }
+
+        /**
+         *
+         * @return a new array with the UTF-8 encoded contents
+         */
+        public byte[] getContent() {
+            return value.getBytes(StandardCharsets.UTF_8);
+        }
+
+        /**
+         *
+         * @return the length of the UTF-8 encoded contents
+         */
+        public int getContentLength() {
+            return contentLength;
+        }
+
+        /**
+         *
+         * @return the epoch millisecond at which the fragment expires, or {@code 0} if it never expires
+         */
+        public long getExpiresAt() {
+            return expiresAt;
+        }
+
+        /**
+         *
+         * @return the remaining time to live, or {@code null} if the fragment never expires
+         */
+        public Duration getTimeToLive() {
+            return timeToLive(expiresAt);
+        }
+
+        /**
+         *
+         * @param bytes the value obtained from {@link #toByteArray()}
+         * @return the remaining time to live of the encoded fragment, or {@code null} if it never expires
+         */
+        public static Duration getTimeToLive(byte[] bytes) {
+            return timeToLive(ByteBuffer.wrap(bytes).getLong());
+        }
+
+        private static Duration timeToLive(long expiresAt) {
+            if (expiresAt == NEVER) {
+                return null;
+            }
+            return Duration.ofMillis(Math.max(0, expiresAt - System.currentTimeMillis()));
+        }
+
+        /**
+         *
+         * @return {@code true} if the time to live set by the section elapsed, {@code false} otherwise
+         */
+        public boolean isExpired() {
+            return expiresAt != NEVER && System.currentTimeMillis() >= expiresAt;
+        }
+
+        @Override
+        public void process(Consumer<String> resultConsumer) {
+            resultConsumer.accept(value);
+        }
+
+        /**
+         *
+         * @return the expiration followed by the contents
+         * @see #fromByteArray(byte[])
+         */
+        public byte[] toByteArray() {
+            byte[] content = getContent();
+            return ByteBuffer.allocate(Long.BYTES + content.length).putLong(expiresAt).put(content).array();
+        }
+
+        /**
+         *
+         * @param bytes the value obtained from {@link #toByteArray()}
+         * @return the fragment
+         */
+        public static Fragment fromByteArray(byte[] bytes) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            long expiresAt = buffer.getLong();
+            int contentLength = buffer.remaining();
+            return new Fragment(new String(bytes, Long.BYTES, contentLength, StandardCharsets.UTF_8), contentLength,
+                    expiresAt);
+        }
+
+        private static int encodedLength(String value) {
+            int length = value.length();
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c >= 0x800) {
+                    // a surrogate pair takes 4 bytes, i.e. 2 bytes for each of its chars
+                    length += Character.isSurrogate(c) ? 1 : 2;
+                } else if (c >= 0x80) {
+                    length++;
+                }
+            }
+            return length;
+        }
+
     }
 
     /**
      * A cache abstraction. An implementation must be thread-safe.
+     * <p>
+     * The loader always produces a {@link Fragment}. If a section defines the {@code ttl} parameter then the implementation
+     * is expected to drop the fragment once {@link Fragment#isExpired()}.
      */
     public interface Cache {
 
@@ -118,4 +304,17 @@ public interface Cache {
 
     }
 
+    enum Code implements ErrorCode {
+
+        INVALID_TTL,
+
+        ;
+
+        @Override
+        public String getName() {
+            return "CACHE_" + name();
+        }
+
+    }
+
 }
@@ -0,0 +1,343 @@
+package io.quarkus.qute;
+
+import static io.quarkus.qute.Booleans.isFalsy;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+import io.quarkus.qute.IfSectionHelper.ConditionBlock;
+import io.quarkus.qute.SectionHelper.SectionResolutionContext;
+
+/**
+ * A template compiled into a tree of renderers that append the output directly to a {@link StringBuilder}.
+ * <p>
+ * Text nodes, expressions, loops and {@code if} sections are rendered synchronously as long as the values they depend on
+ * are already available, i.e. no {@link ResultNode} tree is built. If an asynchronous value is found then the node is
+ * resolved by the interpreter and its result is inserted at the current position of the output once completed. All other
+ * sections are always resolved by the interpreter. Expressions are evaluated with the same value resolvers as the
+ * interpreter, i.e. no direct accessors are generated for type-safe expressions.
+ *
+ * @see EngineBuilder#compileTemplates(boolean)
+ */
+final class CompiledTemplate {
+
+    private final Renderer root;
+
+    CompiledTemplate(SectionNode root) {
+        this.root = compile(root.blocks.get(0).nodes);
+    }
+
+    /**
+     *
+     * @param context
+     * @param builder
+     * @return a completion stage that is completed once the output is complete
+     */
+    CompletionStage<Void> render(ResolutionContext context, StringBuilder builder) {
+        Output output = new Output(builder);
+        try {
+            root.render(context, output);
+        } catch (Failure f) {
+            return CompletedStage.failure(f.getCause());
+        } catch (Throwable t) {
+            return CompletedStage.failure(t);
+        }
+        return output.complete();
+    }
+
+    /**
+     * Unlike {@link CompletedStage#get()}, the original exception is propagated as is, i.e. the same way as the interpreter
+     * does.
+     */
+    static <T> T valueOf(CompletedStage<T> completed) {
+        if (completed.isFailure()) {
+            throw new Failure(completed.getFailure());
+        }
+        return completed.get();
+    }
+
+    private static Renderer compile(List<TemplateNode> nodes) {
+        if (nodes.size() == 1) {
+            return compile(nodes.get(0));
+        }
+        Renderer[] renderers = new Renderer[nodes.size()];
+        for (int i = 0; i < renderers.length; i++) {
+            renderers[i] = compile(nodes.get(i));
+        }
+        return new SequenceRenderer(renderers);
+    }
+
+    private static Renderer compile(TemplateNode node) {
+        // Note that subclasses of the built-in nodes and helpers are always resolved by the interpreter
+        if (node.getClass() == TextNode.class) {
+            return new TextRenderer(((TextNode) node).getValue());
+        } else if (node.getClass() == ExpressionNode.class) {
+            return new ExpressionRenderer((ExpressionNode) node);
+        } else if (node.getClass() == SectionNode.class) {
+            SectionNode section = (SectionNode) node;
+            if (section.helper.getClass() == LoopSectionHelper.class) {
+                return new LoopRenderer(section);
+            } else if (section.helper.getClass() == IfSectionHelper.class) {
+                return new IfRenderer(section);
+            }
+        }
+        return new InterpretedRenderer(node);
+    }
+
+    interface Renderer {
+
+        void render(ResolutionContext context, Output output);
+
+    }
+
+    static final class SequenceRenderer implements Renderer {
+
+        private final Renderer[] renderers;
+
+        SequenceRenderer(Renderer[] renderers) {
+            this.renderers = renderers;
+        }
+
+        @Override
+        public void render(ResolutionContext context, Output output) {
+            for (Renderer renderer : renderers) {
+                renderer.render(context, output);
+            }
+        }
+
+    }
+
+    static final class TextRenderer implements Renderer {
+
+        private final String value;
+
+        TextRenderer(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public void render(ResolutionContext context, Output output) {
+            output.accept(value);
+        }
+
+    }
+
+    static final class ExpressionRenderer implements Renderer {
+
+        private final ExpressionNode node;
+
+        ExpressionRenderer(ExpressionNode node) {
+            this.node = node;
+        }
+
+        @Override
+        public void render(ResolutionContext context, Output output) {
+            CompletionStage<Object> result = context.evaluate(node.expression);
+            if (result instanceof CompletedStage<Object> completed) {
+                Object value = valueOf(completed);
+                if (value instanceof ResultNode || value instanceof CompletionStage) {
+                    output.append(node.toResultNode(value));
+                } else {
+                    // See SingleResultNode#process()
+                    value = SingleResultNode.extractValue(value);
+                    if (value != null) {
+                        output.accept(node.hasEngineResultMappers() ? node.mapResult(value) : value.toString());
+                    }
+                }
+            } else {
+                output.append(result.thenCompose(node::toResultNode));
+            }
+        }
+
+    }
+
+    static final class LoopRenderer implements Renderer {
+
+        private final SectionNode node;
+        private final LoopSectionHelper helper;
+        private final Renderer main;
+        private final Renderer elseBlock;
+
+        LoopRenderer(SectionNode node) {
+            this.node = node;
+            this.helper = (LoopSectionHelper) node.helper;
+            this.main = compile(node.blocks.get(0).nodes);
+            this.elseBlock = helper.elseBlock != null ? compile(helper.elseBlock.nodes) : null;
+        }
+
+        @Override
+        public void render(ResolutionContext context, Output output) {
+            CompletionStage<Object> result = context.evaluate(helper.iterable);
+            if (result instanceof CompletedStage<Object> completed) {
+                Object it = valueOf(completed);
+                if (it == null) {
+                    // Treat null as no-op, as it is handled by SingleResultNode
+                    return;
+                }
+                Iterator<?> iterator = helper.extractIterator(it);
+                if (!iterator.hasNext()) {
+                    if (elseBlock != null) {
+                        elseBlock.render(context, output);
+                    }
+                    return;
+                }
+                int idx = 0;
+                while (iterator.hasNext()) {
+                    Object element = iterator.next();
+                    main.render(helper.iterationContext(context, element, idx++, iterator.hasNext()), output);
+                }
+            } else {
+                SectionResolutionContext sectionContext = node.newSectionResolutionContext(context);
+                output.append(result.thenCompose(it -> helper.resolveIterable(it, sectionContext)));
+            }
+        }
+
+    }
+
+    static final class IfRenderer implements Renderer {
+
+        private final SectionNode node;
+        private final List<ConditionBlock> blocks;
+        private final Renderer[] renderers;
+
+        IfRenderer(SectionNode node) {
+            this.node = node;
+            this.blocks = ((IfSectionHelper) node.helper).conditionBlocks;
+            this.renderers = new Renderer[blocks.size()];
+            for (int i = 0; i < renderers.length; i++) {
+                renderers[i] = compile(blocks.get(i).section.nodes);
+            }
+        }
+
+        @Override
+        public void render(ResolutionContext context, Output output) {
+            SectionResolutionContext sectionContext = node.newSectionResolutionContext(context);
+            for (int i = 0; i < renderers.length; i++) {
+                ConditionBlock block = blocks.get(i);
+                if (block.condition.isEmpty()) {
+                    // else without operands
+                    renderers[i].render(context, output);
+                    return;
+                }
+                CompletionStage<Object> result = block.condition.evaluate(sectionContext);
+                if (result instanceof CompletedStage<Object> completed) {
+                    if (!isFalsy(valueOf(completed))) {
+                        renderers[i].render(context, output);
+                        return;
+                    }
+                } else {
+                    output.append(resolve(sectionContext, result, i));
+                    return;
+                }
+            }
+        }
+
+        private CompletionStage<ResultNode> resolve(SectionResolutionContext context, CompletionStage<Object> condition,
+                int index) {
+            return condition.thenCompose(r -> {
+                if (!isFalsy(r)) {
+                    return context.execute(blocks.get(index).section, context.resolutionContext());
+                }
+                int next = index + 1;
+                if (next == blocks.size()) {
+                    return ResultNode.NOOP;
+                }
+                ConditionBlock block = blocks.get(next);
+                if (block.condition.isEmpty()) {
+                    // else without operands
+                    return context.execute(block.section, context.resolutionContext());
+                }
+                return resolve(context, block.condition.evaluate(context), next);
+            });
+        }
+
+    }
+
+    static final class InterpretedRenderer implements Renderer {
+
+        private final TemplateNode node;
+
+        InterpretedRenderer(TemplateNode node) {
+            this.node = node;
+        }
+
+        @Override
+        public void render(ResolutionContext context, Output output) {
+            output.append(node.resolve(context));
+        }
+
+    }
+
+    static final class Output implements Consumer<String> {
+
+        private final StringBuilder builder;
+        // Results that were not completed when rendered; lazily initialized
+        private List<Placeholder> placeholders;
+
+        Output(StringBuilder builder) {
+            this.builder = builder;
+        }
+
+        @Override
+        public void accept(String value) {
+            builder.append(value);
+        }
+
+        void append(CompletionStage<ResultNode> result) {
+            if (result instanceof CompletedStage<ResultNode> completed) {
+                valueOf(completed).process(this);
+            } else {
+                if (placeholders == null) {
+                    placeholders = new ArrayList<>();
+                }
+                placeholders.add(new Placeholder(builder.length(), result.toCompletableFuture()));
+            }
+        }
+
+        CompletionStage<Void> complete() {
+            if (placeholders == null) {
+                return CompletedStage.ofVoid();
+            }
+            CompletableFuture<?>[] results = new CompletableFuture<?>[placeholders.size()];
+            for (int i = 0; i < results.length; i++) {
+                results[i] = placeholders.get(i).result;
+            }
+            return CompletableFuture.allOf(results).thenRun(this::fill);
+        }
+
+        /**
+         * Appends the synchronous output and the completed results in order, i.e. the output is copied once instead of
+         * being shifted by each insertion.
+         */
+        private void fill() {
+            int from = placeholders.get(0).offset;
+            String rendered = builder.substring(from);
+            builder.setLength(from);
+            int position = from;
+            for (Placeholder placeholder : placeholders) {
+                builder.append(rendered, position - from, placeholder.offset - from);
+                placeholder.result.join().process(this);
+                position = placeholder.offset;
+            }
+            builder.append(rendered, position - from, rendered.length());
+        }
+
+    }
+
+    @SuppressWarnings("serial")
+    static final class Failure extends RuntimeException {
+
+        Failure(Throwable cause) {
+            super(null, cause, false, false);
+        }
+
+    }
+
+    record Placeholder(int offset, CompletableFuture<ResultNode> result) {
+    }
+
+}
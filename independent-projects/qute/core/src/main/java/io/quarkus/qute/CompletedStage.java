@@ -59,6 +59,10 @@ public boolean isFailure() {
         return exception != null;
     }
 
+    Throwable getFailure() {
+        return exception;
+    }
+
     public T get() {
         if (exception != null) {
             if (exception instanceof TemplateException te) {
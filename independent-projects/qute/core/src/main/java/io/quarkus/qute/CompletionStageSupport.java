@@ -15,8 +15,18 @@ class CompletionStageSupport {
      */
     static final boolean UNRESTRICTED = Boolean.getBoolean(SYSTEM_PROPERTY);
 
-    @SuppressWarnings("unchecked")
     static CompletionStage<Object> toCompletionStage(Object result) {
+        return toCompletionStage(result, null);
+    }
+
+    /**
+     *
+     * @param result
+     * @param completed the stage the result was obtained from, may be {@code null}
+     * @return the completion stage for the result; the completed stage is reused if the result is not a stage itself
+     */
+    @SuppressWarnings("unchecked")
+    static CompletionStage<Object> toCompletionStage(Object result, CompletedStage<Object> completed) {
         // Note that we intentionally use "instanceof" to test interfaces as the last resort in order to mitigate the "type pollution"
         // See https://github.com/RedHatPerf/type-pollution-agent for more information
         if (result instanceof CompletableFuture) {
@@ -28,6 +38,6 @@ static CompletionStage<Object> toCompletionStage(Object result) {
         } else if (UNRESTRICTED && result instanceof CompletionStage) {
             return (CompletionStage<Object>) result;
         }
-        return CompletedStage.of(result);
+        return completed != null ? completed : CompletedStage.of(result);
     }
 }
@@ -44,6 +44,7 @@ public final class EngineBuilder {
     boolean useAsyncTimeout;
     final List<EngineListener> listeners;
     boolean enableTracing;
+    boolean compileTemplates;
 
     EngineBuilder() {
         this.sectionHelperFactories = new HashMap<>();
@@ -350,6 +351,23 @@ public EngineBuilder enableTracing(boolean value) {
         return this;
     }
 
+    /**
+     * If set to {@code true} then the templates are compiled into renderers that append the output directly when a template
+     * instance is rendered as a string, e.g. via {@link TemplateInstance#render()}. The values that are already available are
+     * rendered synchronously, without building a {@link ResultNode} tree. Built-in text nodes, expressions, loops and
+     * {@code if} sections are compiled; other sections are interpreted.
+     * <p>
+     * Compilation is disabled by default. It is also ignored if tracing is enabled.
+     *
+     * @param value
+     * @return self
+     * @see #enableTracing(boolean)
+     */
+    public EngineBuilder compileTemplates(boolean value) {
+        this.compileTemplates = value;
+        return this;
+    }
+
     /**
      *
      * @return a new engine instance
@@ -38,6 +38,7 @@ class EngineImpl implements Engine {
     private final long timeout;
     private final boolean useAsyncTimeout;
     final TraceManagerImpl traceManager;
+    final boolean compileTemplates;
 
     EngineImpl(EngineBuilder builder) {
         this.sectionHelperFactories = Map.copyOf(builder.sectionHelperFactories);
@@ -55,6 +56,9 @@ class EngineImpl implements Engine {
         this.timeout = builder.timeout;
         this.useAsyncTimeout = builder.useAsyncTimeout;
         this.traceManager = builder.enableTracing ? new TraceManagerImpl() : null;
+        // Compiled templates neither fire trace events nor log the resolution of nodes
+        this.compileTemplates = builder.compileTemplates && traceManager == null
+                && !Logger.getLogger("io.quarkus.qute.nodeResolve").isTraceEnabled();
     }
 
     @Override
@@ -181,6 +185,7 @@ public EngineBuilder newBuilder() {
         builder.useAsyncTimeout(useAsyncTimeout());
         builder.removeStandaloneLines(removeStandaloneLines());
         builder.strictRendering(getEvaluator().strictRendering());
+        builder.compileTemplates(compileTemplates);
         for (Entry<String, SectionHelperFactory<?>> e : sectionHelperFactories.entrySet()) {
             builder.addSectionHelper(e.getKey(), e.getValue());
         }
@@ -74,7 +74,20 @@ public CompletionStage<Object> evaluate(Expression expression, ResolutionContext
                     : new NamespaceEvalContextImpl(resolutionContext, part);
             if (matching.length == 1) {
                 // Very often a single matching resolver will be found
-                return matching[0].resolve(context).thenCompose(r -> (parts.size() > 1)
+                CompletionStage<Object> result = matching[0].resolve(context);
+                if (result instanceof CompletedStage<Object> completed && !completed.isFailure()) {
+                    // Fast path - the result is already available, no need to compose
+                    Object r = completed.get();
+                    if (parts.size() == 1) {
+                        return CompletionStageSupport.toCompletionStage(r, completed);
+                    }
+                    try {
+                        return resolveReference(false, r, parts, resolutionContext, expression, 1);
+                    } catch (Throwable e) {
+                        return CompletedStage.failure(e);
+                    }
+                }
+                return result.thenCompose(r -> (parts.size() > 1)
                         ? resolveReference(false, r, parts, resolutionContext, expression, 1)
                         : CompletionStageSupport.toCompletionStage(r));
             } else {
@@ -131,8 +144,16 @@ private CompletionStage<Object> resolveReference(boolean tryParent, Object ref,
             return resolve(evalContext, null, true, expression, true, partIndex);
         } else {
             // Next part - no need to try the parent context/outer scope
-            return resolve(evalContext, null, true, expression, false, partIndex)
-                    .thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, partIndex + 1));
+            CompletionStage<Object> result = resolve(evalContext, null, true, expression, false, partIndex);
+            if (result instanceof CompletedStage<Object> completed && !completed.isFailure()) {
+                // Fast path - the result is already available, no need to compose
+                try {
+                    return resolveReference(false, completed.get(), parts, resolutionContext, expression, partIndex + 1);
+                } catch (Throwable e) {
+                    return CompletedStage.failure(e);
+                }
+            }
+            return result.thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, partIndex + 1));
         }
     }
 
@@ -143,7 +164,20 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
             // Try the cached resolver first
             ValueResolver cached = evalContext.getCachedResolver();
             if (cached != null && cached.appliesTo(evalContext)) {
-                return cached.resolve(evalContext).thenCompose(r -> {
+                CompletionStage<Object> result = cached.resolve(evalContext);
+                if (result instanceof CompletedStage<Object> completed && !completed.isFailure()) {
+                    // Fast path - the result is already available, no need to compose
+                    Object r = completed.get();
+                    if (!Results.isNotFound(r)) {
+                        return CompletionStageSupport.toCompletionStage(r, completed);
+                    }
+                    try {
+                        return resolve(evalContext, null, false, expression, isLastPart, partIndex);
+                    } catch (Throwable e) {
+                        return CompletedStage.failure(e);
+                    }
+                }
+                return result.thenCompose(r -> {
                     if (Results.isNotFound(r)) {
                         return resolve(evalContext, null, false, expression, isLastPart, partIndex);
                     } else {
@@ -208,7 +242,21 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
 
         final Iterator<ValueResolver> remainingResolvers = resolvers;
         final ValueResolver foundResolver = applicableResolver;
-        return applicableResolver.resolve(evalContext).thenCompose(r -> {
+        CompletionStage<Object> result = applicableResolver.resolve(evalContext);
+        if (result instanceof CompletedStage<Object> completed && !completed.isFailure()) {
+            // Fast path - the result is already available, no need to compose
+            Object r = completed.get();
+            if (!Results.isNotFound(r)) {
+                evalContext.setCachedResolver(foundResolver.getCachedResolver(evalContext));
+                return CompletionStageSupport.toCompletionStage(r, completed);
+            }
+            try {
+                return resolve(evalContext, remainingResolvers, false, expression, isLastPart, partIndex);
+            } catch (Throwable e) {
+                return CompletedStage.failure(e);
+            }
+        }
+        return result.thenCompose(r -> {
             if (Results.isNotFound(r)) {
                 // Result not found - try the next resolver
                 return resolve(evalContext, remainingResolvers, false, expression, isLastPart, partIndex);
@@ -23,6 +23,7 @@ public class IfSectionHelper implements SectionHelper {
     private static final String LOGICAL_COMPLEMENT = "!";
 
     private final IfContext ifContext;
+    final List<ConditionBlock> conditionBlocks;
 
     IfSectionHelper(SectionInitContext context) {
         List<ConditionBlock> conditionBlocks = new ArrayList<>();
@@ -31,6 +32,7 @@ public class IfSectionHelper implements SectionHelper {
                 conditionBlocks.add(new ConditionBlock(block, context));
             }
         }
+        this.conditionBlocks = ImmutableList.copyOf(conditionBlocks);
         if (conditionBlocks.size() == 1) {
             this.ifContext = new SingletonContext(conditionBlocks.get(0));
         } else if (conditionBlocks.size() == 2) {
@@ -31,8 +31,8 @@ public class LoopSectionHelper implements SectionHelper {
     private static final String ITERABLE = "iterable";
 
     private final String alias;
-    private final Expression iterable;
-    private final SectionBlock elseBlock;
+    final Expression iterable;
+    final SectionBlock elseBlock;
     private final Engine engine;
 
     private final String metadataPrefix;
@@ -51,32 +51,48 @@ public String getMetadataPrefix() {
 
     @Override
     public CompletionStage<ResultNode> resolve(SectionResolutionContext context) {
-        return context.resolutionContext().evaluate(iterable).thenCompose(it -> {
-            if (it == null) {
-                // Treat null as no-op, as it is handled by SingleResultNode
-                return ResultNode.NOOP;
-            }
-            // Try to extract the capacity for collections, maps and arrays to avoid resize
-            List<CompletionStage<ResultNode>> results = new ArrayList<>(extractSize(it));
-            Iterator<?> iterator = extractIterator(it);
-            int idx = 0;
-            // Ideally, we should not block here but we still need to retain the order of results
+        return context.resolutionContext().evaluate(iterable).thenCompose(it -> resolveIterable(it, context));
+    }
+
+    CompletionStage<ResultNode> resolveIterable(Object it, SectionResolutionContext context) {
+        if (it == null) {
+            // Treat null as no-op, as it is handled by SingleResultNode
+            return ResultNode.NOOP;
+        }
+        Iterator<?> iterator = extractIterator(it);
+        int idx = 0;
+        if (context instanceof SectionNode.SectionResolutionContextImpl sectionContext) {
+            // Collect the results of all iterations at once, so that the completed ones are not wrapped per iteration
+            Results.Collector results = new Results.Collector(extractSize(it));
+            ResolutionContext resolutionContext = context.resolutionContext();
             while (iterator.hasNext()) {
-                results.add(nextElement(iterator.next(), idx++, iterator.hasNext(), context));
+                sectionContext.executeInto(iterationContext(resolutionContext, iterator.next(), idx++, iterator.hasNext()),
+                        results);
             }
-            if (results.isEmpty()) {
-                // Execute the {#else} block if present
-                if (elseBlock != null) {
-                    return context.execute(elseBlock, context.resolutionContext());
-                } else {
-                    return ResultNode.NOOP;
-                }
-            }
-            if (results.size() == 1) {
-                return results.get(0);
-            }
-            return Results.process(results);
-        });
+            return idx == 0 ? resolveElse(context) : results.toCompletionStage();
+        }
+        // Try to extract the capacity for collections, maps and arrays to avoid resize
+        List<CompletionStage<ResultNode>> results = new ArrayList<>(extractSize(it));
+        // Ideally, we should not block here but we still need to retain the order of results
+        while (iterator.hasNext()) {
+            results.add(nextElement(iterator.next(), idx++, iterator.hasNext(), context));
+        }
+        if (results.isEmpty()) {
+            return resolveElse(context);
+        }
+        if (results.size() == 1) {
+            return results.get(0);
+        }
+        return Results.process(results);
+    }
+
+    private CompletionStage<ResultNode> resolveElse(SectionResolutionContext context) {
+        // Execute the {#else} block if present
+        if (elseBlock != null) {
+            return context.execute(elseBlock, context.resolutionContext());
+        } else {
+            return ResultNode.NOOP;
+        }
     }
 
     private static int extractSize(Object it) {
@@ -100,7 +116,7 @@ private static int extractSize(Object it) {
         return 10;
     }
 
-    private Iterator<?> extractIterator(Object it) {
+    Iterator<?> extractIterator(Object it) {
         // Note that we intentionally use "instanceof" to test interfaces as the last resort in order to mitigate the "type pollution"
         // See https://github.com/RedHatPerf/type-pollution-agent for more information
         if (it instanceof AbstractCollection<?> col) {
@@ -146,10 +162,11 @@ private Iterator<?> extractIterator(Object it) {
     }
 
     CompletionStage<ResultNode> nextElement(Object element, int index, boolean hasNext, SectionResolutionContext context) {
-        ResolutionContext child = context.resolutionContext().createChild(
-                new IterationElement(element, index, hasNext),
-                null);
-        return context.execute(child);
+        return context.execute(iterationContext(context.resolutionContext(), element, index, hasNext));
+    }
+
+    ResolutionContext iterationContext(ResolutionContext context, Object element, int index, boolean hasNext) {
+        return context.createChild(new IterationElement(element, index, hasNext), null);
     }
 
     public static class Factory implements SectionHelperFactory<LoopSectionHelper> {
@@ -74,6 +74,47 @@ static CompletionStage<ResultNode> resolveAndProcess(List<TemplateNode> nodes, R
         return toCompletionStage(allResults, asyncResults);
     }
 
+    /**
+     * Collects the results of several resolutions into a single {@link MultiResultNode}. Unlike
+     * {@link #resolveAndProcess(List, ResolutionContext, EngineImpl)}, the completed results of each resolution are not
+     * wrapped in a {@link MultiResultNode} and a {@link CompletedStage}, e.g. per iteration of a loop.
+     */
+    static final class Collector {
+
+        private final List<Supplier<ResultNode>> allResults;
+        private List<CompletableFuture<ResultNode>> asyncResults;
+
+        Collector(int initialCapacity) {
+            this.allResults = new ArrayList<>(initialCapacity);
+        }
+
+        void resolve(List<TemplateNode> nodes, ResolutionContext context, EngineImpl engine) {
+            for (TemplateNode templateNode : nodes) {
+                add(resolveWith(templateNode, context, engine));
+            }
+        }
+
+        void add(CompletionStage<ResultNode> result) {
+            if (result instanceof CompletedStage) {
+                // No async computation needed
+                allResults.add((CompletedStage<ResultNode>) result);
+            } else {
+                CompletableFuture<ResultNode> fu = result.toCompletableFuture();
+                if (asyncResults == null) {
+                    asyncResults = new ArrayList<>();
+                }
+                asyncResults.add(fu);
+                allResults.add(Futures.toSupplier(fu));
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        CompletionStage<ResultNode> toCompletionStage() {
+            return Results.toCompletionStage(allResults.toArray(new Supplier[0]), asyncResults);
+        }
+
+    }
+
     private static CompletionStage<ResultNode> toCompletionStage(Supplier<ResultNode>[] allResults,
             List<CompletableFuture<ResultNode>> asyncResults) {
         if (asyncResults == null) {
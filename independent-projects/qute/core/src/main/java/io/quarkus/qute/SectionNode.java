@@ -68,6 +68,10 @@ public CompletionStage<ResultNode> resolve(ResolutionContext context) {
         return resolve(context, null);
     }
 
+    SectionResolutionContext newSectionResolutionContext(ResolutionContext context) {
+        return new SectionResolutionContextImpl(context, Collections.emptyMap(), engine);
+    }
+
     @Override
     public Origin getOrigin() {
         return origin;
@@ -254,6 +258,13 @@ public CompletionStage<ResultNode> execute(SectionBlock block, ResolutionContext
             return Results.resolveAndProcess(block.nodes, context, engine);
         }
 
+        /**
+         * Resolves the main block with the given context and adds the results of its nodes to the collector.
+         */
+        void executeInto(ResolutionContext context, Results.Collector collector) {
+            collector.resolve(blocks.get(0).nodes, context, engine);
+        }
+
         @Override
         public ResolutionContext resolutionContext() {
             return resolutionContext;
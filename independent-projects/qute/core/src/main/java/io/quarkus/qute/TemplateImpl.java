@@ -43,6 +43,9 @@ class TemplateImpl implements Template {
     // The initial capacity of the StringBuilder used to render the template
     final Capacity capacity;
 
+    // Null if templates should not be compiled or if this is a fragment
+    private final LazyValue<CompiledTemplate> compiled;
+
     TemplateImpl(EngineImpl engine, SectionNode root, String templateId, String generatedId, Optional<Variant> variant,
             Optional<URI> source) {
         this.engine = engine;
@@ -56,6 +59,10 @@ class TemplateImpl implements Template {
         // Use a lazily initialized map to avoid unnecessary performance costs during parsing
         this.fragments = initFragments(root);
         this.capacity = new Capacity();
+        // The template is compiled lazily because the nodes are optimized after the template is created
+        this.compiled = engine.compileTemplates && root.name.equals(Parser.ROOT_HELPER_NAME)
+                ? new LazyValue<>(() -> new CompiledTemplate(root))
+                : null;
     }
 
     @Override
@@ -174,9 +181,22 @@ private class TemplateInstanceImpl extends TemplateInstanceBase {
 
         @Override
         public String render() {
+            CompletionStage<String> cs = renderAsyncNoTimeout();
+            if (cs instanceof CompletedStage<String> completed) {
+                // Rendered synchronously - no need to wait
+                if (completed.isFailure()) {
+                    Throwable failure = completed.getFailure();
+                    if (failure instanceof RuntimeException) {
+                        throw (RuntimeException) failure;
+                    } else {
+                        throw new IllegalStateException(failure);
+                    }
+                }
+                return completed.get();
+            }
             long timeout = getTimeout();
             try {
-                return renderAsyncNoTimeout().toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
+                return cs.toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 throw new IllegalStateException(e);
@@ -225,7 +245,8 @@ public Uni<String> createUni() {
         @Override
         public CompletionStage<String> renderAsync() {
             CompletionStage<String> cs = renderAsyncNoTimeout();
-            if (engine.useAsyncTimeout()) {
+            // No need to apply the timeout if rendered synchronously
+            if (engine.useAsyncTimeout() && !(cs instanceof CompletedStage)) {
                 cs = cs.toCompletableFuture().orTimeout(getTimeout(), TimeUnit.MILLISECONDS);
             }
             return cs;
@@ -234,7 +255,7 @@ public CompletionStage<String> renderAsync() {
         @Override
         public CompletionStage<Void> consume(Consumer<String> resultConsumer) {
             CompletionStage<Void> cs = renderData(data(), resultConsumer);
-            if (engine.useAsyncTimeout()) {
+            if (engine.useAsyncTimeout() && !(cs instanceof CompletedStage)) {
                 cs = cs.toCompletableFuture().orTimeout(getTimeout(), TimeUnit.MILLISECONDS);
             }
             return cs;
@@ -251,7 +272,15 @@ protected Engine engine() {
 
         private CompletionStage<String> renderAsyncNoTimeout() {
             StringBuilder builder = new StringBuilder(getCapacity());
-            return renderData(data(), builder::append).thenApply(v -> {
+            CompletionStage<Void> cs = compiled != null ? renderCompiled(data(), builder)
+                    : renderData(data(), builder::append);
+            if (cs instanceof CompletedStage<Void> completed && !completed.isFailure()) {
+                // Sync fast path
+                String str = builder.toString();
+                capacity.update(str.length());
+                return CompletedStage.of(str);
+            }
+            return cs.thenApply(v -> {
                 String str = builder.toString();
                 capacity.update(str.length());
                 return str;
@@ -279,7 +308,6 @@ private int getCapacityAttributeValue() {
         }
 
         private CompletionStage<Void> renderData(Object data, Consumer<String> consumer) {
-            CompletableFuture<Void> result = new CompletableFuture<>();
             ResolutionContext rootContext = new ResolutionContextImpl(data,
                     engine.getEvaluator(), null, this);
             setAttribute(DataNamespaceResolver.ROOT_CONTEXT, rootContext);
@@ -289,7 +317,20 @@ private CompletionStage<Void> renderData(Object data, Consumer<String> consumer)
                 engine.getTraceManager().fireStartTemplate(event);
             }
             // Async resolution
-            root.resolve(rootContext).whenComplete((r, t) -> {
+            CompletionStage<ResultNode> resolved = root.resolve(rootContext);
+            if (event == null && resolved instanceof CompletedStage<ResultNode> completed && !completed.isFailure()) {
+                // Sync fast path - all values were already available, no need to wait for the result
+                try {
+                    completed.get().process(consumer);
+                } catch (Throwable e) {
+                    return CompletedStage.failure(e);
+                } finally {
+                    runRenderedActions();
+                }
+                return CompletedStage.ofVoid();
+            }
+            CompletableFuture<Void> result = new CompletableFuture<>();
+            resolved.whenComplete((r, t) -> {
                 if (t != null) {
                     result.completeExceptionally(t);
                 } else {
@@ -300,16 +341,7 @@ private CompletionStage<Void> renderData(Object data, Consumer<String> consumer)
                     } catch (Throwable e) {
                         result.completeExceptionally(e);
                     } finally {
-                        if (renderedActions != null) {
-                            for (Runnable action : renderedActions) {
-                                try {
-                                    action.run();
-                                } catch (Throwable e) {
-                                    LOG.error("Unable to perform an action when rendering finished", e);
-                                }
-                            }
-                        }
-
+                        runRenderedActions();
                     }
                 }
                 if (event != null) {
@@ -321,6 +353,35 @@ private CompletionStage<Void> renderData(Object data, Consumer<String> consumer)
             return result;
         }
 
+        private CompletionStage<Void> renderCompiled(Object data, StringBuilder builder) {
+            ResolutionContext rootContext = new ResolutionContextImpl(data,
+                    engine.getEvaluator(), null, this);
+            setAttribute(DataNamespaceResolver.ROOT_CONTEXT, rootContext);
+            CompletionStage<Void> result = compiled.get().render(rootContext, builder);
+            if (result instanceof CompletedStage<Void> completed && !completed.isFailure()) {
+                // Sync fast path
+                runRenderedActions();
+                return result;
+            }
+            return result.whenComplete((r, t) -> {
+                if (t == null) {
+                    runRenderedActions();
+                }
+            });
+        }
+
+        private void runRenderedActions() {
+            if (renderedActions != null) {
+                for (Runnable action : renderedActions) {
+                    try {
+                        action.run();
+                    } catch (Throwable e) {
+                        LOG.error("Unable to perform an action when rendering finished", e);
+                    }
+                }
+            }
+        }
+
         @Override
         public Template getTemplate() {
             return TemplateImpl.this;
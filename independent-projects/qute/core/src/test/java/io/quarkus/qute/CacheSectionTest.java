@@ -1,8 +1,13 @@
 package io.quarkus.qute;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -12,6 +17,7 @@
 import org.junit.jupiter.api.Test;
 
 import io.quarkus.qute.CacheSectionHelper.Cache;
+import io.quarkus.qute.CacheSectionHelper.Fragment;
 
 public class CacheSectionTest {
 
@@ -71,6 +77,65 @@ public void testCachedWithFailure() {
         assertEquals(1, map.size());
     }
 
+    @Test
+    public void testCachedFragment() throws InterruptedException {
+        ConcurrentMap<String, CompletionStage<ResultNode>> map = new ConcurrentHashMap<>();
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver())
+                .addSectionHelper(new CacheSectionHelper.Factory(new Cache() {
+                    @Override
+                    public CompletionStage<ResultNode> getValue(String key,
+                            Function<String, CompletionStage<ResultNode>> loader) {
+                        CompletionStage<ResultNode> value = map.computeIfAbsent(key, k -> loader.apply(k));
+                        if (((Fragment) value.toCompletableFuture().join()).isExpired()) {
+                            map.remove(key, value);
+                            return getValue(key, loader);
+                        }
+                        return value;
+                    }
+                })).build();
+
+        Template template = engine.parse("{#cached ttl=100ms}ž{counter.val}{/cached}|{#cached}{counter.val}{/cached}", null,
+                "bar.html");
+        Counter counter = new Counter();
+        assertEquals("ž1|2", template.data("counter", counter).render());
+        assertEquals("ž1|2", template.data("counter", counter).render());
+
+        Fragment expiring = (Fragment) map.get("bar.html:1:1_").toCompletableFuture().join();
+        assertArrayEquals("ž1".getBytes(StandardCharsets.UTF_8), expiring.getContent());
+        assertEquals(3, expiring.getContentLength());
+        assertNotNull(expiring.getTimeToLive());
+        Fragment decoded = Fragment.fromByteArray(expiring.toByteArray());
+        assertArrayEquals(expiring.getContent(), decoded.getContent());
+        assertEquals(expiring.getExpiresAt(), decoded.getExpiresAt());
+        assertEquals(expiring.getContentLength(), decoded.getContentLength());
+        String mixed = "a\u017e\u20ac\ud83d\ude00";
+        assertEquals(mixed.getBytes(StandardCharsets.UTF_8).length, Fragment.of(mixed, null).getContentLength());
+        assertNotNull(Fragment.getTimeToLive(expiring.toByteArray()));
+        StringBuilder processed = new StringBuilder();
+        decoded.process(processed::append);
+        assertEquals("ž1", processed.toString());
+        Fragment permanent = (Fragment) map.get("bar.html:1:44_").toCompletableFuture().join();
+        assertNull(permanent.getTimeToLive());
+        assertNull(Fragment.getTimeToLive(permanent.toByteArray()));
+        assertFalse(permanent.isExpired());
+
+        Thread.sleep(150);
+        // Only the first section expired
+        assertEquals("ž3|2", template.data("counter", counter).render());
+    }
+
+    @Test
+    public void testInvalidTtl() {
+        Engine engine = engineWithCache(new ConcurrentHashMap<>());
+        assertEquals("foo", engine.parse("{#cached ttl='PT2M'}foo{/cached}").render());
+        assertEquals("foo", engine.parse("{#cached key=foo ttl=10}{foo}{/cached}").data("foo", "foo").render());
+        TemplateException expected = assertThrows(TemplateException.class,
+                () -> engine.parse("{#cached ttl=foo}{counter.val}{/cached}"));
+        assertEquals(CacheSectionHelper.Code.INVALID_TTL, expected.getCode());
+        expected = assertThrows(TemplateException.class, () -> engine.parse("{#cached ttl=0}{counter.val}{/cached}"));
+        assertEquals(CacheSectionHelper.Code.INVALID_TTL, expected.getCode());
+    }
+
     private Engine engineWithCache(ConcurrentMap<String, CompletionStage<ResultNode>> map) {
         return Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver())
                 .addSectionHelper(new CacheSectionHelper.Factory(new Cache() {
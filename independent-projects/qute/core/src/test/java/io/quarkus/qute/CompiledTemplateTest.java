@@ -0,0 +1,91 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.qute.TemplateNode.Origin;
+
+public class CompiledTemplateTest {
+
+    @Test
+    public void testCompiledOutputMatchesInterpreted() {
+        Engine interpreted = Engine.builder().addDefaults().build();
+        Engine compiled = Engine.builder().addDefaults().compileTemplates(true).build();
+        String content = "{#for item in items}{item_count}.{item.name ?: 'none'}{#if item_hasNext},{/if}{#else}empty{/for}"
+                + "|{#if active}ACTIVE{#else if valid}VALID{#else}NOK{/if}"
+                + "|{#let foo=name}{foo}{/let}"
+                + "|{optional}{absent}{#each 3}{it}{/each}"
+                + "|{#for i in async}{i}:{asyncName}{/for}"
+                + "|{#if asyncFalse}NOK{#else if asyncTrue}{asyncName}{/if}";
+        Map<String, Object> data = Map.of("items", List.of(Map.of("name", "a"), Map.of(), Map.of("name", "c")),
+                "active", false, "valid", true, "name", "foo", "optional", Optional.of("opt"), "absent", Optional.empty(),
+                "async", CompletableFuture.supplyAsync(() -> List.of(1, 2)),
+                "asyncName", CompletableFuture.supplyAsync(() -> "bar"),
+                "asyncFalse", CompletableFuture.supplyAsync(() -> false),
+                "asyncTrue", CompletableFuture.supplyAsync(() -> true));
+        String expected = "1.a,2.none,3.c|VALID|foo|opt123|1:bar2:bar|bar";
+        assertEquals(expected, interpreted.parse(content).render(data));
+        assertEquals(expected, compiled.parse(content).render(data));
+        assertEquals(expected, compiled.parse(content).data(data).renderAsync().toCompletableFuture().join());
+        assertEquals("empty",
+                compiled.parse("{#for item in items}{item}{#else}empty{/for}").render(Map.of("items", List.of())));
+    }
+
+    @Test
+    public void testManyAsyncParts() {
+        Engine engine = Engine.builder().addDefaults().compileTemplates(true).build();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            expected.append('[').append(i).append(':').append(i % 2 == 0 ? "even" : "odd").append(']');
+        }
+        assertEquals(expected.toString(),
+                engine.parse("{#for i in items}[{i}:{#if i.mod(2) == 0}{even}{#else}{odd}{/if}]{/for}")
+                        .data("items", IntStream.range(0, 1000).boxed().toList(),
+                                "even", CompletableFuture.supplyAsync(() -> "even"),
+                                "odd", CompletableFuture.supplyAsync(() -> "odd"))
+                        .render());
+    }
+
+    @Test
+    public void testResultMappersAndIncludes() {
+        Engine engine = Engine.builder().addDefaults().compileTemplates(true)
+                .addResultMapper(new ResultMapper() {
+
+                    @Override
+                    public boolean appliesTo(Origin origin, Object result) {
+                        return result instanceof Integer;
+                    }
+
+                    @Override
+                    public String map(Object result, Expression expression) {
+                        return "#" + result;
+                    }
+                }).build();
+        engine.putTemplate("base", engine.parse("<{#insert}default{/}>"));
+        assertEquals("#1 <#2>", engine.parse("{one} {#include base}{two}{/include}").data("one", 1, "two", 2).render());
+    }
+
+    @Test
+    public void testRenderedActionsAndErrors() {
+        Engine engine = Engine.builder().addDefaults().compileTemplates(true).build();
+        AtomicBoolean rendered = new AtomicBoolean();
+        assertEquals("foo",
+                engine.parse("{name}").instance().data("name", "foo").onRendered(() -> rendered.set(true)).render());
+        assertTrue(rendered.get());
+
+        TemplateException expected = assertThrows(TemplateException.class,
+                () -> engine.parse("{#for i in name}{i}{/for}").data("name", "foo").render());
+        assertEquals(LoopSectionHelper.Code.NOT_AN_ITERABLE, expected.getCode());
+    }
+
+}
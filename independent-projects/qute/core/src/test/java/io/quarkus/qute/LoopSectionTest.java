@@ -11,6 +11,7 @@
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 import org.junit.jupiter.api.Test;
@@ -209,4 +210,23 @@ public void testIterationMetadata() {
                         .data("items", List.of("foo")).render());
     }
 
+    @Test
+    public void testAsyncAndCompletedIterations() {
+        Engine engine = Engine.builder().addDefaults()
+                .addValueResolver(ValueResolver.builder()
+                        .applyToBaseClass(Integer.class)
+                        .applyToName("async")
+                        .resolveAsync(ctx -> {
+                            Integer value = (Integer) ctx.getBase();
+                            // only the odd values are resolved asynchronously
+                            return value % 2 == 0 ? CompletedStage.of(value)
+                                    : CompletableFuture.supplyAsync(() -> value);
+                        })
+                        .build())
+                .build();
+        assertEquals("1:2:3:4:", engine.parse("{#for i in 4}{i.async}:{/for}").render());
+        assertEquals("", engine.parse("{#for i in 4}{/for}").render());
+        assertEquals("none", engine.parse("{#for i in items}{i}{#else}none{/for}").data("items", List.of()).render());
+    }
+
 }
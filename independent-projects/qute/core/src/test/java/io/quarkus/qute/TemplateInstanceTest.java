@@ -7,6 +7,8 @@
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.Test;
@@ -112,6 +114,20 @@ public void testCapacity() {
         assertCapacity(engine, "{foo}", 10, Capacity.LIMIT, Map.of("foo", "b".repeat(70_000)));
     }
 
+    @Test
+    public void testSyncRendering() {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template template = engine.parse("{#for item in items}{item.name}:{item.price}{#if item_hasNext},{/if}{/for}");
+        List<Map<String, Object>> items = List.of(Map.of("name", "foo", "price", 1), Map.of("name", "bar", "price", 2));
+        // all values are available - no need to wait
+        CompletionStage<String> sync = template.data("items", items).renderAsync();
+        assertTrue(sync instanceof CompletedStage);
+        assertEquals("foo:1,bar:2", sync.toCompletableFuture().join());
+        // async value
+        CompletionStage<String> async = template.data("items", CompletableFuture.supplyAsync(() -> items)).renderAsync();
+        assertEquals("foo:1,bar:2", async.toCompletableFuture().join());
+    }
+
     private void assertCapacity(Engine engine, String val, int expectedComputed, int expectedMax, Map<String, Object> data) {
         TemplateImpl template = (TemplateImpl) engine.parse(val);
         assertEquals(expectedComputed, template.capacity.computed);
@@ -39,6 +39,13 @@ public class ResteasyReactiveConfig {
      */
     private boolean defaultProduces;
 
+    /**
+     * Whether the per class request mappers should be compiled into an immutable radix trie at startup, instead
+     * of matching the path against every template of the resource class. The path parameters are then only extracted
+     * from the path when they are read.
+     */
+    private boolean compiledRouter;
+
     // we need this (and the setters) due to Bytecode Recording
     public ResteasyReactiveConfig() {
     }
@@ -52,6 +59,12 @@ public ResteasyReactiveConfig(long inputBufferSize, int minChunkSize, int output
         this.defaultProduces = defaultProduces;
     }
 
+    public ResteasyReactiveConfig(long inputBufferSize, int minChunkSize, int outputBufferSize, boolean singleDefaultProduces,
+            boolean defaultProduces, boolean compiledRouter) {
+        this(inputBufferSize, minChunkSize, outputBufferSize, singleDefaultProduces, defaultProduces);
+        this.compiledRouter = compiledRouter;
+    }
+
     public long getInputBufferSize() {
         return inputBufferSize;
     }
@@ -91,4 +104,12 @@ public boolean isDefaultProduces() {
     public void setDefaultProduces(boolean defaultProduces) {
         this.defaultProduces = defaultProduces;
     }
+
+    public boolean isCompiledRouter() {
+        return compiledRouter;
+    }
+
+    public void setCompiledRouter(boolean compiledRouter) {
+        this.compiledRouter = compiledRouter;
+    }
 }
@@ -40,6 +40,8 @@
     private ThreadSetupAction.ThreadState currentRequestScope;
     private List<CompletionCallback> completionCallbacks;
     private boolean abortHandlerChainStarted;
+    // set once something may still reference this context after its handler chain completed, see isRecyclable()
+    private boolean escaped;
 
     private boolean closed = false;
 
@@ -51,6 +53,7 @@ public AbstractResteasyReactiveContext(H[] handlerChain, H[] abortHandlerChain,
 
     public void suspend() {
         suspended = true;
+        escaped = true;
     }
 
     public void resume() {
@@ -196,6 +199,9 @@ public void run() {
                     currentRequestScope.deactivate();
                 }
                 close();
+                if (!aborted) {
+                    recycle();
+                }
             } else {
                 if (disassociateRequestScope) {
                     requestScopeDeactivated();
@@ -227,6 +233,44 @@ public void run() {
         }
     }
 
+    /**
+     * Called once the handler chain ran to completion and the context was closed. Implementations that pool their
+     * contexts can reset and reuse this context from here, if {@link #isRecyclable()}.
+     */
+    protected void recycle() {
+
+    }
+
+    /**
+     * @return whether nothing can reference this context anymore once it is closed: it was never suspended, its
+     *         request scope was not captured and no callbacks were registered on it
+     */
+    protected boolean isRecyclable() {
+        return !escaped && completionCallbacks == null && getProperty(CONNECTION_CALLBACK_PROPERTY_KEY) == null;
+    }
+
+    /**
+     * Resets the state of a context that is recyclable, so that it can process another request once its handler
+     * chains are set again.
+     */
+    protected void resetState() {
+        handlers = null;
+        abortHandlerChain = null;
+        position = 0;
+        throwable = null;
+        suspended = false;
+        requestScopeActivated = false;
+        running = false;
+        executor = null;
+        lastExecutor = null;
+        properties = null;
+        currentRequestScope = null;
+        completionCallbacks = null;
+        abortHandlerChainStarted = false;
+        escaped = false;
+        closed = false;
+    }
+
     protected void invokeHandler(int pos) throws Exception {
         handlers[pos].handle((T) this);
     }
@@ -269,6 +313,7 @@ public void requireCDIRequestScope() {
      * Captures the CDI request scope for use outside of handler chains.
      */
     public ThreadSetupAction.ThreadState captureCDIRequestScope() {
+        escaped = true;
         requireCDIRequestScope();
         return currentRequestScope;
     }
@@ -304,6 +349,9 @@ public boolean isSuspended() {
 
     public T setSuspended(boolean suspended) {
         this.suspended = suspended;
+        if (suspended) {
+            escaped = true;
+        }
         return (T) this;
     }
 
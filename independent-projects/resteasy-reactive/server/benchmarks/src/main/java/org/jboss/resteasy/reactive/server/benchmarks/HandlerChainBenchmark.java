@@ -0,0 +1,202 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.resteasy.reactive.common.model.ParameterType;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.core.parameters.PathParamExtractor;
+import org.jboss.resteasy.reactive.server.handlers.AbortChainHandler;
+import org.jboss.resteasy.reactive.server.handlers.FusedHandler;
+import org.jboss.resteasy.reactive.server.handlers.InstanceHandler;
+import org.jboss.resteasy.reactive.server.handlers.InvocationHandler;
+import org.jboss.resteasy.reactive.server.handlers.ParameterHandler;
+import org.jboss.resteasy.reactive.server.handlers.ResponseHandler;
+import org.jboss.resteasy.reactive.server.mapping.RuntimeResource;
+import org.jboss.resteasy.reactive.server.processor.generation.fused.FusedHandlerGenerator;
+import org.jboss.resteasy.reactive.server.processor.util.GeneratedClass;
+import org.jboss.resteasy.reactive.server.processor.util.GeneratedClassOutput;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.spi.BeanFactory;
+import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.gizmo.MethodDescriptor;
+
+/**
+ * Runs the handler chain of a trivial GET endpoint with two path parameters through the request context loop, either as
+ * is or with its parameter, invocation and response handlers fused into a {@link FusedHandler} generated the same way
+ * as at build time.
+ * <p>
+ * Like in any real application, the call site of the request context loop sees too many handler types to be inlined.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class HandlerChainBenchmark {
+
+    private RuntimeResource unfusedTarget;
+    private RuntimeResource fusedTarget;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        ServerRestHandler[] chain = createChain();
+        unfusedTarget = createTarget(chain);
+
+        GeneratedClassOutput classOutput = new GeneratedClassOutput();
+        String className = HandlerChainBenchmark.class.getName() + "$quarkusrestfused$hello";
+        FusedHandlerGenerator.generate(classOutput, className, Resource.class.getName(),
+                MethodDescriptor.ofMethod(Resource.class, "hello", String.class, String.class, String.class),
+                List.of(PathParamExtractor.class.getName(), PathParamExtractor.class.getName()),
+                List.of(ResponseHandler.class.getName(), WriterHandler.class.getName()));
+        GeneratedClass generatedClass = classOutput.getOutput().get(0);
+        Class<?> fusedHandlerClass = new ClassLoader(HandlerChainBenchmark.class.getClassLoader()) {
+            {
+                defineClass(generatedClass.getName(), generatedClass.getData(), 0, generatedClass.getData().length);
+            }
+
+            @Override
+            protected Class<?> findClass(String name) throws ClassNotFoundException {
+                return name.equals(className) ? findLoadedClass(name) : super.findClass(name);
+            }
+        }.loadClass(className);
+        FusedHandler fusedHandler = (FusedHandler) fusedHandlerClass.getDeclaredConstructor().newInstance();
+        int start = fusedHandler.init(chain);
+        if (start == -1) {
+            throw new IllegalStateException("The chain cannot be fused");
+        }
+        ServerRestHandler[] fusedChain = Arrays.copyOf(chain, start + 1);
+        fusedChain[start] = fusedHandler;
+        fusedTarget = createTarget(fusedChain);
+    }
+
+    @Benchmark
+    public Object unfused() {
+        return run(unfusedTarget);
+    }
+
+    @Benchmark
+    public Object fused() {
+        return run(fusedTarget);
+    }
+
+    private static Object run(RuntimeResource target) {
+        BenchmarkRequestContext requestContext = new BenchmarkRequestContext(target);
+        requestContext.run();
+        return requestContext.entity;
+    }
+
+    private static ServerRestHandler[] createChain() {
+        Resource resource = new Resource();
+        BeanFactory<Object> factory = new BeanFactory<>() {
+            @Override
+            public BeanInstance<Object> createInstance() {
+                return new BeanInstance<>() {
+                    @Override
+                    public Object getInstance() {
+                        return resource;
+                    }
+
+                    @Override
+                    public void close() {
+                    }
+                };
+            }
+        };
+        return new ServerRestHandler[] {
+                new AbortChainHandler(new ServerRestHandler[0]),
+                new InstanceHandler(factory),
+                new ParameterHandler(0, null, new PathParamExtractor(0, true, true), null, ParameterType.PATH, false, false),
+                new ParameterHandler(1, null, new PathParamExtractor(1, true, true), null, ParameterType.PATH, false, false),
+                new InvocationHandler((instance, args) -> ((Resource) instance).hello((String) args[0], (String) args[1])),
+                ResponseHandler.NO_CUSTOMIZER_INSTANCE,
+                new WriterHandler()
+        };
+    }
+
+    private static RuntimeResource createTarget(ServerRestHandler[] chain) {
+        return new RuntimeResource("GET", null, null, null, List.of(), null, null, chain, "hello",
+                new Class[] { String.class, String.class }, String.class, false, false, Resource.class, null, Map.of(), null,
+                null, Map.of());
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { HandlerChainBenchmark.class.getSimpleName() });
+    }
+
+    public static class Resource {
+        public String hello(String name, String times) {
+            return times.length() == 1 ? name : name + times;
+        }
+    }
+
+    /**
+     * Stands for the response writer, without any IO
+     */
+    static class WriterHandler implements ServerRestHandler {
+        @Override
+        public void handle(ResteasyReactiveRequestContext requestContext) {
+            ((BenchmarkRequestContext) requestContext).entity = requestContext.getResponseEntity();
+        }
+    }
+
+    static class BenchmarkRequestContext extends ResteasyReactiveRequestContext {
+
+        private static final Executor DIRECT = Runnable::run;
+
+        Object entity;
+
+        BenchmarkRequestContext(RuntimeResource target) {
+            super(null, ThreadSetupAction.NOOP, target.getHandlerChain(), new ServerRestHandler[0]);
+            restart(target);
+            setMaxPathParams(2);
+            setPathParamValue(0, "world");
+            setPathParamValue(1, "1");
+        }
+
+        @Override
+        public ServerHttpRequest serverRequest() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ServerHttpResponse serverResponse() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected Executor getEventLoop() {
+            return DIRECT;
+        }
+
+        @Override
+        public Runnable registerTimer(long millis, Runnable task) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean resumeExternalProcessing() {
+            return false;
+        }
+
+    }
+}
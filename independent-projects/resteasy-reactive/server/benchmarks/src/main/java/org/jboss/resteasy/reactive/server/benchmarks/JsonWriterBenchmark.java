@@ -0,0 +1,293 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.resteasy.reactive.server.jackson.JacksonMessageBodyWriterUtil;
+import org.jboss.resteasy.reactive.server.vertx.json.DirectJsonWriter;
+import org.jboss.resteasy.reactive.server.vertx.json.DirectJsonWriters;
+import org.jboss.resteasy.reactive.server.vertx.json.JsonByteBufWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.buffer.impl.VertxByteBufAllocator;
+
+/**
+ * Compares the path that {@code DirectJsonEntityWriter} replaces with a {@link DirectJsonWriter} similar to the ones
+ * generated at build time.
+ * <p>
+ * The Jackson side mirrors what {@code FullyFeaturedServerJacksonMessageBodyWriter#writeResponse} does for an entity
+ * without {@code @JsonView} or custom serialization: the default writer created by
+ * {@link JacksonMessageBodyWriterUtil#createDefaultWriter(ObjectMapper)} writes into the response output stream, which
+ * copies the bytes into pooled chunks of at least the default {@code min-chunk-size}, up to the default
+ * {@code output-buffer-size}, like the {@code AppendBuffer} of {@code VertxOutputStream}. The direct side writes into a
+ * single pooled direct buffer like {@code DirectJsonEntityWriter} does.
+ * <p>
+ * Run with {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JsonWriterBenchmark {
+
+    private static final int MIN_CHUNK_SIZE = 128;
+    private static final int OUTPUT_BUFFER_SIZE = 8192;
+
+    @Param({ "1", "100" })
+    public int items;
+
+    private ObjectWriter objectWriter;
+    private DirectJsonWriter directWriter;
+    private Order order;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        objectWriter = JacksonMessageBodyWriterUtil.createDefaultWriter(new ObjectMapper());
+        DirectJsonWriters.addWriter(OrderWriter.class);
+        DirectJsonWriters.addWriter(ItemWriter.class);
+        directWriter = DirectJsonWriters.getWriter(Order.class);
+
+        List<Item> orderItems = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            orderItems.add(new Item("item-" + i, "Some \"quoted\" description of the item " + i, i * 3, i * 1.25d));
+        }
+        order = new Order(42L, "Stuart Douglas", true, orderItems);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        DirectJsonWriters.clear();
+    }
+
+    @Benchmark
+    public int jackson() throws IOException {
+        ResponseOutputStream stream = new ResponseOutputStream();
+        try {
+            objectWriter.writeValue(stream, order);
+        } finally {
+            stream.close();
+        }
+        return stream.written;
+    }
+
+    @Benchmark
+    public int direct() {
+        ByteBuf buffer = VertxByteBufAllocator.POOLED_ALLOCATOR.directBuffer(128);
+        try {
+            JsonByteBufWriter jsonWriter = new JsonByteBufWriter(buffer);
+            directWriter.write(order, jsonWriter);
+            jsonWriter.flush();
+            return buffer.readableBytes();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { JsonWriterBenchmark.class.getSimpleName(), "-prof", "gc" });
+    }
+
+    /**
+     * What {@code VertxOutputStream} does with the bytes, minus the actual write to the connection: they are copied
+     * into pooled chunks, the chunks are handed over, and released here, once {@link #OUTPUT_BUFFER_SIZE} is reached and
+     * the remaining ones are handed over on close.
+     */
+    private static final class ResponseOutputStream extends OutputStream {
+
+        private final List<ByteBuf> chunks = new ArrayList<>();
+        private int size;
+        private int written;
+
+        @Override
+        public void write(int b) {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            int rem = len;
+            int idx = off;
+            while (rem > 0) {
+                ByteBuf last = chunks.isEmpty() ? null : chunks.get(chunks.size() - 1);
+                if (last == null || !last.isWritable()) {
+                    last = VertxByteBufAllocator.POOLED_ALLOCATOR
+                            .directBuffer(Math.min(Math.max(MIN_CHUNK_SIZE, rem), OUTPUT_BUFFER_SIZE - size));
+                    chunks.add(last);
+                }
+                int appended = Math.min(rem, last.writableBytes());
+                last.writeBytes(b, idx, appended);
+                size += appended;
+                rem -= appended;
+                idx += appended;
+                if (size == OUTPUT_BUFFER_SIZE) {
+                    handOver();
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            handOver();
+        }
+
+        private void handOver() {
+            for (int i = 0; i < chunks.size(); i++) {
+                chunks.get(i).release();
+            }
+            chunks.clear();
+            written += size;
+            size = 0;
+        }
+    }
+
+    public static class Order {
+        private final long id;
+        private final String customer;
+        private final boolean paid;
+        private final List<Item> items;
+
+        public Order(long id, String customer, boolean paid, List<Item> items) {
+            this.id = id;
+            this.customer = customer;
+            this.paid = paid;
+            this.items = items;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getCustomer() {
+            return customer;
+        }
+
+        public boolean isPaid() {
+            return paid;
+        }
+
+        public List<Item> getItems() {
+            return items;
+        }
+    }
+
+    public static class Item {
+        private final String name;
+        private final String description;
+        private final int quantity;
+        private final double price;
+
+        public Item(String name, String description, int quantity, double price) {
+            this.name = name;
+            this.description = description;
+            this.quantity = quantity;
+            this.price = price;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+    }
+
+    /**
+     * What would be generated at build time for {@link Order}
+     */
+    public static class OrderWriter extends DirectJsonWriter {
+
+        private static final byte[] NAME_0 = JsonByteBufWriter.encodeFieldName("id");
+        private static final byte[] NAME_1 = JsonByteBufWriter.encodeFieldName("customer");
+        private static final byte[] NAME_2 = JsonByteBufWriter.encodeFieldName("paid");
+        private static final byte[] NAME_3 = JsonByteBufWriter.encodeFieldName("items");
+
+        public OrderWriter() {
+            super(Order.class);
+        }
+
+        @Override
+        public String[] propertyNames() {
+            return new String[] { "id", "customer", "paid", "items" };
+        }
+
+        @Override
+        public void write(Object value, JsonByteBufWriter writer) {
+            Order order = (Order) value;
+            writer.writeStartObject();
+            writer.writeFieldName(NAME_0);
+            writer.writeNumber(order.getId());
+            writer.writeFieldName(NAME_1);
+            writer.writeString(order.getCustomer());
+            writer.writeFieldName(NAME_2);
+            writer.writeBoolean(order.isPaid());
+            writer.writeFieldName(NAME_3);
+            DirectJsonWriters.writeIterable(order.getItems(), writer);
+            writer.writeEndObject();
+        }
+    }
+
+    /**
+     * What would be generated at build time for {@link Item}
+     */
+    public static class ItemWriter extends DirectJsonWriter {
+
+        private static final byte[] NAME_0 = JsonByteBufWriter.encodeFieldName("name");
+        private static final byte[] NAME_1 = JsonByteBufWriter.encodeFieldName("description");
+        private static final byte[] NAME_2 = JsonByteBufWriter.encodeFieldName("quantity");
+        private static final byte[] NAME_3 = JsonByteBufWriter.encodeFieldName("price");
+
+        public ItemWriter() {
+            super(Item.class);
+        }
+
+        @Override
+        public String[] propertyNames() {
+            return new String[] { "name", "description", "quantity", "price" };
+        }
+
+        @Override
+        public void write(Object value, JsonByteBufWriter writer) {
+            Item item = (Item) value;
+            writer.writeStartObject();
+            writer.writeFieldName(NAME_0);
+            writer.writeString(item.getName());
+            writer.writeFieldName(NAME_1);
+            writer.writeString(item.getDescription());
+            writer.writeFieldName(NAME_2);
+            writer.writeNumber(item.getQuantity());
+            writer.writeFieldName(NAME_3);
+            writer.writeNumber(item.getPrice());
+            writer.writeEndObject();
+        }
+    }
+}
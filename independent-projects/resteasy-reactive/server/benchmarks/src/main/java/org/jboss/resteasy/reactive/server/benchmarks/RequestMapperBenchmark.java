@@ -0,0 +1,102 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.resteasy.reactive.server.mapping.CompiledRequestMapper;
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper;
+import org.jboss.resteasy.reactive.server.mapping.URITemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares {@link RequestMapper} with {@link CompiledRequestMapper} on synthetic route tables.
+ * <p>
+ * Every resource {@code i} of the table contributes a literal route, a route with a path parameter, a route with
+ * two path parameters and a route with a custom regex, so that stems are shared between several templates like
+ * they are for real applications.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RequestMapperBenchmark {
+
+    private static final int PATHS = 1024;
+
+    @Param({ "10", "1000", "10000" })
+    public int routes;
+
+    private RequestMapper<String> mapper;
+    private RequestMapper<String> compiledMapper;
+    private String[] paths;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ArrayList<RequestMapper.RequestPath<String>> templates = new ArrayList<>();
+        int resources = Math.max(1, routes / 4);
+        for (int i = 0; i < resources; i++) {
+            add(templates, "/resource" + i + "/list");
+            add(templates, "/resource" + i + "/{id}");
+            add(templates, "/resource" + i + "/{id}/items/{item}");
+            add(templates, "/resource" + i + "/{id}/versions/{version:\\d+}");
+        }
+        mapper = new RequestMapper<>(new ArrayList<>(templates));
+        compiledMapper = new CompiledRequestMapper<>(new ArrayList<>(templates));
+
+        paths = new String[PATHS];
+        for (int i = 0; i < PATHS; i++) {
+            int resource = (int) ((i * 2654435761L) % resources);
+            switch (i % 4) {
+                case 0:
+                    paths[i] = "/resource" + resource + "/list";
+                    break;
+                case 1:
+                    paths[i] = "/resource" + resource + "/" + i;
+                    break;
+                case 2:
+                    paths[i] = "/resource" + resource + "/" + i + "/items/" + (i * 31);
+                    break;
+                default:
+                    paths[i] = "/resource" + resource + "/" + i + "/versions/" + (i % 7);
+                    break;
+            }
+        }
+    }
+
+    private static void add(ArrayList<RequestMapper.RequestPath<String>> templates, String template) {
+        templates.add(new RequestMapper.RequestPath<>(false, new URITemplate(template, false), template));
+    }
+
+    @Benchmark
+    public void requestMapper(Blackhole blackhole) {
+        for (String path : paths) {
+            blackhole.consume(mapper.map(path));
+        }
+    }
+
+    @Benchmark
+    public void compiledRequestMapper(Blackhole blackhole) {
+        for (String path : paths) {
+            blackhole.consume(compiledMapper.map(path));
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { RequestMapperBenchmark.class.getSimpleName(), "-prof", "gc" });
+    }
+}
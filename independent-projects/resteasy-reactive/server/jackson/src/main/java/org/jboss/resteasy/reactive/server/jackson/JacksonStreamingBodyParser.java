@@ -0,0 +1,158 @@
+package org.jboss.resteasy.reactive.server.jackson;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.resteasy.reactive.server.spi.StreamingServerMessageBodyReader;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.core.io.JsonEOFException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * Parses a JSON body with the non-blocking Jackson parser as its chunks are received.
+ * <p>
+ * Databind cannot bind from a non-blocking parser, so the tokens of a value are collected in a {@link TokenBuffer} until
+ * the value is complete, and bound from there. If the target type is a {@link List} (or one of its supertypes) or an
+ * array of objects, and the body is a JSON array, each element is bound as soon as its tokens have been received, so only
+ * the tokens of a single element are retained. Any other value is bound once all its tokens have been received.
+ */
+public class JacksonStreamingBodyParser implements StreamingServerMessageBodyReader.BodyParser<Object> {
+
+    private final ObjectReader reader;
+    // the reader of the elements, or null if the value is not bound element by element
+    private final ObjectReader elementReader;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private TokenBuffer tokens;
+    // the elements bound so far, if the root array is bound element by element
+    private List<Object> elements;
+    private int depth;
+    private boolean completed;
+    private Object value;
+    private byte[] chunk;
+
+    /**
+     * @param reader the reader used to bind the entity, which must already be configured for the target type
+     */
+    public JacksonStreamingBodyParser(ObjectReader reader) throws IOException {
+        this.reader = reader;
+        this.elementReader = elementReader(reader);
+        this.parser = reader.createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    @Override
+    public void parse(ByteBuffer data) throws IOException {
+        int length = data.remaining();
+        if (length == 0 || completed) {
+            // like the blocking reader, what follows the value is ignored
+            return;
+        }
+        if (data.hasArray()) {
+            int start = data.arrayOffset() + data.position();
+            feeder.feedInput(data.array(), start, start + length);
+        } else {
+            // the parser reads the chunk lazily, but it has always been fully consumed once drain() returns
+            if (chunk == null || chunk.length < length) {
+                chunk = new byte[length];
+            }
+            data.get(chunk, 0, length);
+            feeder.feedInput(chunk, 0, length);
+        }
+        drain();
+    }
+
+    @Override
+    public Object complete() throws IOException {
+        try {
+            if (!completed) {
+                feeder.endOfInput();
+                drain();
+            }
+            if (completed) {
+                return value;
+            }
+            if (tokens == null && elements == null) {
+                // empty body
+                return null;
+            }
+            throw new JsonEOFException(parser, JsonToken.NOT_AVAILABLE, "Unexpected end-of-input");
+        } finally {
+            parser.close();
+        }
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while (!completed && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (depth == 0 && token == JsonToken.START_ARRAY && elementReader != null) {
+                elements = new ArrayList<>();
+                depth = 1;
+                continue;
+            }
+            if (elements != null && depth == 1 && token == JsonToken.END_ARRAY) {
+                value = toValue(elements);
+                elements = null;
+                completed = true;
+                continue;
+            }
+            if (tokens == null) {
+                tokens = new TokenBuffer(parser);
+            }
+            tokens.copyCurrentEvent(parser);
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+            if (elements != null) {
+                if (depth == 1) {
+                    elements.add(bind(elementReader));
+                }
+            } else if (depth == 0) {
+                value = bind(reader);
+                completed = true;
+            }
+        }
+    }
+
+    private Object bind(ObjectReader reader) throws IOException {
+        try (JsonParser tokensParser = tokens.asParser(parser)) {
+            return reader.readValue(tokensParser);
+        } finally {
+            tokens = null;
+        }
+    }
+
+    private Object toValue(List<Object> elements) {
+        JavaType type = reader.getValueType();
+        if (!type.isArrayType()) {
+            return elements;
+        }
+        Object array = Array.newInstance(type.getContentType().getRawClass(), elements.size());
+        for (int i = 0; i < elements.size(); i++) {
+            Array.set(array, i, elements.get(i));
+        }
+        return array;
+    }
+
+    private static ObjectReader elementReader(ObjectReader reader) {
+        JavaType type = reader.getValueType();
+        if (type == null || type.getContentType() == null || type.getContentType().isPrimitive()) {
+            return null;
+        }
+        // the same container as the one databind would create
+        if (type.isArrayType() || type.isCollectionLikeType() && type.getRawClass().isAssignableFrom(ArrayList.class)) {
+            return reader.forType(type.getContentType());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,143 @@
+package org.jboss.resteasy.reactive.server.jackson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+public class JacksonStreamingBodyParserTest {
+
+    private static final String JSON = "[{\"name\":\"café\",\"price\":12.50,\"tags\":[\"a\",\"b\"]},"
+            + "{\"name\":\"😀\",\"price\":1e3,\"tags\":[]}]";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void testChunks() throws IOException {
+        byte[] bytes = JSON.getBytes(StandardCharsets.UTF_8);
+        for (int chunkSize : new int[] { 1, 3, 7, bytes.length }) {
+            for (boolean direct : new boolean[] { false, true }) {
+                JacksonStreamingBodyParser parser = new JacksonStreamingBodyParser(itemsReader());
+                for (int i = 0; i < bytes.length; i += chunkSize) {
+                    parser.parse(buffer(bytes, i, Math.min(bytes.length, i + chunkSize), direct));
+                }
+                @SuppressWarnings("unchecked")
+                List<Item> items = (List<Item>) parser.complete();
+                assertThat(items).hasSize(2);
+                assertThat(items.get(0).name).isEqualTo("café");
+                assertThat(items.get(0).price).isEqualByComparingTo("12.50");
+                assertThat(items.get(0).tags).containsExactly("a", "b");
+                assertThat(items.get(1).name).isEqualTo("😀");
+                assertThat(items.get(1).price).isEqualByComparingTo("1000");
+                assertThat(items.get(1).tags).isEmpty();
+            }
+        }
+    }
+
+    @Test
+    public void testElementsAreBoundAsTheyAreReceived() throws IOException {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"name\":\"item ").append(i).append("\",\"tags\":[\"a\"]}");
+        }
+        byte[] bytes = json.append("]").toString().getBytes(StandardCharsets.UTF_8);
+        int half = bytes.length / 2;
+        Counted.count = 0;
+        JacksonStreamingBodyParser parser = new JacksonStreamingBodyParser(mapper.readerFor(Counted[].class));
+        parser.parse(ByteBuffer.wrap(bytes, 0, half));
+        // the elements received so far are bound, their tokens are not retained until the end of the body
+        assertThat(Counted.count).isBetween(400, 600);
+        parser.parse(ByteBuffer.wrap(bytes, half, bytes.length - half));
+        Counted[] items = (Counted[]) parser.complete();
+        assertThat(items).hasSize(1000);
+        assertThat(items[999].name).isEqualTo("item 999");
+    }
+
+    @Test
+    public void testScalarElements() throws IOException {
+        JacksonStreamingBodyParser parser = new JacksonStreamingBodyParser(mapper.readerFor(new TypeReference<List<String>>() {
+        }));
+        parser.parse(ByteBuffer.wrap("[\"a\", null, \"c\"] trailing".getBytes(StandardCharsets.UTF_8)));
+        @SuppressWarnings("unchecked")
+        List<String> values = (List<String>) parser.complete();
+        assertThat(values).containsExactly("a", null, "c");
+    }
+
+    @Test
+    public void testObject() throws IOException {
+        JacksonStreamingBodyParser parser = new JacksonStreamingBodyParser(mapper.readerFor(Item.class));
+        parser.parse(ByteBuffer.wrap("{\"name\":\"a\",\"tags\":[\"b\"]}".getBytes(StandardCharsets.UTF_8)));
+        Item item = (Item) parser.complete();
+        assertThat(item.name).isEqualTo("a");
+        assertThat(item.tags).containsExactly("b");
+    }
+
+    @Test
+    public void testTruncatedBody() throws IOException {
+        for (String json : new String[] { "[{\"name\":\"a\"}", "[{\"name\":" }) {
+            JacksonStreamingBodyParser parser = new JacksonStreamingBodyParser(itemsReader());
+            parser.parse(ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8)));
+            assertThatThrownBy(parser::complete).isInstanceOf(StreamReadException.class);
+        }
+    }
+
+    @Test
+    public void testEmptyBody() throws IOException {
+        JacksonStreamingBodyParser parser = new JacksonStreamingBodyParser(itemsReader());
+        parser.parse(ByteBuffer.wrap(" \n ".getBytes(StandardCharsets.UTF_8)));
+        assertThat(parser.complete()).isNull();
+    }
+
+    @Test
+    public void testMalformedBody() throws IOException {
+        JacksonStreamingBodyParser parser = new JacksonStreamingBodyParser(itemsReader());
+        assertThatThrownBy(() -> {
+            parser.parse(ByteBuffer.wrap("[{\"name\"::".getBytes(StandardCharsets.UTF_8)));
+            parser.complete();
+        }).isInstanceOf(JsonParseException.class);
+    }
+
+    private ObjectReader itemsReader() {
+        return mapper.readerFor(new TypeReference<List<Item>>() {
+        });
+    }
+
+    private static ByteBuffer buffer(byte[] bytes, int start, int end, boolean direct) {
+        if (direct) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(end - start);
+            buffer.put(bytes, start, end - start).flip();
+            return buffer;
+        }
+        // a slice, so that the array offset is not 0
+        return ByteBuffer.wrap(bytes, start, end - start).slice();
+    }
+
+    public static class Counted {
+        static int count;
+
+        public String name;
+        public List<String> tags;
+
+        public Counted() {
+            count++;
+        }
+    }
+
+    public static class Item {
+        public String name;
+        public BigDecimal price;
+        public List<String> tags;
+    }
+}
@@ -117,6 +117,7 @@ public ScanStep(IndexView nonCalculatingIndex) {
             //we force the indexing of some internal classes
             //so we can correctly detect their inheritors
             index.getClassByName(ResteasyReactiveServerDotNames.SERVER_MESSAGE_BODY_READER);
+            index.getClassByName(ResteasyReactiveServerDotNames.STREAMING_SERVER_MESSAGE_BODY_READER);
             index.getClassByName(ResteasyReactiveServerDotNames.SERVER_MESSAGE_BODY_WRITER_ALL_WRITER);
             index.getClassByName(ResteasyReactiveServerDotNames.SERVER_MESSAGE_BODY_WRITER);
         }
@@ -407,7 +408,8 @@ public RunnableApplication createApplication(RuntimeConfiguration runtimeConfigu
             }
 
             DeploymentInfo info = new DeploymentInfo()
-                    .setResteasyReactiveConfig(new ResteasyReactiveConfig())
+                    .setResteasyReactiveConfig(new ResteasyReactiveConfig(scanStep.inputBufferSize, scanStep.minChunkSize,
+                            scanStep.outputBufferSize, scanStep.singleDefaultProduces, scanStep.defaultProduces))
                     .setFeatures(sa.scannedFeatures)
                     .setInterceptors(sa.resourceInterceptors)
                     .setDynamicFeatures(sa.dynamicFeatures)
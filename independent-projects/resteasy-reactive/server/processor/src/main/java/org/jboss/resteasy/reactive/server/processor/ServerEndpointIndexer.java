@@ -16,6 +16,7 @@
 import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.LOCAL_DATE_TIME;
 import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.LOCAL_TIME;
 import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.MULTI_VALUED_MAP;
+import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.OBJECT;
 import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.OFFSET_DATE_TIME;
 import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.OFFSET_TIME;
 import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.PERIOD;
@@ -24,6 +25,7 @@
 import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.YEAR;
 import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.YEAR_MONTH;
 import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.ZONED_DATE_TIME;
+import static org.jboss.resteasy.reactive.server.processor.util.ResteasyReactiveServerDotNames.ADAPTIVE_EXECUTION;
 
 import java.io.File;
 import java.io.InputStream;
@@ -115,6 +117,7 @@
     protected final List<MethodScanner> methodScanners;
     protected final FieldInjectionIndexerExtension fieldInjectionHandler;
     protected final ConverterSupplierIndexerExtension converterSupplierIndexerExtension;
+    protected final FusedHandlerIndexerExtension fusedHandlerIndexerExtension;
     protected final boolean removesTrailingSlash;
 
     protected ServerEndpointIndexer(AbstractBuilder builder) {
@@ -123,6 +126,7 @@ protected ServerEndpointIndexer(AbstractBuilder builder) {
         this.methodScanners = new ArrayList<>(builder.methodScanners);
         this.fieldInjectionHandler = builder.fieldInjectionIndexerExtension;
         this.converterSupplierIndexerExtension = builder.converterSupplierIndexerExtension;
+        this.fusedHandlerIndexerExtension = builder.fusedHandlerIndexerExtension;
         this.removesTrailingSlash = builder.removesTrailingSlash;
     }
 
@@ -329,6 +333,29 @@ protected boolean doesMethodHaveBlockingSignature(MethodInfo info) {
         return true;
     }
 
+    /**
+     * @return whether the endpoint completes after its invocation returns, in which case the invocation time says
+     *         nothing about how long the endpoint takes
+     */
+    private boolean isAsync(ServerResourceMethod method, MethodInfo info) {
+        return method.isSuspended() || method.isSse() || !doesMethodHaveBlockingSignature(info);
+    }
+
+    private AnnotationInstance getClassAdaptiveExecution(ClassInfo classInfo) {
+        ClassInfo current = classInfo;
+        while (current != null) {
+            AnnotationInstance adaptiveExecution = current.declaredAnnotation(ADAPTIVE_EXECUTION);
+            if (adaptiveExecution != null) {
+                return adaptiveExecution;
+            }
+            if (current.superName() == null || OBJECT.equals(current.superName())) {
+                return null;
+            }
+            current = index.getClassByName(current.superName());
+        }
+        return null;
+    }
+
     @Override
     protected void handleAdditionalMethodProcessing(ServerResourceMethod method, ClassInfo currentClassInfo, MethodInfo info,
             AnnotationStore annotationStore) {
@@ -343,6 +370,28 @@ protected void handleAdditionalMethodProcessing(ServerResourceMethod method, Cla
             invokerSupplier = endpointInvokerFactory.create(method, currentClassInfo, info);
         }
         method.setInvoker(invokerSupplier);
+        AnnotationInstance adaptiveExecution = annotationStore.getAnnotation(info, ADAPTIVE_EXECUTION);
+        if (adaptiveExecution != null && isAsync(method, info)) {
+            throw new DeploymentException("Method '" + info.name() + "' of class '" + info.declaringClass().name()
+                    + "' uses @AdaptiveExecution but completes asynchronously, so its service time cannot be measured");
+        }
+        if (adaptiveExecution == null && !isAsync(method, info)) {
+            adaptiveExecution = getClassAdaptiveExecution(currentClassInfo);
+        }
+        if (adaptiveExecution != null && method.getHttpMethod() != null) {
+            // the endpoint starts on the IO thread, and the runtime moves it to other threads when needed
+            AnnotationValue threshold = adaptiveExecution.value("eventLoopThreshold");
+            AnnotationValue allowVirtualThreads = adaptiveExecution.value("allowVirtualThreads");
+            method.setAdaptiveExecution(true)
+                    .setAdaptiveEventLoopThreshold(threshold != null ? threshold.asLong() : 200)
+                    .setAdaptiveVirtualThreads(allowVirtualThreads != null && allowVirtualThreads.asBoolean());
+            method.setBlocking(false);
+            method.setRunOnVirtualThread(false);
+        }
+        if (fusedHandlerIndexerExtension != null && method.getHttpMethod() != null && !method.isSse()) {
+            method.setFusedHandlerClassName(
+                    fusedHandlerIndexerExtension.generateFusedHandler(method, currentClassInfo, info));
+        }
         Set<String> methodAnnotationNames = new HashSet<>();
         Collection<AnnotationInstance> instances = annotationStore.getAnnotations(info);
         for (AnnotationInstance instance : instances) {
@@ -739,6 +788,7 @@ private ParameterConverterSupplier extractConverter(String elementType, IndexVie
         private List<MethodScanner> methodScanners = new ArrayList<>();
         private FieldInjectionIndexerExtension fieldInjectionIndexerExtension;
         private ConverterSupplierIndexerExtension converterSupplierIndexerExtension = new ReflectionConverterIndexerExtension();
+        private FusedHandlerIndexerExtension fusedHandlerIndexerExtension;
         private boolean removesTrailingSlash = true;
 
         public EndpointInvokerFactory getEndpointInvokerFactory() {
@@ -760,6 +810,11 @@ public B setConverterSupplierIndexerExtension(ConverterSupplierIndexerExtension
             return (B) this;
         }
 
+        public B setFusedHandlerIndexerExtension(FusedHandlerIndexerExtension fusedHandlerIndexerExtension) {
+            this.fusedHandlerIndexerExtension = fusedHandlerIndexerExtension;
+            return (B) this;
+        }
+
         public B addMethodScanners(Collection<MethodScanner> methodScanners) {
             this.methodScanners.addAll(methodScanners);
             return (B) this;
@@ -796,4 +851,12 @@ ParameterConverterSupplier extractConverterImpl(String elementType, IndexView in
                 Map<String, String> existingConverters, String errorLocation, boolean hasRuntimeConverters);
     }
 
+    public interface FusedHandlerIndexerExtension {
+        /**
+         * @return the name of the {@link org.jboss.resteasy.reactive.server.handlers.FusedHandler} generated for the
+         *         method, or null if its handler chain must not be fused
+         */
+        String generateFusedHandler(ServerResourceMethod method, ClassInfo currentClassInfo, MethodInfo info);
+    }
+
 }
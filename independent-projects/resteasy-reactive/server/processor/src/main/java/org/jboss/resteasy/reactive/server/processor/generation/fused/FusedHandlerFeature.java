@@ -0,0 +1,12 @@
+package org.jboss.resteasy.reactive.server.processor.generation.fused;
+
+import org.jboss.jandex.IndexView;
+import org.jboss.resteasy.reactive.server.processor.ServerEndpointIndexer;
+import org.jboss.resteasy.reactive.server.processor.generation.AbstractFeatureScanner;
+
+public class FusedHandlerFeature extends AbstractFeatureScanner {
+    @Override
+    public void integrateWithIndexer(ServerEndpointIndexer.Builder builder, IndexView index) {
+        builder.setFusedHandlerIndexerExtension(new FusedHandlerGenerator((s) -> classOutput));
+    }
+}
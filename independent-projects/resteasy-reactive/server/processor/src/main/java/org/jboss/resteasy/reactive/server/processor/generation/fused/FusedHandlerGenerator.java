@@ -0,0 +1,254 @@
+package org.jboss.resteasy.reactive.server.processor.generation.fused;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+import org.jboss.resteasy.reactive.common.model.MethodParameter;
+import org.jboss.resteasy.reactive.common.processor.HashUtil;
+import org.jboss.resteasy.reactive.common.util.MediaTypeHelper;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.core.parameters.HeaderParamExtractor;
+import org.jboss.resteasy.reactive.server.core.parameters.ParameterExtractor;
+import org.jboss.resteasy.reactive.server.core.parameters.PathParamExtractor;
+import org.jboss.resteasy.reactive.server.core.parameters.QueryParamExtractor;
+import org.jboss.resteasy.reactive.server.handlers.FixedProducesHandler;
+import org.jboss.resteasy.reactive.server.handlers.FusedHandler;
+import org.jboss.resteasy.reactive.server.handlers.ResponseHandler;
+import org.jboss.resteasy.reactive.server.handlers.ResponseWriterHandler;
+import org.jboss.resteasy.reactive.server.model.ServerResourceMethod;
+import org.jboss.resteasy.reactive.server.processor.ServerEndpointIndexer;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+import io.quarkus.gizmo.AssignableResultHandle;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.CatchBlockCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.gizmo.TryBlock;
+
+/**
+ * Generates a {@link FusedHandler} for each endpoint that qualifies: a non-private instance method with only
+ * {@code String} path, query or header parameters, a single non-wildcard produced media type and no adaptive execution.
+ * <p>
+ * The generated handler extracts the parameters with the concrete extractors, calls the resource method directly and
+ * then runs the response handlers through their concrete types, e.g. for {@code hello(@PathParam String name)}:
+ *
+ * <pre>
+ * protected void run(ResteasyReactiveRequestContext requestContext, ServerRestHandler[] chain, int position) {
+ *     if (requestContext.getResult() == null) {
+ *         requestContext.requireCDIRequestScope();
+ *         Object[] parameters = requestContext.getParameters();
+ *         try {
+ *             parameters[0] = orDefault(((PathParamExtractor) extractors[0]).extractParameter(requestContext), 0);
+ *         } catch (Exception e) {
+ *             throw extractionFailure(e);
+ *         }
+ *         try {
+ *             requestContext.setResult(((Resource) requestContext.getEndpointInstance()).hello((String) parameters[0]));
+ *         } catch (Throwable t) {
+ *             requestContext.handleException(t, true);
+ *         }
+ *     }
+ *     if (proceed(requestContext, chain, position, 0)) {
+ *         ((FixedProducesHandler) handlers[0]).handle(requestContext);
+ *         if (proceed(requestContext, chain, position, 1)) {
+ *             ...
+ * }
+ * </pre>
+ */
+public class FusedHandlerGenerator implements ServerEndpointIndexer.FusedHandlerIndexerExtension {
+
+    private static final MethodDescriptor GET_RESULT = MethodDescriptor.ofMethod(ResteasyReactiveRequestContext.class,
+            "getResult", Object.class);
+    private static final MethodDescriptor SET_RESULT = MethodDescriptor.ofMethod(ResteasyReactiveRequestContext.class,
+            "setResult", ResteasyReactiveRequestContext.class, Object.class);
+    private static final MethodDescriptor REQUIRE_CDI_REQUEST_SCOPE = MethodDescriptor.ofMethod(
+            ResteasyReactiveRequestContext.class, "requireCDIRequestScope", void.class);
+    private static final MethodDescriptor GET_PARAMETERS = MethodDescriptor.ofMethod(ResteasyReactiveRequestContext.class,
+            "getParameters", Object[].class);
+    private static final MethodDescriptor GET_ENDPOINT_INSTANCE = MethodDescriptor.ofMethod(
+            ResteasyReactiveRequestContext.class, "getEndpointInstance", Object.class);
+    private static final MethodDescriptor HANDLE_EXCEPTION = MethodDescriptor.ofMethod(
+            ResteasyReactiveRequestContext.class, "handleException", void.class, Throwable.class, boolean.class);
+    private static final MethodDescriptor EXTRACTION_FAILURE = MethodDescriptor.ofMethod(FusedHandler.class,
+            "extractionFailure", RuntimeException.class, Exception.class);
+
+    final Function<String, ClassOutput> classOutput;
+    private final Set<String> generatedClassNames = new HashSet<>();
+
+    public FusedHandlerGenerator(Function<String, ClassOutput> classOutput) {
+        this.classOutput = classOutput;
+    }
+
+    @Override
+    public String generateFusedHandler(ServerResourceMethod method, ClassInfo currentClassInfo, MethodInfo info) {
+        List<String> extractorTypes = extractorTypes(method, info);
+        if (extractorTypes == null || !hasFixedProduces(method) || method.isAdaptiveExecution()
+                || Modifier.isPrivate(info.flags()) || Modifier.isStatic(info.flags())
+                || Modifier.isInterface(currentClassInfo.flags())) {
+            return null;
+        }
+        String endpointIdentifier = info.toString() +
+                method.getHttpMethod() +
+                method.getPath() +
+                Arrays.toString(method.getConsumes()) +
+                Arrays.toString(method.getProduces());
+        String className = currentClassInfo.name() + "$quarkusrestfused$" + method.getName() + "_"
+                + HashUtil.sha1(endpointIdentifier);
+        if (generatedClassNames.add(className)) {
+            List<String> handlerTypes = new ArrayList<>();
+            if (info.returnType().kind() != Type.Kind.VOID) {
+                handlerTypes.add(FixedProducesHandler.class.getName());
+            }
+            handlerTypes.add(ResponseHandler.class.getName());
+            handlerTypes.add(ResponseWriterHandler.class.getName());
+            // the method may be declared by a superclass or an interface, it is invoked on the resource class
+            MethodDescriptor declared = MethodDescriptor.of(info);
+            MethodDescriptor resourceMethod = MethodDescriptor.ofMethod(currentClassInfo.name().toString(),
+                    declared.getName(), declared.getReturnType(), (Object[]) declared.getParameterTypes());
+            generate(classOutput.apply(currentClassInfo.name().toString()), className, currentClassInfo.name().toString(),
+                    resourceMethod, extractorTypes, handlerTypes);
+        }
+        return className;
+    }
+
+    /**
+     * @return the extractors of the parameters, or {@code null} if one of them is not a simple {@code String} parameter
+     */
+    private static List<String> extractorTypes(ServerResourceMethod method, MethodInfo info) {
+        MethodParameter[] parameters = method.getParameters();
+        if (parameters.length != info.parametersCount()) {
+            return null;
+        }
+        List<String> extractorTypes = new ArrayList<>(parameters.length);
+        for (MethodParameter parameter : parameters) {
+            if (!String.class.getName().equals(parameter.declaredType) || parameter.isObtainedAsCollection()
+                    || parameter.isOptional()) {
+                return null;
+            }
+            Class<? extends ParameterExtractor> extractorType;
+            switch (parameter.parameterType) {
+                case PATH:
+                    extractorType = PathParamExtractor.class;
+                    break;
+                case QUERY:
+                    extractorType = QueryParamExtractor.class;
+                    break;
+                case HEADER:
+                    extractorType = HeaderParamExtractor.class;
+                    break;
+                default:
+                    return null;
+            }
+            extractorTypes.add(extractorType.getName());
+        }
+        return extractorTypes;
+    }
+
+    private static boolean hasFixedProduces(ServerResourceMethod method) {
+        String[] produces = method.getProduces();
+        if (produces == null || produces.length != 1) {
+            return false;
+        }
+        MediaType mediaType = MediaTypeHelper.valueOf(produces[0]);
+        return !mediaType.isWildcardType() && !mediaType.isWildcardSubtype();
+    }
+
+    public static void generate(ClassOutput classOutput, String className, String resourceClassName,
+            MethodDescriptor resourceMethod, List<String> extractorTypes, List<String> handlerTypes) {
+        try (ClassCreator cc = new ClassCreator(classOutput, className, null, FusedHandler.class.getName())) {
+            returnNames(cc, "extractorTypes", extractorTypes);
+            returnNames(cc, "handlerTypes", handlerTypes);
+
+            MethodCreator run = cc.getMethodCreator("run", void.class, ResteasyReactiveRequestContext.class,
+                    ServerRestHandler[].class, int.class);
+            run.setModifiers(Modifier.PROTECTED);
+            run.addException(Exception.class);
+            ResultHandle requestContext = run.getMethodParam(0);
+            ResultHandle chain = run.getMethodParam(1);
+            ResultHandle position = run.getMethodParam(2);
+
+            // the invocation is skipped if the processing was aborted, the response handlers still run
+            BytecodeCreator invoke = run.ifNull(run.invokeVirtualMethod(GET_RESULT, requestContext)).trueBranch();
+            invoke.invokeVirtualMethod(REQUIRE_CDI_REQUEST_SCOPE, requestContext);
+            ResultHandle parameters = invoke.invokeVirtualMethod(GET_PARAMETERS, requestContext);
+
+            TryBlock extract = invoke.tryBlock();
+            // the protected members of the superclass must be accessed through the generated class
+            ResultHandle extractors = extract.readInstanceField(
+                    FieldDescriptor.of(className, "extractors", ParameterExtractor[].class), extract.getThis());
+            MethodDescriptor orDefault = MethodDescriptor.ofMethod(className, "orDefault", Object.class, Object.class,
+                    int.class);
+            for (int i = 0; i < extractorTypes.size(); i++) {
+                String extractorType = extractorTypes.get(i);
+                ResultHandle extractor = extract.checkCast(extract.readArrayValue(extractors, i), extractorType);
+                ResultHandle value = extract.invokeVirtualMethod(MethodDescriptor.ofMethod(extractorType, "extractParameter",
+                        Object.class, ResteasyReactiveRequestContext.class), extractor, requestContext);
+                extract.writeArrayValue(parameters, i,
+                        extract.invokeVirtualMethod(orDefault, extract.getThis(), value, extract.load(i)));
+            }
+            CatchBlockCreator extractionFailed = extract.addCatch(Exception.class);
+            extractionFailed.throwException(
+                    extractionFailed.invokeStaticMethod(EXTRACTION_FAILURE, extractionFailed.getCaughtException()));
+
+            TryBlock call = invoke.tryBlock();
+            ResultHandle instance = call.checkCast(call.invokeVirtualMethod(GET_ENDPOINT_INSTANCE, requestContext),
+                    resourceClassName);
+            ResultHandle[] args = new ResultHandle[extractorTypes.size()];
+            for (int i = 0; i < args.length; i++) {
+                args[i] = call.checkCast(call.readArrayValue(parameters, i), String.class);
+            }
+            ResultHandle result = call.invokeVirtualMethod(resourceMethod, instance, args);
+            AssignableResultHandle boxed = call.createVariable(Object.class);
+            if (resourceMethod.getReturnType().equals("V")) {
+                call.assign(boxed, call.loadNull());
+            } else {
+                call.assign(boxed, call.smartCast(result, Object.class));
+            }
+            call.invokeVirtualMethod(SET_RESULT, requestContext, boxed);
+            CatchBlockCreator invocationFailed = call.addCatch(Throwable.class);
+            // the target doesn't change, so that response filters know what the resource method was
+            invocationFailed.invokeVirtualMethod(HANDLE_EXCEPTION, requestContext, invocationFailed.getCaughtException(),
+                    invocationFailed.load(true));
+
+            MethodDescriptor proceed = MethodDescriptor.ofMethod(className, "proceed", boolean.class,
+                    ResteasyReactiveRequestContext.class, ServerRestHandler[].class, int.class, int.class);
+            ResultHandle handlers = run.readInstanceField(
+                    FieldDescriptor.of(className, "handlers", ServerRestHandler[].class), run.getThis());
+            BytecodeCreator current = run;
+            for (int i = 0; i < handlerTypes.size(); i++) {
+                String handlerType = handlerTypes.get(i);
+                current = current.ifTrue(current.invokeVirtualMethod(proceed, current.getThis(), requestContext, chain,
+                        position, current.load(i))).trueBranch();
+                ResultHandle handler = current.checkCast(current.readArrayValue(handlers, i), handlerType);
+                current.invokeVirtualMethod(MethodDescriptor.ofMethod(handlerType, "handle", void.class,
+                        ResteasyReactiveRequestContext.class), handler, requestContext);
+            }
+            run.returnVoid();
+        }
+    }
+
+    private static void returnNames(ClassCreator cc, String methodName, List<String> names) {
+        MethodCreator method = cc.getMethodCreator(methodName, String[].class);
+        method.setModifiers(Modifier.PROTECTED);
+        ResultHandle array = method.newArray(String.class, names.size());
+        for (int i = 0; i < names.size(); i++) {
+            method.writeArrayValue(array, i, method.load(names.get(i)));
+        }
+        method.returnValue(array);
+    }
+}
@@ -0,0 +1,60 @@
+package org.jboss.resteasy.reactive.server.processor.scanning;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.resteasy.reactive.common.processor.EndpointIndexer;
+import org.jboss.resteasy.reactive.common.processor.transformation.AnnotationStore;
+import org.jboss.resteasy.reactive.server.CachedResponse;
+import org.jboss.resteasy.reactive.server.handlers.CachedResponseCaptureHandler;
+import org.jboss.resteasy.reactive.server.handlers.CachedResponseHandler;
+import org.jboss.resteasy.reactive.server.model.FixedHandlerChainCustomizer;
+import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer;
+
+public class CachedResponseScanner implements MethodScanner {
+
+    public static final DotName CACHED_RESPONSE = DotName.createSimple(CachedResponse.class.getName());
+
+    @Override
+    public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndpointClass,
+            Map<String, Object> methodContext) {
+        AnnotationStore annotationStore = (AnnotationStore) methodContext.get(EndpointIndexer.METHOD_CONTEXT_ANNOTATION_STORE);
+        AnnotationInstance cachedResponse = annotationStore.getAnnotation(method, CACHED_RESPONSE);
+        if (cachedResponse == null) {
+            cachedResponse = actualEndpointClass.declaredAnnotation(CACHED_RESPONSE);
+            if (cachedResponse == null) {
+                return Collections.emptyList();
+            }
+        }
+        String cacheName = cacheName(cachedResponse);
+        AnnotationValue ttlValue = cachedResponse.value("ttl");
+        AnnotationValue varyValue = cachedResponse.value("vary");
+
+        CachedResponseHandler handler = new CachedResponseHandler();
+        handler.setCacheName(cacheName);
+        // the key of the endpoint is enough since the method, path, query and media type are added at runtime
+        handler.setKeyPrefix(actualEndpointClass.name() + "#" + method.name());
+        handler.setVary(varyValue != null ? varyValue.asStringArray() : new String[0]);
+        CachedResponseCaptureHandler captureHandler = new CachedResponseCaptureHandler();
+        captureHandler.setCacheName(cacheName);
+        captureHandler.setTtl(TimeUnit.SECONDS.toMillis(ttlValue != null ? ttlValue.asLong() : 60));
+        // the lookup runs once security checks and request filters have accepted the request
+        return List.of(new FixedHandlerChainCustomizer(handler, HandlerChainCustomizer.Phase.RESOLVE_METHOD_PARAMETERS),
+                new FixedHandlerChainCustomizer(captureHandler, HandlerChainCustomizer.Phase.AFTER_RESPONSE_CREATED));
+    }
+
+    /**
+     * @return the name of the cache of an instance of {@link CachedResponse}
+     */
+    public static String cacheName(AnnotationInstance cachedResponse) {
+        AnnotationValue cacheNameValue = cachedResponse.value("cacheName");
+        return cacheNameValue != null ? cacheNameValue.asString() : CachedResponse.DEFAULT_CACHE_NAME;
+    }
+}
@@ -3,6 +3,7 @@
 import jakarta.ws.rs.core.Context;
 
 import org.jboss.jandex.DotName;
+import org.jboss.resteasy.reactive.server.AdaptiveExecution;
 import org.jboss.resteasy.reactive.server.ServerRequestFilter;
 import org.jboss.resteasy.reactive.server.ServerResponseFilter;
 import org.jboss.resteasy.reactive.server.SimpleResourceInfo;
@@ -10,6 +11,7 @@
 import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveContainerRequestContext;
 import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyReader;
 import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
+import org.jboss.resteasy.reactive.server.spi.StreamingServerMessageBodyReader;
 
 public class ResteasyReactiveServerDotNames {
     public static final DotName CONTEXT = DotName.createSimple(Context.class.getName());
@@ -23,9 +25,12 @@ public class ResteasyReactiveServerDotNames {
             .createSimple(ServerMessageBodyWriter.AllWriteableMessageBodyWriter.class.getName());
     public static final DotName SERVER_MESSAGE_BODY_READER = DotName
             .createSimple(ServerMessageBodyReader.class.getName());
+    public static final DotName STREAMING_SERVER_MESSAGE_BODY_READER = DotName
+            .createSimple(StreamingServerMessageBodyReader.class.getName());
     public static final DotName QUARKUS_REST_CONTAINER_REQUEST_CONTEXT = DotName
             .createSimple(ResteasyReactiveContainerRequestContext.class.getName());
     public static final DotName SIMPLIFIED_RESOURCE_INFO = DotName.createSimple(SimpleResourceInfo.class.getName());
     public static final DotName WITH_FORM_READ = DotName
             .createSimple(WithFormRead.class.getName());
+    public static final DotName ADAPTIVE_EXECUTION = DotName.createSimple(AdaptiveExecution.class.getName());
 }
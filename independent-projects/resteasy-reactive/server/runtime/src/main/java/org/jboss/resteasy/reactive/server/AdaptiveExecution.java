@@ -0,0 +1,37 @@
+package org.jboss.resteasy.reactive.server;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Lets the runtime choose the thread an endpoint is invoked on, from how long its invocations take.
+ * <p>
+ * The endpoint starts on the IO thread, and moves to a worker thread when the mean duration of its invocations exceeds
+ * {@link #eventLoopThreshold()}, or as soon as it attempts a blocking operation on the IO thread, in which case it
+ * stays on worker threads. It moves back to the IO thread when its invocations become fast again. By placing this
+ * annotation, the developer states that the endpoint is safe to run on the IO thread as long as it is fast, so the
+ * request that attempts a blocking operation on the IO thread fails as it would on a non-blocking endpoint.
+ * <p>
+ * This annotation can be placed on endpoints or on resource classes and their superclasses, and takes precedence over
+ * {@link io.smallrye.common.annotation.Blocking}, {@link io.smallrye.common.annotation.NonBlocking} and
+ * {@link io.smallrye.common.annotation.RunOnVirtualThread}. It cannot be placed on endpoints that complete
+ * asynchronously, such as endpoints returning a {@code Uni} or a {@code CompletionStage}, and endpoints of an annotated
+ * class that complete asynchronously keep their usual dispatch.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface AdaptiveExecution {
+
+    /**
+     * The mean duration of the invocations, in microseconds, above which the endpoint is moved off the IO thread
+     */
+    long eventLoopThreshold() default 200;
+
+    /**
+     * Whether the endpoint may run on virtual threads instead of worker threads, which it does when its invocations
+     * mostly wait instead of using the CPU
+     */
+    boolean allowVirtualThreads() default false;
+}
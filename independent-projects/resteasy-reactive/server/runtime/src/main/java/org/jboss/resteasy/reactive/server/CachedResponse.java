@@ -0,0 +1,45 @@
+package org.jboss.resteasy.reactive.server;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Stores the serialized successful responses of a {@code GET} endpoint, so that the following requests with the same
+ * path, query, negotiated media type and {@link #vary()} headers are answered with the stored status, headers and body
+ * without invoking the endpoint. A request whose {@code If-None-Match} header matches the entity tag of the stored
+ * response is answered with a {@code 304 Not Modified}. The responses carry a {@code Vary} header listing
+ * {@code Accept}, when the endpoint produces several media types, and the {@link #vary()} headers.
+ * <p>
+ * Stored responses are served once the security checks and the request filters have accepted the request, before
+ * parameter extraction and invocation, and without running response filters or writer interceptors: they are shared by
+ * all clients, so this must not be used on endpoints whose response depends on the caller, unless the headers
+ * identifying the caller are part of {@link #vary()}. Responses that set cookies are never stored. Security checks that
+ * only run when the endpoint is invoked, such as checks that need its parameters, would be skipped, which is why Quarkus
+ * rejects this annotation on endpoints secured with security annotations.
+ * <p>
+ * This annotation can be placed on endpoints or on resource classes.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface CachedResponse {
+
+    String DEFAULT_CACHE_NAME = "rest-responses";
+
+    /**
+     * The name of the cache the responses are stored in
+     */
+    String cacheName() default DEFAULT_CACHE_NAME;
+
+    /**
+     * How long a response is served from the cache, in seconds
+     */
+    long ttl() default 60;
+
+    /**
+     * The request headers whose values are part of the cache key, such as {@code Accept} for endpoints that produce
+     * several media types
+     */
+    String[] vary() default {};
+}
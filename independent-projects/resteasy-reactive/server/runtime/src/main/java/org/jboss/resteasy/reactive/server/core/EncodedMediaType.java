@@ -2,6 +2,7 @@
 
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
+import java.util.function.Function;
 
 import jakarta.ws.rs.core.MediaType;
 
@@ -17,8 +18,19 @@ public class EncodedMediaType implements ContentType {
     final MediaType mediaType;
     final String charset;
     String encoded;
+    /**
+     * The header value as created by the server at deployment time, if any
+     */
+    final CharSequence headerValue;
 
     public EncodedMediaType(MediaType mediaType) {
+        this(mediaType, null);
+    }
+
+    /**
+     * @param headerValueFactory if not null, used to pre-encode the value of the {@code Content-Type} header
+     */
+    public EncodedMediaType(MediaType mediaType, Function<String, CharSequence> headerValueFactory) {
         MediaType effectiveMediaType = mediaType;
         String effectiveCharset;
         String originalCharset = mediaType.getParameters().get("charset");
@@ -36,6 +48,7 @@ public EncodedMediaType(MediaType mediaType) {
             effectiveMediaType = mediaType.withCharset(effectiveCharset);
         }
         this.mediaType = effectiveMediaType;
+        this.headerValue = headerValueFactory == null ? null : headerValueFactory.apply(getEncoded());
     }
 
     // TODO: does this need to be more complex?
@@ -58,6 +71,16 @@ public String getEncoded() {
         return encoded;
     }
 
+    /**
+     * @return the value to use for the {@code Content-Type} header, pre-encoded by the server if possible
+     */
+    public CharSequence getHeaderValue() {
+        if (headerValue == null) {
+            return getEncoded();
+        }
+        return headerValue;
+    }
+
     @Override
     public String getCharset() {
         return charset;
@@ -0,0 +1,62 @@
+package org.jboss.resteasy.reactive.server.core;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.resteasy.reactive.server.spi.CachedResponseEntry;
+import org.jboss.resteasy.reactive.server.spi.ResponseCacheStore;
+
+/**
+ * The default {@link ResponseCacheStore}, which keeps a bounded number of responses in memory for each cache.
+ * <p>
+ * When a cache is full, its expired responses are removed, and if there are none, an arbitrary response is.
+ */
+public class InMemoryResponseCacheStore implements ResponseCacheStore {
+
+    private static final CompletableFuture<CachedResponseEntry> MISS = CompletableFuture.completedFuture(null);
+
+    private final int maxEntries;
+    private final Map<String, Map<String, CachedResponseEntry>> caches = new ConcurrentHashMap<>();
+
+    public InMemoryResponseCacheStore() {
+        this(1000);
+    }
+
+    public InMemoryResponseCacheStore(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public CompletionStage<CachedResponseEntry> get(String cacheName, String key) {
+        Map<String, CachedResponseEntry> cache = caches.get(cacheName);
+        if (cache == null) {
+            return MISS;
+        }
+        CachedResponseEntry entry = cache.get(key);
+        return entry == null ? MISS : CompletableFuture.completedFuture(entry);
+    }
+
+    @Override
+    public void put(String cacheName, String key, CachedResponseEntry entry) {
+        Map<String, CachedResponseEntry> cache = caches.computeIfAbsent(cacheName, n -> new ConcurrentHashMap<>());
+        if (cache.size() >= maxEntries && !cache.containsKey(key)) {
+            evict(cache);
+        }
+        cache.put(key, entry);
+    }
+
+    private static void evict(Map<String, CachedResponseEntry> cache) {
+        long now = System.currentTimeMillis();
+        if (cache.values().removeIf(e -> e.isExpired(now))) {
+            return;
+        }
+        Iterator<String> it = cache.keySet().iterator();
+        if (it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+}
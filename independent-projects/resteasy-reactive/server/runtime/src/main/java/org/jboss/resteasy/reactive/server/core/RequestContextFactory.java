@@ -16,4 +16,15 @@ default boolean isDefaultBlocking() {
         return false;
     }
 
+    /**
+     * Creates the representation of a header value that is known at deployment time. Servers can return a pre-encoded
+     * value that they are able to write without validating and encoding it again for every response.
+     *
+     * @param value the header value
+     * @return the value to use when setting the header
+     */
+    default CharSequence createOptimizedHeaderValue(String value) {
+        return value;
+    }
+
 }
@@ -0,0 +1,77 @@
+package org.jboss.resteasy.reactive.server.core;
+
+import java.util.ArrayDeque;
+
+/**
+ * Keeps the request contexts that completed on a thread, so that the next requests handled by that thread, which is
+ * generally an event loop, reuse them instead of allocating a new context and its JAX-RS objects for each request.
+ * <p>
+ * A context is only returned to the pool when its handler chain completed on the thread that acquired it, and if
+ * nothing can still reference it: contexts that were suspended, whose request scope was captured or that have
+ * callbacks registered are left to the garbage collector instead. This cannot account for application code that
+ * keeps a reference to the context, or to one of its JAX-RS objects such as {@link jakarta.ws.rs.core.UriInfo}, after
+ * the request completed. To find such code, the leak detection mode only reuses the oldest released context once the
+ * pool is full, and fails any attempt to run or resume a context while it is in the pool, reporting where it was
+ * released.
+ */
+public final class RequestContextPool<T extends ResteasyReactiveRequestContext> {
+
+    private final int maxSize;
+    private final boolean leakDetection;
+    private final ThreadLocal<ArrayDeque<T>> contexts = new ThreadLocal<>() {
+        @Override
+        protected ArrayDeque<T> initialValue() {
+            return new ArrayDeque<>();
+        }
+    };
+
+    /**
+     * @param maxSize the maximum number of contexts kept for each thread
+     * @param leakDetection whether the use of a context that was returned to the pool must be detected
+     */
+    public RequestContextPool(int maxSize, boolean leakDetection) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The maximum size of the pool must be positive");
+        }
+        this.maxSize = maxSize;
+        this.leakDetection = leakDetection;
+    }
+
+    /**
+     * @return a context that was released on the current thread, or {@code null} if there is none. It must be
+     *         prepared for the new request before it is run.
+     */
+    public T acquire() {
+        ArrayDeque<T> pooled = contexts.get();
+        T context;
+        if (leakDetection) {
+            context = pooled.size() == maxSize ? pooled.pollFirst() : null;
+        } else {
+            context = pooled.pollLast();
+        }
+        if (context != null) {
+            context.releaseSite = null;
+        }
+        return context;
+    }
+
+    /**
+     * Makes a newly created context return to this pool, on the current thread, once it completed.
+     */
+    public T register(T context) {
+        context.pool = this;
+        context.poolThread = Thread.currentThread();
+        return context;
+    }
+
+    @SuppressWarnings("unchecked")
+    void release(ResteasyReactiveRequestContext context) {
+        ArrayDeque<T> pooled = contexts.get();
+        if (pooled.size() < maxSize) {
+            if (leakDetection) {
+                context.releaseSite = new Throwable("Request context returned to the pool");
+            }
+            pooled.addLast((T) context);
+        }
+    }
+}
@@ -102,6 +102,17 @@
      * Note: those are decoded.
      */
     private Object pathParamValues;
+    /**
+     * When the path params of the target have been recorded as offsets by the mapper, this is the path the offsets
+     * refer to. The values are then only extracted from it when they are read, see {@link #setPathParamOffsets}.
+     */
+    private String pathParamSource;
+    /**
+     * Pairs of start and end offsets into {@link #pathParamSource}, the first pair being the value of the path param at
+     * index {@link #pathParamOffsetsBase}.
+     */
+    private int[] pathParamOffsets;
+    private int pathParamOffsetsBase;
 
     private UriInfo uriInfo;
     /**
@@ -163,6 +174,16 @@
 
     private RequestMapper.RequestMatch<RestInitialHandler.InitialMatch> initialMatch;
 
+    /**
+     * The pool this context is returned to once it completed, if any, see {@link RequestContextPool}
+     */
+    RequestContextPool<?> pool;
+    Thread poolThread;
+    /**
+     * Only set in leak detection mode, while this context sits in the pool
+     */
+    Throwable releaseSite;
+
     public ResteasyReactiveRequestContext(Deployment deployment,
             ThreadSetupAction requestContext, ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
         super(handlerChain, abortHandlerChain, requestContext);
@@ -204,12 +225,25 @@ public void restart(RuntimeResource target, boolean setLocatorTarget) {
         position = 0;
         parameters = target.getParameterTypes().length == 0 ? EMPTY_ARRAY : new Object[target.getParameterTypes().length];
         if (setLocatorTarget) {
+            materializePathParams();
             setProperty(PreviousResource.PROPERTY_KEY, new PreviousResource(this.target, pathParamValues,
                     (PreviousResource) getProperty(PreviousResource.PROPERTY_KEY)));
         }
         this.target = target;
     }
 
+    /**
+     * Continues the processing with another chain of the same resource, from the given position. Unlike the restart
+     * methods, this does not reset any state of the request.
+     *
+     * @param handlerChain The handler chain
+     * @param position The position of the next handler to run
+     */
+    public void continueWith(ServerRestHandler[] handlerChain, int position) {
+        this.handlers = handlerChain;
+        this.position = position;
+    }
+
     public void setupInitialMatchAndRestart(RequestMapper.RequestMatch<RestInitialHandler.InitialMatch> initialMatch) {
         this.initialMatch = initialMatch;
 
@@ -297,12 +331,53 @@ public void setMaxPathParams(int maxPathParams) {
         } else {
             pathParamValues = null;
         }
+        pathParamSource = null;
+        pathParamOffsets = null;
     }
 
     public String getPathParam(int index, boolean encoded) {
+        int[] offsets = pathParamOffsets;
+        if (offsets != null) {
+            int pos = (index - pathParamOffsetsBase) << 1;
+            if (pos >= 0 && pos < offsets.length && offsets[pos] != -1) {
+                String pathParam = pathParamSource.substring(offsets[pos], offsets[pos + 1]);
+                return encoded ? pathParam : Encode.decodePath(pathParam);
+            }
+        }
         return doGetPathParam(index, pathParamValues, encoded);
     }
 
+    /**
+     * Records the values of the path params starting at {@code base} as offsets into {@code source}, instead of setting
+     * them one by one with {@link #setPathParamValue(int, String)}. The values are only extracted when they are read.
+     *
+     * @param base the index of the first path param
+     * @param source the path the offsets refer to
+     * @param offsets pairs of start (inclusive) and end (exclusive) offsets, terminated by a start offset of -1 if the
+     *        array is larger than needed
+     */
+    public ResteasyReactiveRequestContext setPathParamOffsets(int base, String source, int[] offsets) {
+        this.pathParamOffsetsBase = base;
+        this.pathParamSource = source;
+        this.pathParamOffsets = offsets;
+        return this;
+    }
+
+    /**
+     * Extracts the values of the path params that have only been recorded as offsets so far
+     */
+    private void materializePathParams() {
+        int[] offsets = pathParamOffsets;
+        if (offsets == null) {
+            return;
+        }
+        pathParamOffsets = null;
+        for (int i = 0; i < offsets.length && offsets[i] != -1; i += 2) {
+            setPathParamValue(pathParamOffsetsBase + (i >> 1), pathParamSource.substring(offsets[i], offsets[i + 1]));
+        }
+        pathParamSource = null;
+    }
+
     private String doGetPathParam(int index, Object pathParamValues, boolean encoded) {
         if (pathParamValues instanceof String[]) {
             String pathParam = ((String[]) pathParamValues)[index];
@@ -726,6 +801,84 @@ protected void requestScopeDeactivated() {
         CurrentRequestManager.set(null);
     }
 
+    @Override
+    public void run() {
+        if (releaseSite != null) {
+            throw usedAfterRelease();
+        }
+        super.run();
+    }
+
+    @Override
+    public synchronized void resume(Executor executor) {
+        if (releaseSite != null) {
+            throw usedAfterRelease();
+        }
+        super.resume(executor);
+    }
+
+    private IllegalStateException usedAfterRelease() {
+        return new IllegalStateException("The request context was used after it was returned to the pool, "
+                + "the cause shows where it was returned", releaseSite);
+    }
+
+    @Override
+    protected void recycle() {
+        if (pool != null && poolThread == Thread.currentThread() && isRecyclable()) {
+            resetState();
+            pool.release(this);
+        }
+    }
+
+    @Override
+    protected void resetState() {
+        super.resetState();
+        parameters = EMPTY_ARRAY;
+        target = null;
+        pathParamValues = null;
+        pathParamSource = null;
+        pathParamOffsets = null;
+        pathParamOffsetsBase = 0;
+        if (uriInfo instanceof UriInfoImpl) {
+            ((UriInfoImpl) uriInfo).reset();
+        } else {
+            uriInfo = null;
+        }
+        endpointInstance = null;
+        result = null;
+        response = null;
+        httpHeaders = null;
+        requestEntity = null;
+        request = null;
+        entityWriter = null;
+        if (containerRequestContext != null) {
+            containerRequestContext.reset();
+        }
+        method = null;
+        originalMethod = null;
+        path = null;
+        absoluteUri = null;
+        scheme = null;
+        query = null;
+        authority = null;
+        remaining = null;
+        responseContentType = null;
+        methodAnnotations = null;
+        additionalAnnotations = null;
+        allAnnotations = null;
+        genericReturnType = null;
+        inputStream = null;
+        matchedURIs = null;
+        readerInterceptors = null;
+        writerInterceptors = null;
+        securityContext = null;
+        outputStream = null;
+        underlyingOutputStream = null;
+        formData = null;
+        producesChecked = false;
+        initialMatch = null;
+    }
+
     @Override
     protected void restarted(boolean keepTarget) {
         parameters = EMPTY_ARRAY;
@@ -1239,6 +1392,7 @@ public MultivaluedMap<String, String> getAllPathParameters(boolean encoded) {
             return pathParams;
         }
 
+        materializePathParams();
         PreviousResource previousResource = null;
         Object paramValues = this.pathParamValues;
         do {
@@ -488,7 +488,7 @@ public static void encodeResponseHeaders(ResteasyReactiveRequestContext requestC
             }
             EncodedMediaType contentType = requestContext.getResponseContentType();
             if (contentType != null) {
-                vertxResponse.setResponseHeader(CONTENT_TYPE, contentType.toString());
+                vertxResponse.setResponseHeader(CONTENT_TYPE, contentType.getHeaderValue());
             }
 
             return;
@@ -123,7 +123,7 @@ public BeanFactory.BeanInstance<?> apply(Class<?> aClass) {
         List<GenericRuntimeConfigurableServerRestHandler<?>> runtimeConfigurableServerRestHandlers = new ArrayList<>();
         RuntimeResourceDeployment runtimeResourceDeployment = new RuntimeResourceDeployment(info, executorSupplier,
                 virtualExecutorSupplier,
-                interceptorDeployment, dynamicEntityWriter, resourceLocatorHandler, requestContextFactory.isDefaultBlocking());
+                interceptorDeployment, dynamicEntityWriter, resourceLocatorHandler, requestContextFactory);
         List<ResourceClass> possibleSubResource = new ArrayList<>(locatableResourceClasses);
         possibleSubResource.addAll(resourceClasses); //the TCK uses normal resources also as sub resources
         Map<String, List<String>> disabledEndpoints = new HashMap<>();
@@ -140,8 +140,8 @@ public BeanFactory.BeanInstance<?> apply(Class<?> aClass) {
 
                 RuntimeMappingDeployment.buildMethodMapper(templates, method, runtimeResource);
             }
-            Map<String, RequestMapper<RuntimeResource>> mappersByMethod = new RuntimeMappingDeployment(templates)
-                    .buildClassMapper();
+            Map<String, RequestMapper<RuntimeResource>> mappersByMethod = new RuntimeMappingDeployment(templates,
+                    info.getResteasyReactiveConfig().isCompiledRouter()).buildClassMapper();
             boolean isResourceClassDisabled = (clazz.getIsDisabled() != null) && clazz.getIsDisabled().get();
             if (isResourceClassDisabled) {
                 mappersByMethod.forEach(new BiConsumer<>() {
@@ -247,7 +247,8 @@ public void accept(String method, RequestMapper<RuntimeResource> mapper) {
     private void forEachMapperEntry(MappersKey key,
             Map<String, TreeMap<URITemplate, List<RequestMapper.RequestPath<RuntimeResource>>>> classTemplates) {
         int classTemplateNameCount = key.path.countPathParamNames();
-        RuntimeMappingDeployment runtimeMappingDeployment = new RuntimeMappingDeployment(classTemplates);
+        RuntimeMappingDeployment runtimeMappingDeployment = new RuntimeMappingDeployment(classTemplates,
+                info.getResteasyReactiveConfig().isCompiledRouter());
         ClassRoutingHandler classRoutingHandler = new ClassRoutingHandler(runtimeMappingDeployment.buildClassMapper(),
                 classTemplateNameCount, info.isServletPresent());
         classMappers.add(new RequestMapper.RequestPath<>(true, key.path,
@@ -10,6 +10,7 @@
 
 import org.jboss.resteasy.reactive.common.model.ResourceMethod;
 import org.jboss.resteasy.reactive.server.handlers.MediaTypeMapper;
+import org.jboss.resteasy.reactive.server.mapping.CompiledRequestMapper;
 import org.jboss.resteasy.reactive.server.mapping.RequestMapper;
 import org.jboss.resteasy.reactive.server.mapping.RuntimeResource;
 import org.jboss.resteasy.reactive.server.mapping.URITemplate;
@@ -22,16 +23,23 @@ class RuntimeMappingDeployment {
 
     private final SortedMap<URITemplate, List<RequestMapper.RequestPath<RuntimeResource>>> nullMethod;
 
+    private final boolean compiledRouter;
+
     private String currentHttpMethod;
     private ArrayList<RequestMapper.RequestPath<RuntimeResource>> currentMapperPerMethodTemplates;
 
     private Map<String, RequestMapper<RuntimeResource>> classMapper;
     private int maxMethodTemplateNameCount = -1;
 
+    /**
+     * @param compiledRouter whether the per method mappers should be compiled into a {@link CompiledRequestMapper}
+     */
     RuntimeMappingDeployment(
-            Map<String, TreeMap<URITemplate, List<RequestMapper.RequestPath<RuntimeResource>>>> classTemplates) {
+            Map<String, TreeMap<URITemplate, List<RequestMapper.RequestPath<RuntimeResource>>>> classTemplates,
+            boolean compiledRouter) {
         this.classTemplates = classTemplates;
         this.nullMethod = classTemplates.get(null);
+        this.compiledRouter = compiledRouter;
     }
 
     int getMaxMethodTemplateNameCount() {
@@ -67,7 +75,8 @@ private void forEachClassTemplate(String httpMethod,
         currentMapperPerMethodTemplates = new ArrayList<>();
         perMethodTemplateMap.forEach(this::forEachMethodTemplateMap);
 
-        classMapper.put(httpMethod, new RequestMapper<>(currentMapperPerMethodTemplates));
+        classMapper.put(httpMethod, compiledRouter ? new CompiledRequestMapper<>(currentMapperPerMethodTemplates, true)
+                : new RequestMapper<>(currentMapperPerMethodTemplates));
     }
 
     private void forEachMethodTemplateMap(URITemplate path, List<RequestMapper.RequestPath<RuntimeResource>> requestPaths) {
@@ -21,6 +21,7 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import jakarta.ws.rs.RuntimeType;
@@ -42,6 +43,7 @@
 import org.jboss.resteasy.reactive.common.util.types.Types;
 import org.jboss.resteasy.reactive.multipart.FileUpload;
 import org.jboss.resteasy.reactive.server.core.DeploymentInfo;
+import org.jboss.resteasy.reactive.server.core.RequestContextFactory;
 import org.jboss.resteasy.reactive.server.core.ServerSerialisers;
 import org.jboss.resteasy.reactive.server.core.parameters.AsyncResponseExtractor;
 import org.jboss.resteasy.reactive.server.core.parameters.BodyParamExtractor;
@@ -62,13 +64,16 @@
 import org.jboss.resteasy.reactive.server.core.parameters.converters.ParameterConverter;
 import org.jboss.resteasy.reactive.server.core.parameters.converters.RuntimeResolvedConverter;
 import org.jboss.resteasy.reactive.server.core.serialization.DynamicEntityWriter;
+import org.jboss.resteasy.reactive.server.core.serialization.EntityWriter;
 import org.jboss.resteasy.reactive.server.core.serialization.FixedEntityWriter;
 import org.jboss.resteasy.reactive.server.core.serialization.FixedEntityWriterArray;
 import org.jboss.resteasy.reactive.server.handlers.AbortChainHandler;
+import org.jboss.resteasy.reactive.server.handlers.AdaptiveExecutionHandler;
 import org.jboss.resteasy.reactive.server.handlers.BlockingHandler;
 import org.jboss.resteasy.reactive.server.handlers.ExceptionHandler;
 import org.jboss.resteasy.reactive.server.handlers.FixedProducesHandler;
 import org.jboss.resteasy.reactive.server.handlers.FormBodyHandler;
+import org.jboss.resteasy.reactive.server.handlers.FusedHandler;
 import org.jboss.resteasy.reactive.server.handlers.InputHandler;
 import org.jboss.resteasy.reactive.server.handlers.InstanceHandler;
 import org.jboss.resteasy.reactive.server.handlers.InvocationHandler;
@@ -90,6 +95,7 @@
 import org.jboss.resteasy.reactive.server.model.ServerMethodParameter;
 import org.jboss.resteasy.reactive.server.model.ServerResourceMethod;
 import org.jboss.resteasy.reactive.server.spi.EndpointInvoker;
+import org.jboss.resteasy.reactive.server.spi.EntityWriterProvider;
 import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
 import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
@@ -119,6 +125,7 @@ public class RuntimeResourceDeployment {
      * If the runtime will always default to blocking (e.g. Servlet)
      */
     private final boolean defaultBlocking;
+    private final Function<String, CharSequence> headerValueFactory;
     private final BlockingHandler blockingHandler;
     private final BlockingHandler blockingHandlerVirtualThread;
     private final ResponseWriterHandler responseWriterHandler;
@@ -126,7 +133,7 @@ public class RuntimeResourceDeployment {
     public RuntimeResourceDeployment(DeploymentInfo info, Supplier<Executor> executorSupplier,
             Supplier<Executor> virtualExecutorSupplier,
             RuntimeInterceptorDeployment runtimeInterceptorDeployment, DynamicEntityWriter dynamicEntityWriter,
-            ResourceLocatorHandler resourceLocatorHandler, boolean defaultBlocking) {
+            ResourceLocatorHandler resourceLocatorHandler, RequestContextFactory requestContextFactory) {
         this.info = info;
         this.serialisers = info.getSerialisers();
         this.resteasyReactiveConfig = info.getResteasyReactiveConfig();
@@ -135,7 +142,13 @@ public RuntimeResourceDeployment(DeploymentInfo info, Supplier<Executor> executo
         this.runtimeInterceptorDeployment = runtimeInterceptorDeployment;
         this.dynamicEntityWriter = dynamicEntityWriter;
         this.resourceLocatorHandler = resourceLocatorHandler;
-        this.defaultBlocking = defaultBlocking;
+        this.defaultBlocking = requestContextFactory.isDefaultBlocking();
+        this.headerValueFactory = new Function<>() {
+            @Override
+            public CharSequence apply(String value) {
+                return requestContextFactory.createOptimizedHeaderValue(value);
+            }
+        };
         this.blockingHandler = new BlockingHandler(executorSupplier);
         this.blockingHandlerVirtualThread = new BlockingHandler(virtualExecutorSupplier);
         this.responseWriterHandler = new ResponseWriterHandler(dynamicEntityWriter);
@@ -202,8 +215,15 @@ public RuntimeResource buildResourceMethod(ResourceClass clazz,
         // because they can potentially set thread local variables
         // we don't need to run this for Servlet and other runtimes that default to blocking
         Optional<Integer> blockingHandlerIndex = Optional.empty();
+        AdaptiveExecutionHandler adaptiveExecutionHandler = null;
         if (!defaultBlocking) {
-            if (method.isBlocking()) {
+            if (method.isAdaptiveExecution()) {
+                adaptiveExecutionHandler = new AdaptiveExecutionHandler(clazz.getClassName() + "#" + method.getName(),
+                        method.getAdaptiveEventLoopThreshold(), method.isAdaptiveVirtualThreads(), executorSupplier,
+                        virtualExecutorSupplier);
+                handlers.add(adaptiveExecutionHandler);
+                score.add(ScoreSystem.Category.Execution, ScoreSystem.Diagnostic.ExecutionAdaptive);
+            } else if (method.isBlocking()) {
                 if (method.isRunOnVirtualThread()) {
                     handlers.add(blockingHandlerVirtualThread);
                     score.add(ScoreSystem.Category.Execution, ScoreSystem.Diagnostic.ExecutionVirtualThread);
@@ -275,10 +295,22 @@ public RuntimeResource buildResourceMethod(ResourceClass clazz,
                 break;
             }
         }
+        RequestDeserializeHandler requestDeserializeHandler = null;
+        if (bodyParameter != null) {
+            Class<Object> typeClass = loadClass(bodyParameter.declaredType);
+            Type genericType = typeClass;
+            if (!bodyParameter.type.equals(bodyParameter.declaredType)) {
+                // we only need to parse the signature and create generic type when the declared type differs from the type
+                genericType = TypeSignatureParser.parse(bodyParameter.signature);
+            }
+            requestDeserializeHandler = new RequestDeserializeHandler(typeClass, genericType, consumesMediaTypes, serialisers,
+                    bodyParameterIndex);
+        }
         // form params can be everywhere (field, beanparam, param)
         boolean checkWithFormReadRequestFilters = false;
         boolean inputHandlerEngaged = false;
-        if (method.isFormParamRequired() || hasWithFormReadRequestFilters) {
+        boolean formBodyRead = method.isFormParamRequired() || hasWithFormReadRequestFilters;
+        if (formBodyRead) {
             // read the body as multipart in one go
             handlers.add(new FormBodyHandler(bodyParameter != null, executorSupplier, method.getFileFormNames()));
             checkWithFormReadRequestFilters = true;
@@ -286,8 +318,9 @@ public RuntimeResource buildResourceMethod(ResourceClass clazz,
         if (bodyParameter != null) {
             if (!defaultBlocking) {
                 if (!method.isBlocking()) {
-                    // allow the body to be read by chunks
-                    handlers.add(new InputHandler(resteasyReactiveConfig.getInputBufferSize(), executorSupplier));
+                    // allow the body to be read by chunks, and parsed as it is received when the reader supports it
+                    handlers.add(new InputHandler(resteasyReactiveConfig.getInputBufferSize(), executorSupplier,
+                            formBodyRead ? null : requestDeserializeHandler));
                     checkWithFormReadRequestFilters = true;
                     inputHandlerEngaged = true;
                 }
@@ -309,17 +342,10 @@ public RuntimeResource buildResourceMethod(ResourceClass clazz,
         }
 
         // if we need the body, let's deserialize it
-        if (bodyParameter != null) {
-            Class<Object> typeClass = loadClass(bodyParameter.declaredType);
-            Type genericType = typeClass;
-            if (!bodyParameter.type.equals(bodyParameter.declaredType)) {
-                // we only need to parse the signature and create generic type when the declared type differs from the type
-                genericType = TypeSignatureParser.parse(bodyParameter.signature);
-            }
-            handlers.add(new RequestDeserializeHandler(typeClass, genericType, consumesMediaTypes, serialisers,
-                    bodyParameterIndex));
+        if (requestDeserializeHandler != null) {
+            handlers.add(requestDeserializeHandler);
             if (inputHandlerEngaged) {
-                handlers.add(NonBlockingHandler.INSTANCE);
+                handlers.add(adaptiveExecutionHandler != null ? adaptiveExecutionHandler : NonBlockingHandler.INSTANCE);
             }
 
         }
@@ -372,6 +398,9 @@ public RuntimeResource buildResourceMethod(ResourceClass clazz,
         }
         addHandlers(handlers, clazz, method, info, HandlerChainCustomizer.Phase.BEFORE_METHOD_INVOKE);
         EndpointInvoker invoker = method.getInvoker().get();
+        if (adaptiveExecutionHandler != null) {
+            invoker = adaptiveExecutionHandler.timed(invoker);
+        }
         ServerRestHandler alternate = alternateInvoker(method, invoker);
         if (alternate != null) {
             handlers.add(alternate);
@@ -419,7 +448,7 @@ public RuntimeResource buildResourceMethod(ResourceClass clazz,
                             //if this is null this means that the type cannot be resolved at build time
                             //this happens when the method returns a generic type (e.g. Object), so there
                             //are more specific mappers that could be invoked depending on the actual return value
-                            handlers.add(new FixedProducesHandler(mediaType, dynamicEntityWriter));
+                            handlers.add(new FixedProducesHandler(mediaType, dynamicEntityWriter, headerValueFactory));
                             score.add(ScoreSystem.Category.Writer, ScoreSystem.Diagnostic.WriterRunTime);
                         } else if (buildTimeWriters.isEmpty()) {
                             //we could not find any writers that can write a response to this endpoint
@@ -429,8 +458,15 @@ public RuntimeResource buildResourceMethod(ResourceClass clazz,
                             score.add(ScoreSystem.Category.Writer, ScoreSystem.Diagnostic.WriterRunTime);
                         } else if (isSingleEffectiveWriter(buildTimeWriters)) {
                             MessageBodyWriter<?> writer = buildTimeWriters.get(0);
-                            handlers.add(new FixedProducesHandler(mediaType, new FixedEntityWriter(
-                                    writer, serialisers)));
+                            EntityWriter entityWriter = new FixedEntityWriter(writer, serialisers);
+                            if (writer instanceof EntityWriterProvider) {
+                                EntityWriter specialised = ((EntityWriterProvider) writer)
+                                        .createEntityWriter(rawEffectiveReturnType, mediaType, entityWriter);
+                                if (specialised != null) {
+                                    entityWriter = specialised;
+                                }
+                            }
+                            handlers.add(new FixedProducesHandler(mediaType, entityWriter, headerValueFactory));
                             if (writer instanceof ServerMessageBodyWriter)
                                 score.add(ScoreSystem.Category.Writer,
                                         ScoreSystem.Diagnostic.WriterBuildTimeDirect(writer));
@@ -441,7 +477,8 @@ public RuntimeResource buildResourceMethod(ResourceClass clazz,
                             //multiple writers, we try them in the proper order which had already been created
                             handlers.add(new FixedProducesHandler(mediaType,
                                     new FixedEntityWriterArray(buildTimeWriters.toArray(EMPTY_MESSAGE_BODY_WRITERS),
-                                            serialisers)));
+                                            serialisers),
+                                    headerValueFactory));
                             score.add(ScoreSystem.Category.Writer,
                                     ScoreSystem.Diagnostic.WriterBuildTimeMultiple(buildTimeWriters));
                         }
@@ -495,13 +532,32 @@ public RuntimeResource buildResourceMethod(ResourceClass clazz,
                 classPathTemplate,
                 method.getProduces() == null ? null : serverMediaType,
                 consumesMediaTypes, invoker,
-                clazz.getFactory(), handlers.toArray(EMPTY_REST_HANDLER_ARRAY), method.getName(), parameterDeclaredTypes,
+                clazz.getFactory(), fuseHandlers(method, handlers.toArray(EMPTY_REST_HANDLER_ARRAY)), method.getName(),
+                parameterDeclaredTypes,
                 effectiveReturnType, method.isBlocking(), method.isRunOnVirtualThread(), resourceClass,
                 lazyMethod,
                 pathParameterIndexes, info.isDevelopmentMode() ? score : null, streamElementType,
                 clazz.resourceExceptionMapper());
     }
 
+    /**
+     * Replaces the parameter, invocation and response handlers that end the chain with the handler generated at build
+     * time for the method, if any, when the chain has the shape it was generated for.
+     */
+    private static ServerRestHandler[] fuseHandlers(ServerResourceMethod method, ServerRestHandler[] chain) {
+        if (method.getFusedHandlerClassName() == null) {
+            return chain;
+        }
+        FusedHandler fusedHandler = FusedHandler.create(method.getFusedHandlerClassName());
+        int start = fusedHandler.init(chain);
+        if (start == -1) {
+            return chain;
+        }
+        ServerRestHandler[] fusedChain = Arrays.copyOf(chain, start + 1);
+        fusedChain[start] = fusedHandler;
+        return fusedChain;
+    }
+
     /**
      * This method takes into account the case where a parameter is for example List<UUID>
      * and we want to allow users to be able to use their implementation of
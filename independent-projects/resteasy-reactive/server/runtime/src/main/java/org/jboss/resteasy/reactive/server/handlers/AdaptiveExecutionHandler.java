@@ -0,0 +1,234 @@
+package org.jboss.resteasy.reactive.server.handlers;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.common.core.BlockingOperationSupport;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.EndpointInvoker;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+/**
+ * Dispatches the request of an endpoint annotated with {@link org.jboss.resteasy.reactive.server.AdaptiveExecution} to
+ * the thread its invocations currently require, from the service times measured by the invoker returned by
+ * {@link #timed(EndpointInvoker)}.
+ * <p>
+ * The mean service time is an exponentially weighted moving average, which is updated without synchronization: losing
+ * a sample when requests of the endpoint complete concurrently does not change the outcome. The mode only changes after
+ * {@link #MIN_SAMPLES} invocations in the current mode, and the endpoint only moves back to the IO thread once its mean
+ * service time is below half the threshold, so that an endpoint whose service time is close to the threshold does not
+ * keep moving between threads.
+ * <p>
+ * Only endpoints that complete when their invocation returns are handled, as the time spent waiting for an asynchronous
+ * result says nothing about the cost of running the endpoint on the IO thread.
+ */
+public class AdaptiveExecutionHandler implements ServerRestHandler {
+
+    private static final Logger log = Logger.getLogger(AdaptiveExecutionHandler.class);
+
+    static final int MIN_SAMPLES = 16;
+    /**
+     * The CPU time is only measured for one invocation out of {@code CPU_SAMPLING + 1}, as it is not free
+     */
+    private static final int CPU_SAMPLING = 7;
+
+    private static volatile Predicate<Throwable> blockingOperationDetector = new Predicate<>() {
+        @Override
+        public boolean test(Throwable throwable) {
+            return false;
+        }
+    };
+
+    private enum Mode {
+        EVENT_LOOP,
+        WORKER,
+        VIRTUAL_THREAD
+    }
+
+    private final String endpoint;
+    private final long thresholdNanos;
+    private final boolean allowVirtualThreads;
+    private final Supplier<Executor> workerExecutorSupplier;
+    private final Supplier<Executor> virtualExecutorSupplier;
+    private final ThreadMXBean threadMXBean;
+    private volatile Executor workerExecutor;
+    private volatile Executor virtualExecutor;
+
+    private volatile Mode mode = Mode.EVENT_LOOP;
+    private volatile boolean pinned;
+    private volatile long meanNanos;
+    private volatile long meanCpuNanos = -1;
+    private int samples;
+
+    public AdaptiveExecutionHandler(String endpoint, long eventLoopThresholdMicros, boolean allowVirtualThreads,
+            Supplier<Executor> workerExecutorSupplier, Supplier<Executor> virtualExecutorSupplier) {
+        this.endpoint = endpoint;
+        this.thresholdNanos = TimeUnit.MICROSECONDS.toNanos(eventLoopThresholdMicros);
+        this.workerExecutorSupplier = workerExecutorSupplier;
+        this.virtualExecutorSupplier = virtualExecutorSupplier;
+        ThreadMXBean threadMXBean = null;
+        if (allowVirtualThreads) {
+            threadMXBean = ManagementFactory.getThreadMXBean();
+            if (!threadMXBean.isCurrentThreadCpuTimeSupported()) {
+                log.debugf("CPU time is not available, endpoint %s will not run on virtual threads", endpoint);
+                threadMXBean = null;
+            }
+        }
+        this.threadMXBean = threadMXBean;
+        this.allowVirtualThreads = threadMXBean != null;
+    }
+
+    /**
+     * Allows the runtime to tell which exceptions are thrown when a blocking operation is attempted on the IO thread
+     */
+    public static void setBlockingOperationDetector(Predicate<Throwable> blockingOperationDetector) {
+        AdaptiveExecutionHandler.blockingOperationDetector = blockingOperationDetector;
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        Mode mode = this.mode;
+        if (mode == Mode.EVENT_LOOP) {
+            if (requestContext.serverRequest().isOnIoThread()) {
+                return;
+            }
+            requestContext.suspend();
+            requestContext.resume(requestContext.getContextExecutor());
+            return;
+        }
+        if (BlockingOperationSupport.isBlockingAllowed()) {
+            return; //already dispatched
+        }
+        requestContext.suspend();
+        requestContext.resume(mode == Mode.VIRTUAL_THREAD ? virtualExecutor() : workerExecutor());
+    }
+
+    /**
+     * @return an invoker that records the service time of the endpoint, and notices its attempts to block the IO thread
+     */
+    public EndpointInvoker timed(EndpointInvoker invoker) {
+        return new EndpointInvoker() {
+            @Override
+            public Object invoke(Object instance, Object[] parameters) throws Exception {
+                boolean cpu = threadMXBean != null && (samples & CPU_SAMPLING) == 0;
+                long cpuStart = cpu ? threadMXBean.getCurrentThreadCpuTime() : -1;
+                long start = System.nanoTime();
+                try {
+                    return invoker.invoke(instance, parameters);
+                } catch (Throwable t) {
+                    if (isBlockingOperation(t)) {
+                        blockingOperationAttempted();
+                    }
+                    throw t;
+                } finally {
+                    long wall = System.nanoTime() - start;
+                    long cpuTime = -1;
+                    if (cpuStart >= 0) {
+                        long cpuEnd = threadMXBean.getCurrentThreadCpuTime();
+                        if (cpuEnd >= 0) {
+                            cpuTime = cpuEnd - cpuStart;
+                        }
+                    }
+                    record(wall, cpuTime);
+                }
+            }
+        };
+    }
+
+    void record(long wallNanos, long cpuNanos) {
+        long mean = meanNanos;
+        mean = mean == 0 ? wallNanos : mean + ((wallNanos - mean) >> 3);
+        meanNanos = mean;
+        if (cpuNanos >= 0) {
+            long meanCpu = meanCpuNanos;
+            meanCpuNanos = meanCpu < 0 ? cpuNanos : meanCpu + ((cpuNanos - meanCpu) >> 3);
+        }
+        if (++samples < MIN_SAMPLES) {
+            return;
+        }
+        Mode mode = this.mode;
+        if (mode == Mode.EVENT_LOOP) {
+            if (mean > thresholdNanos) {
+                switchTo(offloadedMode());
+            }
+        } else if (!pinned && mean < thresholdNanos / 2) {
+            switchTo(Mode.EVENT_LOOP);
+        } else if (allowVirtualThreads) {
+            Mode offloaded = offloadedMode();
+            if (offloaded != mode) {
+                switchTo(offloaded);
+            }
+        }
+    }
+
+    void blockingOperationAttempted() {
+        pinned = true;
+        if (mode == Mode.EVENT_LOOP) {
+            switchTo(offloadedMode());
+        }
+    }
+
+    private Mode offloadedMode() {
+        // an endpoint that mostly waits instead of using the CPU is better served by virtual threads
+        long meanCpu = meanCpuNanos;
+        if (allowVirtualThreads && meanCpu >= 0 && meanCpu * 2 < meanNanos) {
+            return Mode.VIRTUAL_THREAD;
+        }
+        return Mode.WORKER;
+    }
+
+    private void switchTo(Mode newMode) {
+        Mode oldMode = mode;
+        mode = newMode;
+        samples = 0;
+        if (oldMode != newMode) {
+            log.infof("Endpoint %s now runs on %s, its mean service time is %d microseconds%s", endpoint, describe(newMode),
+                    TimeUnit.NANOSECONDS.toMicros(meanNanos), pinned ? " and it attempted to block the IO thread" : "");
+        }
+    }
+
+    private static String describe(Mode mode) {
+        switch (mode) {
+            case EVENT_LOOP:
+                return "the IO thread";
+            case WORKER:
+                return "worker threads";
+            default:
+                return "virtual threads";
+        }
+    }
+
+    private static boolean isBlockingOperation(Throwable throwable) {
+        Predicate<Throwable> detector = blockingOperationDetector;
+        Throwable current = throwable;
+        while (current != null) {
+            if (detector.test(current)) {
+                return true;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+
+    private Executor workerExecutor() {
+        if (workerExecutor == null) {
+            workerExecutor = workerExecutorSupplier.get();
+        }
+        return workerExecutor;
+    }
+
+    private Executor virtualExecutor() {
+        if (virtualExecutor == null) {
+            virtualExecutor = virtualExecutorSupplier.get();
+        }
+        return virtualExecutor;
+    }
+}
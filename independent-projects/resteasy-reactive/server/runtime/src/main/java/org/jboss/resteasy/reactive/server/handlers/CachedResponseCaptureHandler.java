@@ -0,0 +1,171 @@
+package org.jboss.resteasy.reactive.server.handlers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.CachedResponseEntry;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+/**
+ * Stores the serialized response of an endpoint annotated with {@link org.jboss.resteasy.reactive.server.CachedResponse}
+ * that was not found by {@link CachedResponseHandler}, by adding a writer interceptor that copies the body as it is
+ * written.
+ */
+public class CachedResponseCaptureHandler implements ServerRestHandler {
+
+    private static final String SET_COOKIE = "Set-Cookie";
+
+    // make mutable to allow for bytecode serialization
+    private String cacheName;
+    private long ttl;
+
+    public CachedResponseCaptureHandler() {
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public void setCacheName(String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    /**
+     * @return how long a response is served from the cache, in milliseconds
+     */
+    public long getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(long ttl) {
+        this.ttl = ttl;
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        String key = (String) requestContext.getProperty(CachedResponseHandler.CACHE_KEY_PROPERTY);
+        if (key == null) {
+            return;
+        }
+        Response response = requestContext.getResponse().get();
+        String varyHeader = (String) requestContext.getProperty(CachedResponseHandler.VARY_PROPERTY);
+        if (varyHeader != null && !response.getHeaders().containsKey(HttpHeaders.VARY)) {
+            response.getHeaders().putSingle(HttpHeaders.VARY, varyHeader);
+        }
+        if (response.getStatus() != Response.Status.OK.getStatusCode() || !response.hasEntity()
+                || response.getHeaders().containsKey(SET_COOKIE)) {
+            return;
+        }
+        WriterInterceptor[] interceptors = requestContext.getWriterInterceptors();
+        WriterInterceptor capture = new CaptureInterceptor(requestContext, key);
+        if (interceptors == null) {
+            interceptors = new WriterInterceptor[] { capture };
+        } else {
+            // the capture runs last, so that it stores what the other interceptors wrote
+            interceptors = Arrays.copyOf(interceptors, interceptors.length + 1);
+            interceptors[interceptors.length - 1] = capture;
+        }
+        requestContext.setWriterInterceptors(interceptors);
+    }
+
+    private final class CaptureInterceptor implements WriterInterceptor {
+
+        private final ResteasyReactiveRequestContext requestContext;
+        private final String key;
+
+        CaptureInterceptor(ResteasyReactiveRequestContext requestContext, String key) {
+            this.requestContext = requestContext;
+            this.key = key;
+        }
+
+        @Override
+        public void aroundWriteTo(WriterInterceptorContext context) throws IOException, WebApplicationException {
+            CapturingOutputStream out = new CapturingOutputStream(context.getOutputStream());
+            context.setOutputStream(out);
+            context.proceed();
+            if (!out.closed) {
+                return;
+            }
+            List<String> headers = new ArrayList<>();
+            String entityTag = null;
+            for (Map.Entry<String, String> header : requestContext.serverResponse().getAllResponseHeaders()) {
+                String name = header.getKey();
+                if (name.equalsIgnoreCase(SET_COOKIE)) {
+                    return;
+                }
+                if (name.equalsIgnoreCase(HttpHeaders.ETAG)) {
+                    entityTag = header.getValue();
+                } else if (!name.equalsIgnoreCase(HttpHeaders.CONTENT_LENGTH)
+                        && !name.equalsIgnoreCase("Transfer-Encoding")) {
+                    headers.add(name);
+                    headers.add(header.getValue());
+                }
+            }
+            byte[] body = out.captured.toByteArray();
+            if (entityTag == null) {
+                entityTag = entityTag(body);
+            }
+            CachedResponseHandler.getStore().put(cacheName, key,
+                    new CachedResponseEntry(requestContext.getResponse().get().getStatus(), headers.toArray(new String[0]),
+                            body, entityTag, System.currentTimeMillis() + ttl));
+        }
+    }
+
+    private static String entityTag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16)) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class CapturingOutputStream extends OutputStream {
+
+        private final OutputStream delegate;
+        private final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        private boolean closed;
+
+        CapturingOutputStream(OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            captured.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            captured.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            delegate.close();
+        }
+    }
+}
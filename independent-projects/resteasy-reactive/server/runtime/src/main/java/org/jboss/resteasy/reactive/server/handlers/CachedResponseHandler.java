@@ -0,0 +1,232 @@
+package org.jboss.resteasy.reactive.server.handlers;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.common.util.ServerMediaType;
+import org.jboss.resteasy.reactive.server.core.InMemoryResponseCacheStore;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.CachedResponseEntry;
+import org.jboss.resteasy.reactive.server.spi.ResponseCacheStore;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+/**
+ * Answers the requests of an endpoint annotated with {@link org.jboss.resteasy.reactive.server.CachedResponse} with
+ * the stored response, if any. Otherwise, the key of the request is kept in the context so that
+ * {@link CachedResponseCaptureHandler} stores the response once it has been serialized.
+ */
+public class CachedResponseHandler implements ServerRestHandler {
+
+    private static final Logger log = Logger.getLogger(CachedResponseHandler.class);
+
+    static final String CACHE_KEY_PROPERTY = CachedResponseHandler.class.getName() + ".key";
+    static final String VARY_PROPERTY = CachedResponseHandler.class.getName() + ".vary";
+
+    private static volatile ResponseCacheStore store = new InMemoryResponseCacheStore();
+
+    // make mutable to allow for bytecode serialization
+    private String cacheName;
+    private String keyPrefix;
+    private String[] vary;
+    private volatile String varyHeader;
+
+    public CachedResponseHandler() {
+    }
+
+    public static ResponseCacheStore getStore() {
+        return store;
+    }
+
+    public static void setStore(ResponseCacheStore store) {
+        CachedResponseHandler.store = store;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public void setCacheName(String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    public void setKeyPrefix(String keyPrefix) {
+        this.keyPrefix = keyPrefix;
+    }
+
+    public String[] getVary() {
+        return vary;
+    }
+
+    public void setVary(String[] vary) {
+        this.vary = vary;
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        if (!HttpMethod.GET.equals(requestContext.getMethod())) {
+            return;
+        }
+        String key = key(requestContext);
+        CompletionStage<CachedResponseEntry> stage = store.get(cacheName, key);
+        CompletableFuture<CachedResponseEntry> future = stage.toCompletableFuture();
+        if (future.isDone()) {
+            CachedResponseEntry entry = null;
+            if (!future.isCompletedExceptionally()) {
+                entry = future.getNow(null);
+            } else {
+                log.debugf("Unable to read the cached response of %s", key);
+            }
+            found(requestContext, key, entry);
+            return;
+        }
+        requestContext.suspend();
+        stage.whenComplete(new BiConsumer<CachedResponseEntry, Throwable>() {
+            @Override
+            public void accept(CachedResponseEntry entry, Throwable throwable) {
+                if (throwable != null) {
+                    log.debugf(throwable, "Unable to read the cached response of %s", key);
+                }
+                found(requestContext, key, throwable == null ? entry : null);
+                requestContext.resume();
+            }
+        });
+    }
+
+    private void found(ResteasyReactiveRequestContext requestContext, String key, CachedResponseEntry entry) {
+        if (entry == null || entry.isExpired(System.currentTimeMillis())) {
+            requestContext.setProperty(CACHE_KEY_PROPERTY, key);
+            String varyHeader = varyHeader(requestContext);
+            if (varyHeader != null) {
+                requestContext.setProperty(VARY_PROPERTY, varyHeader);
+            }
+        } else {
+            // this ends the processing of the request, which goes on when it was resumed on the right thread
+            requestContext.restart(new ServerRestHandler[] { new ServeHandler(entry) }, true);
+        }
+    }
+
+    private String key(ResteasyReactiveRequestContext requestContext) {
+        ServerHttpRequest request = requestContext.serverRequest();
+        StringBuilder key = new StringBuilder(requestContext.getMethod()).append(' ').append(keyPrefix).append(' ')
+                .append(requestContext.getPath());
+        String query = request.query();
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        // the stored body is only valid for the media type it was serialized to
+        String accept = request.getRequestHeader(HttpHeaders.ACCEPT);
+        ServerMediaType produces = requestContext.getTarget().getProduces();
+        MediaType negotiated = produces != null ? produces.negotiateProduces(accept).getKey() : null;
+        key.append('\n').append(HttpHeaders.CONTENT_TYPE).append(':');
+        if (negotiated != null) {
+            key.append(negotiated);
+        } else if (accept != null) {
+            key.append(accept);
+        }
+        for (String header : vary) {
+            key.append('\n').append(header).append(':');
+            String value = request.getRequestHeader(header);
+            if (value != null) {
+                key.append(value);
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * @return the value of the {@code Vary} header of the responses of the endpoint, or {@code null} if they do not depend
+     *         on request headers
+     */
+    private String varyHeader(ResteasyReactiveRequestContext requestContext) {
+        String varyHeader = this.varyHeader;
+        if (varyHeader == null) {
+            StringBuilder value = new StringBuilder();
+            ServerMediaType produces = requestContext.getTarget().getProduces();
+            if (produces == null || produces.getSortedMediaTypes().length > 1) {
+                value.append(HttpHeaders.ACCEPT);
+            }
+            for (String header : vary) {
+                if (value.length() > 0) {
+                    value.append(", ");
+                }
+                value.append(header);
+            }
+            varyHeader = value.toString();
+            this.varyHeader = varyHeader;
+        }
+        return varyHeader.isEmpty() ? null : varyHeader;
+    }
+
+    private static final class ServeHandler implements ServerRestHandler {
+
+        private final CachedResponseEntry entry;
+
+        ServeHandler(CachedResponseEntry entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+            ServerHttpResponse response = requestContext.serverResponse();
+            String[] headers = entry.getHeaders();
+            String ifNoneMatch = requestContext.serverRequest().getRequestHeader(HttpHeaders.IF_NONE_MATCH);
+            if (ifNoneMatch != null && matches(ifNoneMatch, entry.getEntityTag())) {
+                response.setStatusCode(304);
+                for (int i = 0; i < headers.length; i += 2) {
+                    if (isNotModifiedHeader(headers[i])) {
+                        response.addResponseHeader(headers[i], headers[i + 1]);
+                    }
+                }
+                response.setResponseHeader(HttpHeaders.ETAG, entry.getEntityTag());
+                response.end();
+                return;
+            }
+            response.setStatusCode(entry.getStatus());
+            for (int i = 0; i < headers.length; i += 2) {
+                response.addResponseHeader(headers[i], headers[i + 1]);
+            }
+            response.setResponseHeader(HttpHeaders.ETAG, entry.getEntityTag());
+            response.end(entry.getBody());
+        }
+
+        /**
+         * The headers that a 304 response must carry, from RFC 9110
+         */
+        private static boolean isNotModifiedHeader(String name) {
+            return name.equalsIgnoreCase(HttpHeaders.CACHE_CONTROL)
+                    || name.equalsIgnoreCase(HttpHeaders.CONTENT_LOCATION)
+                    || name.equalsIgnoreCase(HttpHeaders.EXPIRES)
+                    || name.equalsIgnoreCase(HttpHeaders.VARY);
+        }
+
+        /**
+         * Uses the weak comparison required for {@code If-None-Match}
+         */
+        private static boolean matches(String ifNoneMatch, String entityTag) {
+            String opaqueTag = weakless(entityTag);
+            for (String tag : ifNoneMatch.split(",")) {
+                tag = tag.trim();
+                if (tag.equals("*") || weakless(tag).equals(opaqueTag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static String weakless(String tag) {
+            return tag.startsWith("W/") ? tag.substring(2) : tag;
+        }
+    }
+}
@@ -158,6 +158,11 @@ public void handle(ResteasyReactiveRequestContext requestContext) throws Excepti
 
         requestContext.restart(target.value);
         requestContext.setRemaining(target.remaining);
+        if (target.pathParamOffsets != null) {
+            // the values are only extracted from the path if they are actually read
+            requestContext.setPathParamOffsets(parameterOffset, remaining, target.pathParamOffsets);
+            return;
+        }
         for (int i = 0; i < target.pathParamValues.length; ++i) {
             String pathParamValue = target.pathParamValues[i];
             if (pathParamValue == null) {
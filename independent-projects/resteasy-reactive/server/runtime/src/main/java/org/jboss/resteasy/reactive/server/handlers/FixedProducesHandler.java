@@ -2,6 +2,7 @@
 
 import java.util.List;
 import java.util.Locale;
+import java.util.function.Function;
 
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.HttpHeaders;
@@ -27,7 +28,15 @@ public class FixedProducesHandler implements ServerRestHandler {
     final EntityWriter writer;
 
     public FixedProducesHandler(MediaType mediaType, EntityWriter writer) {
-        this.mediaType = new EncodedMediaType(mediaType);
+        this(mediaType, writer, null);
+    }
+
+    /**
+     * @param headerValueFactory if not null, used to pre-encode the value of the {@code Content-Type} header once
+     *        instead of for every response
+     */
+    public FixedProducesHandler(MediaType mediaType, EntityWriter writer, Function<String, CharSequence> headerValueFactory) {
+        this.mediaType = new EncodedMediaType(mediaType, headerValueFactory);
         this.writer = writer;
         // we want to avoid the small startup cost incurred by JEP 280 and that shows up in the startup cpu flamegraph
         this.mediaTypeString = new StringBuilder(mediaType.getType().length() + 1 + mediaType.getSubtype().length())
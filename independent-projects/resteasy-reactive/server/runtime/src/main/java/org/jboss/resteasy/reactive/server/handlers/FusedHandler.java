@@ -0,0 +1,157 @@
+package org.jboss.resteasy.reactive.server.handlers;
+
+import java.util.Arrays;
+
+import jakarta.ws.rs.WebApplicationException;
+
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.core.parameters.ParameterExtractor;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+/**
+ * Replaces the parameter handlers, the invocation handler and the response handlers that end the chain of an endpoint
+ * with a single handler.
+ * <p>
+ * A subclass is generated at build time for each endpoint that qualifies, i.e. which only has simple parameters and a
+ * fixed produced media type. It calls the concrete parameter extractors and the resource method directly, and then
+ * the response handlers through their concrete types, so the JIT sees straight-line code that is specific to the
+ * endpoint instead of the megamorphic calls of the request context loop, of the parameter handlers and of the invoker.
+ * <p>
+ * The subclass is only used if the chain built at runtime has the shape it was generated for, see
+ * {@link #init(ServerRestHandler[])}. If a response handler suspends the request, the remaining handlers are run from
+ * the unfused chain once it is resumed. If a handler restarts the chain, which is what happens when an exception is
+ * handled, the sequence is simply abandoned.
+ */
+public abstract class FusedHandler implements ServerRestHandler {
+
+    protected ParameterExtractor[] extractors;
+    private String[] defaultValues;
+    protected ServerRestHandler[] handlers;
+    private ServerRestHandler[] unfusedChain;
+    private int start;
+
+    public static FusedHandler create(String className) {
+        try {
+            return (FusedHandler) Class.forName(className, false, Thread.currentThread().getContextClassLoader())
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @return the names of the classes of the parameter extractors the generated code calls, in the order of the
+     *         parameters
+     */
+    protected abstract String[] extractorTypes();
+
+    /**
+     * @return the names of the classes of the handlers that follow the invocation handler, in order
+     */
+    protected abstract String[] handlerTypes();
+
+    /**
+     * Checks that the chain has the shape this handler was generated for: no filters, a parameter handler without
+     * converter for each parameter, using the expected extractor, followed by the invocation handler and the expected
+     * response handlers.
+     *
+     * @param unfusedChain the complete chain of the endpoint
+     * @return the position of the first handler of the chain that this handler replaces, or {@code -1} if the chain
+     *         cannot be fused
+     */
+    public int init(ServerRestHandler[] unfusedChain) {
+        String[] extractorTypes = extractorTypes();
+        String[] handlerTypes = handlerTypes();
+        int invocation = unfusedChain.length - handlerTypes.length - 1;
+        int first = invocation - extractorTypes.length;
+        if (first < 0 || unfusedChain[invocation] == null || unfusedChain[invocation].getClass() != InvocationHandler.class) {
+            return -1;
+        }
+        for (ServerRestHandler handler : unfusedChain) {
+            if (handler instanceof ResourceRequestFilterHandler) {
+                return -1;
+            }
+        }
+        ParameterExtractor[] extractors = new ParameterExtractor[extractorTypes.length];
+        String[] defaultValues = new String[extractorTypes.length];
+        for (int i = 0; i < extractorTypes.length; i++) {
+            if (!(unfusedChain[first + i] instanceof ParameterHandler)) {
+                return -1;
+            }
+            ParameterHandler parameterHandler = (ParameterHandler) unfusedChain[first + i];
+            if (parameterHandler.getIndex() != i || parameterHandler.getConverter() != null
+                    || !parameterHandler.getExtractor().getClass().getName().equals(extractorTypes[i])) {
+                return -1;
+            }
+            extractors[i] = parameterHandler.getExtractor();
+            defaultValues[i] = parameterHandler.getDefaultValue();
+        }
+        for (int i = 0; i < handlerTypes.length; i++) {
+            if (!unfusedChain[invocation + 1 + i].getClass().getName().equals(handlerTypes[i])) {
+                return -1;
+            }
+        }
+        this.extractors = extractors;
+        this.defaultValues = defaultValues;
+        this.unfusedChain = unfusedChain;
+        this.start = invocation + 1;
+        this.handlers = Arrays.copyOfRange(unfusedChain, start, unfusedChain.length);
+        return first;
+    }
+
+    @Override
+    public final void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        run(requestContext, requestContext.getHandlers(), requestContext.getPosition());
+    }
+
+    /**
+     * Extracts the parameters, invokes the resource method and runs the handlers in order, calling {@link #proceed}
+     * before each of them.
+     */
+    protected abstract void run(ResteasyReactiveRequestContext requestContext, ServerRestHandler[] chain, int position)
+            throws Exception;
+
+    /**
+     * @return the extracted value of a parameter, or its default value
+     */
+    protected final Object orDefault(Object value, int index) {
+        return value != null ? value : defaultValues[index];
+    }
+
+    /**
+     * Reports a failure to extract a parameter the same way {@link ParameterHandler} does.
+     */
+    protected static RuntimeException extractionFailure(Exception e) {
+        if (e instanceof WebApplicationException) {
+            return (WebApplicationException) e;
+        }
+        return new WebApplicationException(e, 400);
+    }
+
+    /**
+     * @param chain the chain of the request when this handler was invoked
+     * @param position the position of the request when this handler was invoked
+     * @param next the index of the next handler of the sequence
+     * @return whether the next handler of the sequence must be run
+     */
+    protected final boolean proceed(ResteasyReactiveRequestContext requestContext, ServerRestHandler[] chain, int position,
+            int next) {
+        if (next == handlers.length) {
+            return false;
+        }
+        if (requestContext.getHandlers() != chain || requestContext.getPosition() != position) {
+            // the chain was restarted, so the request context already knows what comes next
+            return false;
+        }
+        if (requestContext.isSuspended()) {
+            requestContext.continueWith(unfusedChain, start + next);
+            return false;
+        }
+        return true;
+    }
+
+    public ServerRestHandler[] getHandlers() {
+        return handlers;
+    }
+}
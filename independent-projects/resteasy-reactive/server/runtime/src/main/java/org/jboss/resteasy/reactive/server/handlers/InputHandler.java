@@ -7,11 +7,16 @@
 import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
+import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.core.NoContentException;
 
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.common.util.EmptyInputStream;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.server.spi.StreamingServerMessageBodyReader;
 
 /**
  * Handler that reads data and sets up the input stream
@@ -20,18 +25,34 @@
  * to allow the request to stay on the IO thread. If the request is too large
  * it will be delegated to an executor and a blocking stream used instead.
  * <p>
+ * If the reader of the body supports it, the body is instead parsed by chunks on the IO thread as they are received,
+ * whatever its length, and it is neither buffered nor delegated to an executor.
+ * <p>
  * TODO: the stream implementation here could be a lot more efficient.
  */
 public class InputHandler implements ServerRestHandler {
 
+    private static final Logger log = Logger.getLogger(InputHandler.class);
+
     final long maxBufferSize;
     private volatile Executor workerExecutor;
     private final Supplier<Executor> workerExecutorSupplier;
     private final ClassLoader originalTCCL;
+    private final RequestDeserializeHandler deserializeHandler;
 
     public InputHandler(long maxBufferSize, Supplier<Executor> workerExecutorSupplier) {
+        this(maxBufferSize, workerExecutorSupplier, null);
+    }
+
+    /**
+     * @param deserializeHandler the handler that deserializes the body, which is asked for a parser that can read the
+     *        body as it is received, or {@code null} to always buffer the body
+     */
+    public InputHandler(long maxBufferSize, Supplier<Executor> workerExecutorSupplier,
+            RequestDeserializeHandler deserializeHandler) {
         this.maxBufferSize = maxBufferSize;
         this.workerExecutorSupplier = workerExecutorSupplier;
+        this.deserializeHandler = deserializeHandler;
         // capture the proper TCCL in order to avoid losing it to Vert.x in dev-mode
         this.originalTCCL = Thread.currentThread().getContextClassLoader();
 
@@ -49,7 +70,16 @@ public void handle(ResteasyReactiveRequestContext context) throws Exception {
                 context.serverRequest().getRequestMethod().equals(HttpMethod.HEAD)) {
             return;
         }
-        InputListener h = new InputListener(context);
+        ServerHttpRequest.ReadCallback h = null;
+        if (deserializeHandler != null) {
+            StreamingServerMessageBodyReader.BodyParser<?> parser = deserializeHandler.createBodyParser(context);
+            if (parser != null) {
+                h = new StreamingInputListener(context, parser);
+            }
+        }
+        if (h == null) {
+            h = new InputListener(context);
+        }
         context.suspend();
         ServerHttpRequest req = context.serverRequest();
         if (!req.isRequestEnded()) {
@@ -111,4 +141,52 @@ public void data(ByteBuffer event) {
             }
         }
     }
+
+    class StreamingInputListener implements ServerHttpRequest.ReadCallback {
+        final ResteasyReactiveRequestContext context;
+        final StreamingServerMessageBodyReader.BodyParser<?> parser;
+        Throwable failure;
+
+        StreamingInputListener(ResteasyReactiveRequestContext context, StreamingServerMessageBodyReader.BodyParser<?> parser) {
+            this.context = context;
+            this.parser = parser;
+        }
+
+        @Override
+        public void done() {
+            Thread.currentThread().setContextClassLoader(originalTCCL);
+            Object entity = null;
+            if (failure == null) {
+                try {
+                    entity = parser.complete();
+                } catch (Throwable t) {
+                    failure = t;
+                }
+            }
+            if (failure != null) {
+                log.debug("Error occurred during deserialization of input", failure);
+                context.handleException(failure instanceof NoContentException ? new BadRequestException(failure) : failure,
+                        true);
+            } else if (entity != null) {
+                context.setRequestEntity(entity);
+            } else {
+                // let the reader decide what an empty body means
+                context.setInputStream(EmptyInputStream.INSTANCE);
+            }
+            context.resume();
+        }
+
+        @Override
+        public void data(ByteBuffer event) {
+            if (failure != null) {
+                // the remaining data is discarded, the failure is reported once the request has been read
+                return;
+            }
+            try {
+                parser.parse(event);
+            } catch (Throwable t) {
+                failure = t;
+            }
+        }
+    }
 }
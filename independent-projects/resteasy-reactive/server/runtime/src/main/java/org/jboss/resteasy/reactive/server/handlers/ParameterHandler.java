@@ -37,6 +37,22 @@ public ParameterHandler(int index, String defaultValue, ParameterExtractor extra
         this.isOptional = isOptional;
     }
 
+    int getIndex() {
+        return index;
+    }
+
+    String getDefaultValue() {
+        return defaultValue;
+    }
+
+    ParameterExtractor getExtractor() {
+        return extractor;
+    }
+
+    ParameterConverter getConverter() {
+        return converter;
+    }
+
     @Override
     public void handle(ResteasyReactiveRequestContext requestContext) {
         // needed because user provided ParamConverter classes could use request scoped CDI beans
@@ -24,6 +24,7 @@
 import org.jboss.resteasy.reactive.server.jaxrs.ReaderInterceptorContextImpl;
 import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyReader;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.server.spi.StreamingServerMessageBodyReader;
 
 public class RequestDeserializeHandler implements ServerRestHandler {
 
@@ -48,27 +49,11 @@ public RequestDeserializeHandler(Class<?> type, Type genericType, List<MediaType
     @Override
     public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
         requestContext.requireCDIRequestScope();
-        MediaType effectiveRequestType = null;
-        Object requestType = requestContext.getHeader(HttpHeaders.CONTENT_TYPE, true);
-        if (requestType != null) {
-            try {
-                effectiveRequestType = MediaTypeHelper.valueOf((String) requestType);
-            } catch (Exception e) {
-                log.debugv("Incorrect media type", e);
-                throw new WebApplicationException(Response.status(Response.Status.BAD_REQUEST).build());
-            }
-
-            // We need to verify media type for sub-resources, this mimics what is done in {@code ClassRoutingHandler}
-            if (MediaTypeHelper.getFirstMatch(
-                    acceptableMediaTypes,
-                    Collections.singletonList(effectiveRequestType)) == null) {
-                throw new NotSupportedException("The content-type header value did not match the value in @Consumes");
-            }
-        } else if (!acceptableMediaTypes.isEmpty()) {
-            effectiveRequestType = acceptableMediaTypes.get(0);
-        } else {
-            effectiveRequestType = MediaType.APPLICATION_OCTET_STREAM_TYPE;
+        if (requestContext.getRequestEntity() != null && !requestContext.hasInputStream()) {
+            // the body has already been parsed while it was received, see createBodyParser
+            return;
         }
+        MediaType effectiveRequestType = effectiveRequestType(requestContext);
         List<MessageBodyReader<?>> readers = serialisers.findReaders(null, type, effectiveRequestType, RuntimeType.SERVER);
         if (readers.isEmpty()) {
             log.debugv("No matching MessageBodyReader found for type {0} and media type {1}", type, effectiveRequestType);
@@ -108,6 +93,62 @@ public void handle(ResteasyReactiveRequestContext requestContext) throws Excepti
         throw new NotSupportedException("No supported MessageBodyReader found");
     }
 
+    /**
+     * Creates a parser that can read the body while it is received, if the reader that would be selected by
+     * {@link #handle(ResteasyReactiveRequestContext)} supports it. The entity is then set on the request context by the
+     * caller, and this handler does not read the body again.
+     *
+     * @return the parser, or {@code null} if the body has to be read from an {@code InputStream}
+     */
+    @SuppressWarnings("unchecked")
+    public StreamingServerMessageBodyReader.BodyParser<?> createBodyParser(ResteasyReactiveRequestContext requestContext) {
+        if (requestContext.getReaderInterceptors() != null) {
+            return null;
+        }
+        MediaType effectiveRequestType;
+        try {
+            effectiveRequestType = effectiveRequestType(requestContext);
+        } catch (WebApplicationException e) {
+            // reported by handle()
+            return null;
+        }
+        for (MessageBodyReader<?> reader : serialisers.findReaders(null, type, effectiveRequestType, RuntimeType.SERVER)) {
+            if (isReadable(reader, requestContext, effectiveRequestType)) {
+                if (reader instanceof StreamingServerMessageBodyReader) {
+                    return ((StreamingServerMessageBodyReader<?>) reader).createBodyParser((Class) type, genericType,
+                            effectiveRequestType, requestContext);
+                }
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private MediaType effectiveRequestType(ResteasyReactiveRequestContext requestContext) {
+        Object requestType = requestContext.getHeader(HttpHeaders.CONTENT_TYPE, true);
+        if (requestType != null) {
+            MediaType effectiveRequestType;
+            try {
+                effectiveRequestType = MediaTypeHelper.valueOf((String) requestType);
+            } catch (Exception e) {
+                log.debugv("Incorrect media type", e);
+                throw new WebApplicationException(Response.status(Response.Status.BAD_REQUEST).build());
+            }
+
+            // We need to verify media type for sub-resources, this mimics what is done in {@code ClassRoutingHandler}
+            if (MediaTypeHelper.getFirstMatch(
+                    acceptableMediaTypes,
+                    Collections.singletonList(effectiveRequestType)) == null) {
+                throw new NotSupportedException("The content-type header value did not match the value in @Consumes");
+            }
+            return effectiveRequestType;
+        } else if (!acceptableMediaTypes.isEmpty()) {
+            return acceptableMediaTypes.get(0);
+        } else {
+            return MediaType.APPLICATION_OCTET_STREAM_TYPE;
+        }
+    }
+
     private boolean isReadable(MessageBodyReader<?> reader, ResteasyReactiveRequestContext requestContext,
             MediaType requestType) {
         if (reader instanceof ServerMessageBodyReader) {
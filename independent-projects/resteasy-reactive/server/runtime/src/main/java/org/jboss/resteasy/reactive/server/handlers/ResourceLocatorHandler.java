@@ -78,14 +78,15 @@ public void onComplete(Throwable throwable) {
             throw new RuntimeException("Resource locator method returned object that was not a resource: " + locator);
         }
 
+        String path = requestContext.getRemaining().isEmpty() ? "/" : requestContext.getRemaining();
         RequestMapper<RuntimeResource> mapper = target.get(requestContext.getMethod());
         RequestMapper.RequestMatch<RuntimeResource> res;
         boolean hadNullMethodMapper;
         if (mapper != null) {
-            res = findRequestMatch(mapper, requestContext);
+            res = findRequestMatch(mapper, path);
             hadNullMethodMapper = false;
         } else {
-            res = findRequestMatch(target.get(null), requestContext); //another layer of resource locators maybe
+            res = findRequestMatch(target.get(null), path); //another layer of resource locators maybe
             // we set this without checking if we matched, but we only use it after
             // we check for a null mapper, so by the time we use it, it must have meant that
             // we had a matcher for a null method
@@ -94,7 +95,7 @@ public void onComplete(Throwable throwable) {
             if (res == null) {
                 String requestMethod = requestContext.getMethod();
                 if (requestMethod.equals(HttpMethod.HEAD)) {
-                    res = findRequestMatch(target.get(HttpMethod.GET), requestContext);
+                    res = findRequestMatch(target.get(HttpMethod.GET), path);
                 } else if (requestMethod.equals(HttpMethod.OPTIONS)) {
                     Set<String> allowedMethods = new HashSet<>();
                     for (String method : target.keySet()) {
@@ -121,6 +122,12 @@ public void onComplete(Throwable throwable) {
         requestContext.setEndpointInstance(locator);
         requestContext.setResult(null);
         requestContext.restart(res.value, true);
+        if (res.pathParamOffsets != null) {
+            requestContext.setMaxPathParams(res.pathParamOffsets.length >> 1);
+            // the values are only extracted from the path if they are actually read
+            requestContext.setPathParamOffsets(0, path, res.pathParamOffsets);
+            return;
+        }
         requestContext.setMaxPathParams(res.pathParamValues.length);
         for (int i = 0; i < res.pathParamValues.length; ++i) {
             String pathParamValue = res.pathParamValues[i];
@@ -133,9 +140,8 @@ public void onComplete(Throwable throwable) {
     }
 
     private RequestMapper.RequestMatch<RuntimeResource> findRequestMatch(RequestMapper<RuntimeResource> mapper,
-            ResteasyReactiveRequestContext requestContext) {
-        return mapper == null ? null
-                : mapper.map(requestContext.getRemaining().isEmpty() ? "/" : requestContext.getRemaining());
+            String path) {
+        return mapper == null ? null : mapper.map(path);
     }
 
     private Map<String, RequestMapper<RuntimeResource>> findTarget(Class<?> locatorClass) {
@@ -31,6 +31,15 @@ public ContainerRequestContextImpl(ResteasyReactiveRequestContext requestContext
         this.quarkusRestContext = requestContext;
     }
 
+    /**
+     * Resets the state of the filter chain, when the request context is reused for another request
+     */
+    public void reset() {
+        aborted = false;
+        preMatch = false;
+        response = false;
+    }
+
     @Override
     public Object getProperty(String name) {
         return quarkusRestContext.getProperty(name);
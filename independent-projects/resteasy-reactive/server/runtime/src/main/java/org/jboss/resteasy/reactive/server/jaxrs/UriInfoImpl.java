@@ -41,6 +41,16 @@ public UriInfoImpl(ResteasyReactiveRequestContext currentRequest) {
         this.currentRequest = currentRequest;
     }
 
+    /**
+     * Forgets what was cached about the current request, when its context is reused for another request
+     */
+    public void reset() {
+        queryParams = null;
+        pathParamsTargetMarker = null;
+        pathParams = null;
+        requestUri = null;
+    }
+
     @Override
     public String getPath() {
         return getPath(true);
@@ -0,0 +1,295 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+
+/**
+ * A {@link RequestMapper} that compiles all of its templates into an immutable compressed radix trie.
+ * <p>
+ * The trie is keyed on the template stems, and every node that terminates a stem holds the templates for that stem,
+ * already sorted in the order mandated by the spec. A lookup walks the trie once for the length of the path and
+ * then tries the candidates of the longest matching stem first, falling back to shorter stems on the way back up.
+ * This gives the exact same results as {@link RequestMapper#map(String)}, but does not allocate any intermediate
+ * match objects or substrings: the only allocations are the path parameter array and the returned
+ * {@link RequestMatch}.
+ * <p>
+ * If {@code recordPathParamOffsets} is enabled, the path parameters are not extracted at all: the match only records
+ * their offsets in {@link RequestMatch#pathParamOffsets} so that they can be materialised once they are actually read.
+ * <p>
+ * Only {@link #map(String)} is specialised, {@link #continueMatching(String, RequestMatch)} is inherited as is.
+ */
+@SuppressWarnings("ForLoopReplaceableByForEach")
+public class CompiledRequestMapper<T> extends RequestMapper<T> {
+
+    private static final String[] EMPTY_STRING_ARRAY = new String[0];
+    private static final int[] EMPTY_INT_ARRAY = new int[0];
+
+    private final Node<T> root;
+    /**
+     * The candidates for the {@code /} stem, these are always tried last
+     */
+    private final Candidate<T>[] defaultCandidates;
+    private final boolean recordPathParamOffsets;
+
+    public CompiledRequestMapper(ArrayList<RequestPath<T>> templates) {
+        this(templates, false);
+    }
+
+    public CompiledRequestMapper(ArrayList<RequestPath<T>> templates, boolean recordPathParamOffsets) {
+        super(templates);
+        this.recordPathParamOffsets = recordPathParamOffsets;
+        Map<String, List<RequestPath<T>>> aggregates = new TreeMap<>();
+        for (RequestPath<T> i : templates) {
+            aggregates.computeIfAbsent(i.template.stem, k -> new ArrayList<>()).add(i);
+        }
+        Candidate<T>[] defaults = null;
+        BuilderNode<T> builder = new BuilderNode<>();
+        for (Map.Entry<String, List<RequestPath<T>>> entry : aggregates.entrySet()) {
+            List<RequestPath<T>> list = entry.getValue();
+            Collections.sort(list);
+            Candidate<T>[] candidates = toCandidates(list);
+            if ("/".equals(entry.getKey())) {
+                defaults = candidates;
+            } else {
+                builder.insert(entry.getKey(), 0, candidates);
+            }
+        }
+        this.defaultCandidates = defaults;
+        this.root = builder.compile("");
+    }
+
+    @Override
+    public RequestMatch<T> map(String path) {
+        RequestMatch<T> result = matchNode(root, path, 0);
+        if (result == null && defaultCandidates != null) {
+            result = matchCandidates(defaultCandidates, path, 1);
+        }
+        return result;
+    }
+
+    private RequestMatch<T> matchNode(Node<T> node, String path, int pos) {
+        if (pos < path.length()) {
+            Node<T> child = node.child(path.charAt(pos));
+            if (child != null && path.regionMatches(pos, child.label, 0, child.label.length())) {
+                RequestMatch<T> result = matchNode(child, path, pos + child.label.length());
+                if (result != null) {
+                    return result;
+                }
+            }
+        }
+        if (node.candidates != null) {
+            return matchCandidates(node.candidates, path, pos);
+        }
+        return null;
+    }
+
+    private RequestMatch<T> matchCandidates(Candidate<T>[] candidates, String path, int stemLength) {
+        int pathLength = path.length();
+        // shared between all candidates, a successful match always terminates the values it wrote
+        String[] params = null;
+        int[] offsets = null;
+        for (int index = 0; index < candidates.length; index++) {
+            Candidate<T> candidate = candidates[index];
+            URITemplate.TemplateComponent[] components = candidate.components;
+            int paramCount = 0;
+            boolean matched = true;
+            int matchPos = stemLength;
+            for (int i = 1; i < components.length; ++i) {
+                URITemplate.TemplateComponent segment = components[i];
+                if (segment.type == URITemplate.Type.LITERAL) {
+                    String literal = segment.literalText;
+                    if (!path.regionMatches(matchPos, literal, 0, literal.length())) {
+                        matched = false;
+                        break;
+                    }
+                    matchPos += literal.length();
+                } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
+                    if (matchPos == pathLength) {
+                        matched = false;
+                        break;
+                    }
+                    int start = matchPos;
+                    int end = path.indexOf('/', matchPos);
+                    matchPos = end == -1 ? pathLength : end;
+                    if (recordPathParamOffsets) {
+                        if (offsets == null) {
+                            offsets = new int[maxParams << 1];
+                        }
+                        offsets[paramCount << 1] = start;
+                        offsets[(paramCount++ << 1) + 1] = matchPos;
+                    } else {
+                        if (params == null) {
+                            params = new String[maxParams];
+                        }
+                        params[paramCount++] = path.substring(start, matchPos);
+                    }
+                } else {
+                    // exclude any path end slash when matching a subdir, but include it in the matched length
+                    boolean endSlash = matchPos < pathLength && path.charAt(pathLength - 1) == '/';
+                    Matcher matcher = segment.pattern.matcher(
+                            endSlash ? path.substring(0, pathLength - 1) : path);
+                    matched = matcher.find(matchPos);
+                    if (!matched || matcher.start() != matchPos) {
+                        matched = false;
+                        break;
+                    }
+                    matchPos = matcher.end();
+                    if (endSlash) {
+                        matchPos++;
+                    }
+                    if (recordPathParamOffsets) {
+                        if (offsets == null) {
+                            offsets = new int[maxParams << 1];
+                        }
+                        for (String group : segment.groups) {
+                            offsets[paramCount << 1] = matcher.start(group);
+                            offsets[(paramCount++ << 1) + 1] = matcher.end(group);
+                        }
+                    } else {
+                        if (params == null) {
+                            params = new String[maxParams];
+                        }
+                        for (String group : segment.groups) {
+                            params[paramCount++] = matcher.group(group);
+                        }
+                    }
+                }
+            }
+            if (!matched) {
+                continue;
+            }
+            boolean fullMatch = matchPos == pathLength;
+            boolean doPrefixMatch = false;
+            if (!fullMatch) {
+                //according to the spec every template ends with (/.*)?
+                if (matchPos == 1) { //matchPos == 1 corresponds to '/' as a root level match
+                    doPrefixMatch = candidate.prefixAllowed || pathLength == 1;
+                } else if (path.charAt(matchPos) == '/') {
+                    doPrefixMatch = candidate.prefixAllowed || matchPos == pathLength - 1;
+                }
+            }
+            if (fullMatch || doPrefixMatch) {
+                String remaining;
+                if (fullMatch) {
+                    remaining = "";
+                } else if (matchPos == 1) {
+                    remaining = path;
+                } else {
+                    remaining = path.substring(matchPos);
+                }
+                if (recordPathParamOffsets) {
+                    if (paramCount == 0) {
+                        offsets = EMPTY_INT_ARRAY;
+                    } else if (paramCount < maxParams) {
+                        offsets[paramCount << 1] = -1;
+                    }
+                    return new RequestMatch<>(candidate.path.template, candidate.path.value, EMPTY_STRING_ARRAY, offsets,
+                            remaining);
+                }
+                if (paramCount == 0) {
+                    params = EMPTY_STRING_ARRAY;
+                } else if (paramCount < params.length) {
+                    params[paramCount] = null;
+                }
+                return new RequestMatch<>(candidate.path.template, candidate.path.value, params, remaining);
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Candidate<T>[] toCandidates(List<RequestPath<T>> paths) {
+        Candidate<T>[] result = new Candidate[paths.size()];
+        for (int i = 0; i < paths.size(); i++) {
+            result[i] = new Candidate<>(paths.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * A template that can be matched once its stem has been matched
+     */
+    static final class Candidate<T> {
+        final RequestPath<T> path;
+        final URITemplate.TemplateComponent[] components;
+        final boolean prefixAllowed;
+
+        Candidate(RequestPath<T> path) {
+            this.path = path;
+            this.components = path.template.components;
+            this.prefixAllowed = path.prefixTemplate;
+        }
+    }
+
+    /**
+     * An immutable trie node. The label is the part of the stem consumed when entering this node from its parent.
+     */
+    static final class Node<T> {
+        final String label;
+        final char[] keys;
+        final Node<T>[] children;
+        final Candidate<T>[] candidates;
+
+        Node(String label, char[] keys, Node<T>[] children, Candidate<T>[] candidates) {
+            this.label = label;
+            this.keys = keys;
+            this.children = children;
+            this.candidates = candidates;
+        }
+
+        Node<T> child(char c) {
+            char[] keys = this.keys;
+            if (keys.length < 8) {
+                for (int i = 0; i < keys.length; i++) {
+                    if (keys[i] == c) {
+                        return children[i];
+                    }
+                }
+                return null;
+            }
+            int idx = Arrays.binarySearch(keys, c);
+            return idx < 0 ? null : children[idx];
+        }
+    }
+
+    /**
+     * Mutable uncompressed trie, only used while building
+     */
+    private static final class BuilderNode<T> {
+        final TreeMap<Character, BuilderNode<T>> children = new TreeMap<>();
+        Candidate<T>[] candidates;
+
+        void insert(String stem, int pos, Candidate<T>[] candidates) {
+            if (pos == stem.length()) {
+                this.candidates = candidates;
+                return;
+            }
+            children.computeIfAbsent(stem.charAt(pos), k -> new BuilderNode<>()).insert(stem, pos + 1, candidates);
+        }
+
+        @SuppressWarnings("unchecked")
+        Node<T> compile(String label) {
+            char[] keys = new char[children.size()];
+            Node<T>[] compiled = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, BuilderNode<T>> entry : children.entrySet()) {
+                //collapse chains of nodes that have a single child and no candidates into a single edge
+                StringBuilder childLabel = new StringBuilder().append(entry.getKey().charValue());
+                BuilderNode<T> child = entry.getValue();
+                while (child.candidates == null && child.children.size() == 1) {
+                    Map.Entry<Character, BuilderNode<T>> next = child.children.firstEntry();
+                    childLabel.append(next.getKey().charValue());
+                    child = next.getValue();
+                }
+                keys[i] = entry.getKey();
+                compiled[i++] = child.compile(childLabel.toString());
+            }
+            return new Node<>(label, keys, compiled, candidates);
+        }
+    }
+}
@@ -248,12 +248,26 @@ public int compareTo(RequestPath<T> o) {
          * Note that this array may be larger than required, and padded with null values at the end
          */
         public final String[] pathParamValues;
+        /**
+         * If not null, the matched parameters have not been extracted into {@link #pathParamValues}, and are instead
+         * recorded as pairs of start (inclusive) and end (exclusive) offsets into the matched path.
+         * <p>
+         * Note that this array may be larger than required, in which case the start offset following the last parameter
+         * is -1
+         */
+        public final int[] pathParamOffsets;
         public final String remaining;
 
         public RequestMatch(URITemplate template, T value, String[] pathParamValues, String remaining) {
+            this(template, value, pathParamValues, null, remaining);
+        }
+
+        public RequestMatch(URITemplate template, T value, String[] pathParamValues, int[] pathParamOffsets,
+                String remaining) {
             this.template = template;
             this.value = value;
             this.pathParamValues = pathParamValues;
+            this.pathParamOffsets = pathParamOffsets;
             this.remaining = remaining;
         }
 
@@ -20,6 +20,10 @@ public class ServerResourceMethod extends ResourceMethod {
     private ParameterExtractor customerParameterExtractor;
     private String actualDeclaringClassName;
     private String classDeclMethodThatHasJaxRsEndpointDefiningAnn;
+    private String fusedHandlerClassName;
+    private boolean adaptiveExecution;
+    private long adaptiveEventLoopThreshold;
+    private boolean adaptiveVirtualThreads;
 
     public ServerResourceMethod() {
     }
@@ -101,4 +105,52 @@ public String getClassDeclMethodThatHasJaxRsEndpointDefiningAnn() {
     public void setClassDeclMethodThatHasJaxRsEndpointDefiningAnn(String classDeclMethodThatHasJaxRsEndpointDefiningAnn) {
         this.classDeclMethodThatHasJaxRsEndpointDefiningAnn = classDeclMethodThatHasJaxRsEndpointDefiningAnn;
     }
+
+    /**
+     * Returns the name of the {@link org.jboss.resteasy.reactive.server.handlers.FusedHandler} generated for this method,
+     * or null if its handler chain must not be fused.
+     */
+    public String getFusedHandlerClassName() {
+        return fusedHandlerClassName;
+    }
+
+    public ServerResourceMethod setFusedHandlerClassName(String fusedHandlerClassName) {
+        this.fusedHandlerClassName = fusedHandlerClassName;
+        return this;
+    }
+
+    /**
+     * @return whether the thread the endpoint is invoked on is chosen at runtime, see
+     *         {@link org.jboss.resteasy.reactive.server.AdaptiveExecution}
+     */
+    public boolean isAdaptiveExecution() {
+        return adaptiveExecution;
+    }
+
+    public ServerResourceMethod setAdaptiveExecution(boolean adaptiveExecution) {
+        this.adaptiveExecution = adaptiveExecution;
+        return this;
+    }
+
+    /**
+     * @return the mean duration of the invocations, in microseconds, above which an adaptive endpoint is moved off the IO
+     *         thread
+     */
+    public long getAdaptiveEventLoopThreshold() {
+        return adaptiveEventLoopThreshold;
+    }
+
+    public ServerResourceMethod setAdaptiveEventLoopThreshold(long adaptiveEventLoopThreshold) {
+        this.adaptiveEventLoopThreshold = adaptiveEventLoopThreshold;
+        return this;
+    }
+
+    public boolean isAdaptiveVirtualThreads() {
+        return adaptiveVirtualThreads;
+    }
+
+    public ServerResourceMethod setAdaptiveVirtualThreads(boolean adaptiveVirtualThreads) {
+        this.adaptiveVirtualThreads = adaptiveVirtualThreads;
+        return this;
+    }
 }
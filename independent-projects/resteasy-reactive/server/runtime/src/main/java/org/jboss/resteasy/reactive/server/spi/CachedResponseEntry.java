@@ -0,0 +1,80 @@
+package org.jboss.resteasy.reactive.server.spi;
+
+import java.io.Serializable;
+
+/**
+ * A response stored by a {@link ResponseCacheStore}.
+ * <p>
+ * This is a mutable bean so that distributed stores can serialize it with their usual codecs.
+ */
+public class CachedResponseEntry implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private int status;
+    /**
+     * The header names and values, alternately
+     */
+    private String[] headers;
+    private byte[] body;
+    private String entityTag;
+    private long expiresAt;
+
+    public CachedResponseEntry() {
+    }
+
+    public CachedResponseEntry(int status, String[] headers, byte[] body, String entityTag, long expiresAt) {
+        this.status = status;
+        this.headers = headers;
+        this.body = body;
+        this.entityTag = entityTag;
+        this.expiresAt = expiresAt;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public String[] getHeaders() {
+        return headers;
+    }
+
+    public void setHeaders(String[] headers) {
+        this.headers = headers;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public void setBody(byte[] body) {
+        this.body = body;
+    }
+
+    public String getEntityTag() {
+        return entityTag;
+    }
+
+    public void setEntityTag(String entityTag) {
+        this.entityTag = entityTag;
+    }
+
+    /**
+     * @return the time, in milliseconds since the epoch, after which the response must not be served anymore
+     */
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(long expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(long now) {
+        return now >= expiresAt;
+    }
+}
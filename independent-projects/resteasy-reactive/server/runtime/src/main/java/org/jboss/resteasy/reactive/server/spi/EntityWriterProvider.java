@@ -0,0 +1,23 @@
+package org.jboss.resteasy.reactive.server.spi;
+
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.resteasy.reactive.server.core.serialization.EntityWriter;
+import org.jboss.resteasy.reactive.server.core.serialization.FixedEntityWriter;
+
+/**
+ * Can be implemented by a {@link jakarta.ws.rs.ext.MessageBodyWriter} that is able to provide a specialised
+ * {@link EntityWriter} for the endpoints where it has been determined at deployment time to be the only writer.
+ * The returned writer is then used instead of the {@link FixedEntityWriter} that would normally wrap it.
+ */
+public interface EntityWriterProvider {
+
+    /**
+     * @param entityType the raw type returned by the endpoint
+     * @param mediaType the media type produced by the endpoint
+     * @param fallback the writer that would be used otherwise, which the returned writer can delegate to for the
+     *        entities it does not handle
+     * @return the writer to use, or {@code null} if the endpoint cannot be specialised
+     */
+    EntityWriter createEntityWriter(Class<?> entityType, MediaType mediaType, EntityWriter fallback);
+}
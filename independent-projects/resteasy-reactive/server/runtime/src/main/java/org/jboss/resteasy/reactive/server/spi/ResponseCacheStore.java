@@ -0,0 +1,24 @@
+package org.jboss.resteasy.reactive.server.spi;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * The storage of the responses of endpoints annotated with {@link org.jboss.resteasy.reactive.server.CachedResponse}.
+ * <p>
+ * Implementations don't need to handle the expiration of the entries, which is checked when they are read, but should
+ * evict them at some point to bound their size.
+ */
+public interface ResponseCacheStore {
+
+    /**
+     * Called on the IO thread, this must not block.
+     *
+     * @return a stage completing with the response stored under the key, or with {@code null} if there is none
+     */
+    CompletionStage<CachedResponseEntry> get(String cacheName, String key);
+
+    /**
+     * Stores the response under the key, possibly asynchronously. This must not block.
+     */
+    void put(String cacheName, String key, CachedResponseEntry entry);
+}
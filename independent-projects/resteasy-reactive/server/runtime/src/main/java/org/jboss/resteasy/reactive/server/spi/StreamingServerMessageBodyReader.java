@@ -0,0 +1,44 @@
+package org.jboss.resteasy.reactive.server.spi;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+
+import jakarta.ws.rs.core.MediaType;
+
+/**
+ * A {@link ServerMessageBodyReader} that is able to parse the request body chunk by chunk, as it is received on the IO
+ * thread, instead of reading it from an {@link java.io.InputStream} once it has been fully buffered or from a blocking
+ * stream on a worker thread.
+ * <p>
+ * The body is only parsed this way for non-blocking endpoints without reader interceptors. It is parsed whatever its
+ * length, including a chunked body, so the parser should retain as little as possible of what it has parsed until
+ * {@link BodyParser#complete()} is called.
+ */
+public interface StreamingServerMessageBodyReader<T> extends ServerMessageBodyReader<T> {
+
+    /**
+     * @return the parser to use for the body of the current request, or {@code null} if the body must be read with
+     *         {@link #readFrom(Class, Type, MediaType, ServerRequestContext)} instead
+     */
+    BodyParser<T> createBodyParser(Class<T> type, Type genericType, MediaType mediaType, ServerRequestContext context);
+
+    /**
+     * Parses the body of a single request. Its methods are invoked one at a time, on the IO thread, so they must not
+     * block.
+     */
+    interface BodyParser<T> {
+
+        /**
+         * Parses the next chunk of the body, which must not be retained once this method returns.
+         */
+        void parse(ByteBuffer data) throws IOException;
+
+        /**
+         * Called once the whole body has been received.
+         *
+         * @return the entity, or {@code null} if the body was empty
+         */
+        T complete() throws IOException;
+    }
+}
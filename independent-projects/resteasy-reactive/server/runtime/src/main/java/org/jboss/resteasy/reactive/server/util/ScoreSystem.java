@@ -91,6 +91,9 @@ public String toString() {
 
         public static Diagnostic ExecutionVirtualThread = new Diagnostic("Relies on a virtual thread", 66);
 
+        public static Diagnostic ExecutionAdaptive = new Diagnostic(
+                "Dispatched on the IO thread while it is fast, on a worker or virtual thread otherwise", 100);
+
         public static Diagnostic ResourceSingleton = new Diagnostic("Single resource instance for all requests", 100);
         public static Diagnostic ResourcePerRequest = new Diagnostic("New resource instance for every request", 0);
 
@@ -16,7 +16,36 @@ public class ResteasyReactiveRequestContextTest {
     @Test
     void testAbsoluteUriWithOverrides() {
         var request = Mockito.mock(ServerHttpRequest.class);
-        var context = new ResteasyReactiveRequestContext(null, null, null, null) {
+        var context = createContext(request);
+        Mockito.when(request.getRequestNormalisedPath()).thenReturn("/path;a");
+        Mockito.when(request.getRequestScheme()).thenReturn("http");
+        Mockito.when(request.getRequestHostAndPort()).thenReturn("host:port");
+
+        context.initPathSegments();
+        assertEquals("http://host:port/path", context.getAbsoluteURI());
+
+        context.setRequestUri(URI.create("https://host1:port1/path1"));
+        assertEquals("https://host1:port1/path1", context.getAbsoluteURI());
+    }
+
+    @Test
+    void testPathParamOffsets() {
+        var context = createContext(Mockito.mock(ServerHttpRequest.class));
+        context.setMaxPathParams(4);
+        context.setPathParamValue(0, "class");
+        context.setPathParamOffsets(1, "/a%20b/c/d", new int[] { 1, 6, 9, 10, -1, -1 });
+        assertEquals("class", context.getPathParam(0, true));
+        assertEquals("a%20b", context.getPathParam(1, true));
+        assertEquals("a b", context.getPathParam(1, false));
+        assertEquals("d", context.getPathParam(2, false));
+
+        context.setMaxPathParams(4);
+        context.setPathParamValue(1, "value");
+        assertEquals("value", context.getPathParam(1, true));
+    }
+
+    private static ResteasyReactiveRequestContext createContext(ServerHttpRequest request) {
+        return new ResteasyReactiveRequestContext(null, null, null, null) {
 
             @Override
             public ServerHttpResponse serverResponse() {
@@ -48,15 +77,6 @@ protected void setQueryParamsFrom(String uri) {
 
             }
         };
-        Mockito.when(request.getRequestNormalisedPath()).thenReturn("/path;a");
-        Mockito.when(request.getRequestScheme()).thenReturn("http");
-        Mockito.when(request.getRequestHostAndPort()).thenReturn("host:port");
-
-        context.initPathSegments();
-        assertEquals("http://host:port/path", context.getAbsoluteURI());
-
-        context.setRequestUri(URI.create("https://host1:port1/path1"));
-        assertEquals("https://host1:port1/path1", context.getAbsoluteURI());
     }
 
 }
@@ -0,0 +1,127 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import org.junit.jupiter.api.Test;
+
+public class CompiledRequestMapperTest {
+
+    private static final List<String> TEMPLATES = List.of(
+            "/",
+            "/{id}",
+            "/hello",
+            "/hello/",
+            "/hello/world",
+            "/hello/{name}",
+            "/hello/{name}/greet",
+            "/hello/{first}/{second}",
+            "/help",
+            "/helpdesk/{ticket}",
+            "/users/{id:\\d+}",
+            "/users/{name}/orders/{order}",
+            "/users/me",
+            "/files/{path: .*}",
+            "/a/b/c/d",
+            "/a/{b}/c/{d}",
+            "/a.{ext}",
+            "/x{y}");
+
+    private static final List<String> PATHS = List.of(
+            "/",
+            "/foo",
+            "/foo/",
+            "/hello",
+            "/hello/",
+            "/hello/world",
+            "/hello/world/",
+            "/hello/stuart",
+            "/hello/stuart/greet",
+            "/hello/stuart/greet/more",
+            "/hello/a/b",
+            "/hello/a/b/c",
+            "/help",
+            "/helpdesk/42",
+            "/helpdesk",
+            "/helper",
+            "/users/42",
+            "/users/bob",
+            "/users/me",
+            "/users/me/orders/1",
+            "/users/bob/orders/",
+            "/files/some/deep/file.txt",
+            "/files/dir/",
+            "/a/b/c/d",
+            "/a/x/c/y",
+            "/a/x/c",
+            "/a.json",
+            "/xyz",
+            "/x",
+            "/unknown/path/entirely");
+
+    @Test
+    public void testSameMatchesAsRequestMapper() {
+        for (boolean prefix : new boolean[] { false, true }) {
+            ArrayList<RequestMapper.RequestPath<String>> templates = new ArrayList<>();
+            for (String template : TEMPLATES) {
+                templates.add(new RequestMapper.RequestPath<>(prefix, new URITemplate(template, prefix), template));
+            }
+            RequestMapper<String> reference = new RequestMapper<>(new ArrayList<>(templates));
+            RequestMapper<String> compiled = new CompiledRequestMapper<>(new ArrayList<>(templates));
+            for (String path : PATHS) {
+                RequestMapper.RequestMatch<String> expected = reference.map(path);
+                RequestMapper.RequestMatch<String> actual = compiled.map(path);
+                if (expected == null) {
+                    assertNull(actual, path);
+                } else {
+                    assertEquals(expected.value, actual.value, path);
+                    assertEquals(expected.remaining, actual.remaining, path);
+                    assertArrayEquals(params(expected), params(actual), path);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testPathParamOffsets() {
+        ArrayList<RequestMapper.RequestPath<String>> templates = new ArrayList<>();
+        for (String template : TEMPLATES) {
+            templates.add(new RequestMapper.RequestPath<>(false, new URITemplate(template, false), template));
+        }
+        RequestMapper<String> reference = new RequestMapper<>(new ArrayList<>(templates));
+        RequestMapper<String> compiled = new CompiledRequestMapper<>(new ArrayList<>(templates), true);
+        for (String path : PATHS) {
+            RequestMapper.RequestMatch<String> expected = reference.map(path);
+            RequestMapper.RequestMatch<String> actual = compiled.map(path);
+            if (expected == null) {
+                assertNull(actual, path);
+            } else {
+                assertEquals(expected.value, actual.value, path);
+                assertEquals(0, actual.pathParamValues.length, path);
+                List<String> values = new ArrayList<>();
+                int[] offsets = actual.pathParamOffsets;
+                for (int i = 0; i < offsets.length && offsets[i] != -1; i += 2) {
+                    values.add(path.substring(offsets[i], offsets[i + 1]));
+                }
+                assertArrayEquals(params(expected), values.toArray(), path);
+            }
+        }
+    }
+
+    @Test
+    public void testNoTemplates() {
+        RequestMapper<String> compiled = new CompiledRequestMapper<>(new ArrayList<>());
+        assertNull(compiled.map("/"));
+        assertNull(compiled.map("/foo"));
+    }
+
+    private static String[] params(RequestMapper.RequestMatch<String> match) {
+        return Arrays.stream(match.pathParamValues).takeWhile(Objects::nonNull).toArray(String[]::new);
+    }
+}
@@ -2,18 +2,48 @@
 
 import org.jboss.resteasy.reactive.server.core.Deployment;
 import org.jboss.resteasy.reactive.server.core.RequestContextFactory;
+import org.jboss.resteasy.reactive.server.core.RequestContextPool;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
 import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
 
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.ext.web.RoutingContext;
 
 public class VertxRequestContextFactory implements RequestContextFactory {
+
+    private final RequestContextPool<VertxResteasyReactiveRequestContext> pool;
+
+    public VertxRequestContextFactory() {
+        this(null);
+    }
+
+    /**
+     * @param pool the pool the contexts are reused from, or {@code null} to create a new context for each request
+     */
+    public VertxRequestContextFactory(RequestContextPool<VertxResteasyReactiveRequestContext> pool) {
+        this.pool = pool;
+    }
+
     @Override
     public ResteasyReactiveRequestContext createContext(Deployment deployment,
             Object context, ThreadSetupAction requestContext,
             ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
+        if (pool != null) {
+            VertxResteasyReactiveRequestContext pooled = pool.acquire();
+            if (pooled != null) {
+                pooled.reuse((RoutingContext) context, handlerChain, abortHandlerChain);
+                return pooled;
+            }
+            return pool.register(new VertxResteasyReactiveRequestContext(deployment, (RoutingContext) context,
+                    requestContext, handlerChain, abortHandlerChain, null));
+        }
         return new VertxResteasyReactiveRequestContext(deployment, (RoutingContext) context,
                 requestContext, handlerChain, abortHandlerChain, null);
     }
+
+    @Override
+    public CharSequence createOptimizedHeaderValue(String value) {
+        return HttpHeaders.createOptimized(value);
+    }
 }
@@ -61,10 +61,10 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
         implements ServerHttpRequest, ServerHttpResponse, Handler<Void> {
 
     public static final String CONTINUE = "100-continue";
-    protected final RoutingContext context;
-    protected final HttpServerRequest request;
-    protected final HttpServerResponse response;
-    private final Executor contextExecutor;
+    protected RoutingContext context;
+    protected HttpServerRequest request;
+    protected HttpServerResponse response;
+    private Executor contextExecutor;
     private final ClassLoader devModeTccl;
     protected Consumer<ResteasyReactiveRequestContext> preCommitTask;
     ContinueState continueState = ContinueState.NONE;
@@ -74,10 +74,24 @@ public VertxResteasyReactiveRequestContext(Deployment deployment,
             ThreadSetupAction requestContext, ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain,
             ClassLoader devModeTccl) {
         super(deployment, requestContext, handlerChain, abortHandlerChain);
+        this.devModeTccl = devModeTccl;
+        init(context);
+    }
+
+    /**
+     * Prepares a context that was returned to a {@link org.jboss.resteasy.reactive.server.core.RequestContextPool} for
+     * a new request.
+     */
+    public void reuse(RoutingContext context, ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
+        this.handlers = handlerChain;
+        this.abortHandlerChain = abortHandlerChain;
+        init(context);
+    }
+
+    private void init(RoutingContext context) {
         this.context = context;
         this.request = context.request();
         this.response = context.response();
-        this.devModeTccl = devModeTccl;
         context.addHeadersEndHandler(this);
         String expect = request.getHeader(HttpHeaderNames.EXPECT);
         Context current = Vertx.currentContext();
@@ -98,6 +112,24 @@ public void handle(Void unused) {
         request.pause();
     }
 
+    @Override
+    protected boolean isRecyclable() {
+        return super.isRecyclable() && response.ended();
+    }
+
+    @Override
+    protected void resetState() {
+        super.resetState();
+        // the connection must not call back into this context once it is reused
+        response.closeHandler(null);
+        context = null;
+        request = null;
+        response = null;
+        contextExecutor = null;
+        preCommitTask = null;
+        continueState = ContinueState.NONE;
+    }
+
     @Override
     public ServerHttpResponse addCloseHandler(Runnable onClose) {
         this.response.closeHandler(new Handler<Void>() {
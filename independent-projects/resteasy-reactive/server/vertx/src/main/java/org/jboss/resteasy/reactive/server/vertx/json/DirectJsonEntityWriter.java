@@ -0,0 +1,74 @@
+package org.jboss.resteasy.reactive.server.vertx.json;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.core.ServerSerialisers;
+import org.jboss.resteasy.reactive.server.core.serialization.EntityWriter;
+import org.jboss.resteasy.reactive.server.vertx.VertxResteasyReactiveRequestContext;
+
+import io.netty.buffer.ByteBuf;
+import io.quarkus.vertx.utils.NoBoundChecksBuffer;
+import io.vertx.core.buffer.impl.VertxByteBufAllocator;
+
+/**
+ * An {@link EntityWriter} that writes entities of a single type with a {@link DirectJsonWriter}, straight into a pooled
+ * Netty buffer that is then handed over to the Vert.x response without any intermediate copy.
+ * <p>
+ * Every case that cannot be handled this way, like writer interceptors, an output stream that is already in use, an
+ * entity of another type or a value that has no {@link DirectJsonWriter}, is delegated to the fallback writer.
+ */
+public class DirectJsonEntityWriter implements EntityWriter {
+
+    private static final Consumer<ResteasyReactiveRequestContext> HEADER_FUNCTION = new Consumer<>() {
+        @Override
+        public void accept(ResteasyReactiveRequestContext context) {
+            ServerSerialisers.encodeResponseHeaders(context);
+        }
+    };
+
+    private static final int MIN_INITIAL_CAPACITY = 128;
+
+    private final Class<?> entityType;
+    private final DirectJsonWriter writer;
+    private final EntityWriter fallback;
+    /**
+     * The size of the last entity written, used as the initial capacity of the next buffer. This is racy on purpose,
+     * it is only a hint.
+     */
+    private int sizeHint = MIN_INITIAL_CAPACITY;
+
+    public DirectJsonEntityWriter(DirectJsonWriter writer, EntityWriter fallback) {
+        this.entityType = writer.handledType();
+        this.writer = writer;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public void write(ResteasyReactiveRequestContext context, Object entity) throws IOException {
+        if (entity.getClass() != entityType || context.getWriterInterceptors() != null
+                || context.getOutputStream() != null
+                || !(context instanceof VertxResteasyReactiveRequestContext)) {
+            fallback.write(context, entity);
+            return;
+        }
+        ByteBuf buffer = VertxByteBufAllocator.POOLED_ALLOCATOR.directBuffer(sizeHint);
+        try {
+            JsonByteBufWriter jsonWriter = new JsonByteBufWriter(buffer);
+            writer.write(entity, jsonWriter);
+            jsonWriter.flush();
+        } catch (DirectJsonWriters.UnsupportedValueException e) {
+            // only this entity contains a value that is not known at build time, e.g. a subclass created at runtime
+            buffer.release();
+            fallback.write(context, entity);
+            return;
+        } catch (Throwable t) {
+            buffer.release();
+            throw t;
+        }
+        sizeHint = Math.max(MIN_INITIAL_CAPACITY, buffer.readableBytes());
+        context.serverResponse().setPreCommitListener(HEADER_FUNCTION);
+        ((VertxResteasyReactiveRequestContext) context).end(new NoBoundChecksBuffer(buffer));
+    }
+}
@@ -0,0 +1,31 @@
+package org.jboss.resteasy.reactive.server.vertx.json;
+
+/**
+ * Writes instances of exactly one class as JSON into a {@link JsonByteBufWriter}.
+ * <p>
+ * Implementations are usually generated at build time and registered in {@link DirectJsonWriters}.
+ */
+public abstract class DirectJsonWriter {
+
+    private final Class<?> handledType;
+
+    protected DirectJsonWriter(Class<?> handledType) {
+        this.handledType = handledType;
+    }
+
+    public Class<?> handledType() {
+        return handledType;
+    }
+
+    /**
+     * @return the names of the properties written by this writer, in the order they are written
+     */
+    public abstract String[] propertyNames();
+
+    /**
+     * @param value the value to write, never {@code null}
+     * @throws DirectJsonWriters.UnsupportedValueException if the value contains something that cannot be written by the
+     *         registered writers, in which case the caller is expected to discard the output
+     */
+    public abstract void write(Object value, JsonByteBufWriter writer);
+}
@@ -0,0 +1,118 @@
+package org.jboss.resteasy.reactive.server.vertx.json;
+
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The registry of the {@link DirectJsonWriter}s, and the entry point used to write values whose exact type is only
+ * known at runtime, like the elements of a collection.
+ */
+public final class DirectJsonWriters {
+
+    private static final Map<Class<?>, DirectJsonWriter> WRITERS = new ConcurrentHashMap<>();
+
+    private DirectJsonWriters() {
+    }
+
+    public static void addWriter(Class<? extends DirectJsonWriter> writerClass) {
+        try {
+            DirectJsonWriter writer = writerClass.getConstructor().newInstance();
+            WRITERS.put(writer.handledType(), writer);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException
+                | NoSuchMethodException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @return the writer for exactly this class, or {@code null} if there is none
+     */
+    public static DirectJsonWriter getWriter(Class<?> type) {
+        return WRITERS.get(type);
+    }
+
+    public static void clear() {
+        WRITERS.clear();
+    }
+
+    /**
+     * Writes a value based on its runtime type.
+     *
+     * @throws UnsupportedValueException if there is no way to write this type
+     */
+    public static void writeValue(Object value, JsonByteBufWriter writer) {
+        if (value == null) {
+            writer.writeNull();
+        } else if (value instanceof String) {
+            writer.writeString((String) value);
+        } else if (value instanceof Integer) {
+            writer.writeNumber((int) value);
+        } else if (value instanceof Long) {
+            writer.writeNumber((long) value);
+        } else if (value instanceof Boolean) {
+            writer.writeBoolean((boolean) value);
+        } else if (value instanceof Double) {
+            writer.writeNumber((double) value);
+        } else if (value instanceof Float) {
+            writer.writeNumber((float) value);
+        } else if (value instanceof Short) {
+            writer.writeNumber((short) value);
+        } else if (value instanceof Byte) {
+            writer.writeNumber((int) (byte) value);
+        } else if (value instanceof Character) {
+            writer.writeString((char) value);
+        } else if (value instanceof BigInteger || value instanceof BigDecimal) {
+            writer.writeRawNumber(value.toString());
+        } else if (value instanceof Iterable) {
+            writeIterable((Iterable<?>) value, writer);
+        } else if (value instanceof Object[]) {
+            writeArray((Object[]) value, writer);
+        } else {
+            DirectJsonWriter directWriter = WRITERS.get(value.getClass());
+            if (directWriter == null) {
+                throw UnsupportedValueException.INSTANCE;
+            }
+            directWriter.write(value, writer);
+        }
+    }
+
+    public static void writeIterable(Iterable<?> values, JsonByteBufWriter writer) {
+        if (values == null) {
+            writer.writeNull();
+            return;
+        }
+        writer.writeStartArray();
+        for (Object value : values) {
+            writeValue(value, writer);
+        }
+        writer.writeEndArray();
+    }
+
+    public static void writeArray(Object[] values, JsonByteBufWriter writer) {
+        if (values == null) {
+            writer.writeNull();
+            return;
+        }
+        writer.writeStartArray();
+        for (int i = 0; i < values.length; i++) {
+            writeValue(values[i], writer);
+        }
+        writer.writeEndArray();
+    }
+
+    /**
+     * Thrown when a value cannot be written directly. It carries no stack trace, as it is only used to fall back to the
+     * regular serialization.
+     */
+    public static final class UnsupportedValueException extends RuntimeException {
+
+        static final UnsupportedValueException INSTANCE = new UnsupportedValueException();
+
+        private UnsupportedValueException() {
+            super("Value cannot be written directly", null, false, false);
+        }
+    }
+}
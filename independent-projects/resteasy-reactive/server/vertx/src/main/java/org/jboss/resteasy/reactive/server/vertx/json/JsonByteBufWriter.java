@@ -0,0 +1,346 @@
+package org.jboss.resteasy.reactive.server.vertx.json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * A minimal streaming JSON writer that encodes UTF-8 straight into a Netty {@link ByteBuf}.
+ * <p>
+ * The output is the same as the one of a Jackson {@code ObjectMapper} with its default configuration: no indentation,
+ * the standard escaping of control characters, non ASCII characters written as UTF-8 and non finite floating point
+ * numbers written as strings. This class is not thread safe and is meant to be used for a single entity, and
+ * {@link #flush()} must be called once the entity has been written.
+ */
+public final class JsonByteBufWriter {
+
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * The escape to use for every ASCII character: 0 if none is needed, -1 for a unicode escape, or the character to
+     * write after the backslash
+     */
+    private static final byte[] ESCAPES = new byte[128];
+
+    static {
+        for (int i = 0; i < 32; i++) {
+            ESCAPES[i] = -1;
+        }
+        ESCAPES['"'] = '"';
+        ESCAPES['\\'] = '\\';
+        ESCAPES['\b'] = 'b';
+        ESCAPES['\t'] = 't';
+        ESCAPES['\f'] = 'f';
+        ESCAPES['\n'] = 'n';
+        ESCAPES['\r'] = 'r';
+    }
+
+    /**
+     * The size of the scratch array the output is encoded into before being copied to the buffer, as writing byte
+     * per byte into a pooled direct buffer is much slower than a bulk copy
+     */
+    private static final int SCRATCH_SIZE = 512;
+    /**
+     * The largest number of bytes a single character can be encoded to, as a unicode escape
+     */
+    private static final int MAX_CHAR_BYTES = 6;
+
+    private final ByteBuf buffer;
+    private final byte[] scratch = new byte[SCRATCH_SIZE];
+    private int position;
+    /**
+     * Whether a separator has to be written before the next value of the object or array at a given depth
+     */
+    private boolean[] needsSeparator = new boolean[16];
+    private int depth;
+    /**
+     * Set when a field name has just been written, in which case the next value must not be preceded by a separator
+     */
+    private boolean afterFieldName;
+
+    public JsonByteBufWriter(ByteBuf buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Encodes a field name, including its quotes and the following colon, so that it can be written with
+     * {@link #writeFieldName(byte[])} without encoding it again.
+     */
+    public static byte[] encodeFieldName(String name) {
+        StringBuilder sb = new StringBuilder(name.length() + 3).append('"');
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c < 128 && ESCAPES[c] != 0) {
+                sb.append('\\');
+                if (ESCAPES[c] == -1) {
+                    sb.append("u00").append((char) HEX[c >> 4]).append((char) HEX[c & 0xF]);
+                } else {
+                    sb.append((char) ESCAPES[c]);
+                }
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.append("\":").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return the buffer, after everything that was written so far has been flushed to it
+     */
+    public ByteBuf buffer() {
+        flush();
+        return buffer;
+    }
+
+    /**
+     * Copies the pending output to the buffer. This must be called once the value has been written.
+     */
+    public void flush() {
+        if (position > 0) {
+            buffer.writeBytes(scratch, 0, position);
+            position = 0;
+        }
+    }
+
+    public void writeStartObject() {
+        beforeValue();
+        push();
+        writeByte('{');
+    }
+
+    public void writeEndObject() {
+        depth--;
+        writeByte('}');
+    }
+
+    public void writeStartArray() {
+        beforeValue();
+        push();
+        writeByte('[');
+    }
+
+    public void writeEndArray() {
+        depth--;
+        writeByte(']');
+    }
+
+    /**
+     * @param encodedName the field name as returned by {@link #encodeFieldName(String)}
+     */
+    public void writeFieldName(byte[] encodedName) {
+        if (needsSeparator[depth]) {
+            writeByte(',');
+        } else {
+            needsSeparator[depth] = true;
+        }
+        writeBytes(encodedName);
+        afterFieldName = true;
+    }
+
+    public void writeNull() {
+        beforeValue();
+        writeBytes(NULL);
+    }
+
+    public void writeBoolean(boolean value) {
+        beforeValue();
+        writeBytes(value ? TRUE : FALSE);
+    }
+
+    public void writeNumber(int value) {
+        beforeValue();
+        if (value == Integer.MIN_VALUE) {
+            writeAscii(Integer.toString(value));
+        } else {
+            writeDigits(value);
+        }
+    }
+
+    public void writeNumber(long value) {
+        beforeValue();
+        if (value >= Integer.MIN_VALUE + 1 && value <= Integer.MAX_VALUE) {
+            writeDigits((int) value);
+        } else {
+            writeAscii(Long.toString(value));
+        }
+    }
+
+    public void writeNumber(short value) {
+        writeNumber((int) value);
+    }
+
+    public void writeNumber(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            writeString(Double.toString(value));
+        } else {
+            beforeValue();
+            writeAscii(Double.toString(value));
+        }
+    }
+
+    public void writeNumber(float value) {
+        if (Float.isNaN(value) || Float.isInfinite(value)) {
+            writeString(Float.toString(value));
+        } else {
+            beforeValue();
+            writeAscii(Float.toString(value));
+        }
+    }
+
+    /**
+     * Writes a number that is already in its JSON representation, e.g. the result of {@code BigDecimal.toString()}
+     */
+    public void writeRawNumber(String value) {
+        beforeValue();
+        writeAscii(value);
+    }
+
+    public void writeString(char value) {
+        writeString(String.valueOf(value));
+    }
+
+    public void writeString(String value) {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        beforeValue();
+        writeByte('"');
+        byte[] scratch = this.scratch;
+        int position = this.position;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (position > SCRATCH_SIZE - MAX_CHAR_BYTES) {
+                this.position = position;
+                flush();
+                position = 0;
+            }
+            char c = value.charAt(i);
+            if (c < 128) {
+                byte escape = ESCAPES[c];
+                if (escape == 0) {
+                    scratch[position++] = (byte) c;
+                } else if (escape == -1) {
+                    scratch[position++] = '\\';
+                    scratch[position++] = 'u';
+                    scratch[position++] = '0';
+                    scratch[position++] = '0';
+                    scratch[position++] = HEX[c >> 4];
+                    scratch[position++] = HEX[c & 0xF];
+                } else {
+                    scratch[position++] = '\\';
+                    scratch[position++] = escape;
+                }
+            } else if (c < 0x800) {
+                scratch[position++] = (byte) (0xC0 | (c >> 6));
+                scratch[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                scratch[position++] = (byte) (0xF0 | (codePoint >> 18));
+                scratch[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                scratch[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                scratch[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogate, replaced like String.getBytes(UTF_8) does
+                scratch[position++] = '?';
+            } else {
+                scratch[position++] = (byte) (0xE0 | (c >> 12));
+                scratch[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                scratch[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        this.position = position;
+        writeByte('"');
+    }
+
+    private void writeByte(int value) {
+        if (position == SCRATCH_SIZE) {
+            flush();
+        }
+        scratch[position++] = (byte) value;
+    }
+
+    private void writeBytes(byte[] value) {
+        int length = value.length;
+        if (position + length > SCRATCH_SIZE) {
+            flush();
+            if (length > SCRATCH_SIZE) {
+                buffer.writeBytes(value);
+                return;
+            }
+        }
+        System.arraycopy(value, 0, scratch, position, length);
+        position += length;
+    }
+
+    private void writeAscii(String value) {
+        int length = value.length();
+        if (position + length > SCRATCH_SIZE) {
+            flush();
+            if (length > SCRATCH_SIZE) {
+                buffer.writeCharSequence(value, StandardCharsets.US_ASCII);
+                return;
+            }
+        }
+        byte[] scratch = this.scratch;
+        int position = this.position;
+        for (int i = 0; i < length; i++) {
+            scratch[position++] = (byte) value.charAt(i);
+        }
+        this.position = position;
+    }
+
+    /**
+     * Writes an int that is not {@link Integer#MIN_VALUE} without going through a String
+     */
+    private void writeDigits(int value) {
+        // 10 digits and the sign
+        if (position > SCRATCH_SIZE - 11) {
+            flush();
+        }
+        byte[] scratch = this.scratch;
+        if (value < 0) {
+            scratch[position++] = '-';
+            value = -value;
+        }
+        int end = position + digits(value);
+        int index = end;
+        do {
+            scratch[--index] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        position = end;
+    }
+
+    private static int digits(int value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    private void beforeValue() {
+        if (afterFieldName) {
+            afterFieldName = false;
+        } else if (depth > 0) {
+            if (needsSeparator[depth]) {
+                writeByte(',');
+            } else {
+                needsSeparator[depth] = true;
+            }
+        }
+    }
+
+    private void push() {
+        if (++depth == needsSeparator.length) {
+            needsSeparator = Arrays.copyOf(needsSeparator, depth << 1);
+        }
+        needsSeparator[depth] = false;
+    }
+}
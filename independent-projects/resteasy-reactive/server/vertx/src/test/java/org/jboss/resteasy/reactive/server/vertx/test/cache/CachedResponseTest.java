@@ -0,0 +1,226 @@
+package org.jboss.resteasy.reactive.server.vertx.test.cache;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.Matchers.emptyString;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.NameBinding;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.reactive.server.CachedResponse;
+import org.jboss.resteasy.reactive.server.processor.ResteasyReactiveDeploymentManager;
+import org.jboss.resteasy.reactive.server.processor.scanning.CachedResponseScanner;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.restassured.RestAssured;
+
+public class CachedResponseTest {
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .addScanCustomizer(new Consumer<ResteasyReactiveDeploymentManager.ScanStep>() {
+                @Override
+                public void accept(ResteasyReactiveDeploymentManager.ScanStep scanStep) {
+                    scanStep.addMethodScanner(new CachedResponseScanner());
+                }
+            })
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(CachedResource.class, Secured.class, SecuredFilter.class));
+
+    @Test
+    public void testResponseIsCached() {
+        RestAssured.get("/cached/a")
+                .then()
+                .statusCode(200)
+                .body(equalTo("a:1"));
+        String entityTag = RestAssured.get("/cached/a")
+                .then()
+                .statusCode(200)
+                .contentType("text/plain")
+                .body(equalTo("a:1"))
+                .extract().header("ETag");
+        RestAssured.get("/cached/a?page=2")
+                .then()
+                .statusCode(200)
+                .body(equalTo("a:2"));
+        RestAssured.with().header("If-None-Match", entityTag).get("/cached/a")
+                .then()
+                .statusCode(304)
+                .header("ETag", entityTag)
+                .body(emptyString());
+        RestAssured.with().header("If-None-Match", "\"other\"").get("/cached/a")
+                .then()
+                .statusCode(200)
+                .body(equalTo("a:1"));
+    }
+
+    @Test
+    public void testVary() {
+        RestAssured.with().header("X-Lang", "en").get("/cached/vary")
+                .then()
+                .statusCode(200)
+                .body(equalTo("en:1"));
+        RestAssured.with().header("X-Lang", "fr").get("/cached/vary")
+                .then()
+                .statusCode(200)
+                .body(equalTo("fr:2"));
+        RestAssured.with().header("X-Lang", "en").get("/cached/vary")
+                .then()
+                .statusCode(200)
+                .body(equalTo("en:1"));
+    }
+
+    @Test
+    public void testVaryHeader() {
+        RestAssured.with().header("X-Lang", "de").get("/cached/vary")
+                .then()
+                .statusCode(200)
+                .header("Vary", "Accept, X-Lang");
+        RestAssured.with().header("X-Lang", "de").get("/cached/vary")
+                .then()
+                .statusCode(200)
+                .header("Vary", "Accept, X-Lang");
+    }
+
+    @Test
+    public void testNegotiatedMediaType() {
+        RestAssured.with().accept("text/plain").get("/cached/negotiated")
+                .then()
+                .statusCode(200)
+                .contentType("text/plain")
+                .header("Vary", "Accept")
+                .body(equalTo("negotiated:1"));
+        RestAssured.with().accept("application/xml").get("/cached/negotiated")
+                .then()
+                .statusCode(200)
+                .contentType("application/xml")
+                .header("Vary", "Accept")
+                .body(equalTo("negotiated:2"));
+        RestAssured.with().accept("text/plain").get("/cached/negotiated")
+                .then()
+                .statusCode(200)
+                .contentType("text/plain")
+                .header("Vary", "Accept")
+                .body(equalTo("negotiated:1"));
+    }
+
+    @Test
+    public void testRequestFiltersRunBeforeLookup() {
+        RestAssured.with().header("Authorization", "Bearer token").get("/cached/secured")
+                .then()
+                .statusCode(200)
+                .body(equalTo("secured:1"));
+        RestAssured.with().header("Authorization", "Bearer token").get("/cached/secured")
+                .then()
+                .statusCode(200)
+                .body(equalTo("secured:1"));
+        RestAssured.get("/cached/secured")
+                .then()
+                .statusCode(401);
+    }
+
+    @Test
+    public void testErrorsAreNotCached() {
+        RestAssured.get("/cached/missing")
+                .then()
+                .statusCode(404);
+        RestAssured.get("/cached/missing")
+                .then()
+                .statusCode(404);
+        RestAssured.get("/cached/missing-count")
+                .then()
+                .statusCode(200)
+                .body(equalTo("2"));
+    }
+
+    @Path("cached")
+    public static class CachedResource {
+
+        private static final AtomicInteger count = new AtomicInteger();
+        private static final AtomicInteger varyCount = new AtomicInteger();
+        private static final AtomicInteger missingCount = new AtomicInteger();
+        private static final AtomicInteger negotiatedCount = new AtomicInteger();
+        private static final AtomicInteger securedCount = new AtomicInteger();
+
+        @GET
+        @Path("{name}")
+        @CachedResponse
+        public String get(@PathParam("name") String name) {
+            return name + ":" + count.incrementAndGet();
+        }
+
+        @GET
+        @Path("vary")
+        @CachedResponse(cacheName = "vary", vary = "X-Lang")
+        public String vary(@HeaderParam("X-Lang") String lang) {
+            return lang + ":" + varyCount.incrementAndGet();
+        }
+
+        @GET
+        @Path("negotiated")
+        @Produces({ MediaType.TEXT_PLAIN, MediaType.APPLICATION_XML })
+        @CachedResponse(cacheName = "negotiated")
+        public String negotiated() {
+            return "negotiated:" + negotiatedCount.incrementAndGet();
+        }
+
+        @GET
+        @Path("secured")
+        @Secured
+        @CachedResponse(cacheName = "secured")
+        public String secured() {
+            return "secured:" + securedCount.incrementAndGet();
+        }
+
+        @GET
+        @Path("missing")
+        @CachedResponse
+        public String missing() {
+            missingCount.incrementAndGet();
+            throw new NotFoundException();
+        }
+
+        @GET
+        @Path("missing-count")
+        public String missingCount() {
+            return String.valueOf(missingCount.get());
+        }
+    }
+
+    @NameBinding
+    @Target({ ElementType.TYPE, ElementType.METHOD })
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Secured {
+    }
+
+    @Secured
+    @Provider
+    public static class SecuredFilter implements ContainerRequestFilter {
+
+        @Override
+        public void filter(ContainerRequestContext requestContext) {
+            if (requestContext.getHeaderString(HttpHeaders.AUTHORIZATION) == null) {
+                requestContext.abortWith(Response.status(Response.Status.UNAUTHORIZED).build());
+            }
+        }
+    }
+}
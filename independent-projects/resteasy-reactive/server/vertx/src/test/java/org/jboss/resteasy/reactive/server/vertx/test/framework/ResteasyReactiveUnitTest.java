@@ -43,6 +43,7 @@
 import org.jboss.resteasy.reactive.common.core.BlockingOperationSupport;
 import org.jboss.resteasy.reactive.common.processor.JandexUtil;
 import org.jboss.resteasy.reactive.common.processor.scanning.ScannedSerializer;
+import org.jboss.resteasy.reactive.server.core.RequestContextFactory;
 import org.jboss.resteasy.reactive.server.core.reflection.ReflectiveContextInjectedBeanFactory;
 import org.jboss.resteasy.reactive.server.processor.ResteasyReactiveDeploymentManager;
 import org.jboss.resteasy.reactive.server.processor.ScannedApplication;
@@ -139,6 +140,7 @@ public boolean isBlockingAllowed() {
     private int maxFormAttributeSize = 2048;
 
     private int maxParameters = 1000;
+    private RequestContextFactory requestContextFactory = new VertxRequestContextFactory();
 
     public static Vertx getVertx() {
         return vertx;
@@ -169,6 +171,11 @@ public ResteasyReactiveUnitTest setUploadPath(Path uploadPath) {
         return this;
     }
 
+    public ResteasyReactiveUnitTest setRequestContextFactory(RequestContextFactory requestContextFactory) {
+        this.requestContextFactory = requestContextFactory;
+        return this;
+    }
+
     public ResteasyReactiveUnitTest setDefaultCharset(Charset defaultCharset) {
         this.defaultCharset = defaultCharset;
         return this;
@@ -408,7 +415,7 @@ public Thread newThread(Runnable r) {
                 uploadPath != null ? uploadPath.toAbsolutePath().toString() : System.getProperty("java.io.tmpdir"),
                 fileContentTypes, defaultCharset, OptionalLong.empty(), maxFormAttributeSize, maxParameters);
         ResteasyReactiveDeploymentManager.RunnableApplication application = prepared.createApplication(runtimeConfiguration,
-                new VertxRequestContextFactory(), executor);
+                requestContextFactory, executor);
         fieldInjectionSupport.runtimeInit(testClassLoader, application.getDeployment());
 
         ResteasyReactiveVertxHandler handler = new ResteasyReactiveVertxHandler(ev -> {
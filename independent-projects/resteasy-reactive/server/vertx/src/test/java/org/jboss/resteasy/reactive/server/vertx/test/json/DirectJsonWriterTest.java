@@ -0,0 +1,238 @@
+package org.jboss.resteasy.reactive.server.vertx.test.json;
+
+import static io.restassured.RestAssured.get;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.reactive.server.core.serialization.EntityWriter;
+import org.jboss.resteasy.reactive.server.spi.EntityWriterProvider;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+import org.jboss.resteasy.reactive.server.vertx.json.DirectJsonEntityWriter;
+import org.jboss.resteasy.reactive.server.vertx.json.DirectJsonWriter;
+import org.jboss.resteasy.reactive.server.vertx.json.DirectJsonWriters;
+import org.jboss.resteasy.reactive.server.vertx.json.JsonByteBufWriter;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+public class DirectJsonWriterTest {
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(GreetingResource.class, Greeting.class, GreetingWriter.class,
+                            GreetingMessageBodyWriter.class));
+
+    @Test
+    public void testEndpoint() {
+        get("/greeting")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body(equalTo("{\"name\":\"Stu\",\"count\":2,\"tags\":[\"a\",\"b\"],\"parent\":"
+                        + "{\"name\":\"root\",\"count\":0,\"tags\":null,\"parent\":null}}"));
+    }
+
+    @Test
+    public void testUnsupportedValueFallsBack() {
+        get("/greeting/unsupported")
+                .then()
+                .statusCode(200)
+                .body(equalTo("fallback"));
+        // only the entity with the unsupported value falls back
+        get("/greeting")
+                .then()
+                .statusCode(200)
+                .body(equalTo("{\"name\":\"Stu\",\"count\":2,\"tags\":[\"a\",\"b\"],\"parent\":"
+                        + "{\"name\":\"root\",\"count\":0,\"tags\":null,\"parent\":null}}"));
+    }
+
+    @Test
+    public void testWriter() {
+        assertEquals("{}", write(w -> {
+            w.writeStartObject();
+            w.writeEndObject();
+        }));
+        assertEquals("[1,-2,3,true,null,\"x\"]", write(w -> {
+            w.writeStartArray();
+            w.writeNumber(1);
+            w.writeNumber(-2L);
+            w.writeNumber((short) 3);
+            w.writeBoolean(true);
+            w.writeNull();
+            w.writeString('x');
+            w.writeEndArray();
+        }));
+        assertEquals("{\"a\":[[],{}],\"b\":{\"c\":1.5}}", write(w -> {
+            w.writeStartObject();
+            w.writeFieldName(JsonByteBufWriter.encodeFieldName("a"));
+            w.writeStartArray();
+            w.writeStartArray();
+            w.writeEndArray();
+            w.writeStartObject();
+            w.writeEndObject();
+            w.writeEndArray();
+            w.writeFieldName(JsonByteBufWriter.encodeFieldName("b"));
+            w.writeStartObject();
+            w.writeFieldName(JsonByteBufWriter.encodeFieldName("c"));
+            w.writeNumber(1.5d);
+            w.writeEndObject();
+            w.writeEndObject();
+        }));
+        assertEquals("[0,-7,2147483647,-2147483648,-9223372036854775808,123456789012]", write(w -> {
+            w.writeStartArray();
+            w.writeNumber(0);
+            w.writeNumber(-7);
+            w.writeNumber(Integer.MAX_VALUE);
+            w.writeNumber(Integer.MIN_VALUE);
+            w.writeNumber(Long.MIN_VALUE);
+            w.writeNumber(123456789012L);
+            w.writeEndArray();
+        }));
+        assertEquals("[\"NaN\",\"Infinity\",0.1]", write(w -> {
+            w.writeStartArray();
+            w.writeNumber(Double.NaN);
+            w.writeNumber(Float.POSITIVE_INFINITY);
+            w.writeNumber(0.1f);
+            w.writeEndArray();
+        }));
+    }
+
+    @Test
+    public void testStringEscaping() {
+        assertEquals("\"plain\"", write(w -> w.writeString("plain")));
+        assertEquals("\"a\\\"b\\\\c/d\"", write(w -> w.writeString("a\"b\\c/d")));
+        assertEquals("\"\\n\\r\\t\\b\\f\\u0001\\u001F\"", write(w -> w.writeString("\n\r\t\b\f\u0001\u001f")));
+        assertEquals("\"café € 😀!\"", write(w -> w.writeString("café € 😀!")));
+        String longValue = "é\"abc".repeat(300);
+        assertEquals("\"" + longValue.replace("\"", "\\\"") + "\"", write(w -> w.writeString(longValue)));
+        assertEquals("\"a\\\"b\":", new String(JsonByteBufWriter.encodeFieldName("a\"b"), StandardCharsets.UTF_8));
+    }
+
+    private static String write(Consumer<JsonByteBufWriter> action) {
+        ByteBuf buffer = Unpooled.buffer(1);
+        try {
+            JsonByteBufWriter writer = new JsonByteBufWriter(buffer);
+            action.accept(writer);
+            return writer.buffer().toString(StandardCharsets.UTF_8);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Path("/greeting")
+    public static class GreetingResource {
+
+        @GET
+        @Produces(MediaType.APPLICATION_JSON)
+        public Greeting greeting() {
+            return new Greeting("Stu", 2, Arrays.asList("a", "b"), new Greeting("root", 0, null, null));
+        }
+
+        @GET
+        @Path("unsupported")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Greeting unsupported() {
+            return new Greeting("Stu", 2, List.of(new Object()), null);
+        }
+    }
+
+    public static class Greeting {
+        public final String name;
+        public final int count;
+        public final List<?> tags;
+        public final Greeting parent;
+
+        public Greeting(String name, int count, List<?> tags, Greeting parent) {
+            this.name = name;
+            this.count = count;
+            this.tags = tags;
+            this.parent = parent;
+        }
+    }
+
+    /**
+     * What would be generated at build time for {@link Greeting}
+     */
+    public static class GreetingWriter extends DirectJsonWriter {
+
+        private static final byte[] NAME = JsonByteBufWriter.encodeFieldName("name");
+        private static final byte[] COUNT = JsonByteBufWriter.encodeFieldName("count");
+        private static final byte[] TAGS = JsonByteBufWriter.encodeFieldName("tags");
+        private static final byte[] PARENT = JsonByteBufWriter.encodeFieldName("parent");
+
+        public GreetingWriter() {
+            super(Greeting.class);
+        }
+
+        @Override
+        public String[] propertyNames() {
+            return new String[] { "name", "count", "tags", "parent" };
+        }
+
+        @Override
+        public void write(Object value, JsonByteBufWriter writer) {
+            Greeting greeting = (Greeting) value;
+            writer.writeStartObject();
+            writer.writeFieldName(NAME);
+            writer.writeString(greeting.name);
+            writer.writeFieldName(COUNT);
+            writer.writeNumber(greeting.count);
+            writer.writeFieldName(TAGS);
+            DirectJsonWriters.writeIterable(greeting.tags, writer);
+            writer.writeFieldName(PARENT);
+            DirectJsonWriters.writeValue(greeting.parent, writer);
+            writer.writeEndObject();
+        }
+    }
+
+    @Provider
+    @Produces(MediaType.APPLICATION_JSON)
+    public static class GreetingMessageBodyWriter extends ServerMessageBodyWriter.AllWriteableMessageBodyWriter
+            implements EntityWriterProvider {
+
+        static {
+            DirectJsonWriters.addWriter(GreetingWriter.class);
+        }
+
+        @Override
+        public EntityWriter createEntityWriter(Class<?> entityType, MediaType mediaType, EntityWriter fallback) {
+            DirectJsonWriter writer = DirectJsonWriters.getWriter(entityType);
+            return writer == null ? null : new DirectJsonEntityWriter(writer, fallback);
+        }
+
+        @Override
+        public void writeResponse(Object o, Type genericType, ServerRequestContext context)
+                throws WebApplicationException, IOException {
+            context.serverResponse().end("fallback");
+        }
+
+        @Override
+        public void writeTo(Object o, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+                throws IOException, WebApplicationException {
+            throw new IllegalStateException("should not be called");
+        }
+    }
+}
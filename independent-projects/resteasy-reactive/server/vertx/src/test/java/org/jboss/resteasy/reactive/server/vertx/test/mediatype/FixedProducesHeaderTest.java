@@ -0,0 +1,140 @@
+package org.jboss.resteasy.reactive.server.vertx.test.mediatype;
+
+import static io.restassured.RestAssured.when;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.resteasy.reactive.server.core.EncodedMediaType;
+import org.jboss.resteasy.reactive.server.vertx.VertxRequestContextFactory;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.netty.util.AsciiString;
+
+/**
+ * The {@code Content-Type} of endpoints with a fixed {@link Produces} is pre-encoded once at deployment time.
+ */
+public class FixedProducesHeaderTest {
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(TestResource.class);
+                }
+            });
+
+    @Test
+    public void testText() {
+        assertContentType("/test/text", "text/plain;charset=UTF-8");
+    }
+
+    @Test
+    public void testTextWithCharset() {
+        assertContentType("/test/latin", "text/plain;charset=ISO-8859-1");
+    }
+
+    @Test
+    public void testJsonWithCharset() {
+        assertContentType("/test/json", "application/json;charset=UTF-8");
+    }
+
+    @Test
+    public void testTextWithParameters() {
+        assertContentType("/test/flowed", "text/plain;charset=ISO-8859-1;format=flowed");
+    }
+
+    @Test
+    public void testImage() {
+        assertContentType("/test/image", "image/png");
+    }
+
+    @Test
+    public void testPreEncodedBytes() {
+        VertxRequestContextFactory factory = new VertxRequestContextFactory();
+        Function<String, CharSequence> headerValueFactory = new Function<>() {
+            @Override
+            public CharSequence apply(String value) {
+                return factory.createOptimizedHeaderValue(value);
+            }
+        };
+        assertPreEncoded(new EncodedMediaType(MediaType.valueOf("text/plain"), headerValueFactory),
+                "text/plain;charset=UTF-8");
+        assertPreEncoded(new EncodedMediaType(MediaType.valueOf("text/plain;charset=ISO-8859-1"), headerValueFactory),
+                "text/plain;charset=ISO-8859-1");
+        assertPreEncoded(new EncodedMediaType(MediaType.valueOf("application/json; charset=UTF-8"), headerValueFactory),
+                "application/json;charset=UTF-8");
+        assertPreEncoded(new EncodedMediaType(MediaType.valueOf("text/plain;charset=ISO-8859-1;format=flowed"),
+                headerValueFactory), "text/plain;charset=ISO-8859-1;format=flowed");
+        assertPreEncoded(new EncodedMediaType(MediaType.valueOf("image/png"), headerValueFactory), "image/png");
+    }
+
+    private static void assertContentType(String path, String expected) {
+        String contentType = when().get(path)
+                .then()
+                .statusCode(200)
+                .extract().header("Content-Type");
+        assertEquals(expected, contentType);
+    }
+
+    private static void assertPreEncoded(EncodedMediaType mediaType, String expected) {
+        CharSequence headerValue = mediaType.getHeaderValue();
+        AsciiString ascii = assertInstanceOf(AsciiString.class, headerValue);
+        assertArrayEquals(expected.getBytes(StandardCharsets.US_ASCII), ascii.toByteArray());
+        assertEquals(expected, mediaType.getEncoded());
+    }
+
+    @Path("test")
+    public static class TestResource {
+
+        @Path("text")
+        @Produces("text/plain")
+        @GET
+        public String text() {
+            return "text";
+        }
+
+        @Path("latin")
+        @Produces("text/plain;charset=ISO-8859-1")
+        @GET
+        public String latin() {
+            return "text";
+        }
+
+        @Path("flowed")
+        @Produces("text/plain;charset=ISO-8859-1;format=flowed")
+        @GET
+        public String flowed() {
+            return "text";
+        }
+
+        @Path("json")
+        @Produces("application/json; charset=UTF-8")
+        @GET
+        public String json() {
+            return "{\"foo\": \"bar\"}";
+        }
+
+        @Path("image")
+        @Produces("image/png")
+        @GET
+        public byte[] image() {
+            return "fake image".getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
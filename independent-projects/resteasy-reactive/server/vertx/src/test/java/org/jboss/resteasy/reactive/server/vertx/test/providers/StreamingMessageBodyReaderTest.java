@@ -0,0 +1,189 @@
+package org.jboss.resteasy.reactive.server.vertx.test.providers;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.reactive.common.providers.serialisers.MessageReaderUtil;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+import org.jboss.resteasy.reactive.server.spi.StreamingServerMessageBodyReader;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.restassured.RestAssured;
+import io.smallrye.common.annotation.NonBlocking;
+
+public class StreamingMessageBodyReaderTest {
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TestResource.class, Input.class, TestMessageBodyReader.class));
+
+    @Test
+    public void testBodyIsParsedOnTheIoThread() {
+        String body = "a".repeat(8 * 1024);
+        RestAssured.with().body(body).contentType("text/test").post("/streaming")
+                .then()
+                .statusCode(200)
+                .body(equalTo("streamed " + body.length() + " true"));
+    }
+
+    @Test
+    public void testBodyLargerThanTheBufferIsParsedOnTheIoThread() {
+        String body = "a".repeat(512 * 1024);
+        RestAssured.with().body(body).contentType("text/test").post("/streaming")
+                .then()
+                .statusCode(200)
+                .body(equalTo("streamed " + body.length() + " true"));
+    }
+
+    @Test
+    public void testChunkedBodyLargerThanTheBufferIsParsedOnTheIoThread() throws IOException, InterruptedException {
+        byte[] body = "a".repeat(512 * 1024).getBytes(StandardCharsets.US_ASCII);
+        // the length of a stream is unknown, so it is sent chunked
+        HttpRequest request = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + ResteasyReactiveUnitTest.SERVER_PORT + "/streaming/chunked"))
+                .header("Content-Type", "text/test")
+                .POST(HttpRequest.BodyPublishers.ofInputStream(() -> new ByteArrayInputStream(body)))
+                .build();
+        HttpResponse<String> response = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build()
+                .send(request, HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode());
+        assertEquals("chunked streamed " + body.length + " true", response.body());
+    }
+
+    @Test
+    public void testBlockingEndpointReadsTheStream() {
+        RestAssured.with().body("hello").contentType("text/test").post("/streaming/blocking")
+                .then()
+                .statusCode(200)
+                .body(equalTo("buffered hello"));
+    }
+
+    @Test
+    public void testEmptyBody() {
+        RestAssured.with().contentType("text/test").post("/streaming")
+                .then()
+                .statusCode(200)
+                .body(equalTo("buffered "));
+    }
+
+    @Test
+    public void testParserFailure() {
+        RestAssured.with().body("fail").contentType("text/test").post("/streaming")
+                .then()
+                .statusCode(400);
+    }
+
+    @Path("/streaming")
+    public static class TestResource {
+
+        @POST
+        @NonBlocking
+        @Consumes("text/test")
+        public String nonBlocking(Input input) {
+            return input.value;
+        }
+
+        @POST
+        @NonBlocking
+        @Path("chunked")
+        @Consumes("text/test")
+        public String chunked(Input input, @HeaderParam("Transfer-Encoding") String transferEncoding) {
+            return transferEncoding + " " + input.value;
+        }
+
+        @POST
+        @Path("blocking")
+        @Consumes("text/test")
+        public String blocking(Input input) {
+            return input.value;
+        }
+    }
+
+    public static class Input {
+
+        final String value;
+
+        public Input(String value) {
+            this.value = value;
+        }
+    }
+
+    @Provider
+    @Consumes("text/test")
+    public static class TestMessageBodyReader implements StreamingServerMessageBodyReader<Input> {
+
+        @Override
+        public BodyParser<Input> createBodyParser(Class<Input> type, Type genericType, MediaType mediaType,
+                ServerRequestContext context) {
+            return new BodyParser<>() {
+
+                int length;
+                boolean ioThread = true;
+
+                @Override
+                public void parse(ByteBuffer data) {
+                    if (StandardCharsets.US_ASCII.decode(data.duplicate()).toString().equals("fail")) {
+                        throw new WebApplicationException(Response.Status.BAD_REQUEST);
+                    }
+                    length += data.remaining();
+                    ioThread &= Thread.currentThread().getName().contains("eventloop");
+                }
+
+                @Override
+                public Input complete() {
+                    return length == 0 ? null : new Input("streamed " + length + " " + ioThread);
+                }
+            };
+        }
+
+        @Override
+        public boolean isReadable(Class<?> type, Type genericType, ResteasyReactiveResourceInfo lazyMethod,
+                MediaType mediaType) {
+            return type.equals(Input.class);
+        }
+
+        @Override
+        public Input readFrom(Class<Input> type, Type genericType, MediaType mediaType, ServerRequestContext context)
+                throws WebApplicationException, IOException {
+            return new Input("buffered " + MessageReaderUtil.readString(context.getInputStream(), mediaType));
+        }
+
+        @Override
+        public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+            return type.equals(Input.class);
+        }
+
+        @Override
+        public Input readFrom(Class<Input> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                MultivaluedMap<String, String> httpHeaders, InputStream entityStream)
+                throws IOException, WebApplicationException {
+            return new Input("buffered " + MessageReaderUtil.readString(entityStream, mediaType));
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package org.jboss.resteasy.reactive.server.vertx.test.simple;
+
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.function.Predicate;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.jboss.resteasy.reactive.common.core.BlockingOperationSupport;
+import org.jboss.resteasy.reactive.server.AdaptiveExecution;
+import org.jboss.resteasy.reactive.server.core.CurrentRequestManager;
+import org.jboss.resteasy.reactive.server.handlers.AdaptiveExecutionHandler;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.restassured.RestAssured;
+import io.smallrye.mutiny.Uni;
+
+public class AdaptiveExecutionTest {
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(AdaptiveResource.class, AdaptiveBase.class, InheritedAdaptiveResource.class));
+
+    @BeforeAll
+    public static void setBlockingOperationDetector() {
+        AdaptiveExecutionHandler.setBlockingOperationDetector(new Predicate<>() {
+            @Override
+            public boolean test(Throwable throwable) {
+                return "blocking not allowed".equals(throwable.getMessage());
+            }
+        });
+    }
+
+    @AfterAll
+    public static void resetBlockingOperationDetector() {
+        AdaptiveExecutionHandler.setBlockingOperationDetector(new Predicate<>() {
+            @Override
+            public boolean test(Throwable throwable) {
+                return false;
+            }
+        });
+    }
+
+    @Test
+    public void testFastEndpointStaysOnIoThread() {
+        for (int i = 0; i < 40; i++) {
+            RestAssured.get("/adaptive/fast")
+                    .then()
+                    .statusCode(200)
+                    .body(equalTo("io"));
+        }
+    }
+
+    @Test
+    public void testSlowEndpointMovesToWorker() {
+        RestAssured.get("/adaptive/slow")
+                .then()
+                .statusCode(200)
+                .body(equalTo("io"));
+        for (int i = 0; i < 20; i++) {
+            RestAssured.get("/adaptive/slow");
+        }
+        RestAssured.get("/adaptive/slow")
+                .then()
+                .statusCode(200)
+                .body(equalTo("worker"));
+    }
+
+    @Test
+    public void testBlockingEndpointIsPinnedToWorker() {
+        RestAssured.get("/adaptive/blocking")
+                .then()
+                .statusCode(500);
+        for (int i = 0; i < 40; i++) {
+            RestAssured.get("/adaptive/blocking")
+                    .then()
+                    .statusCode(200)
+                    .body(equalTo("worker"));
+        }
+    }
+
+    @Test
+    public void testClassAnnotationIsInherited() {
+        RestAssured.get("/inherited/slow")
+                .then()
+                .statusCode(200)
+                .body(equalTo("io adaptive"));
+        for (int i = 0; i < 20; i++) {
+            RestAssured.get("/inherited/slow");
+        }
+        RestAssured.get("/inherited/slow")
+                .then()
+                .statusCode(200)
+                .body(equalTo("worker adaptive"));
+    }
+
+    @Test
+    public void testAsyncEndpointIsNotAdaptive() {
+        RestAssured.get("/adaptive/uni")
+                .then()
+                .statusCode(200)
+                .body(equalTo("io not adaptive"));
+    }
+
+    @AdaptiveExecution(eventLoopThreshold = 1000)
+    public static class AdaptiveBase {
+    }
+
+    @Path("inherited")
+    public static class InheritedAdaptiveResource extends AdaptiveBase {
+
+        @GET
+        @Path("slow")
+        public String slow() throws InterruptedException {
+            String thread = AdaptiveResource.thread();
+            Thread.sleep(5);
+            return thread + " " + AdaptiveResource.adaptive();
+        }
+    }
+
+    @Path("adaptive")
+    @AdaptiveExecution(eventLoopThreshold = 1000)
+    public static class AdaptiveResource {
+
+        @GET
+        @Path("fast")
+        public String fast() {
+            return thread();
+        }
+
+        @GET
+        @Path("slow")
+        public String slow() throws InterruptedException {
+            String thread = thread();
+            Thread.sleep(5);
+            return thread;
+        }
+
+        @GET
+        @Path("blocking")
+        public String blocking() {
+            if (!BlockingOperationSupport.isBlockingAllowed()) {
+                throw new IllegalStateException("blocking not allowed");
+            }
+            return thread();
+        }
+
+        @GET
+        @Path("uni")
+        public Uni<String> uni() {
+            return Uni.createFrom().item(thread() + " " + adaptive());
+        }
+
+        static String thread() {
+            return BlockingOperationSupport.isBlockingAllowed() ? "worker" : "io";
+        }
+
+        static String adaptive() {
+            for (ServerRestHandler handler : CurrentRequestManager.get().getTarget().getHandlerChain()) {
+                if (handler instanceof AdaptiveExecutionHandler) {
+                    return "adaptive";
+                }
+            }
+            return "not adaptive";
+        }
+    }
+}
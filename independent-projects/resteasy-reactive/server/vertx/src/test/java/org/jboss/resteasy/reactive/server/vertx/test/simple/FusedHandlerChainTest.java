@@ -0,0 +1,169 @@
+package org.jboss.resteasy.reactive.server.vertx.test.simple;
+
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.resteasy.reactive.server.core.CurrentRequestManager;
+import org.jboss.resteasy.reactive.server.handlers.FusedHandler;
+import org.jboss.resteasy.reactive.server.processor.generation.fused.FusedHandlerFeature;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.restassured.RestAssured;
+import io.smallrye.common.annotation.Blocking;
+
+public class FusedHandlerChainTest {
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .addScanCustomizer(scanStep -> scanStep.addFeatureScanner(new FusedHandlerFeature()))
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(FusedResource.class, Foo.class, TestFooRequestFilter.class));
+
+    @Test
+    public void testParameters() {
+        RestAssured.with().header("greeting", "hi").get("/fused/hello/world?punctuation=!")
+                .then()
+                .statusCode(200)
+                .contentType("text/plain")
+                .body(equalTo("hi world! true"));
+    }
+
+    @Test
+    public void testDefaultValues() {
+        RestAssured.get("/fused/hello/world")
+                .then()
+                .statusCode(200)
+                .body(equalTo("hello world. true"));
+    }
+
+    @Test
+    public void testBlocking() {
+        RestAssured.get("/fused/blocking")
+                .then()
+                .statusCode(200)
+                .body(equalTo("blocking true"));
+    }
+
+    @Test
+    public void testConvertedParameterIsNotFused() {
+        RestAssured.get("/fused/times/2")
+                .then()
+                .statusCode(200)
+                .body(equalTo("2 false"));
+        RestAssured.get("/fused/times/twice")
+                .then()
+                .statusCode(404);
+    }
+
+    @Test
+    public void testFilteredEndpointIsNotFused() {
+        RestAssured.with().header("filter-request", "a").get("/fused/filtered")
+                .then()
+                .statusCode(200)
+                .body(equalTo("a-foo false"));
+    }
+
+    @Test
+    public void testNotAcceptable() {
+        RestAssured.with().accept("application/json").get("/fused/hello/world")
+                .then()
+                .statusCode(406);
+    }
+
+    @Test
+    public void testException() {
+        RestAssured.get("/fused/fail")
+                .then()
+                .statusCode(500);
+    }
+
+    @Test
+    public void testSuspended() {
+        RestAssured.get("/fused/async")
+                .then()
+                .statusCode(200)
+                .contentType("text/plain")
+                .body(equalTo("async"));
+    }
+
+    @Path("fused")
+    public static class FusedResource {
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        @Path("hello/{name}")
+        public String hello(@PathParam("name") String name, @DefaultValue(".") @QueryParam("punctuation") String punctuation,
+                @DefaultValue("hello") @HeaderParam("greeting") String greeting) {
+            return greeting + " " + name + punctuation + " " + isFused();
+        }
+
+        @GET
+        @Blocking
+        @Produces(MediaType.TEXT_PLAIN)
+        @Path("blocking")
+        public String blocking() {
+            return "blocking " + isFused();
+        }
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        @Path("times/{times}")
+        public String times(@PathParam("times") Integer times) {
+            return times + " " + isFused();
+        }
+
+        @GET
+        @Foo
+        @Produces(MediaType.TEXT_PLAIN)
+        @Path("filtered")
+        public String filtered(@HeaderParam("filter-request") String filterRequest) {
+            return filterRequest + " " + isFused();
+        }
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        @Path("fail")
+        public String fail() {
+            throw new IllegalStateException("expected");
+        }
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        @Path("async")
+        public void async(@Suspended AsyncResponse response) {
+            ForkJoinPool.commonPool().execute(() -> {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                response.resume("async");
+            });
+        }
+
+        private static boolean isFused() {
+            for (ServerRestHandler handler : CurrentRequestManager.get().getTarget().getHandlerChain()) {
+                if (handler instanceof FusedHandler) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
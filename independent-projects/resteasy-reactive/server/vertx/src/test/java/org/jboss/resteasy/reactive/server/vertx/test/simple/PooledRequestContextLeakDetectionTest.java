@@ -0,0 +1,73 @@
+package org.jboss.resteasy.reactive.server.vertx.test.simple;
+
+import static org.hamcrest.Matchers.equalTo;
+
+import java.time.Duration;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.awaitility.Awaitility;
+import org.jboss.resteasy.reactive.server.core.CurrentRequestManager;
+import org.jboss.resteasy.reactive.server.core.RequestContextPool;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.vertx.VertxRequestContextFactory;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.restassured.RestAssured;
+import io.smallrye.common.annotation.NonBlocking;
+
+public class PooledRequestContextLeakDetectionTest {
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .setRequestContextFactory(new VertxRequestContextFactory(new RequestContextPool<>(4, true)))
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(LeakingResource.class));
+
+    @Test
+    public void testUseAfterRelease() {
+        RestAssured.get("/leak")
+                .then()
+                .statusCode(200)
+                .body(equalTo("leaked"));
+        // the context is released right after the response was sent
+        Awaitility.await().atMost(Duration.ofSeconds(5))
+                .until(() -> !RestAssured.get("/leak/check").asString().equals("not released"));
+        RestAssured.get("/leak/check")
+                .then()
+                .statusCode(200)
+                .body(equalTo("The request context was used after it was returned to the pool, "
+                        + "the cause shows where it was returned: Request context returned to the pool"));
+    }
+
+    @Path("leak")
+    public static class LeakingResource {
+
+        static volatile ResteasyReactiveRequestContext leaked;
+
+        @GET
+        @NonBlocking
+        public String leak() {
+            leaked = CurrentRequestManager.get();
+            return "leaked";
+        }
+
+        @GET
+        @NonBlocking
+        @Path("check")
+        public String check() {
+            if (leaked.getHandlers() != null) {
+                return "not released";
+            }
+            try {
+                leaked.resume();
+                return "not detected";
+            } catch (IllegalStateException e) {
+                return e.getMessage() + ": " + e.getCause().getMessage();
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package org.jboss.resteasy.reactive.server.vertx.test.simple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+import jakarta.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.reactive.server.core.CurrentRequestManager;
+import org.jboss.resteasy.reactive.server.core.RequestContextPool;
+import org.jboss.resteasy.reactive.server.vertx.VertxRequestContextFactory;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.restassured.RestAssured;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.common.annotation.NonBlocking;
+
+public class PooledRequestContextTest {
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .setRequestContextFactory(new VertxRequestContextFactory(new RequestContextPool<>(4, false)))
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(PooledResource.class, AbortingFilter.class));
+
+    @Test
+    public void testContextsAreReused() {
+        Set<String> contexts = new HashSet<>();
+        for (int i = 0; i < 20; i++) {
+            String body = RestAssured.with().header("X-Value", "header" + i).get("/pooled/path" + i + "?query=query" + i)
+                    .then()
+                    .statusCode(200)
+                    .body(startsWith("path" + i + " query" + i + " header" + i + " pooled/path" + i + " "))
+                    .extract().asString();
+            contexts.add(body.substring(body.lastIndexOf(' ') + 1));
+        }
+        assertThat(contexts).hasSizeLessThan(20);
+    }
+
+    @Test
+    public void testStateIsReset() {
+        for (int i = 0; i < 5; i++) {
+            RestAssured.with().header("X-Abort", "true").get("/pooled/path")
+                    .then()
+                    .statusCode(403);
+            RestAssured.get("/pooled/path")
+                    .then()
+                    .statusCode(200)
+                    .body(startsWith("path null null pooled/path "));
+            RestAssured.get("/pooled/fail")
+                    .then()
+                    .statusCode(500);
+            RestAssured.get("/pooled/blocking")
+                    .then()
+                    .statusCode(200)
+                    .body(equalTo("blocking"));
+        }
+    }
+
+    @Path("pooled")
+    public static class PooledResource {
+
+        @GET
+        @NonBlocking
+        @Path("{path}")
+        public String get(@PathParam("path") String path, @QueryParam("query") String query,
+                @HeaderParam("X-Value") String header, @Context UriInfo uriInfo) {
+            return path + " " + query + " " + header + " " + uriInfo.getPath().substring(1) + " "
+                    + System.identityHashCode(CurrentRequestManager.get());
+        }
+
+        @GET
+        @NonBlocking
+        @Path("fail")
+        public String fail() {
+            throw new IllegalStateException("expected");
+        }
+
+        @GET
+        @Blocking
+        @Path("blocking")
+        public String blocking() {
+            return "blocking";
+        }
+    }
+
+    @Provider
+    public static class AbortingFilter implements ContainerRequestFilter {
+
+        @Override
+        public void filter(ContainerRequestContext requestContext) {
+            if (requestContext.getHeaderString("X-Abort") != null) {
+                requestContext.abortWith(Response.status(Response.Status.FORBIDDEN).build());
+            }
+        }
+    }
+}